@@ -0,0 +1,162 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.graphstream.algorithm.flow.DinicAlgorithm;
+import org.graphstream.algorithm.flow.FlowAlgorithm;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.junit.Test;
+
+public class TestDinicAlgorithm extends TestFlowAlgorithm {
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.test.TestFlowAlgorithm#getGraphStream()
+	 */
+	public InputStream getGraphStream() throws IOException {
+		return getClass().getResourceAsStream(
+				"data/TestFordFulkersonAlgorithm.dgs");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.test.TestFlowAlgorithm#getFlowAlgorithm()
+	 */
+	public FlowAlgorithm getFlowAlgorithm() {
+		return new DinicAlgorithm();
+	}
+
+	@Test
+	public void testWarmRestartAttribute() {
+		Random random = new Random(2);
+		Graph network = randomNetwork(60, 300, random);
+		FlowAlgorithm flowAlgo = getFlowAlgorithm();
+
+		flowAlgo.setCapacityAttribute("cap");
+		flowAlgo.init(network, "0", "1");
+		flowAlgo.compute();
+
+		for (int step = 0; step < 50; step++) {
+			for (int k = 0; k < 2; k++) {
+				Edge e = network.getEdge(random.nextInt(network
+						.getEdgeCount()));
+
+				if (e.isDirected())
+					e.setAttribute("cap", 1.0 * random.nextInt(20));
+				else
+					e.setAttribute("cap", 1.0 * random.nextInt(20),
+							1.0 * random.nextInt(20));
+			}
+
+			flowAlgo.compute();
+			checkFlow(network, flowAlgo);
+		}
+	}
+
+	@Test
+	public void testWarmRestartStructure() {
+		Random random = new Random(4);
+		Graph network = randomNetwork(30, 100, random);
+		FlowAlgorithm flowAlgo = getFlowAlgorithm();
+
+		flowAlgo.setCapacityAttribute("cap");
+		flowAlgo.init(network, "0", "1");
+		flowAlgo.compute();
+
+		for (int step = 0; step < 100; step++) {
+			network.removeEdge(random.nextInt(network.getEdgeCount()));
+
+			Node u, v;
+
+			do {
+				u = network.getNode(random.nextInt(network.getNodeCount()));
+				v = network.getNode(random.nextInt(network.getNodeCount()));
+			} while (u == v || u.getEdgeBetween(v) != null);
+
+			network.addEdge("new" + step, u, v, true).setAttribute("cap",
+					1.0 + random.nextInt(20));
+
+			flowAlgo.compute();
+			checkFlow(network, flowAlgo);
+		}
+	}
+
+	@Test
+	public void testWarmRestartSetCapacity() {
+		Random random = new Random(3);
+		Graph network = randomNetwork(60, 300, random);
+		DinicAlgorithm warm = new DinicAlgorithm();
+
+		warm.init(network, "0", "1");
+
+		for (Edge e : network.edges().toArray(Edge[]::new)) {
+			warm.setCapacity(e.getSourceNode(), e.getTargetNode(),
+					1.0 + random.nextInt(20));
+
+			if (!e.isDirected())
+				warm.setCapacity(e.getTargetNode(), e.getSourceNode(),
+						1.0 + random.nextInt(20));
+		}
+
+		warm.compute();
+
+		for (int step = 0; step < 50; step++) {
+			Edge e = network.getEdge(random.nextInt(network.getEdgeCount()));
+			warm.setCapacity(e.getSourceNode(), e.getTargetNode(),
+					1.0 * random.nextInt(20));
+			warm.compute();
+
+			DinicAlgorithm cold = new DinicAlgorithm();
+			cold.init(network, "0", "1");
+
+			for (Edge f : network.edges().toArray(Edge[]::new)) {
+				cold.setCapacity(f.getSourceNode(), f.getTargetNode(), warm
+						.getCapacity(f.getSourceNode(), f.getTargetNode()));
+				cold.setCapacity(f.getTargetNode(), f.getSourceNode(), warm
+						.getCapacity(f.getTargetNode(), f.getSourceNode()));
+			}
+
+			cold.compute();
+
+			assertEquals(cold.getMaximumFlow(), warm.getMaximumFlow(), 1e-9);
+		}
+	}
+}
@@ -29,14 +29,20 @@
  */
 package org.graphstream.algorithm.flow.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Random;
 
+import org.graphstream.algorithm.flow.EdmondsKarpAlgorithm;
 import org.graphstream.algorithm.flow.FlowAlgorithm;
+import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
 import org.graphstream.graph.implementations.AdjacencyListGraph;
+import org.graphstream.graph.implementations.SingleGraph;
 import org.graphstream.stream.file.FileSourceDGS;
 import org.junit.Before;
 import org.junit.Test;
@@ -73,4 +79,94 @@ public abstract class TestFlowAlgorithm {
 			assertTrue(maximumFlow == g.getNumber("expected maximum flow"));
 		}
 	}
+
+	/**
+	 * Number of nodes of the networks of {@link #testRandom()}, smaller for
+	 * the algorithms that enumerate the paths.
+	 */
+	public int getRandomNetworkSize() {
+		return 40;
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(1);
+		int n = getRandomNetworkSize();
+
+		for (int t = 0; t < 20; t++) {
+			Graph network = randomNetwork(n, n * 15 / 4, random);
+			FlowAlgorithm flowAlgo = getFlowAlgorithm();
+
+			flowAlgo.setCapacityAttribute("cap");
+			flowAlgo.init(network, "0", Integer.toString(1 + random.nextInt(n - 1)));
+			flowAlgo.compute();
+
+			checkFlow(network, flowAlgo);
+		}
+	}
+
+	/**
+	 * Random network with integer capacities in the "cap" attribute, made of
+	 * directed edges and of undirected edges with a capacity in each
+	 * direction.
+	 */
+	public static Graph randomNetwork(int nodes, int edges, Random random) {
+		Graph g = new SingleGraph("random-flow");
+
+		for (int i = 0; i < nodes; i++)
+			g.addNode(Integer.toString(i));
+
+		for (int k = 0; k < edges; k++) {
+			Node u = g.getNode(random.nextInt(nodes));
+			Node v = g.getNode(random.nextInt(nodes));
+
+			if (u == v || u.getEdgeBetween(v) != null)
+				continue;
+
+			boolean directed = random.nextInt(4) > 0;
+			Edge e = g.addEdge(u.getId() + "_" + v.getId(), u, v, directed);
+
+			if (directed)
+				e.setAttribute("cap", 1.0 + random.nextInt(20));
+			else
+				e.setAttribute("cap", 1.0 + random.nextInt(20),
+						1.0 + random.nextInt(20));
+		}
+
+		return g;
+	}
+
+	/**
+	 * Check that the flows respect the capacities, are conserved, and that
+	 * their value is the one given by Edmonds-Karp.
+	 */
+	public static void checkFlow(Graph g, FlowAlgorithm flowAlgo) {
+		EdmondsKarpAlgorithm reference = new EdmondsKarpAlgorithm();
+		reference.setCapacityAttribute("cap");
+		reference.init(g, flowAlgo.getFlowSourceId(), flowAlgo
+				.getFlowSinkId());
+		reference.compute();
+
+		assertEquals(reference.getMaximumFlow(), flowAlgo.getMaximumFlow(),
+				1e-9);
+
+		for (Node u : g) {
+			double balance = 0;
+
+			for (int i = 0; i < u.getDegree(); i++) {
+				Node v = u.getEdge(i).getOpposite(u);
+
+				assertTrue(flowAlgo.getFlow(u, v) <= flowAlgo
+						.getCapacity(u, v) + 1e-9);
+				balance += flowAlgo.getFlow(u, v);
+			}
+
+			if (u.getId().equals(flowAlgo.getFlowSourceId()))
+				assertEquals(flowAlgo.getMaximumFlow(), balance, 1e-9);
+			else if (u.getId().equals(flowAlgo.getFlowSinkId()))
+				assertEquals(-flowAlgo.getMaximumFlow(), balance, 1e-9);
+			else
+				assertEquals(0, balance, 1e-9);
+		}
+	}
 }
@@ -56,4 +56,15 @@ public class TestFordFulkersonAlgorithm extends TestFlowAlgorithm {
 	public FlowAlgorithm getFlowAlgorithm() {
 		return new FordFulkersonAlgorithm();
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.test.TestFlowAlgorithm#getRandomNetworkSize
+	 * ()
+	 */
+	public int getRandomNetworkSize() {
+		return 12;
+	}
 }
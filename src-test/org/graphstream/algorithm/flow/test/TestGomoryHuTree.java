@@ -0,0 +1,170 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow.test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.flow.EdmondsKarpAlgorithm;
+import org.graphstream.algorithm.flow.GomoryHuTree;
+import org.graphstream.algorithm.flow.PushRelabelAlgorithm;
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestGomoryHuTree {
+	/**
+	 * Path A - B - C - D with weights 3, 1, 2, and an edge A - C of weight 1.
+	 */
+	@Test
+	public void testSmall() {
+		Graph g = new SingleGraph("small");
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addNode("D");
+		g.addEdge("AB", "A", "B").setAttribute("w", 3.0);
+		g.addEdge("BC", "B", "C").setAttribute("w", 1.0);
+		g.addEdge("CD", "C", "D").setAttribute("w", 2.0);
+		g.addEdge("AC", "A", "C").setAttribute("w", 1.0);
+
+		GomoryHuTree tree = new GomoryHuTree("w");
+		tree.init(g);
+		tree.compute();
+
+		Node a = g.getNode("A"), b = g.getNode("B");
+		Node c = g.getNode("C"), d = g.getNode("D");
+
+		assertEquals(2, tree.getMinimumCutValue(a, c), 1e-9);
+		assertEquals(2, tree.getMinimumCutValue(a, d), 1e-9);
+		assertEquals(2, tree.getMinimumCutValue(b, c), 1e-9);
+		assertEquals(4, tree.getMinimumCutValue(a, b), 1e-9);
+
+		List<Edge> cut = tree.getMinimumCut(d, b);
+
+		assertEquals(1, cut.size());
+		assertEquals(g.getEdge("CD"), cut.get(0));
+	}
+
+	@Test
+	public void testDisconnected() {
+		Graph g = new SingleGraph("disconnected");
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addEdge("AB", "A", "B");
+
+		GomoryHuTree tree = new GomoryHuTree();
+		tree.init(g);
+		tree.compute();
+
+		Node a = g.getNode("A"), b = g.getNode("B"), c = g.getNode("C");
+
+		assertEquals(1, tree.getMinimumCutValue(a, b), 0);
+		assertEquals(0, tree.getMinimumCutValue(a, c), 0);
+		assertTrue(tree.getMinimumCut(c, b).isEmpty());
+	}
+
+	/**
+	 * Compare all the pairs to the maximum flows between them, in parallel
+	 * or not, with different flow algorithms.
+	 */
+	@Test
+	public void testRandom() {
+		Random random = new Random(50);
+
+		for (int run = 0; run < 6; run++) {
+			Graph g = new SingleGraph("random");
+			int n = 15 + random.nextInt(15);
+
+			for (int i = 0; i < n; i++)
+				g.addNode(Integer.toString(i));
+
+			for (int e = 3 * n; e > 0; e--) {
+				Node u = g.getNode(random.nextInt(n));
+				Node v = g.getNode(random.nextInt(n));
+
+				if (u != v && u.getEdgeBetween(v) == null) {
+					double w = 1 + random.nextInt(5);
+					Edge edge = g.addEdge(u.getId() + "_" + v.getId(), u, v);
+
+					edge.setAttribute("w", w);
+					edge.setAttribute("cap", w, w);
+				}
+			}
+
+			GomoryHuTree tree = new GomoryHuTree("w");
+
+			if (run % 3 == 1)
+				tree.setFlowAlgorithm(PushRelabelAlgorithm::new);
+			else if (run % 3 == 2)
+				tree.setFlowAlgorithm(EdmondsKarpAlgorithm::new);
+
+			tree.setParallel(run % 2 == 0);
+			tree.init(g);
+			tree.compute();
+
+			EdmondsKarpAlgorithm flow = new EdmondsKarpAlgorithm();
+			flow.setCapacityAttribute("cap");
+
+			for (int u = 0; u < n; u++)
+				for (int v = u + 1; v < n; v++) {
+					Node a = g.getNode(u), b = g.getNode(v);
+
+					flow.init(g, a.getId(), b.getId());
+					flow.compute();
+
+					double value = tree.getMinimumCutValue(a, b);
+					List<Edge> cut = tree.getMinimumCut(a, b);
+
+					assertEquals(flow.getMaximumFlow(), value, 1e-9);
+					assertEquals(value, cut.stream()
+							.mapToDouble(e -> e.getNumber("w")).sum(), 1e-9);
+
+					HashSet<Edge> removed = new HashSet<Edge>(cut);
+					IntDisjointSets components = new IntDisjointSets(n);
+
+					g.edges().filter(e -> !removed.contains(e)).forEach(
+							e -> components.union(e.getNode0().getIndex(), e
+									.getNode1().getIndex()));
+
+					assertFalse(components.inSameSet(u, v));
+				}
+		}
+	}
+}
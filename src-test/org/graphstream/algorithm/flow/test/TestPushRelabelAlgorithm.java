@@ -0,0 +1,59 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.graphstream.algorithm.flow.FlowAlgorithm;
+import org.graphstream.algorithm.flow.PushRelabelAlgorithm;
+
+public class TestPushRelabelAlgorithm extends TestFlowAlgorithm {
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.test.TestFlowAlgorithm#getGraphStream()
+	 */
+	public InputStream getGraphStream() throws IOException {
+		return getClass().getResourceAsStream(
+				"data/TestFordFulkersonAlgorithm.dgs");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.test.TestFlowAlgorithm#getFlowAlgorithm()
+	 */
+	public FlowAlgorithm getFlowAlgorithm() {
+		return new PushRelabelAlgorithm();
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.measure.test;
+
+import static org.graphstream.algorithm.Toolkit.communities;
+import static org.graphstream.algorithm.Toolkit.modularityMatrix;
+
+import java.util.Random;
+
+import org.graphstream.algorithm.Toolkit;
+import org.graphstream.algorithm.generator.RandomGenerator;
+import org.graphstream.algorithm.measure.Modularity;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.AdjacencyListGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestModularity {
+	protected static final double DELTA = 1e-9;
+
+	/**
+	 * Modularity computed from the E matrix.
+	 */
+	protected static double reference(Graph g, String marker, String weight) {
+		return Toolkit.modularity(modularityMatrix(g, communities(g, marker),
+				weight));
+	}
+
+	protected static Graph randomGraph(long seed) {
+		Graph g = new AdjacencyListGraph("g");
+		RandomGenerator gen = new RandomGenerator(4, false);
+		gen.setRandomSeed(seed);
+
+		gen.addSink(g);
+		gen.begin();
+		for (int i = 0; i < 100; i++)
+			gen.nextEvents();
+		gen.end();
+
+		return g;
+	}
+
+	@Test
+	public void testTwoTriangles() {
+		Graph g = new AdjacencyListGraph("g");
+
+		for (String id : new String[] { "A", "B", "C", "D", "E", "F" })
+			g.addNode(id).setAttribute("community", id.compareTo("D") < 0 ? 1 : 2);
+
+		g.addEdge("AB", "A", "B");
+		g.addEdge("BC", "B", "C");
+		g.addEdge("CA", "C", "A");
+		g.addEdge("DE", "D", "E");
+		g.addEdge("EF", "E", "F");
+		g.addEdge("FD", "F", "D");
+		g.addEdge("CD", "C", "D");
+
+		Modularity modularity = new Modularity("community");
+		modularity.init(g);
+
+		// 2 * (3 / 7 - (7 / 14)^2)
+		Assert.assertEquals(5.0 / 14.0, modularity.getMeasure(), DELTA);
+		Assert.assertEquals(5.0 / 14.0, Toolkit.modularity(g, "community"),
+				DELTA);
+
+		g.removeEdge("CD");
+		Assert.assertEquals(0.5, modularity.getMeasure(), DELTA);
+
+		g.getNode("C").setAttribute("community", 2);
+		Assert.assertEquals(reference(g, "community", null),
+				modularity.getMeasure(), DELTA);
+
+		g.getNode("C").removeAttribute("community");
+		Assert.assertEquals(reference(g, "community", null),
+				modularity.getMeasure(), DELTA);
+
+		g.clear();
+		Assert.assertEquals(0, modularity.getMeasure(), DELTA);
+	}
+
+	@Test
+	public void testIncrementalUpdates() {
+		Graph g = randomGraph(1);
+		Random r = new Random(2);
+
+		g.nodes().forEach(n -> n.setAttribute("community", r.nextInt(5)));
+		g.edges().forEach(e -> e.setAttribute("weight", r.nextDouble()));
+
+		Modularity unweighted = new Modularity("community");
+		Modularity weighted = new Modularity("community", "weight");
+
+		unweighted.init(g);
+		weighted.init(g);
+
+		for (int i = 0; i < 200; i++) {
+			switch (r.nextInt(4)) {
+			case 0:
+				Toolkit.randomNode(g, r).setAttribute("community", r.nextInt(5));
+				break;
+			case 1:
+				Edge e = Toolkit.randomEdge(g, r);
+				if (e != null)
+					g.removeEdge(e);
+				break;
+			case 2:
+				Node a = Toolkit.randomNode(g, r);
+				Node b = Toolkit.randomNode(g, r);
+				if (!a.hasEdgeBetween(b))
+					g.addEdge("new" + i, a, b).setAttribute("weight",
+							r.nextDouble());
+				break;
+			case 3:
+				Toolkit.randomEdge(g, r).setAttribute("weight", r.nextDouble());
+				break;
+			}
+
+			Assert.assertEquals(reference(g, "community", null),
+					unweighted.getMeasure(), DELTA);
+			Assert.assertEquals(reference(g, "community", "weight"),
+					weighted.getMeasure(), DELTA);
+			Assert.assertEquals(unweighted.getMeasure(),
+					Toolkit.modularity(g, "community"), DELTA);
+			Assert.assertEquals(weighted.getMeasure(),
+					Toolkit.modularity(g, "community", "weight"), DELTA);
+		}
+	}
+
+	@Test
+	public void testBatchMode() {
+		Graph g = randomGraph(3);
+		Random r = new Random(4);
+
+		g.nodes().forEach(n -> n.setAttribute("community", r.nextInt(5)));
+		g.edges().forEach(e -> e.setAttribute("weight", r.nextDouble()));
+
+		CountingModularity weighted = new CountingModularity();
+		Modularity unweighted = new Modularity("community");
+		weighted.setBatchMode(true);
+		unweighted.setBatchMode(true);
+		weighted.init(g);
+		unweighted.init(g);
+
+		int edgeId = 0, nodeId = 0;
+
+		for (int step = 0; step < 40; step++) {
+			for (int i = 0; i < 20; i++) {
+				switch (r.nextInt(7)) {
+				case 0:
+					Toolkit.randomNode(g, r).setAttribute("community",
+							r.nextInt(5));
+					break;
+				case 1:
+					Toolkit.randomEdge(g, r).setAttribute("weight",
+							r.nextDouble());
+					break;
+				case 2:
+					Toolkit.randomEdge(g, r).removeAttribute("weight");
+					break;
+				case 3:
+					g.removeEdge(Toolkit.randomEdge(g, r));
+					break;
+				case 4:
+					Node a = Toolkit.randomNode(g, r);
+					Node b = Toolkit.randomNode(g, r);
+					if (!a.hasEdgeBetween(b))
+						g.addEdge("new" + edgeId++, a, b).setAttribute(
+								"weight", r.nextDouble());
+					break;
+				case 5:
+					Node n = g.addNode("node" + nodeId++);
+					n.setAttribute("community", r.nextInt(5));
+					g.addEdge("new" + edgeId++, n, Toolkit.randomNode(g, r))
+							.setAttribute("weight", r.nextDouble());
+					break;
+				case 6:
+					Node removed = Toolkit.randomNode(g, r);
+					removed.setAttribute("community", r.nextInt(5));
+					g.removeNode(removed);
+					break;
+				}
+			}
+
+			g.stepBegins(step);
+			Assert.assertEquals(reference(g, "community", "weight"),
+					weighted.getMeasure(), DELTA);
+			Assert.assertEquals(reference(g, "community", null),
+					unweighted.getMeasure(), DELTA);
+		}
+
+		// Only the first initialization rebuilt the communities.
+		Assert.assertEquals(1, weighted.initializations);
+
+		g.clear();
+		g.stepBegins(40);
+		Assert.assertEquals(0, weighted.getMeasure(), DELTA);
+		Assert.assertEquals(2, weighted.initializations);
+	}
+
+	/**
+	 * Communities whose weights go back to zero are forgotten, even when the
+	 * weights are not exactly representable.
+	 */
+	@Test
+	public void testReleaseWeightedCommunity() {
+		Graph g = new AdjacencyListGraph("g");
+
+		for (String id : new String[] { "A", "B", "C", "D" })
+			g.addNode(id).setAttribute("community", 1);
+
+		g.addEdge("AB", "A", "B").setAttribute("weight", 0.1);
+		g.addEdge("BC", "B", "C").setAttribute("weight", 0.2);
+		g.addEdge("CA", "C", "A").setAttribute("weight", 0.7);
+		g.addEdge("CD", "C", "D").setAttribute("weight", 0.3);
+
+		CountingModularity modularity = new CountingModularity();
+		modularity.init(g);
+		Assert.assertEquals(1, modularity.getCommunityWeightCount());
+
+		for (String id : new String[] { "B", "A", "D", "C" })
+			g.getNode(id).setAttribute("community", 2);
+
+		Assert.assertEquals(1, modularity.getCommunityWeightCount());
+		Assert.assertEquals(reference(g, "community", "weight"),
+				modularity.getMeasure(), DELTA);
+	}
+
+	@Test
+	public void testStringWeights() {
+		Graph g = new AdjacencyListGraph("g");
+
+		for (String id : new String[] { "A", "B", "C", "D" })
+			g.addNode(id).setAttribute("community", id.compareTo("C") < 0 ? 1 : 2);
+
+		g.addEdge("AB", "A", "B").setAttribute("weight", "2.5");
+		g.addEdge("BC", "B", "C").setAttribute("weight", 1);
+		g.addEdge("CD", "C", "D").setAttribute("weight", "0.5");
+
+		Modularity modularity = new Modularity("community", "weight");
+		modularity.init(g);
+
+		Assert.assertEquals(Toolkit.modularity(g, "community", "weight"),
+				modularity.getMeasure(), DELTA);
+
+		g.getEdge("BC").setAttribute("weight", "3");
+		g.getNode("B").setAttribute("community", 2);
+
+		Assert.assertEquals(Toolkit.modularity(g, "community", "weight"),
+				modularity.getMeasure(), DELTA);
+	}
+
+	@Test
+	public void testEdgeless() {
+		Graph g = new AdjacencyListGraph("g");
+
+		g.addNode("A").setAttribute("community", 1);
+		g.addNode("B").setAttribute("community", 2);
+
+		Assert.assertEquals(0, Toolkit.modularity(g, "community"), 0);
+		Assert.assertEquals(0, Toolkit.modularity(g, "community", "weight"), 0);
+	}
+
+	protected static class CountingModularity extends Modularity {
+		int initializations = 0;
+
+		CountingModularity() {
+			super("community", "weight");
+		}
+
+		@Override
+		protected void initialize() {
+			super.initialize();
+			initializations++;
+		}
+
+		int getCommunityWeightCount() {
+			return weights.size();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.measure.test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.graphstream.algorithm.generator.FullGenerator;
+import org.graphstream.algorithm.generator.Generator;
+import org.graphstream.algorithm.measure.TriangleCountEstimator;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.AdjacencyListGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTriangleCountEstimator {
+
+	protected static Graph fullGraph(int size) {
+		Graph g = new AdjacencyListGraph("full");
+		Generator gen = new FullGenerator();
+
+		gen.addSink(g);
+		gen.begin();
+		for (int i = 1; i < size; i++)
+			gen.nextEvents();
+		gen.end();
+
+		return g;
+	}
+
+	protected static int triangles(Node n) {
+		int t = 0;
+
+		for (int i = 0; i < n.getDegree(); i++)
+			for (int j = i + 1; j < n.getDegree(); j++)
+				if (n.getEdge(i).getOpposite(n).hasEdgeBetween(
+						n.getEdge(j).getOpposite(n)))
+					t++;
+
+		return t;
+	}
+
+	protected static int triangles(Graph g) {
+		return g.nodes().mapToInt(n -> triangles(n)).sum() / 3;
+	}
+
+	@Test
+	public void testExactWhenSampleHoldsEverything() {
+		Graph g = new AdjacencyListGraph("g");
+		TriangleCountEstimator tce = new TriangleCountEstimator(100, 1);
+		tce.init(g);
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addNode("D");
+		g.addEdge("AB", "A", "B");
+		g.addEdge("BC", "B", "C");
+		g.addEdge("CA", "C", "A");
+		g.addEdge("CD", "C", "D");
+		g.addEdge("DA", "D", "A");
+		g.addEdge("AA", "A", "A");
+
+		tce.compute();
+
+		Assert.assertEquals(2, tce.getGlobalTriangleCount(), 1e-9);
+		Assert.assertEquals(2, tce.getLocalTriangleCount("A"), 1e-9);
+		Assert.assertEquals(1, tce.getLocalTriangleCount("B"), 1e-9);
+		Assert.assertEquals(1, tce.getLocalTriangleCount("D"), 1e-9);
+		Assert.assertEquals(5, tce.getEdgeCount());
+
+		g.removeEdge("AA");
+		g.removeEdge("CA");
+		g.stepBegins(1);
+
+		Assert.assertEquals(0, tce.getGlobalTriangleCount(), 1e-9);
+		Assert.assertEquals(4, tce.getEdgeCount());
+
+		g.addEdge("BD", "B", "D");
+		g.stepBegins(2);
+
+		Assert.assertEquals(2, tce.getGlobalTriangleCount(), 1e-9);
+		Assert.assertEquals(2, tce.getLocalTriangleCount("B"), 1e-9);
+		Assert.assertEquals(0, tce.getLocalTriangleCount("unknown"), 1e-9);
+	}
+
+	@Test
+	public void testUnbiasedInsertions() {
+		Graph g = fullGraph(30);
+		int expected = triangles(g);
+		int runs = 30;
+		double sum = 0;
+
+		for (int run = 0; run < runs; run++) {
+			TriangleCountEstimator tce = new TriangleCountEstimator(200, run);
+			tce.init(g);
+
+			Assert.assertEquals(200, tce.getSampledEdgeCount());
+			sum += tce.getGlobalTriangleCount();
+
+			tce.terminate();
+		}
+
+		Assert.assertEquals(expected, sum / runs, 0.05 * expected);
+	}
+
+	@Test
+	public void testUnbiasedRemovals() {
+		Graph g = fullGraph(30);
+		Random r = new Random(10);
+		ArrayList<String> removed = new ArrayList<String>();
+
+		for (Edge e : g.edges().toArray(Edge[]::new))
+			if (r.nextDouble() < 0.3)
+				removed.add(e.getId());
+
+		Graph h = fullGraph(30);
+		for (String id : removed)
+			h.removeEdge(id);
+
+		int expected = triangles(h);
+		int runs = 30;
+		double sum = 0;
+
+		for (int run = 0; run < runs; run++) {
+			Graph copy = fullGraph(30);
+			TriangleCountEstimator tce = new TriangleCountEstimator(150, run);
+			tce.init(copy);
+
+			for (String id : removed)
+				copy.removeEdge(id);
+
+			copy.stepBegins(1);
+			Assert.assertEquals(h.getEdgeCount(), tce.getEdgeCount());
+			sum += tce.getGlobalTriangleCount();
+		}
+
+		Assert.assertEquals(expected, sum / runs, 0.1 * expected);
+	}
+}
@@ -30,10 +30,13 @@
  */
 package org.graphstream.algorithm.test;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.graphstream.algorithm.AStar;
+import org.graphstream.algorithm.Dijkstra;
 import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
@@ -136,6 +139,18 @@ public class TestAStar {
 		assertTrue(!i.hasNext());
 	}
 
+	@Test
+	public void testBuildPath() {
+		graph.addNode("G");
+		astar.compute("A", "F");
+
+		assertEquals(astar.getShortestPath().getEdgePath(),
+				astar.buildPath(F).getEdgePath());
+		assertEquals(Arrays.asList(AB), astar.buildPath(B).getEdgePath());
+		assertEquals(A, astar.buildPath(B).getRoot());
+		assertNull(astar.buildPath(graph.getNode("G")));
+	}
+
 	@Test
 	public void testAStarWeighted1() {
 		// Try to find a path between A and F, with all edges having a
@@ -361,4 +376,41 @@ public class TestAStar {
 		assertTrue(e.getId().equals("BF3"));
 		assertTrue(!i.hasNext());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testAStarGrid() {
+		// Several searches on the same grid with random weights, compared to
+		// Dijkstra.
+		Random random = new Random(5);
+		Graph grid = new MultiGraph("grid", false, true);
+		int size = 40;
+
+		for (int x = 0; x < size; x++)
+			for (int y = 0; y < size; y++) {
+				if (x + 1 < size)
+					grid.addEdge(x + "_" + y + "-x", x + "_" + y, (x + 1) + "_" + y)
+							.setAttribute("weight", 1.0 + random.nextInt(9));
+				if (y + 1 < size)
+					grid.addEdge(x + "_" + y + "-y", x + "_" + y, x + "_" + (y + 1))
+							.setAttribute("weight", 1.0 + random.nextInt(9));
+			}
+
+		AStar search = new AStar(grid);
+
+		for (int q = 0; q < 20; q++) {
+			Node source = grid.getNode(random.nextInt(grid.getNodeCount()));
+			Node target = grid.getNode(random.nextInt(grid.getNodeCount()));
+
+			Dijkstra dijkstra = new Dijkstra(Dijkstra.Element.EDGE, null, "weight");
+			dijkstra.init(grid);
+			dijkstra.setSource(source);
+			dijkstra.compute();
+
+			search.compute(source.getId(), target.getId());
+
+			assertFalse(search.noPathFound());
+			assertEquals(dijkstra.getPathLength(target),
+					search.getShortestPath().getPathWeight("weight"), 0);
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.BellmanFord;
+import org.graphstream.algorithm.BellmanFordSPFA;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestBellmanFordSPFA {
+	/**
+	 * Random directed graph with a path through all the nodes and edges of
+	 * weights between -2 and 20, going forward, and weights between 0 and 20,
+	 * going backward, so that there is no negative cycle.
+	 */
+	protected static Graph randomGraph(int n, int m, Random random) {
+		Graph g = new SingleGraph("random", false, true);
+
+		for (int i = 0; i < n; i++)
+			g.addNode(Integer.toString(i));
+
+		for (int i = 0; i + 1 < n; i++)
+			g.addEdge(i + "_" + (i + 1), Integer.toString(i),
+					Integer.toString(i + 1), true).setAttribute("weight",
+					1.0 * random.nextInt(10));
+
+		for (int k = 0; k < m; k++) {
+			int u = random.nextInt(n), v = random.nextInt(n);
+
+			if (u == v || g.getNode(u).hasEdgeToward(g.getNode(v)))
+				continue;
+
+			double w = u < v ? random.nextInt(23) - 2 : random.nextInt(21) + 2
+					* (u - v);
+			g.addEdge(u + "_" + v, g.getNode(u).getId(), g.getNode(v).getId(),
+					true).setAttribute("weight", w);
+		}
+
+		return g;
+	}
+
+	@Test
+	public void testToy() {
+		Graph g = new SingleGraph("toy", false, true);
+		g.addEdge("AB", "B", "A", true).setAttribute("weight", 5.0);
+		g.addEdge("BC", "B", "C", true).setAttribute("weight", 1.0);
+		g.addEdge("CA", "C", "A", true).setAttribute("weight", 2.0);
+		g.addEdge("BF", "F", "B", true).setAttribute("weight", 1.0);
+		g.addEdge("CE", "E", "C", true).setAttribute("weight", 8.0);
+		g.addEdge("EF", "E", "F", true).setAttribute("weight", 1.0);
+
+		BellmanFordSPFA bf = new BellmanFordSPFA("weight", "E");
+		bf.init(g);
+		bf.compute();
+
+		assertFalse(bf.hasNegativeCycle());
+		assertEquals(5, bf.getShortestPathValue(g.getNode("A")), 0);
+
+		Path p = bf.getShortestPath(g.getNode("A"));
+		StringBuilder ids = new StringBuilder();
+
+		for (Edge e : p.getEdgePath())
+			ids.append(e.getId()).append(' ');
+
+		assertEquals("CA BC BF EF ", ids.toString());
+
+		List<Path> paths = bf.getPathSetShortestPaths(g.getNode("C"));
+		assertEquals(1, paths.size());
+		assertEquals(0, bf.getShortestPathValue(g.getNode("E")), 0);
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(1);
+		Graph g = randomGraph(300, 1500, random);
+
+		BellmanFord reference = new BellmanFord("weight", "0");
+		reference.init(g);
+		reference.compute();
+
+		for (boolean parallel : new boolean[] { false, true }) {
+			BellmanFordSPFA bf = new BellmanFordSPFA("weight", "0");
+			bf.setParallel(parallel);
+			bf.init(g);
+			bf.compute();
+
+			assertFalse(bf.hasNegativeCycle());
+
+			for (Node node : g) {
+				double d = reference.getShortestPathValue(node);
+
+				assertEquals(d, bf.getShortestPathValue(node), 1e-9);
+
+				if (node.getIndex() > 0)
+					assertEquals(d, bf.getShortestPath(node).getPathWeight(
+							"weight"), 1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelRounds() {
+		Random random = new Random(2);
+		Graph g = randomGraph(20000, 120000, random);
+
+		BellmanFordSPFA sequential = new BellmanFordSPFA("weight", "0");
+		sequential.init(g);
+		sequential.compute();
+
+		BellmanFordSPFA parallel = new BellmanFordSPFA("weight", "0");
+		parallel.setParallel(true);
+		parallel.init(g);
+		parallel.compute();
+
+		for (Node node : g)
+			assertEquals(sequential.getShortestPathValue(node),
+					parallel.getShortestPathValue(node), 1e-9);
+	}
+
+	@Test
+	public void testNegativeCycle() {
+		Random random = new Random(3);
+		Graph g = randomGraph(200, 800, random);
+
+		g.addEdge("cycle1", "120", "150", true).setAttribute("weight", 1.0);
+		g.addEdge("cycle2", "150", "130", true).setAttribute("weight", 1.0);
+		g.addEdge("cycle3", "130", "120", true).setAttribute("weight", -30.0);
+
+		for (boolean parallel : new boolean[] { false, true }) {
+			BellmanFordSPFA bf = new BellmanFordSPFA("weight", "0");
+			bf.setParallel(parallel);
+			bf.init(g);
+			bf.compute();
+
+			assertTrue(bf.hasNegativeCycle());
+
+			Path cycle = bf.getNegativeCycle();
+			List<Node> nodes = cycle.getNodePath();
+
+			assertEquals(nodes.get(0), nodes.get(nodes.size() - 1));
+			assertTrue(cycle.getPathWeight("weight") < 0);
+
+			for (int i = 0; i < cycle.getEdgePath().size(); i++)
+				assertEquals(nodes.get(i), cycle.getEdgePath().get(i)
+						.getSourceNode());
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.graphstream.algorithm.util.ConcurrentDisjointSets;
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.junit.Test;
+
+public class TestConcurrentDisjointSets {
+	@Test
+	public void testUnionFind() {
+		ConcurrentDisjointSets sets = new ConcurrentDisjointSets(6);
+
+		assertEquals(6, sets.size());
+
+		assertTrue(sets.union(3, 1));
+		assertTrue(sets.union(5, 3));
+		assertFalse(sets.union(1, 5));
+		assertFalse(sets.union(2, 2));
+
+		// The representative is the smallest element of the set.
+		assertEquals(1, sets.find(5));
+		assertTrue(sets.inSameSet(3, 5));
+		assertFalse(sets.inSameSet(0, 5));
+
+		for (int i = 0; i < 6; i++)
+			sets.compress(i);
+
+		assertEquals(1, sets.getParent(5));
+		assertEquals(0, sets.getParent(0));
+
+		sets.clear();
+		assertFalse(sets.inSameSet(3, 5));
+	}
+
+	/**
+	 * Unions made by a parallel stream give the same sets as the sequential
+	 * structure, and each merge is reported by exactly one union.
+	 */
+	@Test
+	public void testParallelUnions() {
+		Random random = new Random(38);
+
+		for (int run = 0; run < 5; run++) {
+			int n = 20000;
+			int m = 30000;
+			int[] a = new int[m], b = new int[m];
+
+			for (int k = 0; k < m; k++) {
+				a[k] = random.nextInt(n);
+				b[k] = random.nextInt(n);
+			}
+
+			IntDisjointSets reference = new IntDisjointSets(n);
+			ConcurrentDisjointSets sets = new ConcurrentDisjointSets(n);
+			AtomicInteger merges = new AtomicInteger();
+
+			for (int k = 0; k < m; k++)
+				reference.union(a[k], b[k]);
+
+			IntStream.range(0, m).parallel().forEach(k -> {
+				if (sets.union(a[k], b[k]))
+					merges.incrementAndGet();
+			});
+
+			assertEquals(n - reference.getSetCount(), merges.get());
+
+			IntStream.range(0, n).parallel().forEach(sets::compress);
+
+			int[] smallest = new int[n];
+
+			for (int i = n - 1; i >= 0; i--)
+				smallest[reference.find(i)] = i;
+
+			for (int i = 0; i < n; i++)
+				assertEquals(smallest[reference.find(i)], sets.getParent(i));
+		}
+	}
+}
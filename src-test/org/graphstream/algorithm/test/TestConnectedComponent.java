@@ -31,11 +31,15 @@ package org.graphstream.algorithm.test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Random;
 
 import org.graphstream.algorithm.ConnectedComponents;
 import org.graphstream.algorithm.ConnectedComponents.ConnectedComponent;
+import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
 import org.graphstream.graph.implementations.DefaultGraph;
+import org.graphstream.graph.implementations.MultiGraph;
 import org.graphstream.stream.file.FileSourceDGS;
 import org.junit.Assert;
 import org.junit.Test;
@@ -190,6 +194,185 @@ public class TestConnectedComponent {
 		check(cc, createCC("A", "B", "C"), createCC("D", "E", "F"));
 	}
 
+	@Test
+	public void testParallel() {
+		Graph g = new DefaultGraph("g");
+		load(g, "data/cc-edge-cut.dgs", true);
+
+		ConnectedComponents cc = new ConnectedComponents();
+
+		cc.setParallel(true);
+		cc.setCutAttribute("cut");
+		cc.init(g);
+		cc.compute();
+
+		check(cc, createCC("A", "B", "C"), createCC("D", "E", "F"));
+
+		Graph r = new DefaultGraph("r");
+		Random random = new Random(3);
+
+		for (int i = 0; i < 2000; i++)
+			r.addNode(Integer.toString(i));
+		for (int i = 0; i < 1800; i++) {
+			int u = random.nextInt(2000), v = random.nextInt(2000);
+
+			if (u != v && !r.getNode(u).hasEdgeBetween(v))
+				r.addEdge(u + "_" + v, u, v);
+		}
+
+		ConnectedComponents sequential = new ConnectedComponents(r);
+		ConnectedComponents parallel = new ConnectedComponents();
+		parallel.setParallel(true);
+		parallel.init(r);
+		parallel.compute();
+
+		Assert.assertEquals(sequential.getConnectedComponentsCount(),
+				parallel.getConnectedComponentsCount());
+		Assert.assertEquals(sequential.getConnectedComponentsCount(3),
+				parallel.getConnectedComponentsCount(3));
+		Assert.assertEquals(sequential.getGiantComponent().getNodeCount(),
+				parallel.getGiantComponent().getNodeCount());
+
+		r.edges().forEach(e -> Assert.assertEquals(
+				parallel.getConnectedComponentOf(e.getNode0()),
+				parallel.getConnectedComponentOf(e.getNode1())));
+
+		//
+		// Dynamic updates keep working after a parallel computation.
+		//
+		int before = parallel.getConnectedComponentsCount();
+		ConnectedComponent giant = parallel.getGiantComponent();
+		Node inside = giant.nodes().findFirst().get();
+		Node outside = r.nodes().filter(n -> !giant.contains(n)).findFirst()
+				.get();
+
+		r.addEdge("join", inside, outside);
+
+		Assert.assertEquals(before - 1, parallel.getConnectedComponentsCount());
+		Assert.assertEquals(sequential.getConnectedComponentsCount(),
+				parallel.getConnectedComponentsCount());
+	}
+
+	@Test
+	public void testRandomDynamics() {
+		randomDynamics(false);
+	}
+
+	@Test
+	public void testBatchMode() {
+		Graph g = new DefaultGraph("g");
+		ConnectedComponents cc = new ConnectedComponents();
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addEdge("BC", "B", "C");
+
+		cc.setBatchMode(true);
+		cc.init(g);
+		cc.compute();
+
+		Assert.assertEquals(2, cc.getConnectedComponentsCount());
+		ConnectedComponent ccA = cc.getConnectedComponentOf("A");
+
+		// Cancelled changes leave the components untouched.
+		g.addEdge("AB", "A", "B");
+		g.removeEdge("AB");
+		g.addNode("D");
+		g.removeNode("D");
+		g.stepBegins(1);
+
+		Assert.assertSame(ccA, cc.getConnectedComponentOf("A"));
+		Assert.assertEquals(2, cc.getConnectedComponentsCount());
+
+		// Pending changes are applied at the next query.
+		g.addEdge("AB", "A", "B");
+		g.removeEdge("BC");
+		g.addNode("D");
+		g.addEdge("CD", "C", "D");
+
+		check(cc, createCC("A", "B"), createCC("C", "D"));
+
+		// Removals are applied to the components, which are not recomputed.
+		g.addNode("E");
+		g.addNode("F");
+		g.addEdge("EF", "E", "F");
+		g.stepBegins(2);
+
+		ConnectedComponent ccE = cc.getConnectedComponentOf("E");
+
+		g.removeEdge("AB");
+		g.removeNode("D");
+		g.stepBegins(3);
+
+		Assert.assertSame(ccE, cc.getConnectedComponentOf("E"));
+		check(cc, createCC("A"), createCC("B"), createCC("C"),
+				createCC("E", "F"));
+
+		randomDynamics(true);
+	}
+
+	protected void randomDynamics(boolean batch) {
+		Graph g = new MultiGraph("g");
+		Random random = new Random(7);
+		int nodes = 60;
+		int edgeId = 0;
+
+		for (int i = 0; i < nodes; i++)
+			g.addNode(Integer.toString(i));
+
+		ConnectedComponents cc = new ConnectedComponents();
+		cc.setCutAttribute("cut");
+		cc.setBatchMode(batch);
+		cc.init(g);
+		cc.compute();
+
+		for (int step = 0; step < 3000; step++) {
+			double r = random.nextDouble();
+
+			if (step % 7 == 0)
+				g.stepBegins(step);
+
+			if (r < 0.45 || g.getEdgeCount() == 0) {
+				Node u = g.getNode(random.nextInt(g.getNodeCount()));
+				Node v = g.getNode(random.nextInt(g.getNodeCount()));
+				g.addEdge("e" + edgeId++, u, v);
+			} else if (r < 0.85) {
+				g.removeEdge(random.nextInt(g.getEdgeCount()));
+			} else if (r < 0.95) {
+				Edge e = g.getEdge(random.nextInt(g.getEdgeCount()));
+
+				if (e.hasAttribute("cut"))
+					e.removeAttribute("cut");
+				else
+					e.setAttribute("cut");
+			} else {
+				g.removeNode(random.nextInt(g.getNodeCount()));
+				g.addNode("n" + step);
+			}
+
+			if (step % 10 == 0) {
+				ConnectedComponents reference = new ConnectedComponents();
+				reference.setCutAttribute("cut");
+				reference.init(g);
+				reference.compute();
+
+				Assert.assertEquals(reference.getConnectedComponentsCount(),
+						cc.getConnectedComponentsCount());
+
+				for (Node u : g)
+					for (Node v : g)
+						Assert.assertEquals(
+								reference.getConnectedComponentOf(u) == reference
+										.getConnectedComponentOf(v),
+								cc.getConnectedComponentOf(u) == cc
+										.getConnectedComponentOf(v));
+
+				reference.terminate();
+			}
+		}
+	}
+
 	static FileSourceDGS load(Graph g, String dgsPath, boolean all) {
 		FileSourceDGS dgs = new FileSourceDGS();
 		InputStream in = TestConnectedComponent.class.getResourceAsStream(dgsPath);
@@ -0,0 +1,178 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.ContractionHierarchies;
+import org.graphstream.algorithm.Dijkstra;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestContractionHierarchies {
+	protected static void checkQueries(Graph g, ContractionHierarchies ch,
+			Random random) {
+		for (int q = 0; q < 10; q++) {
+			Node source = g.getNode(random.nextInt(g.getNodeCount()));
+			Dijkstra dijkstra = new Dijkstra(Dijkstra.Element.EDGE, null,
+					"weight");
+			dijkstra.init(g);
+			dijkstra.setSource(source);
+			dijkstra.compute();
+
+			for (int t = 0; t < 20; t++) {
+				Node target = g.getNode(random.nextInt(g.getNodeCount()));
+				Path path = ch.getShortestPath(source, target);
+
+				assertEquals(dijkstra.getPathLength(target),
+						ch.getPathLength(source, target), 1e-9);
+				assertEquals(dijkstra.getPathLength(target),
+						path.getPathWeight("weight"), 1e-9);
+				checkPath(path, source, target);
+			}
+		}
+	}
+
+	protected static void checkPath(Path path, Node source, Node target) {
+		List<Node> nodes = path.getNodePath();
+		List<Edge> edges = path.getEdgePath();
+
+		assertEquals(source, nodes.get(0));
+		assertEquals(target, nodes.get(nodes.size() - 1));
+		assertEquals(nodes.size(), edges.size() + 1);
+
+		for (int i = 0; i < edges.size(); i++) {
+			Edge e = edges.get(i);
+
+			if (e.isDirected()) {
+				assertEquals(nodes.get(i), e.getSourceNode());
+				assertEquals(nodes.get(i + 1), e.getTargetNode());
+			} else
+				assertEquals(nodes.get(i + 1), e.getOpposite(nodes.get(i)));
+		}
+	}
+
+	@Test
+	public void testGrid() {
+		Random random = new Random(1);
+		Graph g = TestLandmarkCosts.grid(30, false, random);
+		ContractionHierarchies ch = new ContractionHierarchies("weight");
+		ch.init(g);
+		ch.compute();
+
+		checkQueries(g, ch, random);
+	}
+
+	@Test
+	public void testDirectedGrid() {
+		Random random = new Random(2);
+		Graph g = TestLandmarkCosts.grid(30, true, random);
+		ContractionHierarchies ch = new ContractionHierarchies("weight");
+		ch.setWitnessSearchLimit(20);
+		ch.init(g);
+		ch.compute();
+
+		checkQueries(g, ch, random);
+	}
+
+	@Test
+	public void testUnreachable() {
+		Graph g = new SingleGraph("unreachable", false, true);
+		g.addEdge("AB", "A", "B", true).setAttribute("weight", 2.0);
+		g.addEdge("BC", "B", "C", true).setAttribute("weight", 3.0);
+		g.addNode("D");
+
+		ContractionHierarchies ch = new ContractionHierarchies("weight");
+		ch.init(g);
+		ch.compute();
+
+		Node a = g.getNode("A"), c = g.getNode("C"), d = g.getNode("D");
+
+		assertEquals(5, ch.getPathLength(a, c), 0);
+		assertTrue(Double.isInfinite(ch.getPathLength(c, a)));
+		assertNull(ch.getShortestPath(c, a));
+		assertNull(ch.getShortestPath(a, d));
+		assertEquals(1, ch.getShortestPath(d, d).size());
+	}
+
+	@Test
+	public void testPersistence() throws IOException {
+		Random random = new Random(3);
+		Graph g = TestLandmarkCosts.grid(20, true, random);
+		ContractionHierarchies ch = new ContractionHierarchies("weight");
+		ch.init(g);
+		ch.compute();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ch.write(out);
+
+		ContractionHierarchies read = new ContractionHierarchies("weight");
+		read.init(g);
+		read.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(ch.getShortcutCount(), read.getShortcutCount());
+
+		for (Node node : g)
+			assertEquals(ch.getRank(node), read.getRank(node));
+
+		checkQueries(g, read, random);
+	}
+
+	@Test(expected = IOException.class)
+	public void testPersistenceOtherGraph() throws IOException {
+		Random random = new Random(4);
+		Graph g = TestLandmarkCosts.grid(10, false, random);
+		ContractionHierarchies ch = new ContractionHierarchies("weight");
+		ch.init(g);
+		ch.compute();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ch.write(out);
+
+		g.removeNode("0_0");
+		g.addNode("other");
+
+		ContractionHierarchies read = new ContractionHierarchies("weight");
+		read.init(g);
+		read.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import java.util.Random;
+
+import org.graphstream.algorithm.CriticalPath;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestCriticalPath {
+	protected static Graph schedule() {
+		Graph g = new SingleGraph("schedule", false, true);
+
+		g.addEdge("AB", "A", "B", true);
+		g.addEdge("AC", "A", "C", true);
+		g.addEdge("BD", "B", "D", true);
+		g.addEdge("CD", "C", "D", true).setAttribute("weight", 1);
+		g.addEdge("DE", "D", "E", true);
+
+		g.getNode("A").setAttribute("duration", 2);
+		g.getNode("B").setAttribute("duration", 3);
+		g.getNode("C").setAttribute("duration", 1);
+		g.getNode("D").setAttribute("duration", 4);
+		g.getNode("E").setAttribute("duration", 1);
+
+		return g;
+	}
+
+	/**
+	 * Random DAG, edges going from lower to higher node index.
+	 */
+	protected static Graph randomDAG(int n, int m, Random random) {
+		Graph g = new SingleGraph("dag", false, true);
+
+		for (int i = 0; i < n; i++)
+			g.addNode(Integer.toString(i)).setAttribute("duration",
+					random.nextInt(10));
+
+		for (int i = 0; i < m; i++) {
+			int s = random.nextInt(n - 1);
+			int t = s + 1 + random.nextInt(Math.min(20, n - s - 1));
+
+			if (g.getNode(s).getEdgeToward(g.getNode(t)) == null)
+				g.addEdge(s + "_" + t, s, t, true).setAttribute("weight",
+						random.nextInt(3));
+		}
+
+		return g;
+	}
+
+	protected static void checkSame(Graph g, CriticalPath cp) {
+		CriticalPath fresh = new CriticalPath();
+		fresh.setDurationAttribute("duration");
+		fresh.init(g);
+		fresh.compute();
+
+		Assert.assertEquals(fresh.getLength(), cp.getLength(), 0);
+
+		for (Node n : g)
+			Assert.assertEquals(fresh.getFinish(n), cp.getFinish(n), 0);
+
+		fresh.terminate();
+	}
+
+	@Test
+	public void testSchedule() {
+		Graph g = schedule();
+		CriticalPath cp = new CriticalPath();
+		cp.setDurationAttribute("duration");
+		cp.init(g);
+		cp.compute();
+
+		Assert.assertEquals(10, cp.getLength(), 0);
+		Assert.assertEquals(5, cp.getStart(g.getNode("D")), 0);
+		Assert.assertEquals(4, cp.getLevelCount());
+		Assert.assertEquals(3, cp.getLevel(g.getNode("E")));
+		Assert.assertEquals("E", cp.getLastNode().getId());
+		Assert.assertEquals("[A, B, D, E]", cp.getCriticalPath().getNodePath()
+				.toString());
+	}
+
+	@Test
+	public void testUpdates() {
+		Graph g = schedule();
+		CriticalPath cp = new CriticalPath();
+		cp.setDurationAttribute("duration");
+		cp.init(g);
+		cp.compute();
+
+		g.getNode("C").setAttribute("duration", 4);
+		Assert.assertEquals(12, cp.getLength(), 0);
+		Assert.assertEquals("[A, C, D, E]", cp.getCriticalPath().getNodePath()
+				.toString());
+
+		g.getEdge("CD").removeAttribute("weight");
+		g.getNode("D").setAttribute("duration", 1);
+		Assert.assertEquals(8, cp.getLength(), 0);
+
+		g.getNode("A").setAttribute("duration", 20);
+		Assert.assertEquals(24, cp.getFinish(g.getNode("C")), 0);
+		Assert.assertEquals(26, cp.getLength(), 0);
+
+		g.addEdge("EF", "E", "F", true).setAttribute("weight", 5);
+		Assert.assertEquals(31, cp.getLength(), 0);
+		Assert.assertEquals("F", cp.getLastNode().getId());
+
+		cp.terminate();
+	}
+
+	@Test
+	public void testLastNodeDelayed() {
+		Graph g = new SingleGraph("siblings");
+
+		g.addNode("X").setAttribute("duration", 5);
+		g.addNode("Y").setAttribute("duration", 8);
+		g.addNode("Z").setAttribute("duration", 6);
+
+		CriticalPath cp = new CriticalPath();
+		cp.setDurationAttribute("duration");
+		cp.init(g);
+		cp.compute();
+
+		Assert.assertEquals("Y", cp.getLastNode().getId());
+
+		//
+		// X changes before Y in the same batch and finishes after the new
+		// finish of Y, but Z is the last node.
+		//
+
+		g.getNode("X").setAttribute("duration", 3);
+		g.getNode("Y").setAttribute("duration", 1);
+
+		Assert.assertEquals(6, cp.getLength(), 0);
+		Assert.assertEquals("Z", cp.getLastNode().getId());
+		checkSame(g, cp);
+
+		cp.terminate();
+	}
+
+	@Test
+	public void testRandomUpdates() {
+		Random random = new Random(7);
+		Graph g = randomDAG(500, 2000, random);
+		CriticalPath cp = new CriticalPath();
+		cp.setDurationAttribute("duration");
+		cp.init(g);
+		cp.compute();
+
+		for (int i = 0; i < 200; i++) {
+			if (random.nextBoolean())
+				g.getNode(random.nextInt(g.getNodeCount())).setAttribute(
+						"duration", random.nextInt(10));
+			else
+				g.getEdge(random.nextInt(g.getEdgeCount())).setAttribute(
+						"weight", random.nextInt(3));
+
+			if (i % 3 == 0)
+				checkSame(g, cp);
+		}
+
+		checkSame(g, cp);
+	}
+
+	@Test
+	public void testParallel() {
+		Random random = new Random(11);
+		Graph g = randomDAG(20000, 40000, random);
+		CriticalPath cp = new CriticalPath();
+		cp.setDurationAttribute("duration");
+		cp.setParallel(true);
+		cp.init(g);
+		cp.compute();
+
+		checkSame(g, cp);
+
+		for (Edge e : cp.getCriticalPath().getEdgePath())
+			Assert.assertEquals(cp.getFinish(e.getTargetNode()),
+					cp.getFinish(e.getSourceNode()) + e.getNumber("weight")
+							+ e.getTargetNode().getNumber("duration"), 0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCycle() {
+		Graph g = schedule();
+		g.addEdge("EA", "E", "A", true);
+
+		CriticalPath cp = new CriticalPath();
+		cp.init(g);
+		cp.compute();
+	}
+}
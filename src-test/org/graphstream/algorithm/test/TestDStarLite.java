@@ -0,0 +1,174 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.graphstream.algorithm.DStarLite;
+import org.graphstream.algorithm.Dijkstra;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestDStarLite {
+	protected static void check(Graph g, DStarLite dstar, Node source,
+			Node target) {
+		Dijkstra dijkstra = new Dijkstra(Dijkstra.Element.EDGE, null, "weight");
+		dijkstra.init(g);
+		dijkstra.setSource(source);
+		dijkstra.compute();
+
+		double expected = dijkstra.getPathLength(target);
+
+		assertEquals(expected, dstar.getPathLength(), 1e-9);
+
+		Path path = dstar.getShortestPath();
+
+		if (Double.isInfinite(expected))
+			assertNull(path);
+		else {
+			assertEquals(source, path.getRoot());
+			assertEquals(target, path.peekNode());
+			assertEquals(expected, path.getPathWeight("weight"), 1e-9);
+		}
+	}
+
+	protected static void testBatches(boolean directed, long seed) {
+		Random random = new Random(seed);
+		Graph g = TestLandmarkCosts.grid(20, directed, random);
+		Node source = g.getNode("0_0"), target = g.getNode("19_19");
+		DStarLite dstar = new DStarLite();
+		dstar.init(source, target, g);
+		dstar.compute();
+
+		check(g, dstar, source, target);
+
+		for (int batch = 0; batch < 20; batch++) {
+			Map<Edge, Double> costs = new HashMap<Edge, Double>();
+
+			for (int i = 0; i < 100; i++)
+				costs.put(g.getEdge(random.nextInt(g.getEdgeCount())),
+						1.0 + random.nextInt(20));
+
+			dstar.setEdgeCosts(costs);
+			check(g, dstar, source, target);
+
+			Path path = dstar.getShortestPath();
+
+			if (path != null && path.size() > 2) {
+				source = path.getNodePath().get(1);
+				dstar.setSource(source.getId());
+				dstar.compute();
+				check(g, dstar, source, target);
+			}
+		}
+	}
+
+	@Test
+	public void testBatches() {
+		testBatches(false, 1);
+	}
+
+	@Test
+	public void testDirectedBatches() {
+		testBatches(true, 2);
+	}
+
+	@Test
+	public void testStructuralChanges() {
+		Random random = new Random(3);
+		Graph g = TestLandmarkCosts.grid(15, false, random);
+		Node source = g.getNode("0_0"), target = g.getNode("14_14");
+		DStarLite dstar = new DStarLite();
+		dstar.init(source, target, g);
+		dstar.compute();
+
+		for (int i = 0; i < 30; i++) {
+			Path path = dstar.getShortestPath();
+			Node n = path.getNodePath().get(path.size() / 2);
+
+			if (n != source && n != target)
+				g.removeNode(n);
+			else
+				g.removeEdge(path.getEdgePath().get(0));
+
+			g.addNode("new" + i);
+			g.addEdge("new" + i, "new" + i,
+					g.getNode(random.nextInt(g.getNodeCount() - 1)).getId())
+					.setAttribute("weight", 1.0);
+
+			dstar.compute();
+			check(g, dstar, source, target);
+
+			if (dstar.getShortestPath() == null)
+				break;
+		}
+	}
+
+	@Test
+	public void testMarkPath() {
+		Graph g = new SingleGraph("mark");
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addNode("D");
+		g.addEdge("AB", "A", "B").setAttribute("weight", 1.0);
+		g.addEdge("BD", "B", "D").setAttribute("weight", 1.0);
+		g.addEdge("AC", "A", "C").setAttribute("weight", 2.0);
+		g.addEdge("CD", "C", "D").setAttribute("weight", 2.0);
+
+		DStarLite dstar = new DStarLite();
+		dstar.init(g.getNode("A"), g.getNode("D"), g);
+		dstar.compute();
+		dstar.markPath("path", "on", "off");
+
+		assertEquals("on", g.getEdge("BD").getAttribute("path"));
+		assertEquals("off", g.getEdge("CD").getAttribute("path"));
+
+		Map<Edge, Double> costs = new HashMap<Edge, Double>();
+		costs.put(g.getEdge("AB"), 10.0);
+		costs.put(g.getEdge("CD"), 1.0);
+		dstar.setEdgeCosts(costs);
+		dstar.markPath("path", "on", "off");
+
+		assertEquals(3, dstar.getPathLength(), 0);
+		assertEquals("off", g.getEdge("BD").getAttribute("path"));
+		assertEquals("on", g.getNode("C").getAttribute("path"));
+		assertEquals("on", g.getEdge("CD").getAttribute("path"));
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.graphstream.algorithm.DynamicSpanningTree;
+import org.graphstream.algorithm.Kruskal;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.implementations.MultiGraph;
+import org.junit.Test;
+
+public class TestDynamicSpanningTree {
+	protected static void check(Graph g, DynamicSpanningTree tree) {
+		Kruskal k = new Kruskal("weight", null);
+		k.init(g);
+		k.compute();
+
+		assertEquals(k.getTreeWeight(), tree.getTreeWeight(), 1e-9);
+		assertEquals(k.getTreeEdgesStream().count(), tree
+				.getTreeEdgesStream().count());
+
+		for (Edge e : g.edges().toArray(Edge[]::new))
+			assertEquals(tree.isTreeEdge(e), e.getAttribute("tree"));
+	}
+
+	@Test
+	public void testToyGraph() {
+		Graph g = TestKruskalPrim.toyGraph();
+		DynamicSpanningTree tree = new DynamicSpanningTree("weight", "tree");
+		tree.init(g);
+		tree.compute();
+
+		assertEquals(37, tree.getTreeWeight(), 0);
+
+		g.removeEdge("HG");
+		assertEquals(43, tree.getTreeWeight(), 0);
+		check(g, tree);
+
+		g.getEdge("BH").setAttribute("weight", 1);
+		assertTrue(tree.isTreeEdge(g.getEdge("BH")));
+		check(g, tree);
+
+		g.getEdge("BH").setAttribute("weight", 20);
+		assertFalse(tree.isTreeEdge(g.getEdge("BH")));
+		check(g, tree);
+
+		g.removeEdge("BC");
+		g.removeEdge("HI");
+		assertEquals(36, tree.getTreeWeight(), 0);
+		check(g, tree);
+
+		g.addEdge("AE", "A", "E").setAttribute("weight", 3);
+		check(g, tree);
+
+		g.removeNode("C");
+		check(g, tree);
+
+		tree.terminate();
+	}
+
+	/**
+	 * Removing the weight attribute gives the default weight of one to the
+	 * edge, the event being received before the removal.
+	 */
+	@Test
+	public void testWeightRemoved() {
+		Graph g = new MultiGraph("triangle");
+		DynamicSpanningTree tree = new DynamicSpanningTree("weight", "tree");
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addEdge("AB", "A", "B").setAttribute("weight", 5);
+		g.addEdge("BC", "B", "C").setAttribute("weight", 3);
+		g.addEdge("AC", "A", "C").setAttribute("weight", 4);
+
+		tree.init(g);
+		tree.compute();
+		assertEquals(7, tree.getTreeWeight(), 0);
+
+		g.getEdge("AB").removeAttribute("weight");
+		assertTrue(tree.isTreeEdge(g.getEdge("AB")));
+		assertEquals(4, tree.getTreeWeight(), 0);
+		check(g, tree);
+
+		g.getEdge("BC").setAttribute("weight", 0.5);
+		g.getEdge("AB").setAttribute("weight", 6);
+		assertEquals(4.5, tree.getTreeWeight(), 0);
+
+		g.getEdge("AC").removeAttribute("weight");
+		assertEquals(1.5, tree.getTreeWeight(), 0);
+		check(g, tree);
+	}
+
+	@Test
+	public void testRandomChanges() {
+		Random random = new Random(3);
+		Graph g = new MultiGraph("random", false, true);
+		DynamicSpanningTree tree = new DynamicSpanningTree("weight", "tree");
+
+		for (int i = 0; i < 60; i++)
+			g.addNode(Integer.toString(i));
+
+		tree.init(g);
+		tree.compute();
+
+		for (int step = 0; step < 2000; step++) {
+			int action = random.nextInt(4);
+
+			if (action <= 1 || g.getEdgeCount() < 10) {
+				int u = random.nextInt(60), v = random.nextInt(60);
+				Edge e = g.addEdge("e" + step, u, v);
+				e.setAttribute("weight", random.nextInt(20));
+			} else if (action == 2)
+				g.removeEdge(random.nextInt(g.getEdgeCount()));
+			else
+				g.getEdge(random.nextInt(g.getEdgeCount())).setAttribute(
+						"weight", random.nextInt(20));
+
+			if (step % 10 == 0)
+				check(g, tree);
+		}
+
+		check(g, tree);
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.DynamicTopologicalSort;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestDynamicTopologicalSort {
+	protected static void checkOrder(Graph g, DynamicTopologicalSort sort) {
+		for (Edge e : g.edges().toArray(Edge[]::new))
+			if (!sort.getCyclicEdges().contains(e))
+				Assert.assertTrue(sort.getPosition(e.getSourceNode()) < sort
+						.getPosition(e.getTargetNode()));
+	}
+
+	@Test
+	public void testCycleReportedImmediately() {
+		Graph g = new SingleGraph("g", false, true);
+		DynamicTopologicalSort sort = new DynamicTopologicalSort();
+		List<Edge> reported = new ArrayList<Edge>();
+
+		sort.setCycleListener((edge, cycle) -> reported.add(edge));
+		sort.init(g);
+		sort.compute();
+
+		g.addEdge("BC", "B", "C", true);
+		g.addEdge("AB", "A", "B", true);
+		g.addEdge("CD", "C", "D", true);
+
+		Assert.assertFalse(sort.hasCycle());
+		Assert.assertEquals(Arrays.asList(g.getNode("A"), g.getNode("B"),
+				g.getNode("C"), g.getNode("D")), sort.getSortedNodes());
+
+		g.addEdge("DB", "D", "B", true);
+
+		Assert.assertEquals(1, reported.size());
+		Assert.assertEquals("DB", reported.get(0).getId());
+		Assert.assertEquals(Arrays.asList(g.getNode("D"), g.getNode("B"),
+				g.getNode("C")), sort.getCycle());
+
+		try {
+			sort.getSortedNodes();
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// Expected.
+		}
+
+		// Removing another edge of the cycle lets DB in the order.
+		g.removeEdge("BC");
+
+		Assert.assertFalse(sort.hasCycle());
+		Assert.assertNull(sort.getCycle());
+		checkOrder(g, sort);
+	}
+
+	@Test
+	public void testInitialCycle() {
+		Graph g = new SingleGraph("g", false, true);
+		g.addEdge("AB", "A", "B", true);
+		g.addEdge("BA", "B", "A", true);
+		g.addEdge("BC", "B", "C", true);
+
+		DynamicTopologicalSort sort = new DynamicTopologicalSort();
+		sort.init(g);
+
+		Assert.assertTrue(sort.hasCycle());
+		Assert.assertEquals(1, sort.getCyclicEdges().size());
+		checkOrder(g, sort);
+
+		g.removeEdge("BA");
+		Assert.assertFalse(sort.hasCycle());
+		checkOrder(g, sort);
+	}
+
+	@Test
+	public void testRetryCyclicEdges() {
+		Graph g = new SingleGraph("g", false, true);
+		DynamicTopologicalSort sort = new DynamicTopologicalSort();
+		sort.init(g);
+		sort.compute();
+
+		g.addEdge("CB", "C", "B", true);
+		g.addEdge("BC", "B", "C", true);
+		g.addEdge("CA", "C", "A", true);
+		g.addEdge("BA", "B", "A", true);
+		g.addEdge("AB", "A", "B", true);
+
+		Assert.assertEquals(2, sort.getCyclicEdges().size());
+		checkOrder(g, sort);
+
+		// BC fits in the order again, AB still closes a cycle with BA.
+		g.removeEdge("CB");
+
+		Assert.assertTrue(sort.hasCycle());
+		Assert.assertEquals(1, sort.getCyclicEdges().size());
+		Assert.assertTrue(sort.getCyclicEdges().contains(g.getEdge("AB")));
+		checkOrder(g, sort);
+	}
+
+	@Test
+	public void testRandomInsertions() {
+		Graph g = new SingleGraph("g");
+		Random r = new Random(5);
+		int n = 200;
+
+		for (int i = 0; i < n; i++)
+			g.addNode(Integer.toString(i));
+
+		DynamicTopologicalSort sort = new DynamicTopologicalSort();
+		sort.init(g);
+		sort.compute();
+
+		for (int i = 0; i < 2000; i++) {
+			Node a = g.getNode(r.nextInt(n));
+			Node b = g.getNode(r.nextInt(n));
+
+			if (a == b || a.hasEdgeBetween(b))
+				continue;
+
+			Edge e = g.addEdge(a.getId() + "_" + b.getId(), a, b, true);
+
+			// Only keep the edges which do not close a cycle.
+			if (sort.getCyclicEdges().contains(e))
+				g.removeEdge(e);
+
+			if (i % 50 == 0) {
+				Assert.assertFalse(sort.hasCycle());
+				checkOrder(g, sort);
+			}
+		}
+
+		List<Node> sorted = sort.getSortedNodes();
+		Assert.assertEquals(n, sorted.size());
+		checkOrder(g, sort);
+	}
+}
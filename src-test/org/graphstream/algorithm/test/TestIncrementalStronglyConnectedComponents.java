@@ -0,0 +1,119 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.IncrementalStronglyConnectedComponents;
+import org.graphstream.algorithm.IncrementalStronglyConnectedComponents.Component;
+import org.graphstream.algorithm.TarjanStronglyConnectedComponents;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.MultiGraph;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestIncrementalStronglyConnectedComponents {
+	@Test
+	public void testCycle() {
+		Graph g = new SingleGraph("g", false, true);
+		IncrementalStronglyConnectedComponents scc = new IncrementalStronglyConnectedComponents(g);
+
+		g.addEdge("AB", "A", "B", true);
+		g.addEdge("BC", "B", "C", true);
+		g.addEdge("CD", "C", "D", true);
+		Assert.assertEquals(4, scc.getComponentCount());
+
+		g.addEdge("CA", "C", "A", true);
+		Assert.assertEquals(2, scc.getComponentCount());
+		Assert.assertEquals(3, scc.getComponentOf("A").getSize());
+		Assert.assertTrue(scc.areStronglyConnected(g.getNode("B"),
+				g.getNode("C")));
+
+		List<Component> order = scc.getTopologicalOrder();
+		Assert.assertSame(scc.getComponentOf("A"), order.get(0));
+		Assert.assertSame(scc.getComponentOf("D"), order.get(1));
+
+		// Only a condensation arc.
+		g.removeEdge("CD");
+		Assert.assertEquals(0, scc.getComponentOf("D").predecessors().count());
+
+		// The component is split.
+		g.removeEdge("BC");
+		Assert.assertEquals(4, scc.getComponentCount());
+	}
+
+	@Test
+	public void testRandomInsertions() {
+		Random r = new Random(3);
+		Graph g = new MultiGraph("g");
+		IncrementalStronglyConnectedComponents scc = new IncrementalStronglyConnectedComponents(g);
+		int n = 150;
+
+		for (int i = 0; i < n; i++)
+			g.addNode(Integer.toString(i));
+
+		scc.compute();
+
+		for (int i = 0; i < 600; i++) {
+			if (r.nextInt(10) == 0 && g.getEdgeCount() > 0)
+				g.removeEdge(r.nextInt(g.getEdgeCount()));
+			else
+				g.addEdge("e" + i, r.nextInt(n), r.nextInt(n), r.nextInt(20) > 0);
+
+			if (i % 5 == 0)
+				check(g, scc);
+		}
+	}
+
+	protected static void check(Graph g, IncrementalStronglyConnectedComponents scc) {
+		TarjanStronglyConnectedComponents tarjan = new TarjanStronglyConnectedComponents();
+		tarjan.init(g);
+		tarjan.compute();
+
+		Assert.assertEquals(g.nodes().map(n -> n.getAttribute("scc")).distinct().count(),
+				scc.getComponentCount());
+
+		for (Edge e : g.edges().toArray(Edge[]::new)) {
+			Node u = e.getSourceNode();
+			Node v = e.getTargetNode();
+
+			Assert.assertEquals(u.getAttribute("scc").equals(v.getAttribute("scc")),
+					scc.areStronglyConnected(u, v));
+
+			if (!scc.areStronglyConnected(u, v))
+				Assert.assertTrue(scc.getComponentOf(u).getPosition() < scc
+						.getComponentOf(v).getPosition());
+		}
+	}
+}
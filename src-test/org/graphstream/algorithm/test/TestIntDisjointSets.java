@@ -0,0 +1,116 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.junit.Test;
+
+public class TestIntDisjointSets {
+	@Test
+	public void testUnionFind() {
+		IntDisjointSets sets = new IntDisjointSets(6);
+
+		assertEquals(6, sets.size());
+		assertEquals(6, sets.getSetCount());
+
+		for (int i = 0; i < 6; i++) {
+			assertEquals(i, sets.find(i));
+			assertEquals(1, sets.getSetSize(i));
+		}
+
+		assertTrue(sets.union(0, 1));
+		assertTrue(sets.union(2, 3));
+		assertTrue(sets.union(1, 3));
+		assertFalse(sets.union(0, 2));
+		assertFalse(sets.union(4, 4));
+
+		assertEquals(3, sets.getSetCount());
+		assertEquals(4, sets.getSetSize(2));
+		assertEquals(1, sets.getSetSize(5));
+		assertTrue(sets.inSameSet(0, 3));
+		assertFalse(sets.inSameSet(0, 4));
+		assertEquals(sets.find(0), sets.find(3));
+		assertNotEquals(sets.find(4), sets.find(5));
+
+		sets.clear();
+
+		assertEquals(6, sets.getSetCount());
+		assertFalse(sets.inSameSet(0, 1));
+	}
+
+	/**
+	 * Compare to a naive labelling of the sets.
+	 */
+	@Test
+	public void testRandom() {
+		Random random = new Random(38);
+		int n = 500;
+		IntDisjointSets sets = new IntDisjointSets(n);
+		int[] labels = new int[n];
+		int count = n;
+
+		for (int i = 0; i < n; i++)
+			labels[i] = i;
+
+		for (int k = 0; k < 400; k++) {
+			int a = random.nextInt(n), b = random.nextInt(n);
+			int la = labels[a], lb = labels[b];
+
+			assertEquals(la != lb, sets.union(a, b));
+
+			if (la != lb) {
+				count--;
+
+				for (int i = 0; i < n; i++)
+					if (labels[i] == lb)
+						labels[i] = la;
+			}
+
+			assertEquals(count, sets.getSetCount());
+		}
+
+		for (int i = 0; i < n; i++) {
+			int size = 0;
+
+			for (int j = 0; j < n; j++) {
+				assertEquals(labels[i] == labels[j], sets.inSameSet(i, j));
+
+				if (labels[i] == labels[j])
+					size++;
+			}
+
+			assertEquals(size, sets.getSetSize(i));
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.KShortestPaths;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestKShortestPaths {
+	/**
+	 * Lengths of all the loopless paths, by depth-first search.
+	 */
+	protected static void allPaths(Node node, Node target, double length,
+			HashSet<Node> visited, List<Double> lengths) {
+		if (node == target) {
+			lengths.add(length);
+			return;
+		}
+
+		visited.add(node);
+
+		node.leavingEdges().forEach(e -> {
+			Node next = e.getOpposite(node);
+
+			if (!visited.contains(next))
+				allPaths(next, target, length + e.getNumber("weight"),
+						visited, lengths);
+		});
+
+		visited.remove(node);
+	}
+
+	protected static void checkPath(Path path, Node source, Node target) {
+		List<Node> nodes = path.getNodePath();
+		List<Edge> edges = path.getEdgePath();
+
+		assertEquals(source, nodes.get(0));
+		assertEquals(target, nodes.get(nodes.size() - 1));
+		assertEquals(nodes.size(), new HashSet<Node>(nodes).size());
+
+		for (int i = 0; i < edges.size(); i++)
+			assertEquals(nodes.get(i + 1), edges.get(i).getOpposite(
+					nodes.get(i)));
+	}
+
+	@Test
+	public void testToy() {
+		Graph g = new SingleGraph("yen", false, true);
+		g.addEdge("CD", "C", "D", true).setAttribute("weight", 3.0);
+		g.addEdge("CE", "C", "E", true).setAttribute("weight", 2.0);
+		g.addEdge("DF", "D", "F", true).setAttribute("weight", 4.0);
+		g.addEdge("ED", "E", "D", true).setAttribute("weight", 1.0);
+		g.addEdge("EF", "E", "F", true).setAttribute("weight", 2.0);
+		g.addEdge("EG", "E", "G", true).setAttribute("weight", 3.0);
+		g.addEdge("FG", "F", "G", true).setAttribute("weight", 2.0);
+		g.addEdge("FH", "F", "H", true).setAttribute("weight", 1.0);
+		g.addEdge("GH", "G", "H", true).setAttribute("weight", 2.0);
+
+		KShortestPaths ksp = new KShortestPaths("weight");
+		ksp.init(g);
+		ksp.setSource("C");
+		ksp.setTarget("H");
+		ksp.compute();
+
+		List<Path> paths = ksp.getPaths(3);
+
+		assertEquals(3, paths.size());
+		assertEquals("[C, E, F, H]", paths.get(0).getNodePath().toString());
+		assertEquals("[C, E, G, H]", paths.get(1).getNodePath().toString());
+		assertEquals(8, paths.get(2).getPathWeight("weight"), 0);
+
+		List<Double> lengths = new ArrayList<Double>();
+		allPaths(g.getNode("C"), g.getNode("H"), 0, new HashSet<Node>(),
+				lengths);
+
+		assertEquals(lengths.size(), ksp.paths().count());
+		assertEquals(0, ksp.paths().filter(p -> p.size() == 0).count());
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(1);
+
+		for (int t = 0; t < 10; t++) {
+			boolean directed = t % 2 == 0;
+			Graph g = new SingleGraph("random", false, true);
+
+			for (int i = 0; i < 12; i++)
+				g.addNode(Integer.toString(i));
+
+			for (int k = 0; k < 30; k++) {
+				Node u = g.getNode(random.nextInt(12));
+				Node v = g.getNode(random.nextInt(12));
+
+				if (u != v && u.getEdgeBetween(v) == null)
+					g.addEdge(u.getId() + "_" + v.getId(), u.getId(), v
+							.getId(), directed).setAttribute("weight",
+							1.0 + random.nextInt(5));
+			}
+
+			Node source = g.getNode(0), target = g.getNode(11);
+			List<Double> lengths = new ArrayList<Double>();
+			allPaths(source, target, 0, new HashSet<Node>(), lengths);
+			Collections.sort(lengths);
+
+			for (boolean parallel : new boolean[] { false, true }) {
+				KShortestPaths ksp = new KShortestPaths("weight");
+				ksp.setParallel(parallel);
+				ksp.init(g);
+				ksp.setSource(source.getId());
+				ksp.setTarget(target.getId());
+				ksp.compute();
+
+				List<Path> paths = ksp.getPaths(50);
+				HashSet<List<Edge>> distinct = new HashSet<List<Edge>>();
+
+				assertEquals(Math.min(50, lengths.size()), paths.size());
+
+				for (int k = 0; k < paths.size(); k++) {
+					checkPath(paths.get(k), source, target);
+					assertEquals(lengths.get(k), paths.get(k).getPathWeight(
+							"weight"), 1e-9);
+					assertTrue(distinct.add(paths.get(k).getEdgePath()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLazy() {
+		Graph g = TestLandmarkCosts.grid(30, false, new Random(2));
+		KShortestPaths ksp = new KShortestPaths("weight");
+		ksp.setParallel(true);
+		ksp.init(g);
+		ksp.setSource("0_0");
+		ksp.setTarget("29_29");
+		ksp.compute();
+
+		double previous = 0;
+
+		for (Path path : ksp.getPaths(20)) {
+			double length = path.getPathWeight("weight");
+
+			assertTrue(length >= previous);
+			checkPath(path, g.getNode("0_0"), g.getNode("29_29"));
+			previous = length;
+		}
+	}
+}
@@ -35,8 +35,11 @@ package org.graphstream.algorithm.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Random;
 import java.util.concurrent.atomic.DoubleAccumulator;
 
+import org.graphstream.algorithm.Boruvka;
+import org.graphstream.algorithm.FilterKruskal;
 import org.graphstream.algorithm.Kruskal;
 import org.graphstream.algorithm.Prim;
 import org.graphstream.graph.Edge;
@@ -84,12 +87,26 @@ public class TestKruskalPrim {
 		p.compute();
 		helper(p, g, 37.0, 8);
 		
+		Kruskal fk = new FilterKruskal("weight", "filter");
+		fk.init(g);
+		fk.compute();
+		helper(fk, g, 37.0, 8);
+		
+		Kruskal b = new Boruvka("weight", "boruvka");
+		b.init(g);
+		b.compute();
+		helper(b, g, 37.0, 8);
+		
 		// remove the lightest edge
 		g.removeEdge("HG");
 		k.compute();
 		helper(k, g, 43.0, 8);
 		p.compute();
 		helper(p, g, 43.0, 8);
+		fk.compute();
+		helper(fk, g, 43.0, 8);
+		b.compute();
+		helper(b, g, 43.0, 8);
 		
 		// now cut the graph in 2 CC
 		g.removeEdge("BC");
@@ -98,6 +115,35 @@ public class TestKruskalPrim {
 		helper(k, g, 36.0, 7);
 		p.compute();
 		helper(p, g, 36.0, 7);
+		fk.compute();
+		helper(fk, g, 36.0, 7);
+		b.compute();
+		helper(b, g, 36.0, 7);
+	}
+	
+	@Test
+	public void randomTest() {
+		Random random = new Random(42);
+		Graph g = new SingleGraph("random", false, true);
+		for (int i = 0; i < 2000; i++)
+			g.addNode(Integer.toString(i));
+		for (int i = 0; i < 20000; i++) {
+			int u = random.nextInt(2000), v = random.nextInt(2000);
+			if (u != v && g.getNode(u).getEdgeBetween(g.getNode(v)) == null)
+				g.addEdge(u + "_" + v, u, v).setAttribute("weight", random.nextInt(50));
+		}
+		
+		Kruskal k = new Kruskal("weight", "kruskal");
+		k.init(g);
+		k.compute();
+		
+		Kruskal[] others = { new FilterKruskal("weight", "filter"), new Boruvka("weight", "boruvka") };
+		for (Kruskal o : others) {
+			o.init(g);
+			o.compute();
+			assertEquals(k.getTreeWeight(), o.getTreeWeight(), 0);
+			assertEquals(k.getTreeEdgesStream().count(), o.getTreeEdgesStream().count());
+		}
 	}
 	
 	public void helper(Kruskal k, Graph g, double expectedWeight, int expectedCount) {
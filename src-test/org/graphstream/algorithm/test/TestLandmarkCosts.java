@@ -0,0 +1,194 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.graphstream.algorithm.AStar;
+import org.graphstream.algorithm.Dijkstra;
+import org.graphstream.algorithm.LandmarkCosts;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestLandmarkCosts {
+	/**
+	 * Grid with random weights, with directed edges if asked.
+	 */
+	protected static Graph grid(int size, boolean directed, Random random) {
+		Graph g = new SingleGraph("grid", false, true);
+
+		for (int x = 0; x < size; x++)
+			for (int y = 0; y < size; y++) {
+				String id = x + "_" + y;
+
+				if (x + 1 < size) {
+					g.addEdge(id + "-x", id, (x + 1) + "_" + y, directed)
+							.setAttribute("weight", 1.0 + random.nextInt(9));
+					if (directed)
+						g.addEdge(id + "+x", (x + 1) + "_" + y, id, true)
+								.setAttribute("weight", 1.0 + random.nextInt(9));
+				}
+
+				if (y + 1 < size) {
+					g.addEdge(id + "-y", id, x + "_" + (y + 1), directed)
+							.setAttribute("weight", 1.0 + random.nextInt(9));
+					if (directed)
+						g.addEdge(id + "+y", x + "_" + (y + 1), id, true)
+								.setAttribute("weight", 1.0 + random.nextInt(9));
+				}
+			}
+
+		return g;
+	}
+
+	protected static void checkQueries(Graph g, LandmarkCosts costs,
+			Random random) {
+		AStar astar = new AStar(g);
+		astar.setCosts(costs);
+
+		for (int q = 0; q < 10; q++) {
+			Node source = g.getNode(random.nextInt(g.getNodeCount()));
+			Dijkstra dijkstra = new Dijkstra(Dijkstra.Element.EDGE, null,
+					"weight");
+			dijkstra.init(g);
+			dijkstra.setSource(source);
+			dijkstra.compute();
+
+			for (Node node : g)
+				assertTrue(costs.heuristic(source, node) <= dijkstra
+						.getPathLength(node));
+
+			Node target = g.getNode(random.nextInt(g.getNodeCount()));
+			astar.compute(source.getId(), target.getId());
+
+			assertEquals(dijkstra.getPathLength(target), astar
+					.getShortestPath().getPathWeight("weight"), 1e-9);
+		}
+	}
+
+	@Test
+	public void testFarthest() {
+		Random random = new Random(1);
+		Graph g = grid(30, false, random);
+		LandmarkCosts costs = new LandmarkCosts("weight");
+		costs.setLandmarkCount(4);
+		costs.setStrategy(LandmarkCosts.Strategy.FARTHEST);
+		costs.init(g);
+		costs.compute();
+
+		assertEquals(4, costs.getLandmarks().size());
+		checkQueries(g, costs, random);
+	}
+
+	@Test
+	public void testUndirectedSymmetric() {
+		Random random = new Random(5);
+		Graph g = grid(20, false, random);
+		LandmarkCosts costs = new LandmarkCosts("weight");
+		costs.setLandmarkCount(3);
+		costs.init(g);
+		costs.compute();
+
+		for (int i = 0; i < 100; i++) {
+			Node u = g.getNode(random.nextInt(g.getNodeCount()));
+			Node v = g.getNode(random.nextInt(g.getNodeCount()));
+
+			assertEquals(costs.heuristic(u, v), costs.heuristic(v, u), 0);
+		}
+
+		checkQueries(g, costs, random);
+	}
+
+	@Test
+	public void testAvoidDirected() {
+		Random random = new Random(2);
+		Graph g = grid(30, true, random);
+		LandmarkCosts costs = new LandmarkCosts("weight");
+		costs.setLandmarkCount(6);
+		costs.init(g);
+		costs.compute();
+
+		assertEquals(6, costs.getLandmarks().stream().distinct().count());
+		checkQueries(g, costs, random);
+	}
+
+	@Test
+	public void testPersistence() throws IOException {
+		Random random = new Random(3);
+		Graph g = grid(20, true, random);
+		LandmarkCosts costs = new LandmarkCosts("weight");
+		costs.setLandmarkCount(3);
+		costs.init(g);
+		costs.compute();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		costs.write(out);
+
+		LandmarkCosts read = new LandmarkCosts("weight");
+		read.init(g);
+		read.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(costs.getLandmarks(), read.getLandmarks());
+
+		for (int i = 0; i < 100; i++) {
+			Node u = g.getNode(random.nextInt(g.getNodeCount()));
+			Node v = g.getNode(random.nextInt(g.getNodeCount()));
+
+			assertEquals(costs.heuristic(u, v), read.heuristic(u, v), 0);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testPersistenceOtherGraph() throws IOException {
+		Random random = new Random(4);
+		Graph g = grid(10, false, random);
+		LandmarkCosts costs = new LandmarkCosts("weight");
+		costs.init(g);
+		costs.compute();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		costs.write(out);
+
+		g.removeNode("0_0");
+		g.addNode("other");
+
+		LandmarkCosts read = new LandmarkCosts("weight");
+		read.init(g);
+		read.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+}
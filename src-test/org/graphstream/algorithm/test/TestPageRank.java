@@ -67,4 +67,33 @@ public class TestPageRank {
 		assertEquals(1.6, 100 * pr.getRank(g.getNode("K")), 1.0e-1);
 
 	}
+
+	@Test
+	public void testBatchMode() {
+		Graph g = toyGraph();
+		PageRank pr = new PageRank();
+		pr.setBatchMode(true);
+		pr.init(g);
+		pr.compute();
+
+		g.removeNode("A");
+		g.addEdge("LB", "L", "B", true);
+		g.addEdge("LM", "L", "M", true);
+		g.removeNode("M");
+		g.stepBegins(1);
+
+		double sum = g.nodes().mapToDouble(n -> n.getNumber(PageRank.DEFAULT_RANK_ATTRIBUTE)).sum();
+		assertEquals(1.0, sum, 1.0e-9);
+		assertEquals(0.0, g.getNode("L").getNumber(PageRank.DEFAULT_RANK_ATTRIBUTE), 1.0e-2);
+
+		Graph h = toyGraph();
+		h.removeNode("A");
+		h.addEdge("LB", "L", "B", true);
+		PageRank reference = new PageRank();
+		reference.init(h);
+		reference.compute();
+
+		for (String id : new String[] { "B", "C", "E", "L" })
+			assertEquals(reference.getRank(h.getNode(id)), pr.getRank(g.getNode(id)), 1.0e-4);
+	}
 }
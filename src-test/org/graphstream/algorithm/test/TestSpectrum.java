@@ -0,0 +1,203 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.EigenDecomposition;
+import org.graphstream.algorithm.Spectrum;
+import org.graphstream.algorithm.generator.BarabasiAlbertGenerator;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.implementations.AdjacencyListGraph;
+import org.graphstream.graph.implementations.MultiGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSpectrum {
+
+	protected static Graph randomGraph(int size) {
+		Graph g = new AdjacencyListGraph("g");
+		BarabasiAlbertGenerator gen = new BarabasiAlbertGenerator(2);
+
+		gen.setRandomSeed(5);
+		gen.addSink(g);
+		gen.begin();
+		for (int i = 2; i < size; i++)
+			gen.nextEvents();
+		gen.end();
+
+		return g;
+	}
+
+	protected static Graph cycle(int size) {
+		Graph g = new AdjacencyListGraph("cycle");
+
+		for (int i = 0; i < size; i++)
+			g.addNode(Integer.toString(i));
+		for (int i = 0; i < size; i++)
+			g.addEdge(i + "_" + (i + 1) % size, Integer.toString(i),
+					Integer.toString((i + 1) % size));
+
+		return g;
+	}
+
+	protected static double[] denseSpectrum(Graph g, boolean laplacian) {
+		int n = g.getNodeCount();
+		Array2DRowRealMatrix m = new Array2DRowRealMatrix(n, n);
+
+		g.edges().forEach(e -> {
+			int i = e.getNode0().getIndex();
+			int j = e.getNode1().getIndex();
+
+			m.addToEntry(i, j, laplacian ? -1 : 1);
+			m.addToEntry(j, i, laplacian ? -1 : 1);
+
+			if (laplacian) {
+				m.addToEntry(i, i, 1);
+				m.addToEntry(j, j, 1);
+			}
+		});
+
+		double[] values = new EigenDecomposition(m).getRealEigenvalues();
+		Arrays.sort(values);
+
+		return values;
+	}
+
+	@Test
+	public void testSparseMatchesDense() {
+		Graph g = randomGraph(120);
+		double[] adjacency = denseSpectrum(g, false);
+		double[] laplacian = denseSpectrum(g, true);
+		int n = g.getNodeCount();
+
+		Spectrum spectrum = new Spectrum();
+		spectrum.setEigenvalueCount(3);
+		spectrum.init(g);
+		spectrum.compute();
+
+		double[] values = spectrum.getEigenvalues();
+		Assert.assertEquals(6, spectrum.getEigenvaluesCount());
+
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(adjacency[n - 1 - i], values[i], 1e-6);
+			Assert.assertEquals(adjacency[2 - i], values[3 + i], 1e-6);
+		}
+
+		Assert.assertEquals(adjacency[n - 1], spectrum.getSpectralRadius(),
+				1e-6);
+		Assert.assertEquals(adjacency[n - 1] - adjacency[n - 2],
+				spectrum.getSpectralGap(), 1e-6);
+		Assert.assertEquals(laplacian[1], spectrum.getAlgebraicConnectivity(),
+				1e-6);
+
+		spectrum.setMatrixType(Spectrum.MatrixType.LAPLACIAN);
+		spectrum.compute();
+
+		Assert.assertEquals(laplacian[n - 1], spectrum.getEigenvalue(0), 1e-6);
+		Assert.assertEquals(0, spectrum.getEigenvalue(5), 1e-6);
+	}
+
+	@Test
+	public void testAlgebraicConnectivity() {
+		int n = 20;
+		Graph g = cycle(n);
+
+		Spectrum spectrum = new Spectrum();
+		spectrum.init(g);
+		spectrum.compute();
+
+		Assert.assertEquals(2 - 2 * Math.cos(2 * Math.PI / n),
+				spectrum.getAlgebraicConnectivity(), 1e-6);
+		Assert.assertEquals(2, spectrum.getSpectralRadius(), 1e-6);
+		Assert.assertEquals(2, spectrum.getLargestEigenvalue(), 1e-6);
+
+		double[] fiedler = spectrum.getFiedlerVector();
+		double sum = 0;
+
+		for (int i = 0; i < n; i++)
+			sum += fiedler[i];
+
+		Assert.assertEquals(n, fiedler.length);
+		Assert.assertEquals(0, sum, 1e-6);
+
+		g.removeEdge("0_1");
+		g.removeEdge("10_11");
+		spectrum.compute();
+
+		Assert.assertEquals(0, spectrum.getAlgebraicConnectivity(), 1e-6);
+	}
+
+	/**
+	 * Parallel edges and loops give the same dense and sparse spectra.
+	 */
+	@Test
+	public void testMultiGraph() {
+		Graph g = new MultiGraph("multi");
+
+		for (int i = 0; i < 12; i++)
+			g.addNode(Integer.toString(i));
+		for (int i = 0; i < 12; i++) {
+			g.addEdge("e" + i, i, (i + 1) % 12);
+			g.addEdge("f" + i, i, (i + 1 + i % 3) % 12);
+		}
+
+		g.addEdge("loop", 3, 3);
+
+		Spectrum dense = new Spectrum();
+		Spectrum sparse = new Spectrum();
+		sparse.setEigenvalueCount(2);
+
+		for (Spectrum.MatrixType type : Spectrum.MatrixType.values()) {
+			dense.setMatrixType(type);
+			sparse.setMatrixType(type);
+			dense.init(g);
+			sparse.init(g);
+			dense.compute();
+			sparse.compute();
+
+			double[] values = dense.getEigenvalues().clone();
+			Arrays.sort(values);
+
+			Assert.assertEquals(values[11], sparse.getEigenvalue(0), 1e-6);
+			Assert.assertEquals(values[10], sparse.getEigenvalue(1), 1e-6);
+			Assert.assertEquals(values[1], sparse.getEigenvalue(2), 1e-6);
+			Assert.assertEquals(values[0], sparse.getEigenvalue(3), 1e-6);
+		}
+
+		dense.setMatrixType(Spectrum.MatrixType.LAPLACIAN);
+		dense.compute();
+
+		double[] values = dense.getEigenvalues().clone();
+		Arrays.sort(values);
+		Assert.assertEquals(0, values[0], 1e-9);
+	}
+}
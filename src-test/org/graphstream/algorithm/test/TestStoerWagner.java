@@ -0,0 +1,183 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.StoerWagner;
+import org.graphstream.algorithm.flow.EdmondsKarpAlgorithm;
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.MultiGraph;
+import org.graphstream.graph.implementations.SingleGraph;
+import org.junit.Test;
+
+public class TestStoerWagner {
+	/**
+	 * Two cliques linked by two edges.
+	 */
+	@Test
+	public void testTwoCliques() {
+		Graph g = new SingleGraph("two cliques");
+
+		for (int c = 0; c < 2; c++)
+			for (int i = 0; i < 5; i++) {
+				g.addNode(c + "_" + i);
+
+				for (int j = 0; j < i; j++)
+					g.addEdge(c + "_" + i + "_" + j, c + "_" + i, c + "_" + j);
+			}
+
+		g.addEdge("a", "0_0", "1_0");
+		g.addEdge("b", "0_1", "1_1");
+
+		StoerWagner minCut = new StoerWagner();
+		minCut.init(g);
+		minCut.compute();
+
+		assertEquals(2, minCut.getCutWeight(), 0);
+		assertEquals(2, minCut.getCutEdges().size());
+		assertEquals(5, minCut.getPartition().size());
+		assertTrue(minCut.getCutEdges().contains(g.getEdge("a")));
+		assertTrue(minCut.getCutEdges().contains(g.getEdge("b")));
+	}
+
+	@Test
+	public void testWeights() {
+		Graph g = new SingleGraph("square");
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addNode("D");
+		g.addEdge("AB", "A", "B").setAttribute("w", 5.0);
+		g.addEdge("BC", "B", "C").setAttribute("w", 1.0);
+		g.addEdge("CD", "C", "D").setAttribute("w", 5.0);
+		g.addEdge("DA", "D", "A").setAttribute("w", 2.0);
+		g.addEdge("AC", "A", "C").setAttribute("w", 0.5);
+
+		StoerWagner minCut = new StoerWagner("w");
+		minCut.init(g);
+		minCut.compute();
+
+		assertEquals(3.5, minCut.getCutWeight(), 1e-9);
+		assertEquals(minCut.isInPartition(g.getNode("A")),
+				minCut.isInPartition(g.getNode("B")));
+		assertNotEquals(minCut.isInPartition(g.getNode("A")),
+				minCut.isInPartition(g.getNode("C")));
+	}
+
+	@Test
+	public void testDisconnected() {
+		Graph g = new SingleGraph("disconnected");
+
+		g.addNode("A");
+		g.addNode("B");
+		g.addNode("C");
+		g.addEdge("AB", "A", "B");
+
+		StoerWagner minCut = new StoerWagner();
+		minCut.init(g);
+		minCut.compute();
+
+		assertEquals(0, minCut.getCutWeight(), 0);
+		assertTrue(minCut.getCutEdges().isEmpty());
+		assertEquals(minCut.isInPartition(g.getNode("A")),
+				minCut.isInPartition(g.getNode("B")));
+		assertNotEquals(minCut.isInPartition(g.getNode("A")),
+				minCut.isInPartition(g.getNode("C")));
+	}
+
+	/**
+	 * Compare to the minimum of the maximum flows between a node and all the
+	 * others, on random multigraphs large enough for the edges to be
+	 * aggregated.
+	 */
+	@Test
+	public void testRandom() {
+		Random random = new Random(49);
+
+		for (int run = 0; run < 10; run++) {
+			Graph g = new MultiGraph("random");
+			int n = 40 + random.nextInt(40);
+
+			for (int i = 0; i < n; i++) {
+				g.addNode(Integer.toString(i));
+
+				if (i > 0)
+					g.addEdge("t" + i, i, random.nextInt(i));
+			}
+
+			for (int e = 2 * n + random.nextInt(2 * n); e > 0; e--) {
+				int u = random.nextInt(n), v = random.nextInt(n);
+
+				if (u != v)
+					g.addEdge("e" + e, u, v);
+			}
+
+			StoerWagner minCut = new StoerWagner();
+			minCut.init(g);
+			minCut.compute();
+
+			EdmondsKarpAlgorithm flow = new EdmondsKarpAlgorithm();
+			double expected = Double.POSITIVE_INFINITY;
+
+			for (int v = 1; v < n; v++) {
+				flow.init(g, "0", Integer.toString(v));
+				flow.setAllCapacities(1.0);
+				flow.compute();
+				expected = Math.min(expected, flow.getMaximumFlow());
+			}
+
+			assertEquals(expected, minCut.getCutWeight(), 1e-9);
+
+			List<Edge> cut = minCut.getCutEdges();
+			List<Node> side = minCut.getPartition();
+
+			assertEquals(expected, cut.size(), 0);
+			assertTrue(side.size() > 0 && side.size() < n);
+
+			HashSet<Edge> removed = new HashSet<Edge>(cut);
+			IntDisjointSets components = new IntDisjointSets(n);
+
+			g.edges().filter(e -> !removed.contains(e)).forEach(
+					e -> components.union(e.getNode0().getIndex(), e
+							.getNode1().getIndex()));
+
+			assertEquals(2, components.getSetCount());
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.graphstream.algorithm.TarjanStronglyConnectedComponents;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.implementations.AdjacencyListGraph;
+import org.graphstream.graph.implementations.MultiGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTarjanStronglyConnectedComponents {
+	/**
+	 * Example from the Wikipedia's article: {A, B, E}, {C, D, H}, {F, G}.
+	 */
+	protected static Graph toyGraph() {
+		Graph g = new AdjacencyListGraph("toy", false, true);
+		String[] edges = { "AB", "BC", "BE", "BF", "CD", "CG", "DC", "DH",
+				"EA", "EF", "FG", "GF", "HD", "HG" };
+
+		for (String id : edges)
+			g.addEdge(id, id.substring(0, 1), id.substring(1), true);
+
+		return g;
+	}
+
+	protected static Graph randomGraph(int n, int m, long seed) {
+		Graph g = new MultiGraph("random");
+		Random r = new Random(seed);
+
+		for (int i = 0; i < n; i++)
+			g.addNode(Integer.toString(i));
+
+		for (int i = 0; i < m; i++)
+			g.addEdge(Integer.toString(i), r.nextInt(n), r.nextInt(n), true);
+
+		return g;
+	}
+
+	protected static void compute(Graph g, boolean parallel) {
+		TarjanStronglyConnectedComponents tscc = new TarjanStronglyConnectedComponents();
+		tscc.setParallel(parallel);
+		tscc.init(g);
+		tscc.compute();
+	}
+
+	protected static void assertSame(Graph g, String... nodes) {
+		for (String id : nodes)
+			Assert.assertEquals(g.getNode(nodes[0]).getAttribute("scc"), g
+					.getNode(id).getAttribute("scc"));
+	}
+
+	protected static int count(Graph g) {
+		return (int) g.nodes().map(n -> n.getAttribute("scc")).distinct()
+				.count();
+	}
+
+	@Test
+	public void testToyGraph() {
+		for (boolean parallel : new boolean[] { false, true }) {
+			Graph g = toyGraph();
+			compute(g, parallel);
+
+			assertSame(g, "A", "B", "E");
+			assertSame(g, "C", "D", "H");
+			assertSame(g, "F", "G");
+			Assert.assertEquals(3, count(g));
+		}
+	}
+
+	@Test
+	public void testLongChain() {
+		Graph g = new AdjacencyListGraph("chain");
+		int n = 200000;
+
+		for (int i = 0; i < n; i++)
+			g.addNode(Integer.toString(i));
+
+		for (int i = 1; i < n; i++)
+			g.addEdge("e" + i, i - 1, i, true);
+
+		compute(g, false);
+		Assert.assertEquals(n, count(g));
+
+		// Closing the chain makes a single component.
+		g.addEdge("back", n - 1, 0, true);
+		compute(g, false);
+		Assert.assertEquals(1, count(g));
+
+		compute(g, true);
+		Assert.assertEquals(1, count(g));
+	}
+
+	@Test
+	public void testParallelMatchesSequential() {
+		for (int seed = 0; seed < 10; seed++) {
+			Graph g = randomGraph(2000, 2000 + 300 * seed, seed);
+
+			compute(g, false);
+			HashMap<Node, Object> sequential = new HashMap<Node, Object>();
+			g.nodes().forEach(n -> sequential.put(n, n.getAttribute("scc")));
+
+			compute(g, true);
+
+			for (Node u : g) {
+				Node v = g.getNode(u.getIndex() * 7 % g.getNodeCount());
+
+				Assert.assertEquals(
+						sequential.get(u).equals(sequential.get(v)),
+						u.getAttribute("scc").equals(v.getAttribute("scc")));
+			}
+
+			Assert.assertEquals(
+					sequential.values().stream().distinct().count(), count(g));
+		}
+	}
+}
@@ -31,10 +31,23 @@
  */
 package org.graphstream.algorithm.test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.math3.linear.SparseRealMatrix;
 import org.graphstream.algorithm.Toolkit;
+import org.graphstream.algorithm.generator.Generator;
+import org.graphstream.algorithm.generator.RandomGenerator;
+import org.graphstream.algorithm.util.CompressedMatrix;
+import org.graphstream.algorithm.util.CompressedMatrix.Order;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
 import org.graphstream.graph.implementations.AdjacencyListGraph;
@@ -137,6 +150,118 @@ public class TestToolkit {
 		assertTrue(maximumClique.contains(g.getNode("D")));
 	}
 
+	/**
+	 * Unit tests for
+	 * {@link Toolkit#forEachMaximalClique(Graph, int, boolean, java.util.function.Consumer)}
+	 */
+	@Test
+	public void testForEachMaximalClique() {
+		Graph g = toyCliqueGraph();
+		List<List<Node>> cliques = new ArrayList<List<Node>>();
+
+		Toolkit.forEachMaximalClique(g, cliques::add);
+		assertEquals(6, cliques.size());
+		for (List<Node> clique : cliques)
+			assertTrue(Toolkit.isMaximalClique(clique, g));
+
+		cliques.clear();
+		Toolkit.forEachMaximalClique(g, 3, false, cliques::add);
+		assertEquals(4, cliques.size());
+
+		Graph r = new AdjacencyListGraph("random");
+		Generator gen = new RandomGenerator(12, false);
+		gen.addSink(r);
+		gen.begin();
+		for (int i = 0; i < 300; i++)
+			gen.nextEvents();
+		gen.end();
+
+		Set<Set<Node>> expected = new HashSet<Set<Node>>();
+		for (List<Node> clique : Toolkit.getMaximalCliques(r))
+			expected.add(new HashSet<Node>(clique));
+
+		Set<Set<Node>> found = ConcurrentHashMap.newKeySet();
+		AtomicInteger count = new AtomicInteger();
+		Toolkit.forEachMaximalClique(r, 1, true, clique -> {
+			found.add(new HashSet<Node>(clique));
+			count.incrementAndGet();
+		});
+		assertEquals(expected.size(), count.get());
+		assertEquals(expected, found);
+
+		found.clear();
+		Toolkit.forEachMaximalClique(r, 4, true,
+				clique -> found.add(new HashSet<Node>(clique)));
+		expected.removeIf(clique -> clique.size() < 4);
+		assertEquals(expected, found);
+	}
+
+	@Test
+	public void testSparseMatrices() throws IOException {
+		Graph g = toyCliqueGraph();
+		g.addEdge("AA", "A", "A");
+		g.addEdge("IA", "I", "A", true);
+		g.addEdge("II", "I", "I", true);
+
+		int[][] adjacency = Toolkit.getAdjacencyMatrix(g);
+		byte[][] incidence = Toolkit.getIncidenceMatrix(g);
+		long[][] bits = Toolkit.getBitAdjacencyMatrix(g);
+		int n = g.getNodeCount();
+		int m = g.getEdgeCount();
+
+		for (Order order : Order.values()) {
+			CompressedMatrix a = Toolkit.getSparseAdjacencyMatrix(g, null,
+					order);
+			CompressedMatrix b = Toolkit.getSparseIncidenceMatrix(g, null,
+					order);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Toolkit.writeSparseAdjacencyMatrix(g, null, order, out);
+			CompressedMatrix streamed = CompressedMatrix
+					.read(new ByteArrayInputStream(out.toByteArray()));
+
+			out = new ByteArrayOutputStream();
+			b.write(out);
+			CompressedMatrix read = CompressedMatrix
+					.read(new ByteArrayInputStream(out.toByteArray()));
+
+			assertEquals(order, streamed.getOrder());
+			assertArrayEquals(a.getPointers(), streamed.getPointers());
+			assertArrayEquals(a.getIndices(), streamed.getIndices());
+
+			SparseRealMatrix sparse = a.toSparseRealMatrix();
+
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n; j++) {
+					assertEquals(adjacency[i][j], a.get(i, j), 0);
+					assertEquals(adjacency[i][j], sparse.getEntry(i, j), 0);
+					assertEquals(adjacency[i][j] > 0,
+							((bits[i][j >>> 6] >>> j) & 1) == 1);
+				}
+
+				for (int j = 0; j < m; j++) {
+					assertEquals(incidence[i][j], b.get(i, j), 0);
+					assertEquals(incidence[i][j], read.get(i, j), 0);
+				}
+			}
+		}
+
+		g.edges().forEach(e -> e.setAttribute("weight", 0.5));
+		CompressedMatrix w = Toolkit.getSparseAdjacencyMatrix(g, "weight",
+				Order.ROW);
+		double[] x = new double[n];
+		double[] y = new double[n];
+		Arrays.fill(x, 1);
+		w.multiply(x, y);
+
+		for (int i = 0; i < n; i++) {
+			int sum = 0;
+			for (int j = 0; j < n; j++)
+				sum += adjacency[i][j];
+			assertEquals(sum * 0.5, y[i], 1e-12);
+		}
+	}
+
 	@Test
 	public void testClusteringCoefficient() {
 		AdjacencyListGraph g = new AdjacencyListGraph("g");
@@ -37,6 +37,7 @@ import java.util.HashMap;
 import java.util.concurrent.atomic.DoubleAccumulator;
 import java.util.stream.Stream;
 
+import org.graphstream.algorithm.util.GraphDelta;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Edge;
@@ -197,6 +198,15 @@ import org.graphstream.stream.SinkAdapter;
  * appropriate constructor).
  * </p>
  * 
+ * <h3>Batch mode</h3>
+ * <p>
+ * The paths are computed again at the next call to {@link #compute()} as soon
+ * as the graph changed. With {@link #setBatchMode(boolean)}, the events of a
+ * step are coalesced first by a {@link GraphDelta}, so that changes which
+ * cancel each other, like an edge added then removed or a weight changed back
+ * to its previous value, do not trigger a new computation.
+ * </p>
+ * 
  * 
  * <h2>Shortest Paths with weighted edges</2>
  * <p>
@@ -261,6 +271,16 @@ public class APSP extends SinkAdapter implements Algorithm {
 	 * This attribute must contain a descendant of Number.
 	 */
 	protected String weightAttributeName;
+
+	/**
+	 * Flag used to coalesce the events of each step.
+	 */
+	protected boolean batchMode = false;
+
+	/**
+	 * Buffer of the graph events in batch mode.
+	 */
+	protected GraphDelta delta;
 	
 	protected Progress progress = null;
 	
@@ -367,21 +387,71 @@ public class APSP extends SinkAdapter implements Algorithm {
 	 */
 	@Parameter
 	public void setWeightAttributeName(String name) {
+		if (delta != null) {
+			delta.unwatchEdgeAttribute(weightAttributeName);
+			delta.watchEdgeAttribute(name);
+		}
+
 		weightAttributeName = name;
 	}
 
+	/**
+	 * Coalesce the events of the graph between two steps, so that only the
+	 * net changes of each step are considered to know if the paths have to be
+	 * computed again.
+	 * 
+	 * @param batchMode
+	 *            true to enable the batch mode
+	 */
+	@Parameter
+	public void setBatchMode(boolean batchMode) {
+		if (batchMode != this.batchMode) {
+			if (graph != null)
+				detach();
+
+			this.batchMode = batchMode;
+
+			if (graph != null)
+				attach();
+		}
+	}
+
 	/**
 	 * @see Algorithm#init(Graph)
 	 */
 	public void init(Graph graph) {
 		if (this.graph != null)
-			this.graph.removeSink(this);
+			detach();
 
 		this.graph = graph;
 
 		if (this.graph != null){
 			graphChanged = true;
-			this.graph.addSink(this);
+			attach();
+		}
+	}
+
+	protected void attach() {
+		if (batchMode) {
+			delta = new GraphDelta(graph, d -> {
+				if (d.hasStructuralChanges()
+						|| !d.getAttributeChanges().isEmpty())
+					graphChanged = true;
+			});
+
+			delta.watchEdgeAttribute(weightAttributeName);
+			delta.attach();
+		} else {
+			graph.addSink(this);
+		}
+	}
+
+	protected void detach() {
+		if (delta != null) {
+			delta.detach();
+			delta = null;
+		} else {
+			graph.removeSink(this);
 		}
 	}
 	
@@ -412,6 +482,9 @@ public class APSP extends SinkAdapter implements Algorithm {
 	 * @complexity O(n^3) where n is the number of nodes in the graph.
 	 */
 	public void compute() {
+		if (delta != null)
+			delta.flush();
+
 		if (graphChanged) {
 			// Make a list of all nodes, and equip them with APSP informations.
 			// The APSPInfo constructor add in each info item all the paths from
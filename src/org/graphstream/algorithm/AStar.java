@@ -35,9 +35,10 @@ package org.graphstream.algorithm;
 import static org.graphstream.ui.graphicGraph.GraphPosLengthUtils.edgeLength;
 import static org.graphstream.ui.graphicGraph.GraphPosLengthUtils.nodePosition;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
 
+import org.graphstream.algorithm.util.IndexedPriorityQueue;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Edge;
@@ -164,8 +165,17 @@ import org.graphstream.graph.Path;
  * 	}
  * }
  * </pre>
- *
- * @complexity The complexity of A* depends on the heuristic.
+ * 
+ * <p>
+ * The open set is an indexed binary heap of node indices and the scores are
+ * stored in primitive arrays, which are kept between searches on the same
+ * graph. Among nodes of equal f, the one with the lowest heuristic is expanded
+ * first.
+ * </p>
+ * 
+ * @complexity The complexity of A* depends on the heuristic. Each expansion
+ *             costs O(log n) plus the out-degree of the node, times
+ *             O(log n).
  */
 public class AStar implements Algorithm {
 	/**
@@ -191,14 +201,31 @@ public class AStar implements Algorithm {
 	protected Costs costs = new DefaultCosts();
 
 	/**
-	 * The open set.
+	 * The open set, nodes by index ordered by f = g + h, then by h.
+	 */
+	protected IndexedPriorityQueue open;
+
+	/**
+	 * Cost from the source (g) and estimated cost to the target (h) of each
+	 * node, by index. Only valid for the nodes reached by the current search.
 	 */
-	protected HashMap<Node, AStarNode> open = new HashMap<Node, AStarNode>();
+	protected double[] g, h;
 
 	/**
-	 * The closed set.
+	 * Index of the edge used to reach each node, -1 for the source.
 	 */
-	protected HashMap<Node, AStarNode> closed = new HashMap<Node, AStarNode>();
+	protected int[] parentEdges;
+
+	/**
+	 * Search during which each node was last reached. The nodes reached by
+	 * the current search which are not in the open set are closed.
+	 */
+	protected int[] reached;
+
+	/**
+	 * Number of the current search.
+	 */
+	protected int search;
 
 	/**
 	 * If found the shortest path is stored here.
@@ -339,6 +366,62 @@ public class AStar implements Algorithm {
 		return (! pathFound);
 	}
 
+	/**
+	 * Build the shortest path from the source node to the target/destination
+	 * node, following the parent edges.
+	 * 
+	 * @param source
+	 *            Index of the source node.
+	 * @param target
+	 *            Index of the destination node.
+	 * @return The path.
+	 */
+	protected Path buildPath(int source, int target) {
+		Path path = new Path();
+		ArrayDeque<Edge> edges = new ArrayDeque<Edge>();
+
+		for (int i = target; parentEdges[i] >= 0;) {
+			Edge edge = graph.getEdge(parentEdges[i]);
+			edges.push(edge);
+			i = edge.getOpposite(graph.getNode(i)).getIndex();
+		}
+
+		if (!edges.isEmpty()) {
+			path.add(graph.getNode(source), edges.pop());
+
+			while (!edges.isEmpty())
+				path.add(edges.pop());
+		}
+
+		return path;
+	}
+
+	/**
+	 * Build the path found by the last search from the source to a node it
+	 * reached, following the parent edges. This is the shortest path to the
+	 * target, and to the nodes closed before it. The graph must not have been
+	 * modified since the search.
+	 * 
+	 * @param target
+	 *            The destination node.
+	 * @return The path, or null if the node was not reached by the last
+	 *         search.
+	 */
+	public Path buildPath(Node target) {
+		int t = target.getIndex();
+
+		if (search == 0 || t >= reached.length || reached[t] != search)
+			return null;
+
+		int s = t;
+
+		while (parentEdges[s] >= 0)
+			s = graph.getEdge(parentEdges[s]).getOpposite(graph.getNode(s))
+					.getIndex();
+
+		return buildPath(s, t);
+	}
+
 	/**
 	 * Build the shortest path from the target/destination node, following the
 	 * parent links.
@@ -346,7 +429,10 @@ public class AStar implements Algorithm {
 	 * @param target
 	 *            The destination node.
 	 * @return The path.
+	 * @deprecated The search does not use {@link AStarNode} anymore, use
+	 *             {@link #buildPath(Node)}.
 	 */
+	@Deprecated
 	public Path buildPath(AStarNode target) {
 		Path path = new Path();
 
@@ -398,8 +484,8 @@ public class AStar implements Algorithm {
 	 * name, the target node name and the weight attribute name.
 	 */
 	protected void clearAll() {
-		open.clear();
-		closed.clear();
+		if (open != null)
+			open.clear();
 
 		result = null;
 		pathFound = false;
@@ -415,75 +501,82 @@ public class AStar implements Algorithm {
 	 */
 	protected void aStar(Node sourceNode, Node targetNode) {
 		clearAll();
-		open.put(
-				sourceNode,
-				new AStarNode(sourceNode, null, null, 0, costs.heuristic(
-						sourceNode, targetNode)));
+		allocate();
 
-		pathFound = false;
+		int t = targetNode.getIndex();
 
-		while (!open.isEmpty()) {
-			AStarNode current = getNextBetterNode();
+		search++;
+		reach(sourceNode.getIndex(), -1, 0,
+				costs.heuristic(sourceNode, targetNode));
 
-			assert (current != null);
+		while (!open.isEmpty()) {
+			int current = open.poll();
 
-			if (current.node == targetNode) {
+			if (current == t) {
 				// We found it !
-				assert current.edge != null;
 				pathFound = true;
-				result = buildPath(current);
+				result = buildPath(sourceNode.getIndex(), t);
 				return;
-			} else {
-				open.remove(current.node);
-				closed.put(current.node, current);
-
-				// For each successor of the current node :
-				
-				current.node.leavingEdges().forEach(edge -> {
-					Node next = edge.getOpposite(current.node);
-					double h = costs.heuristic(next, targetNode);
-					double g = current.g + costs.cost(current.node, edge, next);
-					double f = g + h;
-
-					// If the node is already in open with a better rank, we
-					// skip it.
-
-					AStarNode alreadyInOpen = open.get(next);
-
-					if (!(alreadyInOpen != null && alreadyInOpen.rank <= f)) {
-						
-						// If the node is already in closed with a better rank; we
-						// skip it.
-						AStarNode alreadyInClosed = closed.get(next);
-
-						if (!(alreadyInClosed != null && alreadyInClosed.rank <= f)){
-
-							closed.remove(next);
-							open.put(next, new AStarNode(next, edge, current, g, h));
-						}
-					}
-				});
+			}
+
+			// For each successor of the current node :
+
+			Node node = graph.getNode(current);
+
+			for (int k = 0; k < node.getOutDegree(); k++) {
+				Edge edge = node.getLeavingEdge(k);
+				Node next = edge.getOpposite(node);
+				int i = next.getIndex();
+				double gi = g[current] + costs.cost(node, edge, next);
+
+				if (reached[i] != search)
+					reach(i, edge.getIndex(), gi,
+							costs.heuristic(next, targetNode));
+				else if (gi < g[i]) {
+					// A better path to a node already open or closed, which
+					// is opened again.
+					reach(i, edge.getIndex(), gi, h[i]);
+				}
 			}
 		}
 	}
 
 	/**
-	 * Find the node with the lowest rank in the open list.
+	 * Put a node in the open set, or change its scores.
 	 * 
-	 * @return The node of open that has the lowest rank.
+	 * @param i
+	 *            Index of the node.
+	 * @param edge
+	 *            Index of the edge used to reach it, -1 for the source.
+	 * @param gi
+	 *            The cost from the source to the node.
+	 * @param hi
+	 *            The estimated cost from the node to the target.
 	 */
-	protected AStarNode getNextBetterNode() {
-		// TODO: consider using a priority queue here ?
-		// The problem is that we use open has a hash to ensure
-		// a node we will add to to open is not yet in it.
+	protected void reach(int i, int edge, double gi, double hi) {
+		reached[i] = search;
+		parentEdges[i] = edge;
+		g[i] = gi;
+		h[i] = hi;
 
-		AStarNode theChosenOne = null;
-		
-		theChosenOne = open.values().stream()
-				.min((n,m) -> Double.compare(n.rank, m.rank))
-				.get();
-		
-		return theChosenOne;
+		open.add(i, gi + hi, hi);
+	}
+
+	/**
+	 * Allocate the arrays, if the graph has more nodes than during the
+	 * previous searches.
+	 */
+	protected void allocate() {
+		int n = graph.getNodeCount();
+
+		if (open == null || open.capacity() < n) {
+			open = new IndexedPriorityQueue(n);
+			g = new double[n];
+			h = new double[n];
+			parentEdges = new int[n];
+			reached = new int[n];
+			search = 0;
+		}
 	}
 
 	// Nested classes
@@ -632,7 +725,11 @@ public class AStar implements Algorithm {
 	 * <li>the f value or rank, the sum of g and h.</li>
 	 * </ul>
 	 * </p>
+	 * 
+	 * @deprecated The search stores the scores of the nodes in arrays, this
+	 *             class is only used by {@link AStar#buildPath(AStarNode)}.
 	 */
+	@Deprecated
 	protected class AStarNode {
 		/**
 		 * The node.
@@ -689,4 +786,4 @@ public class AStar implements Algorithm {
 			this.rank = g + h;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -115,6 +115,10 @@ import org.graphstream.graph.Path;
  * Dijkstra implementation. If you really need that algorithm, please contact
  * the team members through the mailing list.
  * </p>
+ * <p>
+ * {@link BellmanFordSPFA} stops as soon as a pass changes nothing and gives
+ * the cycles of negative weight instead of failing.
+ * </p>
  * 
  * @reference Bellman, Richard "On a routing problem", Quarterly of Applied
  *            Mathematics 16: 87–90. 1958.
@@ -0,0 +1,535 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+
+/**
+ * Queue-based variant of the Bellman-Ford algorithm, known as the Shortest
+ * Path Faster Algorithm.
+ * 
+ * <p>
+ * Instead of relaxing all the edges n times, only the edges leaving a node
+ * whose distance changed are relaxed, the nodes waiting in a FIFO queue. The
+ * algorithm stops as soon as the queue is empty, that is when a pass changes
+ * nothing. Distances, predecessors and the edges, with their weights, are
+ * stored in arrays indexed by the nodes and no attribute is set on the graph.
+ * Directed edges are followed from their source, undirected edges in both
+ * directions.
+ * </p>
+ * 
+ * <p>
+ * Each node counts the edges of its current shortest path. When this count
+ * reaches the number of nodes, the path contains a cycle of negative weight.
+ * Instead of failing, the algorithm stops and the cycle, found in the
+ * predecessors, is given by {@link #getNegativeCycle()}. Distances are not
+ * defined in this case.
+ * </p>
+ * 
+ * <p>
+ * With {@link #setParallel(boolean)}, the algorithm runs in rounds: the
+ * successors of the nodes whose distance changed in the previous round take
+ * the best of their entering arcs, in parallel when there are at least
+ * {@link #PARALLEL_THRESHOLD} of them. Each node is only written by one thread
+ * and the result does not depend on the scheduling. If a cycle of negative weight is
+ * detected, after n rounds, the sequential algorithm is run to find it.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * BellmanFordSPFA bf = new BellmanFordSPFA(&quot;weight&quot;, &quot;A&quot;);
+ * bf.init(graph);
+ * bf.compute();
+ * 
+ * if (bf.hasNegativeCycle())
+ * 	System.out.println(bf.getNegativeCycle());
+ * else
+ * 	System.out.println(bf.getShortestPathValue(graph.getNode(&quot;F&quot;)));
+ * </pre>
+ * 
+ * @reference Moore, Edward F. (1959), "The shortest path through a maze",
+ *            Proceedings of the International Symposium on the Theory of
+ *            Switching, 285–292
+ * 
+ * @complexity O(VxE) in the worst case, usually close to O(E) on sparse
+ *             graphs.
+ */
+public class BellmanFordSPFA extends BellmanFord {
+	/**
+	 * Minimum number of nodes of a round to process them in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 4096;
+
+	/**
+	 * Process the large rounds in parallel.
+	 */
+	protected boolean parallel = false;
+
+	/**
+	 * Arcs leaving node i are between offsets[i] and offsets[i+1] of targets,
+	 * weights and edges.
+	 */
+	protected int[] offsets, targets, edges;
+
+	/**
+	 * Weight of each arc.
+	 */
+	protected double[] weights;
+
+	/**
+	 * Distance of each node to the source.
+	 */
+	protected double[] distances;
+
+	/**
+	 * Arc reaching each node on its shortest path, -1 if none.
+	 */
+	protected int[] parents;
+
+	/**
+	 * Source of each arc.
+	 */
+	protected int[] sources;
+
+	/**
+	 * Cycle of negative weight, null if none.
+	 */
+	protected Path negativeCycle;
+
+	/**
+	 * Build a new algorithm with default parameters.
+	 */
+	public BellmanFordSPFA() {
+		super();
+	}
+
+	/**
+	 * Build a new algorithm giving the name of the weight attribute for edges.
+	 * 
+	 * @param attribute
+	 *            weight attribute of edges
+	 */
+	public BellmanFordSPFA(String attribute) {
+		super(attribute);
+	}
+
+	/**
+	 * Build a new algorithm giving the name of the weight attribute for edges
+	 * and the id of the source node.
+	 * 
+	 * @param attribute
+	 *            weight attribute of edges
+	 * @param sourceNode
+	 *            id of the source node
+	 */
+	public BellmanFordSPFA(String attribute, String sourceNode) {
+		super(attribute, sourceNode);
+	}
+
+	/**
+	 * Enable the processing of the nodes of large rounds in parallel.
+	 * 
+	 * @param parallel
+	 *            true to process the rounds of at least
+	 *            {@link #PARALLEL_THRESHOLD} nodes in parallel
+	 */
+	@Parameter
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.BellmanFord#compute()
+	 */
+	@Override
+	public void compute() {
+		int s = graph.getNode(source_id).getIndex();
+
+		source = graph.getNode(source_id);
+		negativeCycle = null;
+		cacheArcs();
+
+		if (!parallel || !computeParallel(s))
+			computeSequential(s);
+	}
+
+	/**
+	 * Build the arrays of arcs.
+	 */
+	protected void cacheArcs() {
+		int n = graph.getNodeCount();
+		int m = 0;
+
+		offsets = new int[n + 1];
+
+		for (int i = 0; i < n; i++) {
+			m += graph.getNode(i).getOutDegree();
+			offsets[i + 1] = m;
+		}
+
+		sources = new int[m];
+		targets = new int[m];
+		edges = new int[m];
+		weights = new double[m];
+
+		for (int i = 0; i < n; i++) {
+			Node node = graph.getNode(i);
+
+			for (int j = 0; j < node.getOutDegree(); j++) {
+				Edge e = node.getLeavingEdge(j);
+				double w = e.getNumber(weightAttribute);
+
+				if (Double.isNaN(w))
+					throw new NumberFormatException(String.format(
+							"%s: Problem with attribute \"%s\" on edge \"%s\"",
+							BellmanFord.class.getName(), weightAttribute,
+							e.getId()));
+
+				int a = offsets[i] + j;
+				sources[a] = i;
+				targets[a] = e.getOpposite(node).getIndex();
+				edges[a] = e.getIndex();
+				weights[a] = w;
+			}
+		}
+	}
+
+	/**
+	 * Queue-based relaxation.
+	 */
+	protected void computeSequential(int s) {
+		int n = offsets.length - 1;
+		int[] queue = new int[n];
+		int[] counts = new int[n];
+		boolean[] queued = new boolean[n];
+		int head = 0, size = 0;
+
+		distances = new double[n];
+		parents = new int[n];
+
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+		Arrays.fill(parents, -1);
+
+		distances[s] = 0;
+		queue[size++] = s;
+		queued[s] = true;
+
+		while (size > 0) {
+			int u = queue[head];
+
+			head = (head + 1) % n;
+			size--;
+			queued[u] = false;
+
+			for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+				int v = targets[a];
+				double d = distances[u] + weights[a];
+
+				if (d < distances[v]) {
+					distances[v] = d;
+					parents[v] = a;
+					counts[v] = counts[u] + 1;
+
+					if (counts[v] >= n && findNegativeCycle(v))
+						return;
+
+					if (!queued[v]) {
+						queue[(head + size++) % n] = v;
+						queued[v] = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Relaxation by rounds. The nodes reached by the nodes whose distance
+	 * changed in the previous round are processed in parallel, each one
+	 * taking the best of its entering arcs, so that each node is only written
+	 * by one thread.
+	 * 
+	 * @return false if a cycle of negative weight was detected
+	 */
+	protected boolean computeParallel(int s) {
+		int n = offsets.length - 1;
+		int[] inOffsets = new int[n + 1];
+		int[] inArcs = new int[targets.length];
+		AtomicIntegerArray marked = new AtomicIntegerArray(n);
+		AtomicInteger candidateCount = new AtomicInteger();
+		int[] frontier = new int[n];
+		int[] candidates = new int[n];
+		double[] best = new double[n];
+		int[] bestArcs = new int[n];
+		int frontierSize = 1;
+
+		for (int a = 0; a < targets.length; a++)
+			inOffsets[targets[a] + 1]++;
+
+		for (int i = 0; i < n; i++)
+			inOffsets[i + 1] += inOffsets[i];
+
+		int[] fill = Arrays.copyOf(inOffsets, n);
+
+		for (int a = 0; a < targets.length; a++)
+			inArcs[fill[targets[a]]++] = a;
+
+		distances = new double[n];
+		parents = new int[n];
+
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+		Arrays.fill(parents, -1);
+
+		distances[s] = 0;
+		frontier[0] = s;
+
+		for (int round = 0; frontierSize > 0; round++) {
+			if (round >= n)
+				return false;
+
+			final int[] f = frontier;
+			IntStream nodes = IntStream.range(0, frontierSize);
+
+			if (frontierSize >= PARALLEL_THRESHOLD)
+				nodes = nodes.parallel();
+
+			candidateCount.set(0);
+			nodes.forEach(k -> {
+				for (int a = offsets[f[k]]; a < offsets[f[k] + 1]; a++) {
+					int v = targets[a];
+
+					if (marked.getAndSet(v, 1) == 0)
+						candidates[candidateCount.getAndIncrement()] = v;
+				}
+			});
+
+			int count = candidateCount.get();
+			IntStream pull = IntStream.range(0, count);
+
+			if (count >= PARALLEL_THRESHOLD)
+				pull = pull.parallel();
+
+			pull.forEach(k -> {
+				int v = candidates[k];
+				double min = distances[v];
+				int arc = -1;
+
+				for (int j = inOffsets[v]; j < inOffsets[v + 1]; j++) {
+					int a = inArcs[j];
+					double d = distances[sources[a]] + weights[a];
+
+					if (d < min) {
+						min = d;
+						arc = a;
+					}
+				}
+
+				best[v] = min;
+				bestArcs[v] = arc;
+			});
+
+			frontierSize = 0;
+
+			for (int k = 0; k < count; k++) {
+				int v = candidates[k];
+
+				marked.set(v, 0);
+
+				if (bestArcs[v] >= 0) {
+					distances[v] = best[v];
+					parents[v] = bestArcs[v];
+					frontier[frontierSize++] = v;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Look for a cycle in the predecessors of a node. Such a cycle has a
+	 * negative weight.
+	 * 
+	 * @return true if a cycle was found
+	 */
+	protected boolean findNegativeCycle(int v) {
+		int n = parents.length;
+		boolean[] visited = new boolean[n];
+		int x = v;
+
+		while (x >= 0 && !visited[x]) {
+			visited[x] = true;
+			x = parents[x] < 0 ? -1 : sources[parents[x]];
+		}
+
+		if (x < 0)
+			return false;
+
+		ArrayList<Integer> arcs = new ArrayList<Integer>();
+		int y = x;
+
+		do {
+			arcs.add(parents[y]);
+			y = sources[parents[y]];
+		} while (y != x);
+
+		negativeCycle = new Path();
+		negativeCycle.setRoot(graph.getNode(x));
+
+		for (int k = arcs.size() - 1; k >= 0; k--)
+			negativeCycle.add(graph.getEdge(edges[arcs.get(k)]));
+
+		return true;
+	}
+
+	/**
+	 * Check if a cycle of negative weight is reachable from the source.
+	 * 
+	 * @return true if there is such a cycle
+	 */
+	public boolean hasNegativeCycle() {
+		return negativeCycle != null;
+	}
+
+	/**
+	 * A cycle of negative weight reachable from the source, starting and
+	 * ending at the same node.
+	 * 
+	 * @return the cycle, null if there is none
+	 */
+	public Path getNegativeCycle() {
+		return negativeCycle;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.BellmanFord#getShortestPathValue(org.graphstream
+	 * .graph.Node)
+	 */
+	@Override
+	public double getShortestPathValue(Node target) {
+		return distances[target.getIndex()];
+	}
+
+	/**
+	 * Returns the shortest path between the source node and one given target,
+	 * the edges being given from the target to the source as in
+	 * {@link BellmanFord#getShortestPath(Node)}.
+	 * 
+	 * @param target
+	 *            the target of the shortest path starting at the source node
+	 * @return the path, empty if the target is not reachable
+	 */
+	@Override
+	public Path getShortestPath(Node target) {
+		Path p = new Path();
+
+		if (target == source || parents[target.getIndex()] < 0)
+			return p;
+
+		int v = target.getIndex();
+
+		for (int steps = 0; v != source.getIndex() && parents[v] >= 0
+				&& steps < parents.length; steps++) {
+			p.add(graph.getNode(v), graph.getEdge(edges[parents[v]]));
+			v = sources[parents[v]];
+		}
+
+		return p;
+	}
+
+	/**
+	 * Constructs all the possible shortest paths from the source node to the
+	 * destination, the predecessors of a node being the sources of the arcs
+	 * reaching it at its distance.
+	 * 
+	 * @see org.graphstream.algorithm.BellmanFord#getPathSetShortestPaths(org.graphstream.graph.Node)
+	 */
+	@Override
+	public List<Path> getPathSetShortestPaths(Node end) {
+		ArrayList<Path> paths = new ArrayList<Path>();
+
+		if (hasNegativeCycle())
+			return paths;
+
+		int[][] predecessors = new int[parents.length][];
+		int[] counts = new int[parents.length];
+
+		for (int a = 0; a < targets.length; a++)
+			if (distances[sources[a]] + weights[a] == distances[targets[a]])
+				counts[targets[a]]++;
+
+		for (int v = 0; v < counts.length; v++)
+			predecessors[v] = new int[counts[v]];
+
+		Arrays.fill(counts, 0);
+
+		for (int a = 0; a < targets.length; a++)
+			if (distances[sources[a]] + weights[a] == distances[targets[a]])
+				predecessors[targets[a]][counts[targets[a]]++] = a;
+
+		pathSet(end.getIndex(), new Path(), paths, predecessors);
+
+		return paths;
+	}
+
+	protected void pathSet(int v, Path path, List<Path> paths,
+			int[][] predecessors) {
+		if (v == source.getIndex()) {
+			paths.add(path);
+			return;
+		}
+
+		for (int a : predecessors[v]) {
+			// zero-weight cycles
+			if (path.contains(graph.getNode(sources[a])))
+				continue;
+
+			Path p = path.getACopy();
+			p.add(graph.getNode(v), graph.getEdge(edges[a]));
+			pathSet(sources[a], p, paths, predecessors);
+		}
+	}
+}
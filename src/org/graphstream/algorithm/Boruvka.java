@@ -0,0 +1,216 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.LinkedList;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import org.graphstream.algorithm.util.ConcurrentDisjointSets;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+
+/**
+ * Compute a minimum spanning tree using the Borůvka algorithm, in parallel.
+ * 
+ * <p>
+ * The algorithm works in rounds. In each round, every component of the tree
+ * being built selects its lightest edge going to another component, and all
+ * these edges are added to the tree. The number of components is at least
+ * halved at each round. The edges whose two nodes end in the same component
+ * are then removed, so each round is shorter than the previous one.
+ * </p>
+ * 
+ * <p>
+ * All the steps of a round run in parallel streams, over the edges or over
+ * the nodes: the lightest edge of each component is kept in an
+ * {@link AtomicIntegerArray} updated with compare-and-set, and the components
+ * are merged with a {@link ConcurrentDisjointSets}. Edges of equal weight are
+ * ordered by index, so the selected edges never make a cycle and the result is
+ * the same as {@link Kruskal}. The weights are read once in a primitive array.
+ * </p>
+ * 
+ * <pre>
+ * Boruvka boruvka = new Boruvka(&quot;weight&quot;, &quot;ui.class&quot;, &quot;intree&quot;,
+ * 		&quot;notintree&quot;);
+ * 
+ * boruvka.init(graph);
+ * boruvka.compute();
+ * 
+ * System.out.println(boruvka.getTreeWeight());
+ * </pre>
+ * 
+ * @complexity O(m log n) work, where m is the number of edges and n is the
+ *             number of nodes of the graph, in O(log n) rounds
+ * @reference Borůvka, O. (1926), "O jistém problému minimálním", Práce
+ *            moravské přírodovědecké společnosti 3, 37–58
+ * @see org.graphstream.algorithm.AbstractSpanningTree
+ */
+public class Boruvka extends Kruskal {
+	/**
+	 * Create a new Borůvka algorithm. Uses the default weight attribute and does
+	 * not tag the edges.
+	 */
+	public Boruvka() {
+		super();
+	}
+
+	/**
+	 * Create a new Borůvka algorithm. The value of the flag attribute is
+	 * {@code true} for the tree edges and false for the non-tree edges.
+	 * 
+	 * @param weightAttribute
+	 *            attribute used to compare edges
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 */
+	public Boruvka(String weightAttribute, String flagAttribute) {
+		super(weightAttribute, flagAttribute);
+	}
+
+	/**
+	 * Create a new Borůvka algorithm. Uses the default weight attribute.
+	 * 
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 * @param flagOn
+	 *            value of the <i>flagAttribute</i> if edge is in the spanning
+	 *            tree
+	 * @param flagOff
+	 *            value of the <i>flagAttribute</i> if edge is not in the
+	 *            spanning tree
+	 */
+	public Boruvka(String flagAttribute, Object flagOn, Object flagOff) {
+		super(flagAttribute, flagOn, flagOff);
+	}
+
+	/**
+	 * Create a new Borůvka algorithm.
+	 * 
+	 * @param weightAttribute
+	 *            attribute used to compare edges
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 * @param flagOn
+	 *            value of the <i>flagAttribute</i> if edge is in the spanning
+	 *            tree
+	 * @param flagOff
+	 *            value of the <i>flagAttribute</i> if edge is not in the
+	 *            spanning tree
+	 */
+	public Boruvka(String weightAttribute, String flagAttribute, Object flagOn,
+			Object flagOff) {
+		super(weightAttribute, flagAttribute, flagOn, flagOff);
+	}
+
+	@Override
+	protected void makeTree() {
+		if (treeEdges == null)
+			treeEdges = new LinkedList<Edge>();
+		else
+			treeEdges.clear();
+
+		cacheEdges();
+
+		int n = graph.getNodeCount();
+		ConcurrentDisjointSets components = new ConcurrentDisjointSets(n);
+		AtomicIntegerArray lightest = new AtomicIntegerArray(n);
+		int[] edges = IntStream.range(0, weights.length).parallel()
+				.filter(e -> ends[2 * e] != ends[2 * e + 1]).toArray();
+
+		treeWeight = 0;
+
+		while (edges.length > 0) {
+			IntStream.range(0, n).parallel().forEach(i -> lightest.set(i, -1));
+
+			IntStream.of(edges).parallel().forEach(e -> {
+				offer(lightest, components.find(ends[2 * e]), e);
+				offer(lightest, components.find(ends[2 * e + 1]), e);
+			});
+
+			//
+			// An edge selected by its two components is only taken by the one
+			// with the smallest root.
+			//
+			int[] selected = IntStream.range(0, n).parallel().filter(r -> {
+				int e = lightest.get(r);
+
+				if (e < 0)
+					return false;
+
+				int u = components.find(ends[2 * e]);
+				int other = u == r ? components.find(ends[2 * e + 1]) : u;
+
+				return lightest.get(other) != e || r < other;
+			}).map(lightest::get).toArray();
+
+			int[] joined = IntStream.of(selected).parallel()
+					.filter(e -> components.union(ends[2 * e], ends[2 * e + 1]))
+					.toArray();
+
+			for (int e : joined) {
+				Edge edge = graph.getEdge(e);
+
+				treeEdges.add(edge);
+				edgeOn(edge);
+				treeWeight += weights[e];
+			}
+
+			edges = IntStream.of(edges).parallel()
+					.filter(e -> components.find(ends[2 * e]) != components
+							.find(ends[2 * e + 1])).toArray();
+		}
+	}
+
+	/**
+	 * Select an edge for a component if it is lighter than the one selected.
+	 */
+	protected void offer(AtomicIntegerArray lightest, int root, int e) {
+		while (true) {
+			int current = lightest.get(root);
+
+			if (current >= 0 && !lighter(e, current))
+				return;
+
+			if (lightest.compareAndSet(root, current, e))
+				return;
+		}
+	}
+
+	@Result
+	public String defaultResult() {
+		StringJoiner sj = new StringJoiner(" | ", "====== Borůvka ====== \n",
+				"");
+		getTreeEdgesStream().forEach(e -> sj.add(e.getId()));
+
+		return sj.toString();
+	}
+}
@@ -34,14 +34,21 @@
  */
 package org.graphstream.algorithm;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Random;
 import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.graphstream.graph.Graph;
+import org.graphstream.algorithm.util.ConcurrentDisjointSets;
+import org.graphstream.algorithm.util.DynamicConnectivity;
+import org.graphstream.algorithm.util.GraphDelta;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Edge;
@@ -73,6 +80,16 @@ import org.graphstream.stream.SinkAdapter;
  * change in the graph topology may affect the algorithm.
  * </p>
  * 
+ * <p>
+ * When an edge is added between two components, the nodes of the smallest one
+ * join the other one. When an edge is removed, a spanning forest with
+ * replacement edges ({@link DynamicConnectivity}) tells in polylogarithmic
+ * amortized time whether the component is split, without traversing it. Only
+ * when it is split, the nodes of the smallest part are moved to a new
+ * component. This forest is built at the first removal, so graphs that only
+ * grow do not pay for it.
+ * </p>
+ * 
  * <h2>Usage</h2>
  * 
  * <p>
@@ -174,6 +191,28 @@ import org.graphstream.stream.SinkAdapter;
  * algorithm.
  * </p>
  * 
+ * <h3>Batch mode</h3>
+ * <p>
+ * When the graph changes a lot between two steps, the components can be
+ * updated once per step instead of once per event with
+ * {@link #setBatchMode(boolean)}. The events are then coalesced by a
+ * {@link GraphDelta}: an edge added and removed during the step costs nothing,
+ * all the removals are done before the insertions, and the components are
+ * updated when the next step begins or when they are asked for.
+ * </p>
+ * 
+ * <h3>Parallel computation</h3>
+ * <p>
+ * On large static graphs, the initial computation can be done by several
+ * threads with {@link #setParallel(boolean)}. The components are then found
+ * with a lock-free union-find: each node first links itself to a sample of its
+ * neighbors, the largest component of this sample is found, and only the
+ * nodes outside of it go through the rest of their edges. The components and
+ * the queries are the same as with the sequential traversal, and the dynamic
+ * updates that follow are unchanged. The graph must not be modified during
+ * the computation.
+ * </p>
+ * 
  * @author Yoann Pigné
  * @author Antoine Dutot
  * @author Guillaume-Jean Herbiet
@@ -183,11 +222,23 @@ import org.graphstream.stream.SinkAdapter;
  * 
  * @complexity For the initial computation, let n be the number of nodes, then
  *             the complexity is 0(n). For the re-optimization steps, let k be
- *             the number of nodes concerned by the changes (k <= n), the
- *             complexity is O(k).
+ *             the size of the smallest of the components merged or split by
+ *             the change, the complexity is O(k) plus O(log<sup>2</sup>(n))
+ *             amortized for the removal of an edge.
  */
 public class ConnectedComponents extends SinkAdapter
 		implements DynamicAlgorithm, Iterable<ConnectedComponents.ConnectedComponent> {
+	/**
+	 * Number of neighbors each node is linked to before looking for the most
+	 * frequent component.
+	 */
+	protected static final int NEIGHBOR_ROUNDS = 2;
+
+	/**
+	 * Number of nodes sampled to find the most frequent component.
+	 */
+	protected static final int ROOT_SAMPLES = 1024;
+
 	protected HashSet<ConnectedComponent> components;
 	protected HashMap<Node, ConnectedComponent> componentsMap;
 	protected Graph graph;
@@ -204,6 +255,27 @@ public class ConnectedComponents extends SinkAdapter
 	 */
 	protected String cutAttribute;
 
+	/**
+	 * Spanning forest with replacement edges, used to know if the removal of
+	 * an edge splits a component. It is built at the first removal.
+	 */
+	protected DynamicConnectivity<Node, Edge> connectivity;
+
+	/**
+	 * Flag used to compute the components with the parallel union-find.
+	 */
+	protected boolean parallel = false;
+
+	/**
+	 * Flag used to update the components once per step.
+	 */
+	protected boolean batchMode = false;
+
+	/**
+	 * Buffer of the graph events in batch mode.
+	 */
+	protected GraphDelta delta;
+
 	/**
 	 * Flag used to tell if the {@link #compute()} method has already been
 	 * called.
@@ -254,10 +326,14 @@ public class ConnectedComponents extends SinkAdapter
 	@Override
 	public void init(Graph graph) {
 		if (this.graph != null)
-			this.graph.removeSink(this);
+			detach();
 
 		this.graph = graph;
-		this.graph.addSink(this);
+
+		if (batchMode)
+			attachDelta();
+		else
+			this.graph.addSink(this);
 
 		components = new HashSet<ConnectedComponent>();
 		componentsMap = new HashMap<Node, ConnectedComponent>();
@@ -274,6 +350,15 @@ public class ConnectedComponents extends SinkAdapter
 
 		components.clear();
 		componentsMap.clear();
+		connectivity = null;
+
+		if (delta != null)
+			delta.clear();
+
+		if (parallel) {
+			computeParallel();
+			return;
+		}
 
 		graph.nodes()
 			.filter(n -> !componentsMap.containsKey(n))
@@ -285,6 +370,84 @@ public class ConnectedComponents extends SinkAdapter
 			});
 	}
 
+	/**
+	 * Compute the components with a concurrent union-find, following the
+	 * Afforest approach: every node is linked to its first neighbors, then
+	 * the nodes that are not in the most frequent component are linked to all
+	 * their remaining neighbors. The edges between the most frequent component
+	 * and another node are seen from this other node, so they are not missed.
+	 */
+	protected void computeParallel() {
+		int n = graph.getNodeCount();
+		ConcurrentDisjointSets sets = new ConcurrentDisjointSets(n);
+
+		IntStream.range(0, n).parallel().forEach(i -> {
+			Node node = graph.getNode(i);
+			int degree = node.getDegree();
+
+			for (int k = 0; k < Math.min(degree, NEIGHBOR_ROUNDS); k++)
+				link(sets, node, node.getEdge(k));
+		});
+
+		IntStream.range(0, n).parallel().forEach(sets::compress);
+
+		int giant = sampleFrequentRoot(sets);
+
+		IntStream.range(0, n).parallel().forEach(i -> {
+			if (sets.find(i) != giant) {
+				Node node = graph.getNode(i);
+				int degree = node.getDegree();
+
+				for (int k = NEIGHBOR_ROUNDS; k < degree; k++)
+					link(sets, node, node.getEdge(k));
+			}
+		});
+
+		IntStream.range(0, n).parallel().forEach(sets::compress);
+
+		ConnectedComponent[] byRoot = new ConnectedComponent[n];
+
+		for (int i = 0; i < n; i++) {
+			int root = sets.getParent(i);
+
+			if (byRoot[root] == null) {
+				byRoot[root] = new ConnectedComponent();
+				components.add(byRoot[root]);
+			}
+
+			byRoot[root].registerNode(graph.getNode(i));
+		}
+	}
+
+	protected void link(ConcurrentDisjointSets sets, Node node, Edge e) {
+		if (!isCutEdge(e))
+			sets.union(node.getIndex(), e.getOpposite(node).getIndex());
+	}
+
+	protected int sampleFrequentRoot(ConcurrentDisjointSets sets) {
+		int n = sets.size();
+
+		if (n == 0)
+			return -1;
+
+		Random random = new Random(n);
+		HashMap<Integer, Integer> counts = new HashMap<Integer, Integer>();
+		int best = sets.getParent(0);
+		int bestCount = 0;
+
+		for (int s = 0; s < ROOT_SAMPLES; s++) {
+			int root = sets.getParent(random.nextInt(n));
+			int c = counts.merge(root, 1, Integer::sum);
+
+			if (c > bestCount) {
+				best = root;
+				bestCount = c;
+			}
+		}
+
+		return best;
+	}
+
 	/**
 	 * Compute the connected component containing `from`.
 	 * 
@@ -332,13 +495,14 @@ public class ConnectedComponents extends SinkAdapter
 	@Override
 	public void terminate() {
 		if (graph != null) {
-			graph.removeSink(this);
+			detach();
 
 			graph = null;
 			started = false;
 
 			components.clear();
 			componentsMap.clear();
+			connectivity = null;
 		}
 	}
 
@@ -469,6 +633,9 @@ public class ConnectedComponents extends SinkAdapter
 	 * @return the connected component containing `n`
 	 */
 	public ConnectedComponent getConnectedComponentOf(Node n) {
+		if (delta != null)
+			delta.flush();
+
 		return n == null ? null : componentsMap.get(n);
 	}
 
@@ -506,6 +673,11 @@ public class ConnectedComponents extends SinkAdapter
 	 */
 	@Parameter
 	public void setCutAttribute(String cutAttribute) {
+		if (delta != null) {
+			delta.unwatchEdgeAttribute(this.cutAttribute);
+			delta.watchEdgeAttribute(cutAttribute);
+		}
+
 		this.cutAttribute = cutAttribute;
 
 		if (graph != null) {
@@ -513,6 +685,41 @@ public class ConnectedComponents extends SinkAdapter
 		}
 	}
 
+	/**
+	 * Compute the components with several threads instead of a sequential
+	 * traversal. This only changes the way {@link #compute()} works, the
+	 * dynamic updates stay sequential.
+	 * 
+	 * @param parallel
+	 *            true to use the parallel union-find
+	 */
+	@Parameter
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Update the components once per step instead of once per event. In batch
+	 * mode, the events of the graph are buffered and coalesced, and the
+	 * components are updated when a step begins or when a query is done.
+	 * 
+	 * @param batchMode
+	 *            true to enable the batch mode
+	 */
+	@Parameter
+	public void setBatchMode(boolean batchMode) {
+		if (graph != null && batchMode != this.batchMode) {
+			detach();
+
+			if (batchMode)
+				attachDelta();
+			else
+				graph.addSink(this);
+		}
+
+		this.batchMode = batchMode;
+	}
+
 	/**
 	 * Enable (or disable by passing null for countAttribute) an optional
 	 * attribute that will be assigned to each node. The value of this attribute
@@ -538,11 +745,214 @@ public class ConnectedComponents extends SinkAdapter
 	}
 
 	protected void checkStarted() {
+		if (delta != null)
+			delta.flush();
+
 		if (!started && graph != null) {
 			compute();
 		}
 	}
 
+	/**
+	 * Stop listening to the graph, applying the pending changes first in batch
+	 * mode.
+	 */
+	protected void detach() {
+		if (delta != null) {
+			delta.detach();
+			delta = null;
+		} else {
+			graph.removeSink(this);
+		}
+	}
+
+	/**
+	 * Listen to the graph through a new delta.
+	 */
+	protected void attachDelta() {
+		delta = new GraphDelta(graph, this::applyDelta);
+		delta.watchEdgeAttribute(cutAttribute);
+		delta.attach();
+	}
+
+	/**
+	 * Update the components with the changes of a whole step. All the edges
+	 * that disappeared, or that got the cut attribute, are handled before the
+	 * new ones, so that the spanning forest never holds an edge which is not in
+	 * the graph anymore.
+	 * 
+	 * @param d
+	 *            the changes since the previous step
+	 */
+	protected void applyDelta(GraphDelta d) {
+		if (!started) {
+			compute();
+			return;
+		}
+
+		ArrayList<Edge> cut = new ArrayList<Edge>();
+		ArrayList<Edge> uncut = new ArrayList<Edge>();
+
+		for (GraphDelta.AttributeChange c : d.getAttributeChanges(cutAttribute)) {
+			if (c.wasPresent() != c.isPresent())
+				(c.isPresent() ? cut : uncut).add((Edge) c.getElement());
+		}
+
+		if (d.isCleared()) {
+			compute();
+			return;
+		}
+
+		Collection<Edge> removed = d.getRemovedEdges();
+
+		if (connectivity == null && (!removed.isEmpty() || !cut.isEmpty()))
+			buildConnectivity(d, removed, cut, uncut);
+
+		for (Edge e : removed) {
+			if (connectivity.containsEdge(e))
+				disconnect(e);
+		}
+
+		for (Edge e : cut) {
+			if (connectivity.containsEdge(e))
+				disconnect(e);
+		}
+
+		for (Node n : d.getRemovedNodes()) {
+			ConnectedComponent cc = componentsMap.remove(n);
+
+			if (cc != null)
+				cc.unregisterNode(n);
+
+			if (connectivity != null)
+				connectivity.removeVertex(n);
+		}
+
+		for (Node n : d.getAddedNodes()) {
+			ConnectedComponent ccN = new ConnectedComponent();
+			ccN.registerNode(n);
+			components.add(ccN);
+
+			if (connectivity != null)
+				connectivity.addVertex(n);
+		}
+
+		for (Edge e : d.getAddedEdges()) {
+			if (!isCutEdge(e))
+				connect(e);
+		}
+
+		for (Edge e : uncut) {
+			connect(e);
+		}
+	}
+
+	/**
+	 * Update the components after an edge appeared. When the ends of the edge
+	 * are in two different components, the nodes of the smallest one are moved
+	 * to the other one.
+	 * 
+	 * @param edge
+	 *            the new edge
+	 */
+	protected void connect(Edge edge) {
+		Node n0 = edge.getNode0();
+		Node n1 = edge.getNode1();
+
+		if (connectivity != null && !connectivity.containsEdge(edge)) {
+			connectivity.addEdge(edge, n0, n1);
+		}
+
+		ConnectedComponent cc0 = componentsMap.get(n0);
+		ConnectedComponent cc1 = componentsMap.get(n1);
+
+		if (cc0 != cc1) {
+			if (cc0.size < cc1.size) {
+				computeConnectedComponent(cc1, n0, null);
+				assert cc0.size == 0;
+			} else {
+				computeConnectedComponent(cc0, n1, null);
+				assert cc1.size == 0;
+			}
+		}
+	}
+
+	/**
+	 * Update the components after an edge disappeared. The dynamic
+	 * connectivity structure tells if the edge was the last link between two
+	 * parts of its component, in which case the nodes of the smallest part are
+	 * moved to a new component.
+	 * 
+	 * @param edge
+	 *            the edge, still in the graph
+	 */
+	protected void disconnect(Edge edge) {
+		if (connectivity == null) {
+			buildConnectivity(edge);
+		}
+
+		if (connectivity.removeEdge(edge)) {
+			Node n0 = edge.getNode0();
+			Node n1 = edge.getNode1();
+			Node smallest = connectivity.getComponentSize(n0) < connectivity
+					.getComponentSize(n1) ? n0 : n1;
+
+			ConnectedComponent ccN = new ConnectedComponent();
+			connectivity.forEachVertexInComponent(smallest, ccN::registerNode);
+
+			components.add(ccN);
+		}
+	}
+
+	/**
+	 * Build the dynamic connectivity structure from the current graph. This is
+	 * done at the first removal, so that graphs which only grow do not pay for
+	 * it.
+	 * 
+	 * @param included
+	 *            an edge to include even if it has the cut attribute
+	 */
+	protected void buildConnectivity(Edge included) {
+		connectivity = new DynamicConnectivity<Node, Edge>();
+
+		graph.nodes().forEach(connectivity::addVertex);
+		connectivity.addEdges(graph.edges()
+			.filter(e -> e == included || !isCutEdge(e))::iterator, Edge::getNode0, Edge::getNode1);
+	}
+
+	/**
+	 * Build the dynamic connectivity structure of the graph as it was at the
+	 * previous step, before the changes of a delta: the removed nodes and
+	 * edges are still there, the added ones are not, and the edges which got
+	 * or lost the cut attribute are in their previous state.
+	 * 
+	 * An edge removed with the cut attribute is included, since the delta does
+	 * not tell if it had the attribute at the previous step. Including it is
+	 * harmless: its removal, applied next, gives back the components which
+	 * are already known.
+	 */
+	protected void buildConnectivity(GraphDelta d, Collection<Edge> removed,
+			Collection<Edge> cut, Collection<Edge> uncut) {
+		HashSet<Node> addedNodes = new HashSet<Node>(d.getAddedNodes());
+		HashSet<Edge> addedEdges = new HashSet<Edge>(d.getAddedEdges());
+		HashSet<Edge> cutEdges = new HashSet<Edge>(cut);
+		HashSet<Edge> uncutEdges = new HashSet<Edge>(uncut);
+		ArrayList<Edge> edges = new ArrayList<Edge>(removed);
+
+		connectivity = new DynamicConnectivity<Node, Edge>();
+
+		graph.nodes().filter(n -> !addedNodes.contains(n))
+				.forEach(connectivity::addVertex);
+		d.getRemovedNodes().forEach(connectivity::addVertex);
+
+		graph.edges()
+				.filter(e -> !addedEdges.contains(e)
+						&& (isCutEdge(e) ? cutEdges.contains(e) : !uncutEdges
+								.contains(e))).forEach(edges::add);
+
+		connectivity.addEdges(edges, Edge::getNode0, Edge::getNode1);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -557,17 +967,8 @@ public class ConnectedComponents extends SinkAdapter
 		} else if (started) {
 			Edge edge = graph.getEdge(edgeId);
 
-			if (edge != null) {
-				Node n0 = edge.getNode0();
-				Node n1 = edge.getNode1();
-
-				ConnectedComponent cc0 = componentsMap.get(n0);
-				ConnectedComponent cc1 = componentsMap.get(n1);
-
-				if (cc0 != cc1) {
-					computeConnectedComponent(cc0, n1, null);
-					assert cc1.size == 0;
-				}
+			if (edge != null && !isCutEdge(edge)) {
+				connect(edge);
 			}
 		}
 	}
@@ -585,19 +986,8 @@ public class ConnectedComponents extends SinkAdapter
 		if (started) {
 			Edge edge = graph.getEdge(edgeId);
 
-			if (edge != null) {
-				Node n0 = edge.getNode0();
-				Node n1 = edge.getNode1();
-
-				ConnectedComponent cc0 = componentsMap.get(n0);
-				ConnectedComponent cc1 = componentsMap.get(n1);
-
-				if (cc0 == cc1) {
-					ConnectedComponent ccN = new ConnectedComponent();
-					computeConnectedComponent(ccN, n1, edge);
-
-					components.add(ccN);
-				}
+			if (edge != null && !isCutEdge(edge)) {
+				disconnect(edge);
 			}
 		}
 	}
@@ -620,6 +1010,10 @@ public class ConnectedComponents extends SinkAdapter
 				computeConnectedComponent(ccN, node, null);
 
 				components.add(ccN);
+
+				if (connectivity != null) {
+					connectivity.addVertex(node);
+				}
 			}
 		}
 	}
@@ -643,6 +1037,10 @@ public class ConnectedComponents extends SinkAdapter
 				if (cc != null) {
 					cc.unregisterNode(node);
 				}
+
+				if (connectivity != null) {
+					connectivity.removeVertex(node);
+				}
 			}
 		}
 	}
@@ -665,18 +1063,7 @@ public class ConnectedComponents extends SinkAdapter
 			// The attribute is added. Do as if the edge was removed.
 
 			if (edge != null) {
-				Node n0 = edge.getNode0();
-				Node n1 = edge.getNode1();
-
-				ConnectedComponent cc0 = componentsMap.get(n0);
-				ConnectedComponent cc1 = componentsMap.get(n1);
-
-				if (cc0 == cc1) {
-					ConnectedComponent ccN = new ConnectedComponent();
-					computeConnectedComponent(ccN, n1, edge);
-
-					components.add(ccN);
-				}
+				disconnect(edge);
 			}
 		}
 	}
@@ -699,16 +1086,7 @@ public class ConnectedComponents extends SinkAdapter
 			// The attribute is removed. Do as if the edge was added.
 
 			if (edge != null) {
-				Node n0 = edge.getNode0();
-				Node n1 = edge.getNode1();
-
-				ConnectedComponent cc0 = componentsMap.get(n0);
-				ConnectedComponent cc1 = componentsMap.get(n1);
-
-				if (cc0 != cc1) {
-					computeConnectedComponent(cc0, n1, null);
-					assert cc1.size == 0;
-				}
+				connect(edge);
 			}
 		}
 	}
@@ -724,6 +1102,7 @@ public class ConnectedComponents extends SinkAdapter
 		if (started) {
 			components.clear();
 			componentsMap.clear();
+			connectivity = null;
 		}
 	}
 
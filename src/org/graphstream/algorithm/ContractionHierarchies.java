@@ -0,0 +1,949 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.graphstream.algorithm.util.IndexedPriorityQueue;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+
+/**
+ * Shortest paths between pairs of nodes with contraction hierarchies.
+ * 
+ * <p>
+ * {@link Dijkstra} and {@link AStar} explore a large part of the graph at each
+ * query. Contraction hierarchies spend some time in a preprocessing step, the
+ * {@link #compute()} method, so that the following queries only explore a few
+ * hundreds of nodes, even on large road-like graphs.
+ * </p>
+ * 
+ * <h2>Preprocessing</h2>
+ * 
+ * <p>
+ * The nodes are contracted one after the other. Contracting a node removes it
+ * from the graph, and adds a shortcut between each pair of its neighbors u and
+ * w for which the path u, v, w is the only shortest path. This is checked by a
+ * local search from u avoiding v, the witness search, limited to
+ * {@link #setWitnessSearchLimit(int) a number of nodes}: shortcuts are only
+ * added when needed, or when the search gave up. The next node to contract is
+ * the one with the lowest edge difference, the number of shortcuts its
+ * contraction needs minus the number of its edges, plus the number of its
+ * neighbors already contracted so that the contraction spreads uniformly. The
+ * priorities are updated lazily.
+ * </p>
+ * 
+ * <p>
+ * The rank of a node is its position in the contraction order. The index
+ * keeps, for each node, the edges and shortcuts leading to nodes of higher
+ * rank, and the ones coming from nodes of higher rank.
+ * </p>
+ * 
+ * <h2>Queries</h2>
+ * 
+ * <p>
+ * A query runs two Dijkstra searches which only go up in rank, forward from
+ * the source and backward from the target. Each one stops when its smallest
+ * distance is larger than the best path found, which goes through the node of
+ * highest rank of the shortest path. The shortcuts of the path are then
+ * unpacked into the edges of the graph. A {@link Query} keeps its arrays
+ * between queries. Several threads can share the index if each one uses its
+ * own {@link Query}, see {@link #newQuery()}.
+ * </p>
+ * 
+ * <p>
+ * Edge weights are read from the weight attribute, one if missing, and must be
+ * non-negative. Directed edges can only be followed from their source. The
+ * graph must not change after the preprocessing.
+ * </p>
+ * 
+ * <h2>Persistence</h2>
+ * 
+ * <p>
+ * The index can be written with {@link #write(OutputStream)} and read back
+ * with {@link #read(InputStream)} for the same graph, so that the
+ * preprocessing is only done once.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * ContractionHierarchies ch = new ContractionHierarchies(&quot;weight&quot;);
+ * ch.init(graph);
+ * ch.compute();
+ * 
+ * Path path = ch.getShortestPath(graph.getNode(&quot;A&quot;), graph.getNode(&quot;Z&quot;));
+ * double length = ch.getPathLength(graph.getNode(&quot;A&quot;), graph.getNode(&quot;Z&quot;));
+ * </pre>
+ * 
+ * @complexity The preprocessing depends on the structure of the graph, it is
+ *             close to O(n log n) witness searches on sparse road-like
+ *             graphs. A query explores the nodes of higher rank than the
+ *             source and the target, usually a few hundreds, plus the edges
+ *             of the path.
+ * @reference Geisberger, R., Sanders, P., Schultes, D. and Delling, D.
+ *            (2008), "Contraction Hierarchies: Faster and Simpler Hierarchical
+ *            Routing in Road Networks", Proceedings of the 7th Workshop on
+ *            Experimental Algorithms, LNCS 5038, 319–333
+ */
+public class ContractionHierarchies implements Algorithm {
+	/**
+	 * First int of the binary format.
+	 */
+	public static final int MAGIC = 0x47534348;
+
+	/**
+	 * Default weight attribute.
+	 */
+	public static final String DEFAULT_WEIGHT_ATTRIBUTE = "weight";
+
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Attribute where the weights of the edges are stored.
+	 */
+	protected String weightAttribute;
+
+	/**
+	 * Maximum number of nodes settled by a witness search.
+	 */
+	protected int witnessSearchLimit = 500;
+
+	/**
+	 * Rank of each node, by index.
+	 */
+	protected int[] ranks;
+
+	/**
+	 * Arcs leaving node v towards higher ranks are between upOffsets[v] and
+	 * upOffsets[v+1] of upArcs.
+	 */
+	protected int[] upOffsets, upArcs;
+
+	/**
+	 * Arcs entering node v from higher ranks are between downOffsets[v] and
+	 * downOffsets[v+1] of downArcs.
+	 */
+	protected int[] downOffsets, downArcs;
+
+	/**
+	 * Source, target and weight of each arc.
+	 */
+	protected int[] arcSources, arcTargets;
+
+	/**
+	 * Weight of each arc.
+	 */
+	protected double[] arcWeights;
+
+	/**
+	 * Edge of each arc, by index, -1 for shortcuts.
+	 */
+	protected int[] arcEdges;
+
+	/**
+	 * The two arcs replaced by each shortcut, -1 for edges.
+	 */
+	protected int[] arcFirst, arcSecond;
+
+	/**
+	 * Query used by the methods of this class.
+	 */
+	protected Query query;
+
+	/**
+	 * New contraction hierarchies using the "weight" attribute.
+	 */
+	public ContractionHierarchies() {
+		this(DEFAULT_WEIGHT_ATTRIBUTE);
+	}
+
+	/**
+	 * New contraction hierarchies using the given weight attribute.
+	 * 
+	 * @param weightAttribute
+	 *            attribute where the weights of the edges are stored
+	 */
+	public ContractionHierarchies(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Set the attribute where the weights of the edges are stored.
+	 * 
+	 * @param weightAttribute
+	 *            the weight attribute
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Attribute where the weights of the edges are stored.
+	 * 
+	 * @return the weight attribute
+	 */
+	public String getWeightAttribute() {
+		return weightAttribute;
+	}
+
+	/**
+	 * Set the maximum number of nodes settled by a witness search. Lower limits
+	 * give a faster preprocessing, but more shortcuts.
+	 * 
+	 * @param witnessSearchLimit
+	 *            the limit, 500 by default
+	 */
+	@Parameter
+	public void setWitnessSearchLimit(int witnessSearchLimit) {
+		this.witnessSearchLimit = witnessSearchLimit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		this.graph = graph;
+		this.ranks = null;
+		this.query = null;
+	}
+
+	/**
+	 * Contract all the nodes and build the index.
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		new Contraction().run();
+		query = null;
+	}
+
+	/**
+	 * Rank of a node in the contraction order.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return its rank
+	 */
+	public int getRank(Node node) {
+		return ranks[node.getIndex()];
+	}
+
+	/**
+	 * Number of shortcuts added by the preprocessing.
+	 * 
+	 * @return the number of shortcuts
+	 */
+	public int getShortcutCount() {
+		int count = 0;
+
+		for (int e : arcEdges)
+			if (e < 0)
+				count++;
+
+		return count;
+	}
+
+	/**
+	 * Length of the shortest path between two nodes.
+	 * 
+	 * @param source
+	 *            the source node
+	 * @param target
+	 *            the target node
+	 * @return the length of the path, infinite if there is no path
+	 */
+	public double getPathLength(Node source, Node target) {
+		return defaultQuery().run(source.getIndex(), target.getIndex());
+	}
+
+	/**
+	 * Shortest path between two nodes.
+	 * 
+	 * @param source
+	 *            the source node
+	 * @param target
+	 *            the target node
+	 * @return the path, null if there is no path
+	 */
+	public Path getShortestPath(Node source, Node target) {
+		Query q = defaultQuery();
+		q.run(source.getIndex(), target.getIndex());
+
+		return q.getPath();
+	}
+
+	/**
+	 * New query on this index, with its own arrays, so that several threads
+	 * can query the index at the same time.
+	 * 
+	 * @return a new query
+	 */
+	public Query newQuery() {
+		if (ranks == null)
+			throw new NotInitializedException(this);
+
+		return new Query();
+	}
+
+	protected Query defaultQuery() {
+		if (query == null)
+			query = newQuery();
+
+		return query;
+	}
+
+	protected double getWeight(Edge edge) {
+		double w = weightAttribute == null ? Double.NaN : edge
+				.getNumber(weightAttribute);
+
+		return Double.isNaN(w) ? 1 : w;
+	}
+
+	/**
+	 * Bidirectional upward search on the index.
+	 */
+	public class Query {
+		/**
+		 * Forward and backward distances of each node.
+		 */
+		protected double[] forward, backward;
+
+		/**
+		 * Arc used to reach each node, in each direction.
+		 */
+		protected int[] forwardArcs, backwardArcs;
+
+		/**
+		 * Query during which each node was reached, in each direction.
+		 */
+		protected int[] forwardStamps, backwardStamps;
+
+		/**
+		 * Queues of each direction.
+		 */
+		protected IndexedPriorityQueue forwardQueue, backwardQueue;
+
+		/**
+		 * Number of the current query.
+		 */
+		protected int stamp;
+
+		/**
+		 * Source and target of the last query.
+		 */
+		protected int source, target;
+
+		/**
+		 * Node of highest rank of the last path found, -1 if none.
+		 */
+		protected int meeting;
+
+		/**
+		 * Length of the last path found.
+		 */
+		protected double length;
+
+		protected Query() {
+			int n = ranks.length;
+
+			forward = new double[n];
+			backward = new double[n];
+			forwardArcs = new int[n];
+			backwardArcs = new int[n];
+			forwardStamps = new int[n];
+			backwardStamps = new int[n];
+			forwardQueue = new IndexedPriorityQueue(n);
+			backwardQueue = new IndexedPriorityQueue(n);
+		}
+
+		/**
+		 * Run a query.
+		 * 
+		 * @param s
+		 *            index of the source
+		 * @param t
+		 *            index of the target
+		 * @return the length of the shortest path, infinite if there is none
+		 */
+		public double run(int s, int t) {
+			stamp++;
+			source = s;
+			target = t;
+			meeting = -1;
+			length = Double.POSITIVE_INFINITY;
+
+			forwardQueue.clear();
+			backwardQueue.clear();
+
+			forward[s] = 0;
+			forwardArcs[s] = -1;
+			forwardStamps[s] = stamp;
+			forwardQueue.add(s, 0);
+
+			backward[t] = 0;
+			backwardArcs[t] = -1;
+			backwardStamps[t] = stamp;
+			backwardQueue.add(t, 0);
+
+			while (!forwardQueue.isEmpty() || !backwardQueue.isEmpty()) {
+				boolean isForward = backwardQueue.isEmpty()
+						|| (!forwardQueue.isEmpty() && forwardQueue
+								.getKey1(forwardQueue.peek()) <= backwardQueue
+								.getKey1(backwardQueue.peek()));
+
+				if (isForward)
+					step(forwardQueue, forward, forwardArcs, forwardStamps,
+							backward, backwardStamps, upOffsets, upArcs,
+							arcTargets);
+				else
+					step(backwardQueue, backward, backwardArcs,
+							backwardStamps, forward, forwardStamps,
+							downOffsets, downArcs, arcSources);
+			}
+
+			return length;
+		}
+
+		/**
+		 * Settle the next node of one direction.
+		 */
+		protected void step(IndexedPriorityQueue queue, double[] distances,
+				int[] parents, int[] stamps, double[] otherDistances,
+				int[] otherStamps, int[] offsets, int[] arcs, int[] heads) {
+			int u = queue.peek();
+
+			if (distances[u] >= length) {
+				queue.clear();
+				return;
+			}
+
+			queue.poll();
+
+			if (otherStamps[u] == stamp
+					&& distances[u] + otherDistances[u] < length) {
+				length = distances[u] + otherDistances[u];
+				meeting = u;
+			}
+
+			for (int j = offsets[u]; j < offsets[u + 1]; j++) {
+				int a = arcs[j];
+				int v = heads[a];
+				double d = distances[u] + arcWeights[a];
+
+				if (stamps[v] != stamp || d < distances[v]) {
+					stamps[v] = stamp;
+					distances[v] = d;
+					parents[v] = a;
+					queue.add(v, d);
+				}
+			}
+		}
+
+		/**
+		 * Length of the last path found.
+		 * 
+		 * @return the length, infinite if there is no path
+		 */
+		public double getPathLength() {
+			return length;
+		}
+
+		/**
+		 * Last path found, with its shortcuts unpacked.
+		 * 
+		 * @return the path, null if there is no path
+		 */
+		public Path getPath() {
+			if (meeting < 0)
+				return null;
+
+			ArrayDeque<Integer> arcs = new ArrayDeque<Integer>();
+
+			for (int v = meeting; forwardArcs[v] >= 0; v = arcSources[forwardArcs[v]])
+				arcs.push(forwardArcs[v]);
+
+			ArrayList<Integer> ordered = new ArrayList<Integer>(arcs);
+
+			for (int v = meeting; backwardArcs[v] >= 0; v = arcTargets[backwardArcs[v]])
+				ordered.add(backwardArcs[v]);
+
+			Path path = new Path();
+			ArrayDeque<Integer> stack = new ArrayDeque<Integer>();
+
+			if (ordered.isEmpty())
+				path.setRoot(graph.getNode(source));
+
+			for (int arc : ordered) {
+				stack.push(arc);
+
+				while (!stack.isEmpty()) {
+					int a = stack.pop();
+
+					if (arcEdges[a] < 0) {
+						stack.push(arcSecond[a]);
+						stack.push(arcFirst[a]);
+					} else if (path.empty())
+						path.add(graph.getNode(arcSources[a]),
+								graph.getEdge(arcEdges[a]));
+					else
+						path.add(graph.getEdge(arcEdges[a]));
+				}
+			}
+
+			return path;
+		}
+	}
+
+	/**
+	 * State of the preprocessing.
+	 */
+	protected class Contraction {
+		/**
+		 * All the arcs, edges and shortcuts.
+		 */
+		ArrayList<Arc> all = new ArrayList<Arc>();
+
+		/**
+		 * Arcs leaving and entering each node.
+		 */
+		ArrayList<ArrayList<Arc>> outs, ins;
+
+		boolean[] contracted;
+		int[] contractedNeighbors;
+
+		/**
+		 * Witness searches.
+		 */
+		double[] distances;
+		int[] stamps;
+		int stamp;
+		IndexedPriorityQueue queue;
+
+		void run() {
+			int n = graph.getNodeCount();
+
+			outs = new ArrayList<ArrayList<Arc>>(n);
+			ins = new ArrayList<ArrayList<Arc>>(n);
+
+			for (int i = 0; i < n; i++) {
+				outs.add(new ArrayList<Arc>());
+				ins.add(new ArrayList<Arc>());
+			}
+
+			contracted = new boolean[n];
+			contractedNeighbors = new int[n];
+			distances = new double[n];
+			stamps = new int[n];
+			queue = new IndexedPriorityQueue(n);
+
+			for (int e = 0; e < graph.getEdgeCount(); e++) {
+				Edge edge = graph.getEdge(e);
+				int u = edge.getSourceNode().getIndex();
+				int v = edge.getTargetNode().getIndex();
+				double w = getWeight(edge);
+
+				if (u == v)
+					continue;
+
+				addArc(new Arc(u, v, w, e, null, null));
+
+				if (!edge.isDirected())
+					addArc(new Arc(v, u, w, e, null, null));
+			}
+
+			//
+			// Contraction, with lazy updates of the priorities.
+			//
+
+			IndexedPriorityQueue order = new IndexedPriorityQueue(n);
+
+			for (int v = 0; v < n; v++)
+				order.add(v, priority(v), v);
+
+			ranks = new int[n];
+
+			for (int rank = 0; rank < n; rank++) {
+				int v = order.poll();
+				double p = priority(v);
+
+				while (!order.isEmpty() && p > order.getKey1(order.peek())) {
+					order.add(v, p, v);
+					v = order.poll();
+					p = priority(v);
+				}
+
+				contract(v, false);
+				contracted[v] = true;
+				ranks[v] = rank;
+
+				for (Arc a : outs.get(v))
+					contractedNeighbors[a.target]++;
+				for (Arc a : ins.get(v))
+					contractedNeighbors[a.source]++;
+			}
+
+			build(n);
+		}
+
+		double priority(int v) {
+			int degree = 0;
+
+			for (Arc a : outs.get(v))
+				if (!contracted[a.target])
+					degree++;
+			for (Arc a : ins.get(v))
+				if (!contracted[a.source])
+					degree++;
+
+			return contract(v, true) - degree + contractedNeighbors[v];
+		}
+
+		/**
+		 * Add the shortcuts needed to contract a node, or only count them.
+		 */
+		int contract(int v, boolean simulate) {
+			int shortcuts = 0;
+			ArrayList<Arc> in = ins.get(v);
+			ArrayList<Arc> out = outs.get(v);
+
+			for (int i = 0; i < in.size(); i++) {
+				Arc first = in.get(i);
+				int u = first.source;
+
+				if (contracted[u] || first.removed)
+					continue;
+
+				double max = -1;
+
+				for (Arc second : out)
+					if (!contracted[second.target] && !second.removed
+							&& second.target != u)
+						max = Math.max(max, first.weight + second.weight);
+
+				if (max < 0)
+					continue;
+
+				witness(u, v, max);
+
+				for (int j = 0; j < out.size(); j++) {
+					Arc second = out.get(j);
+					int w = second.target;
+
+					if (contracted[w] || second.removed || w == u)
+						continue;
+
+					double d = first.weight + second.weight;
+
+					if (stamps[w] != stamp || distances[w] > d) {
+						shortcuts++;
+
+						if (!simulate)
+							addArc(new Arc(u, w, d, -1, first, second));
+					}
+				}
+			}
+
+			return shortcuts;
+		}
+
+		/**
+		 * Distances from u to the nodes closer than max, avoiding v.
+		 */
+		void witness(int u, int v, double max) {
+			stamp++;
+			queue.clear();
+
+			distances[u] = 0;
+			stamps[u] = stamp;
+			queue.add(u, 0);
+
+			int settled = 0;
+
+			while (!queue.isEmpty() && settled++ < witnessSearchLimit) {
+				int x = queue.poll();
+
+				if (distances[x] > max)
+					break;
+
+				for (Arc a : outs.get(x)) {
+					int y = a.target;
+
+					if (y == v || contracted[y] || a.removed)
+						continue;
+
+					double d = distances[x] + a.weight;
+
+					if (stamps[y] != stamp || d < distances[y]) {
+						stamps[y] = stamp;
+						distances[y] = d;
+						queue.add(y, d);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Add an arc, unless a lighter arc between the same nodes exists, and
+		 * remove the heavier ones.
+		 */
+		void addArc(Arc arc) {
+			for (Arc a : outs.get(arc.source))
+				if (a.target == arc.target && !a.removed) {
+					if (a.weight <= arc.weight)
+						return;
+
+					a.removed = true;
+				}
+
+			arc.id = all.size();
+			all.add(arc);
+			outs.get(arc.source).add(arc);
+			ins.get(arc.target).add(arc);
+		}
+
+		/**
+		 * Build the arrays of the index.
+		 */
+		void build(int n) {
+			int m = all.size();
+
+			arcSources = new int[m];
+			arcTargets = new int[m];
+			arcWeights = new double[m];
+			arcEdges = new int[m];
+			arcFirst = new int[m];
+			arcSecond = new int[m];
+			upOffsets = new int[n + 1];
+			downOffsets = new int[n + 1];
+
+			for (Arc a : all) {
+				arcSources[a.id] = a.source;
+				arcTargets[a.id] = a.target;
+				arcWeights[a.id] = a.weight;
+				arcEdges[a.id] = a.edge;
+				arcFirst[a.id] = a.first == null ? -1 : a.first.id;
+				arcSecond[a.id] = a.second == null ? -1 : a.second.id;
+
+				if (!a.removed) {
+					if (ranks[a.source] < ranks[a.target])
+						upOffsets[a.source + 1]++;
+					else
+						downOffsets[a.target + 1]++;
+				}
+			}
+
+			for (int v = 0; v < n; v++) {
+				upOffsets[v + 1] += upOffsets[v];
+				downOffsets[v + 1] += downOffsets[v];
+			}
+
+			upArcs = new int[upOffsets[n]];
+			downArcs = new int[downOffsets[n]];
+
+			int[] upFill = Arrays.copyOf(upOffsets, n);
+			int[] downFill = Arrays.copyOf(downOffsets, n);
+
+			for (Arc a : all)
+				if (!a.removed) {
+					if (ranks[a.source] < ranks[a.target])
+						upArcs[upFill[a.source]++] = a.id;
+					else
+						downArcs[downFill[a.target]++] = a.id;
+				}
+		}
+	}
+
+	/**
+	 * Arc used during the preprocessing.
+	 */
+	protected static class Arc {
+		int id, source, target, edge;
+		double weight;
+		Arc first, second;
+		boolean removed;
+
+		Arc(int source, int target, double weight, int edge, Arc first,
+				Arc second) {
+			this.source = source;
+			this.target = target;
+			this.weight = weight;
+			this.edge = edge;
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	/**
+	 * Write the index in a binary format: the int {@link #MAGIC}, the number
+	 * of nodes and edges, a hash of their identifiers, the number of arcs, the
+	 * ranks, the arcs (source, target, weight, edge, first and second arc),
+	 * then the up and down offsets and arcs.
+	 * 
+	 * @param out
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+				out));
+		int n = ranks.length;
+		int m = arcSources.length;
+
+		data.writeInt(MAGIC);
+		data.writeInt(n);
+		data.writeInt(graph.getEdgeCount());
+		data.writeInt(hashIdentifiers());
+		data.writeInt(m);
+
+		for (int r : ranks)
+			data.writeInt(r);
+
+		for (int a = 0; a < m; a++) {
+			data.writeInt(arcSources[a]);
+			data.writeInt(arcTargets[a]);
+			data.writeDouble(arcWeights[a]);
+			data.writeInt(arcEdges[a]);
+			data.writeInt(arcFirst[a]);
+			data.writeInt(arcSecond[a]);
+		}
+
+		writeArray(data, upOffsets);
+		writeArray(data, upArcs);
+		writeArray(data, downOffsets);
+		writeArray(data, downArcs);
+
+		data.flush();
+	}
+
+	/**
+	 * Read an index written by {@link #write(OutputStream)}, instead of
+	 * computing it. The graph given to {@link #init(Graph)} must have the same
+	 * nodes and edges, with the same indices, as the one the index was
+	 * computed on.
+	 * 
+	 * @param in
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be read, is not in the right format or
+	 *             was written for another graph
+	 */
+	public void read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+		if (data.readInt() != MAGIC)
+			throw new IOException("not a contraction hierarchy");
+
+		int n = data.readInt();
+
+		if (n != graph.getNodeCount() || data.readInt() != graph.getEdgeCount()
+				|| data.readInt() != hashIdentifiers())
+			throw new IOException("index computed for another graph");
+
+		int m = data.readInt();
+
+		ranks = new int[n];
+		arcSources = new int[m];
+		arcTargets = new int[m];
+		arcWeights = new double[m];
+		arcEdges = new int[m];
+		arcFirst = new int[m];
+		arcSecond = new int[m];
+
+		for (int v = 0; v < n; v++)
+			ranks[v] = data.readInt();
+
+		for (int a = 0; a < m; a++) {
+			arcSources[a] = data.readInt();
+			arcTargets[a] = data.readInt();
+			arcWeights[a] = data.readDouble();
+			arcEdges[a] = data.readInt();
+			arcFirst[a] = data.readInt();
+			arcSecond[a] = data.readInt();
+		}
+
+		upOffsets = readArray(data);
+		upArcs = readArray(data);
+		downOffsets = readArray(data);
+		downArcs = readArray(data);
+		query = null;
+	}
+
+	protected static void writeArray(DataOutputStream data, int[] array)
+			throws IOException {
+		data.writeInt(array.length);
+
+		for (int x : array)
+			data.writeInt(x);
+	}
+
+	protected static int[] readArray(DataInputStream data) throws IOException {
+		int[] array = new int[data.readInt()];
+
+		for (int i = 0; i < array.length; i++)
+			array[i] = data.readInt();
+
+		return array;
+	}
+
+	/**
+	 * Hash of the node and edge identifiers, in index order.
+	 */
+	protected int hashIdentifiers() {
+		int hash = 1;
+
+		for (int v = 0; v < graph.getNodeCount(); v++)
+			hash = 31 * hash + graph.getNode(v).getId().hashCode();
+
+		for (int e = 0; e < graph.getEdgeCount(); e++)
+			hash = 31 * hash + graph.getEdge(e).getId().hashCode();
+
+		return hash;
+	}
+}
@@ -0,0 +1,843 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * Critical path of a directed acyclic graph whose nodes are tasks.
+ * 
+ * <p>
+ * Each node has a duration and each edge a weight, read from the
+ * {@link #setDurationAttribute(String) duration} and
+ * {@link #setWeightAttribute(String) weight} attributes. A node without
+ * duration lasts zero and an edge without weight has the
+ * {@link #setDefaultWeight(double) default weight}. A node starts when all of
+ * its predecessors have finished and the weights of the edges coming from them
+ * have elapsed, and not before zero. The critical path is the path ending at
+ * the node finishing last, made of the predecessors which delayed the start of
+ * each node.
+ * </p>
+ * 
+ * <p>
+ * The graph is not copied. Nodes and edges are given by their index, the
+ * predecessors and successors of each node are stored in flat arrays, and the
+ * nodes are sorted once by level, the level of a node being the length, in
+ * edges, of the longest path ending at it. The finish time of a node only
+ * depends on nodes of lower levels, so the nodes of a level can be processed
+ * in parallel, see {@link #setParallel(boolean)}.
+ * </p>
+ * 
+ * <p>
+ * The algorithm is dynamic. When the duration of a node or the weight of an
+ * edge changes, the node or the target of the edge is marked, and the next
+ * query processes the levels from the lowest marked one, only evaluating the
+ * marked nodes and the successors of the nodes whose finish time changed.
+ * Several changes between two queries are processed together. Structural
+ * changes of the graph make the levels to be computed again at the next query.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * CriticalPath cp = new CriticalPath();
+ * cp.setDurationAttribute(&quot;duration&quot;);
+ * cp.init(graph);
+ * cp.compute();
+ * 
+ * graph.getNode(&quot;A&quot;).setAttribute(&quot;duration&quot;, 12);
+ * System.out.printf(&quot;%s lasts %f%n&quot;, cp.getCriticalPath(), cp.getLength());
+ * </pre>
+ * 
+ * @complexity O(n + m) for the initial computation, with the nodes of each
+ *             level processed in parallel. A query following changes costs
+ *             the edges entering the nodes which are evaluated again.
+ */
+public class CriticalPath extends SinkAdapter implements DynamicAlgorithm {
+	/**
+	 * Minimum number of nodes of a level to process them in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 4096;
+
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Attribute where the durations of the nodes are stored.
+	 */
+	protected String durationAttribute = null;
+
+	/**
+	 * Attribute where the weights of the edges are stored.
+	 */
+	protected String weightAttribute = "weight";
+
+	/**
+	 * Weight of the edges without weight attribute.
+	 */
+	protected double defaultWeight = 0;
+
+	/**
+	 * Process the large levels in parallel.
+	 */
+	protected boolean parallel = false;
+
+	/**
+	 * The levels have to be computed again.
+	 */
+	protected boolean stale = true;
+
+	/**
+	 * Predecessor arcs of node i are between predOffsets[i] and
+	 * predOffsets[i+1]. Each arc has the index of its source, its edge and its
+	 * weight.
+	 */
+	protected int[] predOffsets, predSources, predEdges;
+
+	/**
+	 * Weight of each predecessor arc.
+	 */
+	protected double[] weights;
+
+	/**
+	 * Predecessor arc of each edge, by edge index.
+	 */
+	protected int[] edgeArcs;
+
+	/**
+	 * Successors of node i are between succOffsets[i] and succOffsets[i+1].
+	 */
+	protected int[] succOffsets, succTargets;
+
+	/**
+	 * Level of each node.
+	 */
+	protected int[] levels;
+
+	/**
+	 * Nodes of level l are between levelOffsets[l] and levelOffsets[l+1].
+	 */
+	protected int[] levelOffsets, levelNodes;
+
+	/**
+	 * Duration and finish time of each node.
+	 */
+	protected double[] durations, finish;
+
+	/**
+	 * Critical predecessor arc of each node, -1 if the node starts at zero.
+	 */
+	protected int[] critical;
+
+	/**
+	 * Marked nodes of level l are stored from levelOffsets[l], there are
+	 * markedCount[l] of them.
+	 */
+	protected int[] markedNodes, markedCount;
+
+	/**
+	 * Nodes marked.
+	 */
+	protected BitSet marked;
+
+	/**
+	 * Lowest level with marked nodes.
+	 */
+	protected int lowestMarked;
+
+	/**
+	 * Node finishing last, -1 if the graph is empty.
+	 */
+	protected int last;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		if (this.graph != null)
+			this.graph.removeSink(this);
+
+		this.graph = graph;
+		this.stale = true;
+
+		graph.addSink(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		build();
+		evaluateAll();
+		stale = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.DynamicAlgorithm#terminate()
+	 */
+	public void terminate() {
+		if (graph != null)
+			graph.removeSink(this);
+
+		graph = null;
+	}
+
+	/**
+	 * Set the attribute where the durations of the nodes are stored. If null,
+	 * all nodes last zero.
+	 * 
+	 * @param durationAttribute
+	 *            attribute of the durations
+	 */
+	@Parameter
+	public void setDurationAttribute(String durationAttribute) {
+		this.durationAttribute = durationAttribute;
+		stale = true;
+	}
+
+	/**
+	 * Attribute where the durations of the nodes are stored.
+	 * 
+	 * @return attribute of the durations
+	 */
+	public String getDurationAttribute() {
+		return durationAttribute;
+	}
+
+	/**
+	 * Set the attribute where the weights of the edges are stored. If null, all
+	 * edges have the default weight.
+	 * 
+	 * @param weightAttribute
+	 *            attribute of the weights
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+		stale = true;
+	}
+
+	/**
+	 * Attribute where the weights of the edges are stored.
+	 * 
+	 * @return attribute of the weights
+	 */
+	public String getWeightAttribute() {
+		return weightAttribute;
+	}
+
+	/**
+	 * Set the weight of the edges without weight attribute. Default is zero, a
+	 * weight of one for all edges gives the length in edges of the longest
+	 * path.
+	 * 
+	 * @param defaultWeight
+	 *            weight of the edges without weight
+	 */
+	@Parameter
+	public void setDefaultWeight(double defaultWeight) {
+		this.defaultWeight = defaultWeight;
+		stale = true;
+	}
+
+	/**
+	 * Enable the processing of the nodes of large levels in parallel.
+	 * 
+	 * @param parallel
+	 *            true to process the levels of at least
+	 *            {@link #PARALLEL_THRESHOLD} nodes in parallel
+	 */
+	@Parameter
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Length of the critical path, that is the finish time of the last node.
+	 * 
+	 * @return length of the critical path, zero if the graph is empty
+	 */
+	public double getLength() {
+		update();
+		return last < 0 ? 0 : finish[last];
+	}
+
+	/**
+	 * Node finishing last, at the end of the critical path.
+	 * 
+	 * @return the last node, null if the graph is empty
+	 */
+	public Node getLastNode() {
+		update();
+		return last < 0 ? null : graph.getNode(last);
+	}
+
+	/**
+	 * Earliest time at which a node finishes.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return finish time of the node
+	 */
+	public double getFinish(Node node) {
+		update();
+		return finish[node.getIndex()];
+	}
+
+	/**
+	 * Earliest time at which a node starts.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return start time of the node
+	 */
+	public double getStart(Node node) {
+		update();
+		int v = node.getIndex();
+		return finish[v] - durations[v];
+	}
+
+	/**
+	 * Length, in edges, of the longest path ending at a node.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return level of the node
+	 */
+	public int getLevel(Node node) {
+		update();
+		return levels[node.getIndex()];
+	}
+
+	/**
+	 * Number of levels, that is the greatest number of nodes of a path.
+	 * 
+	 * @return number of levels
+	 */
+	public int getLevelCount() {
+		update();
+		return levelOffsets.length - 1;
+	}
+
+	/**
+	 * Critical path, ending at the node finishing last.
+	 * 
+	 * @return the critical path, empty if the graph is empty
+	 */
+	@Result
+	public Path getCriticalPath() {
+		update();
+		return last < 0 ? new Path() : getCriticalPath(graph.getNode(last));
+	}
+
+	/**
+	 * Critical path ending at a node, made of the predecessors which delayed
+	 * each node.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return path from a node starting at zero to the given node
+	 */
+	public Path getCriticalPath(Node node) {
+		update();
+
+		int count = 0;
+		for (int v = node.getIndex(); critical[v] >= 0; v = predSources[critical[v]])
+			count++;
+
+		int[] arcs = new int[count];
+		for (int v = node.getIndex(); critical[v] >= 0; v = predSources[critical[v]])
+			arcs[--count] = critical[v];
+
+		Path path = new Path();
+
+		if (arcs.length == 0)
+			path.setRoot(node);
+
+		for (int arc : arcs)
+			path.add(graph.getNode(predSources[arc]),
+					graph.getEdge(predEdges[arc]));
+
+		return path;
+	}
+
+	/**
+	 * Compute the levels again if the graph structure changed, or evaluate the
+	 * marked nodes and their successors.
+	 */
+	protected void update() {
+		if (graph == null)
+			throw new IllegalStateException("not initialized");
+
+		if (stale)
+			compute();
+		else if (lowestMarked < levelOffsets.length - 1)
+			propagate();
+	}
+
+	/**
+	 * Build the arrays of predecessors and successors, and sort the nodes by
+	 * level.
+	 */
+	protected void build() {
+		int n = graph.getNodeCount();
+		int m = graph.getEdgeCount();
+
+		predOffsets = new int[n + 1];
+		succOffsets = new int[n + 1];
+		predSources = new int[m];
+		predEdges = new int[m];
+		weights = new double[m];
+		succTargets = new int[m];
+		edgeArcs = new int[m];
+		durations = new double[n];
+
+		for (int e = 0; e < m; e++) {
+			Edge edge = graph.getEdge(e);
+
+			if (!edge.isDirected())
+				throw new IllegalStateException("graph is no DAG");
+
+			predOffsets[edge.getTargetNode().getIndex() + 1]++;
+			succOffsets[edge.getSourceNode().getIndex() + 1]++;
+		}
+
+		for (int i = 0; i < n; i++) {
+			predOffsets[i + 1] += predOffsets[i];
+			succOffsets[i + 1] += succOffsets[i];
+			durations[i] = duration(graph.getNode(i));
+		}
+
+		int[] predFill = new int[n];
+		int[] succFill = new int[n];
+
+		for (int e = 0; e < m; e++) {
+			Edge edge = graph.getEdge(e);
+			int s = edge.getSourceNode().getIndex();
+			int t = edge.getTargetNode().getIndex();
+			int arc = predOffsets[t] + predFill[t]++;
+
+			predSources[arc] = s;
+			predEdges[arc] = e;
+			weights[arc] = weight(edge);
+			edgeArcs[e] = arc;
+			succTargets[succOffsets[s] + succFill[s]++] = t;
+		}
+
+		//
+		// Kahn's algorithm, level by level. The last predecessor of a node to
+		// be sorted is in the previous level.
+		//
+
+		int[] remaining = predFill;
+		int[] offsets = new int[n + 2];
+		int count = 0, level = 0;
+
+		levels = new int[n];
+		levelNodes = new int[n];
+
+		for (int i = 0; i < n; i++)
+			if (predOffsets[i + 1] == predOffsets[i])
+				levelNodes[count++] = i;
+
+		int begin = 0;
+
+		while (begin < count) {
+			int end = count;
+			offsets[++level] = end;
+
+			for (int k = begin; k < end; k++) {
+				int v = levelNodes[k];
+				levels[v] = level - 1;
+
+				for (int j = succOffsets[v]; j < succOffsets[v + 1]; j++)
+					if (--remaining[succTargets[j]] == 0)
+						levelNodes[count++] = succTargets[j];
+			}
+
+			begin = end;
+		}
+
+		if (count < n)
+			throw new IllegalStateException("graph is no DAG");
+
+		levelOffsets = new int[level + 1];
+		System.arraycopy(offsets, 0, levelOffsets, 0, level + 1);
+
+		finish = new double[n];
+		critical = new int[n];
+		markedNodes = new int[n];
+		markedCount = new int[level];
+		marked = new BitSet(n);
+		lowestMarked = level;
+	}
+
+	/**
+	 * Evaluate all the nodes, level by level.
+	 */
+	protected void evaluateAll() {
+		for (int l = 0; l < levelOffsets.length - 1; l++) {
+			IntStream nodes = IntStream.range(levelOffsets[l],
+					levelOffsets[l + 1]).map(k -> levelNodes[k]);
+
+			if (parallel
+					&& levelOffsets[l + 1] - levelOffsets[l] >= PARALLEL_THRESHOLD)
+				nodes = nodes.parallel();
+
+			nodes.forEach(this::evaluate);
+		}
+
+		last = -1;
+
+		for (int v = 0; v < finish.length; v++)
+			if (last < 0 || finish[v] > finish[last])
+				last = v;
+	}
+
+	/**
+	 * Evaluate the marked nodes from the lowest marked level, marking the
+	 * successors of the nodes whose finish time changed.
+	 */
+	protected void propagate() {
+		int oldLast = last;
+		double lastFinish = finish[last];
+
+		for (int l = lowestMarked; l < markedCount.length; l++) {
+			if (markedCount[l] == 0)
+				continue;
+
+			int from = levelOffsets[l];
+			IntStream nodes = IntStream.range(from, from + markedCount[l]).map(
+					k -> markedNodes[k]);
+
+			if (parallel && markedCount[l] >= PARALLEL_THRESHOLD)
+				nodes = nodes.parallel();
+
+			int[] changed = nodes.filter(this::evaluate).toArray();
+
+			for (int k = from; k < from + markedCount[l]; k++)
+				marked.clear(markedNodes[k]);
+
+			markedCount[l] = 0;
+
+			for (int v : changed) {
+				if (finish[v] > finish[last])
+					last = v;
+
+				for (int j = succOffsets[v]; j < succOffsets[v + 1]; j++)
+					mark(succTargets[j]);
+			}
+		}
+
+		lowestMarked = markedCount.length;
+
+		//
+		// The previous last node finishes earlier now, so a node which did not
+		// change may be the last.
+		//
+
+		if (finish[oldLast] < lastFinish)
+			for (int v = 0; v < finish.length; v++)
+				if (finish[v] > finish[last])
+					last = v;
+	}
+
+	/**
+	 * Compute the finish time and the critical predecessor of a node, from the
+	 * finish times of its predecessors. Among predecessors giving the same
+	 * start, the one finishing last is critical.
+	 * 
+	 * @param v
+	 *            index of the node
+	 * @return true if the finish time of the node changed
+	 */
+	protected boolean evaluate(int v) {
+		double start = 0;
+		int arc = -1;
+
+		for (int j = predOffsets[v]; j < predOffsets[v + 1]; j++) {
+			double s = finish[predSources[j]] + weights[j];
+
+			if (arc < 0 ? s >= start : s > start
+					|| (s == start && finish[predSources[j]] > finish[predSources[arc]])) {
+				start = s;
+				arc = j;
+			}
+		}
+
+		double f = start + durations[v];
+		boolean changed = f != finish[v];
+
+		finish[v] = f;
+		critical[v] = arc;
+
+		return changed;
+	}
+
+	/**
+	 * Mark a node to be evaluated at the next query.
+	 * 
+	 * @param v
+	 *            index of the node
+	 */
+	protected void mark(int v) {
+		if (!marked.get(v)) {
+			int l = levels[v];
+
+			marked.set(v);
+			markedNodes[levelOffsets[l] + markedCount[l]++] = v;
+			lowestMarked = Math.min(lowestMarked, l);
+		}
+	}
+
+	/**
+	 * Duration of a node, read from its attribute.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return duration of the node, zero if undefined
+	 */
+	protected double duration(Node node) {
+		double d = durationAttribute == null ? Double.NaN : node
+				.getNumber(durationAttribute);
+		return Double.isNaN(d) ? 0 : d;
+	}
+
+	/**
+	 * Weight of an edge, read from its attribute.
+	 * 
+	 * @param edge
+	 *            an edge of the graph
+	 * @return weight of the edge, the default weight if undefined
+	 */
+	protected double weight(Edge edge) {
+		double w = weightAttribute == null ? Double.NaN : edge
+				.getNumber(weightAttribute);
+		return Double.isNaN(w) ? defaultWeight : w;
+	}
+
+	/**
+	 * Read the duration of a node again and mark it, if the attribute is the
+	 * duration attribute.
+	 * 
+	 * @param nodeId
+	 *            id of the node
+	 * @param attribute
+	 *            the attribute which changed
+	 */
+	protected void durationChanged(String nodeId, String attribute) {
+		if (!stale && attribute.equals(durationAttribute)) {
+			Node node = graph.getNode(nodeId);
+			int v = node.getIndex();
+
+			durations[v] = duration(node);
+			mark(v);
+		}
+	}
+
+	/**
+	 * Read the weight of an edge again and mark its target, if the attribute
+	 * is the weight attribute.
+	 * 
+	 * @param edgeId
+	 *            id of the edge
+	 * @param attribute
+	 *            the attribute which changed
+	 */
+	protected void weightChanged(String edgeId, String attribute) {
+		if (!stale && attribute.equals(weightAttribute)) {
+			Edge edge = graph.getEdge(edgeId);
+
+			weights[edgeArcs[edge.getIndex()]] = weight(edge);
+			mark(edge.getTargetNode().getIndex());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeAttributeAdded(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public void nodeAttributeAdded(String sourceId, long timeId, String nodeId,
+			String attribute, Object value) {
+		durationChanged(nodeId, attribute);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#nodeAttributeChanged(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void nodeAttributeChanged(String sourceId, long timeId,
+			String nodeId, String attribute, Object oldValue, Object newValue) {
+		durationChanged(nodeId, attribute);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#nodeAttributeRemoved(java.lang.String,
+	 * long, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void nodeAttributeRemoved(String sourceId, long timeId,
+			String nodeId, String attribute) {
+		if (!stale && attribute.equals(durationAttribute)) {
+			int v = graph.getNode(nodeId).getIndex();
+
+			durations[v] = 0;
+			mark(v);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAttributeAdded(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public void edgeAttributeAdded(String sourceId, long timeId, String edgeId,
+			String attribute, Object value) {
+		weightChanged(edgeId, attribute);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#edgeAttributeChanged(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void edgeAttributeChanged(String sourceId, long timeId,
+			String edgeId, String attribute, Object oldValue, Object newValue) {
+		weightChanged(edgeId, attribute);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#edgeAttributeRemoved(java.lang.String,
+	 * long, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void edgeAttributeRemoved(String sourceId, long timeId,
+			String edgeId, String attribute) {
+		if (!stale && attribute.equals(weightAttribute)) {
+			Edge edge = graph.getEdge(edgeId);
+
+			weights[edgeArcs[edge.getIndex()]] = defaultWeight;
+			mark(edge.getTargetNode().getIndex());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeAdded(java.lang.String, long,
+	 * java.lang.String)
+	 */
+	@Override
+	public void nodeAdded(String sourceId, long timeId, String nodeId) {
+		stale = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+		stale = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAdded(java.lang.String, long,
+	 * java.lang.String, java.lang.String, java.lang.String, boolean)
+	 */
+	@Override
+	public void edgeAdded(String sourceId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		stale = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+		stale = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#graphCleared(java.lang.String,
+	 * long)
+	 */
+	@Override
+	public void graphCleared(String sourceId, long timeId) {
+		stale = true;
+	}
+}
@@ -51,6 +51,11 @@ import org.graphstream.stream.Sink;
 /**
  * An implementation of the D* algorithm.
  * 
+ * <p>
+ * {@link DStarLite} is usually faster, and replans once for a batch of
+ * changes.
+ * </p>
+ * 
  * @author Guilhelm Savin
  * 
  * @reference Stentz, Anthony (1994),
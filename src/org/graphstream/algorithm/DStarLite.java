@@ -0,0 +1,642 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+
+import org.graphstream.algorithm.util.IndexedPriorityQueue;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * An implementation of the D* Lite algorithm.
+ * 
+ * <p>
+ * D* Lite maintains the shortest path from a moving source, the position of a
+ * robot, to a fixed target while the costs of the edges change. It searches
+ * backward from the target, so that the distances to the target computed
+ * before a change remain valid for most of the nodes. Each node has a distance
+ * g and a one-step lookahead rhs, the minimum over its successors of the cost
+ * of the edge plus the distance of the successor. Only the nodes where they
+ * differ are in the queue, an indexed heap keyed by the pair (k1, k2), and a
+ * replanning only processes them.
+ * </p>
+ * 
+ * <p>
+ * The costs of the edges are given by {@link AStar.Costs}, which also gives
+ * the heuristic. The default costs read the weight attribute of the edges,
+ * one if missing, with a zero heuristic. Costs must be non-negative and the
+ * heuristic consistent.
+ * </p>
+ * 
+ * <p>
+ * The algorithm is dynamic. Changes of the weight attribute, and edges or
+ * nodes added or removed, are only recorded. The next call to
+ * {@link #compute()} updates the nodes whose outgoing edges changed and
+ * replans once, so that a batch of sensor updates costs a single replanning,
+ * see also {@link #setEdgeCosts(Map)}. Costs read from other attributes can be
+ * signaled with {@link #edgeCostChanged(Edge)}. The robot moves with
+ * {@link #setSource(String)}.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * DStarLite dstar = new DStarLite();
+ * dstar.init(graph.getNode(&quot;A&quot;), graph.getNode(&quot;Z&quot;), graph);
+ * dstar.compute();
+ * 
+ * graph.getEdge(&quot;BC&quot;).setAttribute(&quot;weight&quot;, 10.0);
+ * graph.getEdge(&quot;CD&quot;).setAttribute(&quot;weight&quot;, 5.0);
+ * dstar.setSource(&quot;B&quot;);
+ * dstar.compute(); // replans once for both changes
+ * 
+ * dstar.markPath(&quot;ui.class&quot;, &quot;on&quot;, &quot;off&quot;);
+ * </pre>
+ * 
+ * @complexity Each replanning processes the nodes whose distance changed, in
+ *             O(log n) per heap operation, plus their incoming edges.
+ * @reference Koenig, S. and Likhachev, M. (2002), "D* Lite", Proceedings of
+ *            the Eighteenth National Conference on Artificial Intelligence,
+ *            476–483
+ */
+public class DStarLite extends SinkAdapter implements DynamicAlgorithm {
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Attribute where the weights of the edges are stored.
+	 */
+	protected String weightAttribute = "weight";
+
+	/**
+	 * Costs of the edges and heuristic.
+	 */
+	protected AStar.Costs costs = new AStar.DefaultCosts("weight");
+
+	/**
+	 * Distance to the target and one-step lookahead of each node, by index.
+	 */
+	protected double[] g, rhs;
+
+	/**
+	 * Nodes whose g and rhs differ, keyed by (k1, k2).
+	 */
+	protected IndexedPriorityQueue queue;
+
+	/**
+	 * Nodes whose outgoing edges changed since the last replanning.
+	 */
+	protected BitSet changed = new BitSet();
+
+	/**
+	 * Index of the source, of the source at the last replanning and of the
+	 * target, -1 if not set.
+	 */
+	protected int source = -1, last = -1, target = -1;
+
+	/**
+	 * Sum of the heuristics between the successive positions of the source.
+	 */
+	protected double km;
+
+	/**
+	 * New D* Lite using the "weight" attribute.
+	 */
+	public DStarLite() {
+	}
+
+	/**
+	 * Set the attribute where the weights of the edges are stored, and use
+	 * default costs on this attribute.
+	 * 
+	 * @param weightAttribute
+	 *            the weight attribute
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+		this.costs = new AStar.DefaultCosts(weightAttribute);
+	}
+
+	/**
+	 * Set the costs of the edges and the heuristic. Changes of the weight
+	 * attribute are still recorded.
+	 * 
+	 * @param costs
+	 *            the costs
+	 */
+	@Parameter
+	public void setCosts(AStar.Costs costs) {
+		this.costs = costs;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		if (this.graph != null)
+			this.graph.removeSink(this);
+
+		this.graph = graph;
+		this.source = -1;
+		this.target = -1;
+
+		int n = graph.getNodeCount();
+
+		g = new double[Math.max(n, 16)];
+		rhs = new double[g.length];
+		queue = new IndexedPriorityQueue(g.length);
+
+		graph.addSink(this);
+	}
+
+	/**
+	 * Initialize the algorithm with a source and a target.
+	 * 
+	 * @param source
+	 *            the position of the robot
+	 * @param target
+	 *            the target
+	 * @param graph
+	 *            the graph
+	 */
+	public void init(Node source, Node target, Graph graph) {
+		init(graph);
+		setTarget(target.getId());
+		setSource(source.getId());
+	}
+
+	/**
+	 * Set the target. The distances are computed again from scratch at the
+	 * next call to {@link #compute()}.
+	 * 
+	 * @param target
+	 *            id of the target
+	 */
+	@Parameter(true)
+	public void setTarget(String target) {
+		this.target = graph.getNode(target).getIndex();
+
+		Arrays.fill(g, Double.POSITIVE_INFINITY);
+		Arrays.fill(rhs, Double.POSITIVE_INFINITY);
+		queue.clear();
+		changed.clear();
+
+		km = 0;
+		last = source;
+		rhs[this.target] = 0;
+
+		if (source >= 0)
+			queue.add(this.target, key1(this.target), key2(this.target));
+	}
+
+	/**
+	 * Set the source, the position of the robot, which may move between two
+	 * replannings.
+	 * 
+	 * @param source
+	 *            id of the source
+	 */
+	@Parameter(true)
+	public void setSource(String source) {
+		this.source = graph.getNode(source).getIndex();
+
+		if (last < 0) {
+			last = this.source;
+
+			if (target >= 0)
+				queue.add(target, key1(target), key2(target));
+		}
+	}
+
+	/**
+	 * Apply the recorded changes and replan.
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		if (source < 0 || target < 0)
+			throw new NotInitializedException(this);
+
+		if (source != last) {
+			km += heuristic(last, source);
+			last = source;
+		}
+
+		for (int u = changed.nextSetBit(0); u >= 0; u = changed
+				.nextSetBit(u + 1))
+			updateVertex(u);
+
+		changed.clear();
+
+		while (!queue.isEmpty()) {
+			int u = queue.peek();
+			double k1 = queue.getKey1(u), k2 = queue.getKey2(u);
+			double s1 = key1(source), s2 = key2(source);
+
+			if ((k1 > s1 || (k1 == s1 && k2 >= s2))
+					&& rhs[source] == g[source])
+				break;
+
+			double n1 = key1(u), n2 = key2(u);
+
+			if (k1 < n1 || (k1 == n1 && k2 < n2))
+				queue.add(u, n1, n2);
+			else if (g[u] > rhs[u]) {
+				g[u] = rhs[u];
+				queue.remove(u);
+
+				Node node = graph.getNode(u);
+
+				for (int i = 0; i < node.getInDegree(); i++) {
+					Edge edge = node.getEnteringEdge(i);
+					Node p = edge.getOpposite(node);
+					int pi = p.getIndex();
+
+					if (pi != target) {
+						double d = costs.cost(p, edge, node) + g[u];
+
+						if (d < rhs[pi]) {
+							rhs[pi] = d;
+							update(pi);
+						}
+					}
+				}
+			} else {
+				g[u] = Double.POSITIVE_INFINITY;
+				updateVertex(u);
+
+				Node node = graph.getNode(u);
+
+				for (int i = 0; i < node.getInDegree(); i++)
+					updateVertex(node.getEnteringEdge(i).getOpposite(node)
+							.getIndex());
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.DynamicAlgorithm#terminate()
+	 */
+	public void terminate() {
+		graph.removeSink(this);
+	}
+
+	/**
+	 * Change the costs of several edges, setting their weight attribute, and
+	 * replan once.
+	 * 
+	 * @param edgeCosts
+	 *            the new cost of each edge
+	 */
+	public void setEdgeCosts(Map<? extends Edge, ? extends Number> edgeCosts) {
+		for (Map.Entry<? extends Edge, ? extends Number> e : edgeCosts
+				.entrySet())
+			e.getKey().setAttribute(weightAttribute,
+					e.getValue().doubleValue());
+
+		compute();
+	}
+
+	/**
+	 * Record that the cost of an edge changed, without replanning.
+	 * 
+	 * @param edge
+	 *            the edge
+	 */
+	public void edgeCostChanged(Edge edge) {
+		changed.set(edge.getSourceNode().getIndex());
+
+		if (!edge.isDirected())
+			changed.set(edge.getTargetNode().getIndex());
+	}
+
+	/**
+	 * Distance from a node to the target at the last replanning.
+	 * 
+	 * @param node
+	 *            a node
+	 * @return its distance, infinite if the target can not be reached
+	 */
+	public double getDistance(Node node) {
+		return g[node.getIndex()];
+	}
+
+	/**
+	 * Length of the shortest path from the source to the target.
+	 * 
+	 * @return the length, infinite if there is no path
+	 */
+	public double getPathLength() {
+		return g[source];
+	}
+
+	/**
+	 * Shortest path from the source to the target, following from each node
+	 * the successor minimizing the cost of the edge plus its distance.
+	 * 
+	 * @return the path, null if there is no path
+	 */
+	public Path getShortestPath() {
+		if (Double.isInfinite(g[source]))
+			return null;
+
+		Path path = new Path();
+		Node node = graph.getNode(source);
+
+		path.setRoot(node);
+
+		for (int steps = 0; node.getIndex() != target
+				&& steps < graph.getNodeCount(); steps++) {
+			Edge edge = next(node);
+
+			if (edge == null)
+				return null;
+
+			path.add(edge);
+			node = edge.getOpposite(node);
+		}
+
+		return node.getIndex() == target ? path : null;
+	}
+
+	/**
+	 * Set an attribute on the nodes and edges of the shortest path, and
+	 * another value on the others.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 * @param on
+	 *            value for the path
+	 * @param off
+	 *            value for the other elements
+	 */
+	public void markPath(String attribute, Object on, Object off) {
+		graph.nodes().forEach(n -> n.setAttribute(attribute, off));
+		graph.edges().forEach(e -> e.setAttribute(attribute, off));
+
+		Path path = getShortestPath();
+
+		if (path != null) {
+			path.nodes().forEach(n -> n.setAttribute(attribute, on));
+			path.edges().forEach(e -> e.setAttribute(attribute, on));
+		}
+	}
+
+	@Result
+	public String defaultResult() {
+		Path path = getShortestPath();
+
+		return "====== DStarLite ====== \n"
+				+ (path == null ? "no path" : path.toString());
+	}
+
+	/**
+	 * Edge towards the best successor of a node.
+	 */
+	protected Edge next(Node node) {
+		Edge best = null;
+		double min = Double.POSITIVE_INFINITY;
+
+		for (int i = 0; i < node.getOutDegree(); i++) {
+			Edge edge = node.getLeavingEdge(i);
+			Node s = edge.getOpposite(node);
+			double d = costs.cost(node, edge, s) + g[s.getIndex()];
+
+			if (d < min) {
+				min = d;
+				best = edge;
+			}
+		}
+
+		return best;
+	}
+
+	protected double heuristic(int from, int to) {
+		return costs.heuristic(graph.getNode(from), graph.getNode(to));
+	}
+
+	protected double key1(int u) {
+		return Math.min(g[u], rhs[u]) + heuristic(source, u) + km;
+	}
+
+	protected double key2(int u) {
+		return Math.min(g[u], rhs[u]);
+	}
+
+	/**
+	 * Compute the lookahead of a node again, and update its place in the
+	 * queue.
+	 */
+	protected void updateVertex(int u) {
+		if (u != target) {
+			Node node = graph.getNode(u);
+			double min = Double.POSITIVE_INFINITY;
+
+			for (int i = 0; i < node.getOutDegree(); i++) {
+				Edge edge = node.getLeavingEdge(i);
+				Node s = edge.getOpposite(node);
+
+				min = Math.min(min, costs.cost(node, edge, s)
+						+ g[s.getIndex()]);
+			}
+
+			rhs[u] = min;
+		}
+
+		update(u);
+	}
+
+	protected void update(int u) {
+		if (g[u] != rhs[u])
+			queue.add(u, key1(u), key2(u));
+		else
+			queue.remove(u);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAttributeAdded(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public void edgeAttributeAdded(String sourceId, long timeId, String edgeId,
+			String attribute, Object value) {
+		if (attribute.equals(weightAttribute))
+			edgeCostChanged(graph.getEdge(edgeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#edgeAttributeChanged(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void edgeAttributeChanged(String sourceId, long timeId,
+			String edgeId, String attribute, Object oldValue, Object newValue) {
+		if (attribute.equals(weightAttribute))
+			edgeCostChanged(graph.getEdge(edgeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#edgeAttributeRemoved(java.lang.String,
+	 * long, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void edgeAttributeRemoved(String sourceId, long timeId,
+			String edgeId, String attribute) {
+		if (attribute.equals(weightAttribute))
+			edgeCostChanged(graph.getEdge(edgeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAdded(java.lang.String, long,
+	 * java.lang.String, java.lang.String, java.lang.String, boolean)
+	 */
+	@Override
+	public void edgeAdded(String sourceId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		edgeCostChanged(graph.getEdge(edgeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+		edgeCostChanged(graph.getEdge(edgeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeAdded(java.lang.String, long,
+	 * java.lang.String)
+	 */
+	@Override
+	public void nodeAdded(String sourceId, long timeId, String nodeId) {
+		int n = graph.getNodeCount();
+
+		if (n > g.length) {
+			int old = g.length;
+
+			g = Arrays.copyOf(g, 2 * n);
+			rhs = Arrays.copyOf(rhs, 2 * n);
+			queue.ensureCapacity(2 * n);
+
+			Arrays.fill(g, old, g.length, Double.POSITIVE_INFINITY);
+			Arrays.fill(rhs, old, rhs.length, Double.POSITIVE_INFINITY);
+		}
+
+		g[n - 1] = Double.POSITIVE_INFINITY;
+		rhs[n - 1] = Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * The node is removed after this event, and the last node takes its index.
+	 * Its edges have already been removed.
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeRemoved(java.lang.String,
+	 *      long, java.lang.String)
+	 */
+	@Override
+	public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+		int i = graph.getNode(nodeId).getIndex();
+		int l = graph.getNodeCount() - 1;
+
+		if (i == source || i == target)
+			throw new IllegalStateException("source or target removed");
+
+		queue.remove(i);
+		changed.clear(i);
+
+		if (i != l) {
+			g[i] = g[l];
+			rhs[i] = rhs[l];
+			changed.set(i, changed.get(l));
+			changed.clear(l);
+
+			if (queue.contains(l)) {
+				double k1 = queue.getKey1(l), k2 = queue.getKey2(l);
+				queue.remove(l);
+				queue.add(i, k1, k2);
+			}
+
+			if (source == l)
+				source = i;
+			if (last == l)
+				last = i;
+			if (target == l)
+				target = i;
+		}
+
+		g[l] = Double.POSITIVE_INFINITY;
+		rhs[l] = Double.POSITIVE_INFINITY;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#graphCleared(java.lang.String,
+	 * long)
+	 */
+	@Override
+	public void graphCleared(String sourceId, long timeId) {
+		source = last = target = -1;
+		queue.clear();
+		changed.clear();
+	}
+}
@@ -0,0 +1,749 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * Maintain a minimum spanning forest while edges are added, removed and their
+ * weights change.
+ * 
+ * <p>
+ * The forest is first computed like {@link Kruskal}. Then, instead of
+ * computing it again at each change, the algorithm listens to the graph:
+ * </p>
+ * <ul>
+ * <li>a new edge joining two trees is added to the forest. If its nodes are
+ * already in the same tree, it replaces the heaviest edge of the tree path
+ * between them when it is lighter;</li>
+ * <li>when a tree edge is removed, the lightest edge between the two parts of
+ * its tree, if any, replaces it;</li>
+ * <li>an edge whose weight decreases is handled as a new edge, and a tree
+ * edge whose weight increases as a removed edge which may replace itself.</li>
+ * </ul>
+ * 
+ * <p>
+ * The trees are stored in link-cut trees, where each tree edge is a vertex
+ * between its two nodes, so that the heaviest edge of a path is found in
+ * O(log n) amortized. The replacement of a removed edge is searched from the
+ * smallest of the two parts, whose nodes are explored at the same pace as the
+ * nodes of the largest one, so that only the edges of the smallest part are
+ * scanned.
+ * </p>
+ * 
+ * <p>
+ * The flags of the edges and the weight returned by {@link #getTreeWeight()}
+ * are kept up to date after each event.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * DynamicSpanningTree tree = new DynamicSpanningTree(&quot;weight&quot;, &quot;ui.class&quot;,
+ * 		&quot;intree&quot;, &quot;notintree&quot;);
+ * 
+ * tree.init(graph);
+ * tree.compute();
+ * 
+ * graph.getEdge(&quot;AB&quot;).setAttribute(&quot;weight&quot;, 12);
+ * System.out.println(tree.getTreeWeight());
+ * </pre>
+ * 
+ * @complexity O(m log n) for the initial computation. An insertion or a
+ *             weight decrease costs O(log n) amortized, the removal of a tree
+ *             edge or a weight increase costs the edges of the smallest part
+ *             of the tree, times O(log n).
+ * @reference Sleator, D. D. and Tarjan, R. E. (1983), "A Data Structure for
+ *            Dynamic Trees", Journal of Computer and System Sciences 26 (3),
+ *            362–391
+ * @see org.graphstream.algorithm.AbstractSpanningTree
+ */
+public class DynamicSpanningTree extends Kruskal implements DynamicAlgorithm {
+	/**
+	 * Nodes of the link-cut trees, for each node of the graph.
+	 */
+	protected HashMap<Node, Vertex> vertices;
+
+	/**
+	 * Nodes of the link-cut trees, for each edge of the graph. Only tree edges
+	 * are linked.
+	 */
+	protected HashMap<Edge, Vertex> arcs;
+
+	/**
+	 * Edges of the forest.
+	 */
+	protected LinkedHashSet<Edge> forest;
+
+	/**
+	 * Listen to the graph once the forest is computed.
+	 */
+	protected Listener listener;
+
+	/**
+	 * Flag used to tell if the {@link #compute()} method has already been
+	 * called.
+	 */
+	protected boolean started;
+
+	/**
+	 * Stamp used to mark the nodes explored when searching a replacement.
+	 */
+	protected int stamp;
+
+	/**
+	 * Create a new dynamic spanning tree algorithm. Uses the default weight
+	 * attribute and does not tag the edges.
+	 */
+	public DynamicSpanningTree() {
+		this(DEFAULT_WEIGHT_ATTRIBUTE, null);
+	}
+
+	/**
+	 * Create a new dynamic spanning tree algorithm. The value of the flag
+	 * attribute is {@code true} for the tree edges and false for the non-tree
+	 * edges.
+	 * 
+	 * @param weightAttribute
+	 *            attribute used to compare edges
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 */
+	public DynamicSpanningTree(String weightAttribute, String flagAttribute) {
+		this(weightAttribute, flagAttribute, true, false);
+	}
+
+	/**
+	 * Create a new dynamic spanning tree algorithm.
+	 * 
+	 * @param weightAttribute
+	 *            attribute used to compare edges
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 * @param flagOn
+	 *            value of the <i>flagAttribute</i> if edge is in the spanning
+	 *            tree
+	 * @param flagOff
+	 *            value of the <i>flagAttribute</i> if edge is not in the
+	 *            spanning tree
+	 */
+	public DynamicSpanningTree(String weightAttribute, String flagAttribute,
+			Object flagOn, Object flagOff) {
+		super(weightAttribute, flagAttribute, flagOn, flagOff);
+
+		vertices = new HashMap<Node, Vertex>();
+		arcs = new HashMap<Edge, Vertex>();
+		forest = new LinkedHashSet<Edge>();
+		listener = new Listener();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.AbstractSpanningTree#init(org.graphstream.graph
+	 * .Graph)
+	 */
+	@Override
+	public void init(Graph graph) {
+		if (this.graph != null)
+			this.graph.removeSink(listener);
+
+		super.init(graph);
+		graph.addSink(listener);
+
+		started = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.DynamicAlgorithm#terminate()
+	 */
+	public void terminate() {
+		graph.removeSink(listener);
+	}
+
+	/**
+	 * Compute the forest from scratch, like {@link Kruskal}, and build the
+	 * link-cut trees.
+	 */
+	@Override
+	protected void makeTree() {
+		started = true;
+		vertices.clear();
+		arcs.clear();
+		forest.clear();
+		treeWeight = 0;
+
+		graph.nodes().forEach(node -> vertices.put(node, new Vertex(null, 0)));
+
+		cacheEdges();
+
+		int[] sorted = IntStream.range(0, weights.length).boxed()
+				.sorted((e1, e2) -> lighter(e1, e2) ? -1 : (e1.equals(e2) ? 0 : 1))
+				.mapToInt(Integer::intValue).toArray();
+
+		IntDisjointSets components = new IntDisjointSets(graph.getNodeCount());
+
+		for (int e : sorted)
+			if (components.union(ends[2 * e], ends[2 * e + 1]))
+				link(graph.getEdge(e), weights[e]);
+
+		weights = null;
+		ends = null;
+	}
+
+	/**
+	 * Tell if an edge is in the forest.
+	 * 
+	 * @param edge
+	 *            an edge of the graph
+	 * @return true if the edge is a tree edge
+	 */
+	public boolean isTreeEdge(Edge edge) {
+		return forest.contains(edge);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Kruskal#getTreeEdgesStream()
+	 */
+	@Override
+	public Stream<Edge> getTreeEdgesStream() {
+		return forest.stream();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Kruskal#clear()
+	 */
+	@Override
+	public void clear() {
+		if (flagAttribute != null)
+			graph.edges().forEach(edge -> edge.removeAttribute(flagAttribute));
+
+		started = false;
+		vertices.clear();
+		arcs.clear();
+		forest.clear();
+		treeWeight = 0;
+	}
+
+	@Result
+	public String defaultResult() {
+		StringJoiner sj = new StringJoiner(" | ",
+				"====== DynamicSpanningTree ====== \n", "");
+		getTreeEdgesStream().forEach(e -> sj.add(e.getId()));
+
+		return sj.toString();
+	}
+
+	/**
+	 * Handle a new edge, or an edge whose weight decreased.
+	 * 
+	 * @param edge
+	 *            the edge, which is not in the forest
+	 */
+	protected void insert(Edge edge) {
+		insert(edge, getWeight(edge));
+	}
+
+	/**
+	 * Handle a new edge, or an edge whose weight decreased, with a given
+	 * weight.
+	 * 
+	 * @param edge
+	 *            the edge, which is not in the forest
+	 * @param w
+	 *            the weight of the edge
+	 */
+	protected void insert(Edge edge, double w) {
+		if (edge.getNode0() == edge.getNode1()) {
+			edgeOff(edge);
+			return;
+		}
+
+		Vertex u = vertices.get(edge.getNode0());
+		Vertex v = vertices.get(edge.getNode1());
+
+		if (findRoot(u) != findRoot(v)) {
+			link(edge, w);
+			return;
+		}
+
+		makeRoot(u);
+		access(v);
+		splay(v);
+
+		Vertex heaviest = v.max;
+
+		if (heaviest.weight > w) {
+			cut(heaviest.edge);
+			edgeOff(heaviest.edge);
+			link(edge, w);
+		} else
+			edgeOff(edge);
+	}
+
+	/**
+	 * Remove a tree edge from the forest, and replace it with the lightest edge
+	 * between the two parts of its tree.
+	 * 
+	 * @param edge
+	 *            the tree edge
+	 * @param removed
+	 *            true if the edge is being removed from the graph, and cannot
+	 *            replace itself
+	 */
+	protected void replace(Edge edge, boolean removed) {
+		replace(edge, removed, removed ? 0 : getWeight(edge));
+	}
+
+	/**
+	 * Same as {@link #replace(Edge, boolean)}, the edge having a given weight
+	 * if it can replace itself.
+	 */
+	protected void replace(Edge edge, boolean removed, double weight) {
+		cut(edge);
+
+		Vertex u = vertices.get(edge.getNode0());
+		Vertex v = vertices.get(edge.getNode1());
+		ArrayList<Node> part = smallestPart(edge.getNode0(), u, edge.getNode1(),
+				v);
+		int inside = stamp;
+
+		Edge best = null;
+		double bestWeight = Double.POSITIVE_INFINITY;
+
+		for (Node node : part) {
+			for (int k = 0; k < node.getDegree(); k++) {
+				Edge e = node.getEdge(k);
+
+				if ((removed && e == edge) || forest.contains(e)
+						|| vertices.get(e.getOpposite(node)).stamp == inside)
+					continue;
+
+				double w = e == edge ? weight : getWeight(e);
+
+				if (best == null || w < bestWeight) {
+					best = e;
+					bestWeight = w;
+				}
+			}
+		}
+
+		if (best != null)
+			link(best, bestWeight);
+
+		if (best != edge)
+			edgeOff(edge);
+	}
+
+	/**
+	 * Explore the trees of two nodes at the same pace, until one of them is
+	 * complete. The nodes of this tree are stamped with the current stamp.
+	 * 
+	 * @return the nodes of the smallest tree
+	 */
+	protected ArrayList<Node> smallestPart(Node a, Vertex va, Node b,
+			Vertex vb) {
+		int stampA = ++stamp;
+		int stampB = ++stamp;
+		ArrayList<Node> partA = new ArrayList<Node>();
+		ArrayList<Node> partB = new ArrayList<Node>();
+		ArrayDeque<Node> queueA = new ArrayDeque<Node>();
+		ArrayDeque<Node> queueB = new ArrayDeque<Node>();
+
+		va.stamp = stampA;
+		vb.stamp = stampB;
+		queueA.add(a);
+		queueB.add(b);
+
+		while (true) {
+			if (!explore(queueA, partA, stampA)) {
+				//
+				// Stamp the smallest part with the current stamp.
+				//
+				int current = ++stamp;
+				partA.forEach(node -> vertices.get(node).stamp = current);
+				return partA;
+			}
+
+			if (!explore(queueB, partB, stampB)) {
+				int current = ++stamp;
+				partB.forEach(node -> vertices.get(node).stamp = current);
+				return partB;
+			}
+		}
+	}
+
+	/**
+	 * Explore the next node of a queue, following tree edges.
+	 * 
+	 * @return false if the queue was empty
+	 */
+	protected boolean explore(ArrayDeque<Node> queue, ArrayList<Node> part,
+			int s) {
+		Node node = queue.poll();
+
+		if (node == null)
+			return false;
+
+		part.add(node);
+
+		for (int k = 0; k < node.getDegree(); k++) {
+			Edge e = node.getEdge(k);
+
+			if (forest.contains(e)) {
+				Node o = e.getOpposite(node);
+				Vertex vo = vertices.get(o);
+
+				if (vo.stamp != s) {
+					vo.stamp = s;
+					queue.add(o);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Handle a weight change of an edge.
+	 */
+	protected void weightChanged(Edge edge) {
+		weightChanged(edge, getWeight(edge));
+	}
+
+	/**
+	 * Handle a weight change of an edge, given the new weight. This is needed
+	 * when the event is received before the attribute really changes.
+	 */
+	protected void weightChanged(Edge edge, double w) {
+		if (forest.contains(edge)) {
+			Vertex x = arcs.get(edge);
+			double old = x.weight;
+
+			access(x);
+			splay(x);
+			x.weight = w;
+			update(x);
+			treeWeight += w - old;
+
+			if (w > old)
+				replace(edge, false, w);
+		} else
+			insert(edge, w);
+	}
+
+	/**
+	 * Add an edge to the forest.
+	 */
+	protected void link(Edge edge, double w) {
+		Vertex x = new Vertex(edge, w);
+		Vertex u = vertices.get(edge.getNode0());
+		Vertex v = vertices.get(edge.getNode1());
+
+		arcs.put(edge, x);
+		forest.add(edge);
+		treeWeight += w;
+
+		makeRoot(u);
+		u.parent = x;
+		makeRoot(x);
+		x.parent = v;
+
+		edgeOn(edge);
+	}
+
+	/**
+	 * Remove an edge from the forest, without changing its flag.
+	 */
+	protected void cut(Edge edge) {
+		Vertex x = arcs.remove(edge);
+
+		forest.remove(edge);
+		treeWeight -= x.weight;
+
+		cut(vertices.get(edge.getNode0()), x);
+		cut(x, vertices.get(edge.getNode1()));
+	}
+
+	//
+	// Link-cut trees.
+	//
+
+	protected static boolean isRoot(Vertex x) {
+		return x.parent == null
+				|| (x.parent.left != x && x.parent.right != x);
+	}
+
+	protected static void push(Vertex x) {
+		if (x.flip) {
+			Vertex t = x.left;
+			x.left = x.right;
+			x.right = t;
+
+			if (x.left != null)
+				x.left.flip = !x.left.flip;
+
+			if (x.right != null)
+				x.right.flip = !x.right.flip;
+
+			x.flip = false;
+		}
+	}
+
+	protected static void update(Vertex x) {
+		x.max = x;
+
+		if (x.left != null && x.left.max.weight > x.max.weight)
+			x.max = x.left.max;
+
+		if (x.right != null && x.right.max.weight > x.max.weight)
+			x.max = x.right.max;
+	}
+
+	protected static void rotate(Vertex x) {
+		Vertex p = x.parent;
+		Vertex g = p.parent;
+
+		if (!isRoot(p)) {
+			if (g.left == p)
+				g.left = x;
+			else
+				g.right = x;
+		}
+
+		x.parent = g;
+
+		if (p.left == x) {
+			p.left = x.right;
+
+			if (p.left != null)
+				p.left.parent = p;
+
+			x.right = p;
+		} else {
+			p.right = x.left;
+
+			if (p.right != null)
+				p.right.parent = p;
+
+			x.left = p;
+		}
+
+		p.parent = x;
+		update(p);
+		update(x);
+	}
+
+	protected static void splay(Vertex x) {
+		ArrayDeque<Vertex> path = new ArrayDeque<Vertex>();
+
+		for (Vertex y = x;; y = y.parent) {
+			path.push(y);
+
+			if (isRoot(y))
+				break;
+		}
+
+		while (!path.isEmpty())
+			push(path.pop());
+
+		while (!isRoot(x)) {
+			Vertex p = x.parent;
+
+			if (!isRoot(p))
+				rotate((p.left == x) == (p.parent.left == p) ? p : x);
+
+			rotate(x);
+		}
+	}
+
+	protected static void access(Vertex x) {
+		Vertex last = null;
+
+		for (Vertex y = x; y != null; y = y.parent) {
+			splay(y);
+			y.right = last;
+			update(y);
+			last = y;
+		}
+
+		splay(x);
+	}
+
+	protected static void makeRoot(Vertex x) {
+		access(x);
+		x.flip = !x.flip;
+	}
+
+	protected static Vertex findRoot(Vertex x) {
+		access(x);
+
+		Vertex r = x;
+		push(r);
+
+		while (r.left != null) {
+			r = r.left;
+			push(r);
+		}
+
+		splay(r);
+
+		return r;
+	}
+
+	protected static void cut(Vertex x, Vertex y) {
+		makeRoot(x);
+		access(y);
+
+		y.left.parent = null;
+		y.left = null;
+		update(y);
+	}
+
+	/**
+	 * Node of a link-cut tree: a node of the graph, or a tree edge.
+	 */
+	protected static class Vertex {
+		Vertex left, right, parent;
+		boolean flip;
+
+		/**
+		 * Weight of the edge, minus infinity for the nodes.
+		 */
+		double weight;
+
+		/**
+		 * Heaviest vertex of the splay subtree.
+		 */
+		Vertex max;
+
+		/**
+		 * The edge, null for the nodes.
+		 */
+		final Edge edge;
+
+		/**
+		 * Stamp of the last exploration of the node.
+		 */
+		int stamp;
+
+		Vertex(Edge edge, double weight) {
+			this.edge = edge;
+			this.weight = edge == null ? Double.NEGATIVE_INFINITY : weight;
+			this.max = this;
+		}
+	}
+
+	/**
+	 * Forward the events of the graph to the algorithm.
+	 */
+	protected class Listener extends SinkAdapter {
+		@Override
+		public void nodeAdded(String sourceId, long timeId, String nodeId) {
+			if (started)
+				vertices.put(graph.getNode(nodeId), new Vertex(null, 0));
+		}
+
+		@Override
+		public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+			if (started)
+				vertices.remove(graph.getNode(nodeId));
+		}
+
+		@Override
+		public void edgeAdded(String sourceId, long timeId, String edgeId,
+				String fromNodeId, String toNodeId, boolean directed) {
+			if (started)
+				insert(graph.getEdge(edgeId));
+		}
+
+		@Override
+		public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+			if (started) {
+				Edge edge = graph.getEdge(edgeId);
+
+				if (forest.contains(edge))
+					replace(edge, true);
+			}
+		}
+
+		@Override
+		public void edgeAttributeAdded(String sourceId, long timeId,
+				String edgeId, String attribute, Object value) {
+			if (started && attribute.equals(weightAttribute))
+				weightChanged(graph.getEdge(edgeId));
+		}
+
+		@Override
+		public void edgeAttributeChanged(String sourceId, long timeId,
+				String edgeId, String attribute, Object oldValue,
+				Object newValue) {
+			if (started && attribute.equals(weightAttribute))
+				weightChanged(graph.getEdge(edgeId));
+		}
+
+		@Override
+		public void edgeAttributeRemoved(String sourceId, long timeId,
+				String edgeId, String attribute) {
+			// The attribute is still there, the default weight applies.
+			if (started && attribute.equals(weightAttribute))
+				weightChanged(graph.getEdge(edgeId), 1.0);
+		}
+
+		@Override
+		public void graphCleared(String sourceId, long timeId) {
+			started = false;
+			vertices.clear();
+			arcs.clear();
+			forest.clear();
+			treeWeight = 0;
+		}
+	}
+}
@@ -0,0 +1,623 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * Maintain a topological order of a directed acyclic graph while edges and
+ * nodes are added and removed.
+ * 
+ * <p>
+ * Unlike {@link TopologicalSortKahn} and {@link TopologicalSortDFS}, this
+ * algorithm does not compute the order again at each change, and does not copy
+ * the graph. Each node has a position, and the positions are only changed when
+ * an edge goes from a node to a node with a lower position. The nodes which
+ * may have to move are then the ones between the ends of the edge: the
+ * descendants of the target and the ancestors of the source are searched in
+ * this region only, and exchange their positions so that the ancestors come
+ * first. Removing an edge or a node never invalidates the order.
+ * </p>
+ * 
+ * <h2>Cycles</h2>
+ * 
+ * <p>
+ * When an edge closes a cycle, the cycle is found by the search from its
+ * target, before anything is changed. The edge is then left out of the order,
+ * the cycle can be retrieved with {@link #getCycle()} and a
+ * {@link CycleListener}, if any, is notified during the insertion of the edge.
+ * The edges left out are inserted again once edges are removed, so the order
+ * is complete as soon as the graph is acyclic again. Undirected edges and
+ * loops are cycles.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * DynamicTopologicalSort sort = new DynamicTopologicalSort();
+ * sort.setCycleListener((edge, cycle) -&gt; System.err.printf(
+ * 		&quot;%s closes the cycle %s%n&quot;, edge, cycle));
+ * sort.init(graph);
+ * 
+ * graph.addEdge(&quot;AB&quot;, &quot;A&quot;, &quot;B&quot;, true);
+ * graph.addEdge(&quot;BC&quot;, &quot;B&quot;, &quot;C&quot;, true);
+ * sort.getSortedNodes(); // [A, B, C]
+ * 
+ * graph.addEdge(&quot;CA&quot;, &quot;C&quot;, &quot;A&quot;, true); // CA closes the cycle [C, A, B]
+ * </pre>
+ * 
+ * @reference Pearce, D. J. and Kelly, P. H. J. (2007), "A Dynamic Topological
+ *            Sort Algorithm for Directed Acyclic Graphs", ACM Journal of
+ *            Experimental Algorithmics 11, 1.7
+ * @complexity O(n + m) for the initial computation. An insertion costs the
+ *             number of nodes between the positions of its ends which are
+ *             searched, and their edges, times the logarithm of this number.
+ */
+public class DynamicTopologicalSort extends SinkAdapter implements
+		DynamicAlgorithm {
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Position and search data of each node.
+	 */
+	protected HashMap<Node, Vertex> vertices;
+
+	/**
+	 * Edges closing a cycle, which are not taken into account by the order.
+	 */
+	protected LinkedHashSet<Edge> cyclicEdges;
+
+	/**
+	 * The last cycle found.
+	 */
+	protected List<Node> cycle;
+
+	/**
+	 * Notified of each cycle.
+	 */
+	protected CycleListener listener;
+
+	/**
+	 * Position of the next new node.
+	 */
+	protected int nextPosition;
+
+	/**
+	 * Stamp used to mark the nodes visited by the searches.
+	 */
+	protected int stamp;
+
+	/**
+	 * Flag used to tell if the {@link #compute()} method has already been
+	 * called.
+	 */
+	protected boolean started;
+
+	/**
+	 * True when edges have been removed since the cyclic edges were tried.
+	 */
+	protected boolean retry;
+
+	public DynamicTopologicalSort() {
+		vertices = new HashMap<Node, Vertex>();
+		cyclicEdges = new LinkedHashSet<Edge>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	@Override
+	public void init(Graph graph) {
+		if (this.graph != null)
+			this.graph.removeSink(this);
+
+		this.graph = graph;
+		this.graph.addSink(this);
+
+		started = false;
+	}
+
+	/**
+	 * Compute the order from scratch with a depth-first search. The edges
+	 * leading back to a node of the current path of the search close a cycle.
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	@Override
+	public void compute() {
+		started = true;
+		retry = false;
+		cycle = null;
+		vertices.clear();
+		cyclicEdges.clear();
+
+		int n = graph.getNodeCount();
+		int[] state = new int[n];
+		int[] depthOf = new int[n];
+		int[] path = new int[n];
+		int[] next = new int[n];
+		int position = n;
+
+		graph.nodes().forEach(node -> vertices.put(node, new Vertex()));
+
+		for (int root = 0; root < n; root++) {
+			if (state[root] != 0)
+				continue;
+
+			int depth = 0;
+			path[depth] = root;
+			next[depth] = 0;
+			depthOf[root] = depth++;
+			state[root] = 1;
+
+			while (depth > 0) {
+				Node v = graph.getNode(path[depth - 1]);
+
+				if (next[depth - 1] < v.getOutDegree()) {
+					Edge e = v.getLeavingEdge(next[depth - 1]++);
+					Node w = e.getOpposite(v);
+
+					if (!e.isDirected()) {
+						if (e.getSourceNode() == v) {
+							ArrayList<Node> c = new ArrayList<Node>();
+							c.add(v);
+
+							if (w != v)
+								c.add(w);
+
+							cyclic(e, c);
+						}
+					} else if (state[w.getIndex()] == 0) {
+						path[depth] = w.getIndex();
+						next[depth] = 0;
+						depthOf[w.getIndex()] = depth++;
+						state[w.getIndex()] = 1;
+					} else if (state[w.getIndex()] == 1) {
+						ArrayList<Node> c = new ArrayList<Node>();
+
+						for (int d = depthOf[w.getIndex()]; d < depth; d++)
+							c.add(graph.getNode(path[d]));
+
+						// The cycle starts at the source of the edge.
+						Collections.rotate(c, 1);
+						cyclic(e, c);
+					}
+				} else {
+					vertices.get(v).position = --position;
+					state[v.getIndex()] = 2;
+					depth--;
+				}
+			}
+		}
+
+		nextPosition = n;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.DynamicAlgorithm#terminate()
+	 */
+	@Override
+	public void terminate() {
+		if (graph != null) {
+			graph.removeSink(this);
+			graph = null;
+		}
+
+		vertices.clear();
+		cyclicEdges.clear();
+		started = false;
+	}
+
+	/**
+	 * Set the object notified when an edge closes a cycle.
+	 * 
+	 * @param listener
+	 *            the listener, or null
+	 */
+	@Parameter
+	public void setCycleListener(CycleListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Test if the graph has a cycle.
+	 * 
+	 * @return true if some edges are left out of the order because they close
+	 *         a cycle
+	 */
+	public boolean hasCycle() {
+		checkStarted();
+		return !cyclicEdges.isEmpty();
+	}
+
+	/**
+	 * The last cycle found, as the list of its nodes starting at the source of
+	 * the edge which closed it.
+	 * 
+	 * @return the last cycle, or null if the graph is acyclic
+	 */
+	public List<Node> getCycle() {
+		checkStarted();
+		return cycle;
+	}
+
+	/**
+	 * The edges which are left out of the order because they close a cycle.
+	 * 
+	 * @return an unmodifiable view of these edges
+	 */
+	public Set<Edge> getCyclicEdges() {
+		checkStarted();
+		return Collections.unmodifiableSet(cyclicEdges);
+	}
+
+	/**
+	 * Position of a node in the order. Positions are not contiguous, they are
+	 * only meant to be compared: if there is a path from a node to another,
+	 * the position of the first one is lower.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return its position
+	 */
+	public int getPosition(Node node) {
+		checkStarted();
+		return vertices.get(node).position;
+	}
+
+	/**
+	 * Gets the nodes sorted in the topological order.
+	 * 
+	 * @return a new list of the nodes
+	 * @throws IllegalStateException
+	 *             if the graph has a cycle
+	 */
+	public List<Node> getSortedNodes() {
+		if (hasCycle())
+			throw new IllegalStateException("graph is no DAG");
+
+		ArrayList<Node> sorted = new ArrayList<Node>(vertices.keySet());
+		sorted.sort(Comparator.comparingInt(node -> vertices.get(node).position));
+
+		return sorted;
+	}
+
+	@Result
+	public String defaultResult() {
+		return hasCycle() ? "cycle " + getCycle() : getSortedNodes().toString();
+	}
+
+	protected void checkStarted() {
+		if (!started && graph != null)
+			compute();
+		else if (retry)
+			retryCyclicEdges();
+	}
+
+	/**
+	 * Insert again the edges which closed a cycle, after some edges have been
+	 * removed. The edges not retried yet stay out of the order, so that they do
+	 * not steer the searches.
+	 */
+	protected void retryCyclicEdges() {
+		retry = false;
+
+		ArrayList<Edge> edges = new ArrayList<Edge>(cyclicEdges);
+
+		for (Edge e : edges) {
+			cyclicEdges.remove(e);
+
+			List<Node> c = search(e);
+
+			if (c != null)
+				cyclicEdges.add(e);
+		}
+
+		if (cyclicEdges.isEmpty())
+			cycle = null;
+	}
+
+	protected void cyclic(Edge e, List<Node> c) {
+		cyclicEdges.add(e);
+		cycle = c;
+
+		if (listener != null)
+			listener.cycleDetected(e, c);
+	}
+
+	protected boolean isOrdered(Edge e) {
+		return e.isDirected()
+				&& (cyclicEdges.isEmpty() || !cyclicEdges.contains(e));
+	}
+
+	/**
+	 * Update the order for a new edge.
+	 * 
+	 * @param e
+	 *            the edge
+	 * @return null if the order has been updated, or the cycle closed by the
+	 *         edge
+	 */
+	protected List<Node> search(Edge e) {
+		Node source = e.getSourceNode();
+		Node target = e.getTargetNode();
+
+		if (!e.isDirected() || source == target) {
+			ArrayList<Node> c = new ArrayList<Node>();
+			c.add(source);
+
+			if (source != target)
+				c.add(target);
+
+			return c;
+		}
+
+		Vertex u = vertices.get(source);
+		Vertex v = vertices.get(target);
+
+		if (u.position < v.position)
+			return null;
+
+		//
+		// Descendants of the target, which have to move after the source.
+		//
+		int forward = ++stamp;
+		ArrayList<Node> descendants = new ArrayList<Node>();
+		ArrayDeque<Node> open = new ArrayDeque<Node>();
+
+		v.mark = forward;
+		v.parent = null;
+		open.push(target);
+
+		while (!open.isEmpty()) {
+			Node x = open.pop();
+			descendants.add(x);
+
+			for (int k = 0; k < x.getOutDegree(); k++) {
+				Edge f = x.getLeavingEdge(k);
+
+				if (!isOrdered(f))
+					continue;
+
+				Node y = f.getOpposite(x);
+				Vertex vy = vertices.get(y);
+
+				if (vy == u) {
+					ArrayList<Node> c = new ArrayList<Node>();
+
+					for (Node z = x; z != null; z = vertices.get(z).parent)
+						c.add(z);
+
+					c.add(source);
+					Collections.reverse(c);
+
+					return c;
+				}
+
+				if (vy.mark != forward && vy.position < u.position) {
+					vy.mark = forward;
+					vy.parent = x;
+					open.push(y);
+				}
+			}
+		}
+
+		//
+		// Ancestors of the source, which have to move before the target.
+		//
+		int backward = ++stamp;
+		ArrayList<Node> ancestors = new ArrayList<Node>();
+
+		u.mark = backward;
+		open.push(source);
+
+		while (!open.isEmpty()) {
+			Node x = open.pop();
+			ancestors.add(x);
+
+			for (int k = 0; k < x.getInDegree(); k++) {
+				Edge f = x.getEnteringEdge(k);
+
+				if (!isOrdered(f))
+					continue;
+
+				Vertex vy = vertices.get(f.getOpposite(x));
+
+				if (vy.mark != backward && vy.position > v.position) {
+					vy.mark = backward;
+					open.push(f.getOpposite(x));
+				}
+			}
+		}
+
+		Comparator<Node> byPosition = Comparator.comparingInt(x -> vertices
+				.get(x).position);
+		int[] pool = new int[ancestors.size() + descendants.size()];
+		int i = 0;
+
+		ancestors.sort(byPosition);
+		descendants.sort(byPosition);
+
+		for (Node x : ancestors)
+			pool[i++] = vertices.get(x).position;
+
+		for (Node x : descendants)
+			pool[i++] = vertices.get(x).position;
+
+		Arrays.sort(pool);
+		i = 0;
+
+		for (Node x : ancestors)
+			vertices.get(x).position = pool[i++];
+
+		for (Node x : descendants)
+			vertices.get(x).position = pool[i++];
+
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeAdded(java.lang.String, long,
+	 * java.lang.String)
+	 */
+	@Override
+	public void nodeAdded(String sourceId, long timeId, String nodeId) {
+		if (started) {
+			Vertex v = new Vertex();
+			v.position = nextPosition++;
+			vertices.put(graph.getNode(nodeId), v);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+		if (started)
+			vertices.remove(graph.getNode(nodeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAdded(java.lang.String, long,
+	 * java.lang.String, java.lang.String, java.lang.String, boolean)
+	 */
+	@Override
+	public void edgeAdded(String sourceId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		if (!started) {
+			if (graph != null)
+				compute();
+
+			return;
+		}
+
+		if (retry)
+			retryCyclicEdges();
+
+		Edge e = graph.getEdge(edgeId);
+		List<Node> c = search(e);
+
+		if (c != null)
+			cyclic(e, c);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+		if (started && !cyclicEdges.isEmpty()) {
+			Edge e = graph.getEdge(edgeId);
+
+			if (cyclicEdges.remove(e)) {
+				if (cyclicEdges.isEmpty())
+					cycle = null;
+			} else {
+				// The other cyclic edges may now fit in the order.
+				retry = true;
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#graphCleared(java.lang.String,
+	 * long)
+	 */
+	@Override
+	public void graphCleared(String sourceId, long timeId) {
+		vertices.clear();
+		cyclicEdges.clear();
+		cycle = null;
+		retry = false;
+		nextPosition = 0;
+	}
+
+	/**
+	 * Position of a node, and data used by the searches.
+	 */
+	protected static class Vertex {
+		int position;
+		int mark;
+		Node parent;
+	}
+
+	/**
+	 * Objects notified when an edge closes a cycle.
+	 */
+	@FunctionalInterface
+	public static interface CycleListener {
+		/**
+		 * Called when an edge closes a cycle.
+		 * 
+		 * @param edge
+		 *            the edge, which is left out of the order
+		 * @param cycle
+		 *            the nodes of the cycle, starting at the source of the
+		 *            edge
+		 */
+		void cycleDetected(Edge edge, List<Node> cycle);
+	}
+}
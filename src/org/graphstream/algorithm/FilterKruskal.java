@@ -0,0 +1,279 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+
+/**
+ * Compute a minimum spanning tree using the Filter-Kruskal algorithm.
+ * 
+ * <p>
+ * Kruskal's algorithm sorts all the edges, but once the tree is complete the
+ * remaining edges are useless, and the heaviest edges of a dense graph are
+ * usually never added. Filter-Kruskal sorts the edges like a quicksort: the
+ * edges lighter than a random pivot are processed first, recursively, then the
+ * heavier edges whose two nodes are already connected are removed before being
+ * sorted in turn. The union-find works on node indices and the weights are
+ * read once in a primitive array, so the edges are never compared through
+ * their attributes.
+ * </p>
+ * 
+ * <p>
+ * The result is the same as {@link Kruskal}, edges of equal weight being taken
+ * by increasing index. The usage is also the same:
+ * </p>
+ * 
+ * <pre>
+ * FilterKruskal kruskal = new FilterKruskal(&quot;weight&quot;, &quot;ui.class&quot;,
+ * 		&quot;intree&quot;, &quot;notintree&quot;);
+ * 
+ * kruskal.init(graph);
+ * kruskal.compute();
+ * 
+ * System.out.println(kruskal.getTreeWeight());
+ * </pre>
+ * 
+ * @complexity O(m + n log n log(m / n)) expected for random weights, where m
+ *             is the number of edges and n is the number of nodes of the
+ *             graph, O(m log m) in the worst case
+ * @reference Osipov, V., Sanders, P. and Singler, J. (2009), "The
+ *            Filter-Kruskal Minimum Spanning Tree Algorithm", Proceedings of
+ *            the 11th Workshop on Algorithm Engineering and Experiments,
+ *            52–61
+ * @see org.graphstream.algorithm.AbstractSpanningTree
+ */
+public class FilterKruskal extends Kruskal {
+	/**
+	 * Size under which the edges are sorted by insertion.
+	 */
+	protected static final int SORT_THRESHOLD = 32;
+
+	/**
+	 * Components of the tree being built.
+	 */
+	protected IntDisjointSets components;
+
+	/**
+	 * Choice of the pivots.
+	 */
+	protected Random random;
+
+	/**
+	 * Create a new Filter-Kruskal algorithm. Uses the default weight attribute and does
+	 * not tag the edges.
+	 */
+	public FilterKruskal() {
+		super();
+	}
+
+	/**
+	 * Create a new Filter-Kruskal algorithm. The value of the flag attribute is
+	 * {@code true} for the tree edges and false for the non-tree edges.
+	 * 
+	 * @param weightAttribute
+	 *            attribute used to compare edges
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 */
+	public FilterKruskal(String weightAttribute, String flagAttribute) {
+		super(weightAttribute, flagAttribute);
+	}
+
+	/**
+	 * Create a new Filter-Kruskal algorithm. Uses the default weight attribute.
+	 * 
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 * @param flagOn
+	 *            value of the <i>flagAttribute</i> if edge is in the spanning
+	 *            tree
+	 * @param flagOff
+	 *            value of the <i>flagAttribute</i> if edge is not in the
+	 *            spanning tree
+	 */
+	public FilterKruskal(String flagAttribute, Object flagOn, Object flagOff) {
+		super(flagAttribute, flagOn, flagOff);
+	}
+
+	/**
+	 * Create a new Filter-Kruskal algorithm.
+	 * 
+	 * @param weightAttribute
+	 *            attribute used to compare edges
+	 * @param flagAttribute
+	 *            attribute used to set if an edge is in the spanning tree
+	 * @param flagOn
+	 *            value of the <i>flagAttribute</i> if edge is in the spanning
+	 *            tree
+	 * @param flagOff
+	 *            value of the <i>flagAttribute</i> if edge is not in the
+	 *            spanning tree
+	 */
+	public FilterKruskal(String weightAttribute, String flagAttribute, Object flagOn,
+			Object flagOff) {
+		super(weightAttribute, flagAttribute, flagOn, flagOff);
+	}
+
+	@Override
+	protected void makeTree() {
+		if (treeEdges == null)
+			treeEdges = new LinkedList<Edge>();
+		else
+			treeEdges.clear();
+
+		cacheEdges();
+
+		int m = weights.length;
+		int[] edges = new int[m];
+
+		for (int e = 0; e < m; e++)
+			edges[e] = e;
+
+		components = new IntDisjointSets(graph.getNodeCount());
+		random = new Random(m);
+		treeWeight = 0;
+
+		filterKruskal(edges, 0, m);
+
+		components = null;
+	}
+
+	/**
+	 * Add to the tree the edges between {@code from} and {@code to} which join
+	 * two components, by increasing weight.
+	 * 
+	 * @param edges
+	 *            indices of the edges
+	 * @param from
+	 *            first edge
+	 * @param to
+	 *            last edge, excluded
+	 */
+	protected void filterKruskal(int[] edges, int from, int to) {
+		while (to - from > SORT_THRESHOLD) {
+			if (components.getSetCount() == 1)
+				return;
+
+			int mid = partition(edges, from, to);
+
+			filterKruskal(edges, from, mid);
+			join(edges[mid]);
+
+			from = mid + 1;
+			to = filter(edges, from, to);
+		}
+
+		for (int i = from + 1; i < to; i++) {
+			int e = edges[i];
+			int j = i;
+
+			for (; j > from && lighter(e, edges[j - 1]); j--)
+				edges[j] = edges[j - 1];
+
+			edges[j] = e;
+		}
+
+		for (int i = from; i < to && components.getSetCount() > 1; i++)
+			join(edges[i]);
+	}
+
+	/**
+	 * Move the edges lighter than a random pivot before it, and the heavier
+	 * ones after it.
+	 * 
+	 * @return the new position of the pivot
+	 */
+	protected int partition(int[] edges, int from, int to) {
+		swap(edges, from + random.nextInt(to - from), to - 1);
+
+		int pivot = edges[to - 1];
+		int mid = from;
+
+		for (int i = from; i < to - 1; i++)
+			if (lighter(edges[i], pivot))
+				swap(edges, i, mid++);
+
+		swap(edges, mid, to - 1);
+
+		return mid;
+	}
+
+	/**
+	 * Remove the edges whose two nodes are already in the same component.
+	 * 
+	 * @return the new end of the edges
+	 */
+	protected int filter(int[] edges, int from, int to) {
+		int end = from;
+
+		for (int i = from; i < to; i++) {
+			int e = edges[i];
+
+			if (components.find(ends[2 * e]) != components.find(ends[2 * e + 1]))
+				edges[end++] = e;
+		}
+
+		return end;
+	}
+
+	/**
+	 * Add an edge to the tree if it joins two components.
+	 */
+	protected void join(int e) {
+		if (components.union(ends[2 * e], ends[2 * e + 1])) {
+			Edge edge = graph.getEdge(e);
+
+			treeEdges.add(edge);
+			edgeOn(edge);
+			treeWeight += weights[e];
+		}
+	}
+
+	protected static void swap(int[] edges, int i, int j) {
+		int e = edges[i];
+		edges[i] = edges[j];
+		edges[j] = e;
+	}
+
+	@Result
+	public String defaultResult() {
+		StringJoiner sj = new StringJoiner(" | ",
+				"====== Filter-Kruskal ====== \n", "");
+		getTreeEdgesStream().forEach(e -> sj.add(e.getId()));
+
+		return sj.toString();
+	}
+}
@@ -0,0 +1,664 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * Maintain the strongly connected components of a growing directed graph, and
+ * the condensation of the graph, that is the acyclic graph of its components.
+ * 
+ * <h2>Dynamics</h2>
+ * 
+ * <p>
+ * The components are kept in a topological order of the condensation. When an
+ * edge goes from a component to a later one, or inside a component, nothing
+ * changes but the condensation arcs. When it goes backward, the only
+ * components that may have to move are the ones whose position is between the
+ * positions of the ends of the edge: the components reachable from the target
+ * of the edge and the ones reaching its source are searched in this region
+ * only. The components found by both searches are on a cycle closed by the new
+ * edge, and are merged. The other ones are placed again in the positions they
+ * used, the ones reaching the source first, then the merged component, then
+ * the ones reachable from the target.
+ * </p>
+ * 
+ * <p>
+ * Removing an edge between two components only removes a condensation arc.
+ * Removing an edge inside a component may split it: the components are then
+ * computed again from scratch with {@link TarjanStronglyConnectedComponents},
+ * at the next query.
+ * </p>
+ * 
+ * <p>
+ * An undirected edge is seen as two arcs, so its ends are always in the same
+ * component.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * Graph graph = new SingleGraph(&quot;calls&quot;);
+ * IncrementalStronglyConnectedComponents scc = new IncrementalStronglyConnectedComponents();
+ * scc.init(graph);
+ * 
+ * graph.addEdge(&quot;AB&quot;, &quot;A&quot;, &quot;B&quot;, true);
+ * graph.addEdge(&quot;BC&quot;, &quot;B&quot;, &quot;C&quot;, true);
+ * scc.getComponentCount(); // 3
+ * 
+ * graph.addEdge(&quot;CA&quot;, &quot;C&quot;, &quot;A&quot;, true);
+ * scc.getComponentCount(); // 1
+ * </pre>
+ * 
+ * @reference Pearce, D. J. and Kelly, P. H. J. (2007), "A Dynamic Topological
+ *            Sort Algorithm for Directed Acyclic Graphs", ACM Journal of
+ *            Experimental Algorithmics 11, 1.7
+ * @reference Haeupler, B., Kavitha, T., Mathew, R., Sen, S. and Tarjan, R. E.
+ *            (2012), "Incremental Cycle Detection, Topological Ordering, and
+ *            Strong Component Maintenance", ACM Transactions on Algorithms 8 (1)
+ * @complexity O(n + m) for the initial computation, and for each removal of
+ *             an edge inside a component. An insertion costs the number of
+ *             components between the ends of the edge and their arcs, plus the
+ *             size of the merged components but the largest one.
+ */
+public class IncrementalStronglyConnectedComponents extends SinkAdapter
+		implements DynamicAlgorithm {
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Component of each node.
+	 */
+	protected HashMap<Node, Component> componentOf;
+
+	/**
+	 * All the components.
+	 */
+	protected HashSet<Component> components;
+
+	/**
+	 * Optional node attribute receiving the identifier of the component.
+	 */
+	protected String sccAttribute;
+
+	/**
+	 * Position given to the next new component.
+	 */
+	protected int nextPosition;
+
+	/**
+	 * Stamp used to mark the components visited by the searches.
+	 */
+	protected int stamp;
+
+	/**
+	 * Used to get components identifiers.
+	 */
+	protected int nextId;
+
+	/**
+	 * True when the components have to be computed again before the next
+	 * query.
+	 */
+	protected boolean stale;
+
+	/**
+	 * Build a new instance of the algorithm. {@link #init(Graph)} has to be
+	 * called before using it.
+	 */
+	public IncrementalStronglyConnectedComponents() {
+		componentOf = new HashMap<Node, Component>();
+		components = new HashSet<Component>();
+		stale = true;
+	}
+
+	/**
+	 * Build a new instance of the algorithm on a graph.
+	 * 
+	 * @param graph
+	 *            the graph
+	 */
+	public IncrementalStronglyConnectedComponents(Graph graph) {
+		this();
+		init(graph);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	@Override
+	public void init(Graph graph) {
+		if (this.graph != null)
+			this.graph.removeSink(this);
+
+		this.graph = graph;
+		this.graph.addSink(this);
+
+		stale = true;
+	}
+
+	/**
+	 * Compute the components from scratch.
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	@Override
+	public void compute() {
+		componentOf.clear();
+		components.clear();
+		stale = false;
+
+		TarjanStronglyConnectedComponents tarjan = new TarjanStronglyConnectedComponents();
+		tarjan.init(graph);
+		tarjan.buildSuccessors();
+
+		int n = graph.getNodeCount();
+		int[] component = new int[n];
+		int count = TarjanStronglyConnectedComponents.strongConnect(
+				tarjan.offsets, tarjan.targets, component);
+
+		//
+		// Components are found in reverse topological order.
+		//
+		Component[] byNumber = new Component[count];
+
+		for (int c = 0; c < count; c++) {
+			byNumber[c] = new Component();
+			byNumber[c].position = count - 1 - c;
+			components.add(byNumber[c]);
+		}
+
+		nextPosition = count;
+
+		for (int v = 0; v < n; v++)
+			register(graph.getNode(v), byNumber[component[v]]);
+
+		graph.edges().forEach(e -> addArcs(e, 1));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.DynamicAlgorithm#terminate()
+	 */
+	@Override
+	public void terminate() {
+		if (graph != null) {
+			graph.removeSink(this);
+			graph = null;
+		}
+
+		componentOf.clear();
+		components.clear();
+		stale = true;
+	}
+
+	/**
+	 * Set a node attribute receiving the identifier of the component of each
+	 * node, or null to not store it.
+	 * 
+	 * @param key
+	 *            the attribute
+	 */
+	@Parameter
+	public void setSCCIndexAttribute(String key) {
+		sccAttribute = key;
+		stale = true;
+	}
+
+	/**
+	 * Number of strongly connected components.
+	 * 
+	 * @return the number of components
+	 */
+	public int getComponentCount() {
+		checkComponents();
+		return components.size();
+	}
+
+	@Result
+	public String defaultResult() {
+		return getComponentCount() + " strongly connected component(s)";
+	}
+
+	/**
+	 * Component of a node.
+	 * 
+	 * @param node
+	 *            a node of the graph
+	 * @return its component, or null if the node is not in the graph
+	 */
+	public Component getComponentOf(Node node) {
+		checkComponents();
+		return componentOf.get(node);
+	}
+
+	/**
+	 * Same as {@link #getComponentOf(Node)} with a node identifier.
+	 */
+	public Component getComponentOf(String nodeId) {
+		return getComponentOf(graph.getNode(nodeId));
+	}
+
+	/**
+	 * Test if two nodes are in the same component, that is if each one can be
+	 * reached from the other.
+	 */
+	public boolean areStronglyConnected(Node a, Node b) {
+		Component c = getComponentOf(a);
+		return c != null && c == getComponentOf(b);
+	}
+
+	/**
+	 * Stream over the components.
+	 */
+	public Stream<Component> components() {
+		checkComponents();
+		return components.stream();
+	}
+
+	/**
+	 * The components sorted in a topological order of the condensation: if
+	 * there is a path from a component to another one, the first one comes
+	 * before.
+	 * 
+	 * @return a new list of the components
+	 */
+	public List<Component> getTopologicalOrder() {
+		checkComponents();
+
+		ArrayList<Component> order = new ArrayList<Component>(components);
+		order.sort(Comparator.comparingInt(c -> c.position));
+
+		return order;
+	}
+
+	protected void checkComponents() {
+		if (stale && graph != null)
+			compute();
+	}
+
+	protected void register(Node node, Component c) {
+		componentOf.put(node, c);
+		c.nodes.add(node);
+
+		if (sccAttribute != null)
+			node.setAttribute(sccAttribute, c.id);
+	}
+
+	/**
+	 * Add or remove the condensation arcs of an edge.
+	 * 
+	 * @param e
+	 *            the edge
+	 * @param delta
+	 *            1 to add the arcs, -1 to remove them
+	 */
+	protected void addArcs(Edge e, int delta) {
+		Component c0 = componentOf.get(e.getSourceNode());
+		Component c1 = componentOf.get(e.getTargetNode());
+
+		if (c0 != c1) {
+			addArc(c0, c1, delta);
+
+			if (!e.isDirected())
+				addArc(c1, c0, delta);
+		}
+	}
+
+	/**
+	 * Change the multiplicity of a condensation arc.
+	 * 
+	 * @return the new multiplicity
+	 */
+	protected int addArc(Component from, Component to, int delta) {
+		int count = from.successors.getOrDefault(to, 0) + delta;
+
+		if (count == 0) {
+			from.successors.remove(to);
+			to.predecessors.remove(from);
+		} else {
+			from.successors.put(to, count);
+			to.predecessors.put(from, count);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Update the components after the insertion of an arc.
+	 */
+	protected void insert(Component from, Component to) {
+		if (from == to || addArc(from, to, 1) > 1
+				|| from.position < to.position)
+			return;
+
+		int lower = to.position;
+		int upper = from.position;
+		int forwardStamp = ++stamp;
+		ArrayList<Component> forward = search(to, upper, true, forwardStamp);
+		int backwardStamp = ++stamp;
+		ArrayList<Component> backward = search(from, lower, false,
+				backwardStamp);
+
+		//
+		// The components reached by both searches are on a cycle through the
+		// new arc.
+		//
+		ArrayList<Component> cycle = new ArrayList<Component>();
+		ArrayList<Integer> pool = new ArrayList<Integer>();
+		int cycleStamp = ++stamp;
+
+		for (Component c : forward) {
+			pool.add(c.position);
+
+			if (c.mark == backwardStamp)
+				cycle.add(c);
+		}
+
+		for (Component c : cycle)
+			c.mark = cycleStamp;
+
+		for (Component c : backward)
+			if (c.mark != cycleStamp)
+				pool.add(c.position);
+
+		pool.sort(null);
+
+		backward.removeIf(c -> c.mark == cycleStamp);
+		forward.removeIf(c -> c.mark == cycleStamp);
+		backward.sort(Comparator.comparingInt(c -> c.position));
+		forward.sort(Comparator.comparingInt(c -> c.position));
+
+		for (int i = 0; i < backward.size(); i++)
+			backward.get(i).position = pool.get(i);
+
+		for (int i = 0; i < forward.size(); i++)
+			forward.get(i).position = pool.get(pool.size() - forward.size()
+					+ i);
+
+		if (!cycle.isEmpty())
+			merge(cycle, pool.get(backward.size()));
+	}
+
+	/**
+	 * Search the components reachable from (or reaching) a component, without
+	 * leaving the region delimited by a bound on the positions.
+	 */
+	protected ArrayList<Component> search(Component start, int bound,
+			boolean forward, int mark) {
+		ArrayList<Component> found = new ArrayList<Component>();
+		ArrayDeque<Component> open = new ArrayDeque<Component>();
+
+		start.mark = mark;
+		open.push(start);
+
+		while (!open.isEmpty()) {
+			Component c = open.pop();
+			found.add(c);
+
+			for (Component next : (forward ? c.successors : c.predecessors)
+					.keySet()) {
+				if (next.mark != mark
+						&& (forward ? next.position <= bound
+								: next.position >= bound)) {
+					next.mark = mark;
+					open.push(next);
+				}
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Merge components into the largest of them.
+	 */
+	protected void merge(ArrayList<Component> cycle, int position) {
+		Component survivor = cycle.get(0);
+
+		for (Component c : cycle)
+			if (c.nodes.size() > survivor.nodes.size())
+				survivor = c;
+
+		int merged = ++stamp;
+
+		for (Component c : cycle)
+			c.mark = merged;
+
+		for (Component c : cycle) {
+			if (c == survivor)
+				continue;
+
+			for (Node n : c.nodes)
+				register(n, survivor);
+
+			for (Component s : c.successors.keySet()) {
+				int count = s.predecessors.remove(c);
+
+				if (s.mark != merged)
+					addArc(survivor, s, count);
+			}
+
+			for (Component p : c.predecessors.keySet()) {
+				int count = p.successors.remove(c);
+
+				if (p.mark != merged)
+					addArc(p, survivor, count);
+			}
+
+			components.remove(c);
+		}
+
+		survivor.successors.keySet().removeIf(s -> s.mark == merged);
+		survivor.predecessors.keySet().removeIf(p -> p.mark == merged);
+		survivor.position = position;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeAdded(java.lang.String, long,
+	 * java.lang.String)
+	 */
+	@Override
+	public void nodeAdded(String sourceId, long timeId, String nodeId) {
+		if (!stale) {
+			Component c = new Component();
+			c.position = nextPosition++;
+			components.add(c);
+			register(graph.getNode(nodeId), c);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+		if (!stale) {
+			Node node = graph.getNode(nodeId);
+			Component c = componentOf.remove(node);
+
+			//
+			// The edges of the node have already been removed, so the node is
+			// alone in its component unless it was split.
+			//
+			if (c.nodes.size() > 1)
+				stale = true;
+			else
+				components.remove(c);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAdded(java.lang.String, long,
+	 * java.lang.String, java.lang.String, java.lang.String, boolean)
+	 */
+	@Override
+	public void edgeAdded(String sourceId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		if (!stale) {
+			Edge e = graph.getEdge(edgeId);
+			Node source = e.getSourceNode();
+			Node target = e.getTargetNode();
+
+			insert(componentOf.get(source), componentOf.get(target));
+
+			if (!directed)
+				insert(componentOf.get(target), componentOf.get(source));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+		if (!stale) {
+			Edge e = graph.getEdge(edgeId);
+
+			if (componentOf.get(e.getNode0()) == componentOf.get(e.getNode1())) {
+				// The component may be split.
+				stale = e.getNode0() != e.getNode1();
+			} else {
+				addArcs(e, -1);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#graphCleared(java.lang.String,
+	 * long)
+	 */
+	@Override
+	public void graphCleared(String sourceId, long timeId) {
+		componentOf.clear();
+		components.clear();
+		nextPosition = 0;
+	}
+
+	/**
+	 * A strongly connected component, and a node of the condensation of the
+	 * graph.
+	 */
+	public class Component {
+		/**
+		 * Unique identifier of the component.
+		 */
+		public final int id = nextId++;
+
+		final ArrayList<Node> nodes = new ArrayList<Node>();
+		final HashMap<Component, Integer> successors = new HashMap<Component, Integer>();
+		final HashMap<Component, Integer> predecessors = new HashMap<Component, Integer>();
+		int position;
+		int mark;
+
+		Component() {
+		}
+
+		/**
+		 * Number of nodes in this component.
+		 */
+		public int getSize() {
+			return nodes.size();
+		}
+
+		/**
+		 * Stream over the nodes of this component.
+		 */
+		public Stream<Node> nodes() {
+			return nodes.stream();
+		}
+
+		/**
+		 * Stream over the components which are the target of an edge from
+		 * this component.
+		 */
+		public Stream<Component> successors() {
+			return successors.keySet().stream();
+		}
+
+		/**
+		 * Stream over the components which are the source of an edge to this
+		 * component.
+		 */
+		public Stream<Component> predecessors() {
+			return predecessors.keySet().stream();
+		}
+
+		/**
+		 * Position of this component in a topological order of the
+		 * condensation. Positions are not contiguous, they are only meant to
+		 * be compared.
+		 */
+		public int getPosition() {
+			return position;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("StronglyConnectedComponent#%d", id);
+		}
+	}
+}
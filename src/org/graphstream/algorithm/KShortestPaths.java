@@ -0,0 +1,640 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.graphstream.algorithm.util.IndexedPriorityQueue;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.graph.Path;
+
+/**
+ * The k shortest loopless paths between two nodes, with Yen's algorithm.
+ * 
+ * <p>
+ * Paths are given lazily, in nondecreasing length order, by
+ * {@link #paths()}: the next path is only computed when asked for, so that
+ * the first alternatives are found without enumerating all the paths. The
+ * (k+1)-th path is found from the k-th one, by deviating from it at each of
+ * its nodes, the spur nodes: the search from a spur node to the target avoids
+ * the nodes before it on the path, and the edges taken at this node by the
+ * previous paths sharing the same beginning. The best deviation which is not
+ * a path yet is the next path. With Lawler's optimization, a path only
+ * deviates from the node where it deviated from its parent, the deviations
+ * at the previous nodes having already been generated by the parent.
+ * </p>
+ * 
+ * <p>
+ * The shortest-path tree towards the target is computed once by
+ * {@link #compute()} and reused by all the spur searches. Its distances are a
+ * lower bound of the distances once nodes and edges are avoided, so the spur
+ * searches are A* searches guided by them. When the path of the tree from the
+ * spur node avoids the forbidden nodes and edges, it is the best deviation
+ * and no search is needed. The searches from the spur nodes of a path are
+ * independent and can run in parallel, see {@link #setParallel(boolean)},
+ * each thread reusing its own search arrays.
+ * </p>
+ * 
+ * <p>
+ * Edge lengths are read from the weight attribute, one if missing, and must be
+ * non-negative. Directed edges can only be followed from their source. The
+ * graph must not change while paths are enumerated.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * KShortestPaths ksp = new KShortestPaths(&quot;weight&quot;);
+ * ksp.init(graph);
+ * ksp.setSource(&quot;A&quot;);
+ * ksp.setTarget(&quot;Z&quot;);
+ * ksp.compute();
+ * 
+ * ksp.paths().limit(3).forEach(System.out::println);
+ * </pre>
+ * 
+ * @complexity Each path costs at most one shortest path search per node of
+ *             the previous path, that is O(k n (m + n log n)) for k paths.
+ * @reference Yen, Jin Y. (1971), "Finding the k Shortest Loopless Paths in a
+ *            Network", Management Science 17 (11): 712–716
+ * @reference Lawler, E. L. (1972), "A Procedure for Computing the K Best
+ *            Solutions to Discrete Optimization Problems and Its Application
+ *            to the Shortest Path Problem", Management Science 18 (7): 401–405
+ */
+public class KShortestPaths implements Algorithm {
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Attribute where the weights of the edges are stored.
+	 */
+	protected String weightAttribute;
+
+	/**
+	 * Ids of the source and the target.
+	 */
+	protected String sourceId, targetId;
+
+	/**
+	 * Run the searches from the spur nodes of a path in parallel.
+	 */
+	protected boolean parallel = false;
+
+	/**
+	 * Indices of the source and the target.
+	 */
+	protected int source, target;
+
+	/**
+	 * Arcs leaving node i are between offsets[i] and offsets[i+1].
+	 */
+	protected int[] offsets;
+
+	/**
+	 * Source, target and edge of each arc.
+	 */
+	protected int[] arcSources, arcTargets, arcEdges;
+
+	/**
+	 * Weight of each arc.
+	 */
+	protected double[] arcWeights;
+
+	/**
+	 * Distance from each node to the target, in the shortest-path tree.
+	 */
+	protected double[] distances;
+
+	/**
+	 * Arc leaving each node in the shortest-path tree, -1 if none.
+	 */
+	protected int[] treeArcs;
+
+	/**
+	 * Search arrays not used by any thread.
+	 */
+	protected ConcurrentLinkedQueue<Search> searches;
+
+	/**
+	 * New algorithm using the "weight" attribute.
+	 */
+	public KShortestPaths() {
+		this("weight");
+	}
+
+	/**
+	 * New algorithm using the given weight attribute.
+	 * 
+	 * @param weightAttribute
+	 *            attribute where the weights of the edges are stored, null to
+	 *            count the edges
+	 */
+	public KShortestPaths(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Set the attribute where the weights of the edges are stored.
+	 * 
+	 * @param weightAttribute
+	 *            the weight attribute, null to count the edges
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Set the source of the paths.
+	 * 
+	 * @param source
+	 *            id of the source
+	 */
+	@Parameter(true)
+	public void setSource(String source) {
+		this.sourceId = source;
+	}
+
+	/**
+	 * Set the target of the paths.
+	 * 
+	 * @param target
+	 *            id of the target
+	 */
+	@Parameter(true)
+	public void setTarget(String target) {
+		this.targetId = target;
+	}
+
+	/**
+	 * Enable the searches from the spur nodes of a path in parallel.
+	 * 
+	 * @param parallel
+	 *            true to run the searches in parallel
+	 */
+	@Parameter
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		this.graph = graph;
+		this.distances = null;
+	}
+
+	/**
+	 * Build the arrays of arcs and the shortest-path tree towards the target.
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		int n = graph.getNodeCount();
+		int m = 0;
+
+		source = graph.getNode(sourceId).getIndex();
+		target = graph.getNode(targetId).getIndex();
+		offsets = new int[n + 1];
+		searches = new ConcurrentLinkedQueue<Search>();
+
+		for (int i = 0; i < n; i++) {
+			m += graph.getNode(i).getOutDegree();
+			offsets[i + 1] = m;
+		}
+
+		arcSources = new int[m];
+		arcTargets = new int[m];
+		arcEdges = new int[m];
+		arcWeights = new double[m];
+
+		for (int i = 0; i < n; i++) {
+			Node node = graph.getNode(i);
+
+			for (int j = 0; j < node.getOutDegree(); j++) {
+				Edge e = node.getLeavingEdge(j);
+				double w = weightAttribute == null ? Double.NaN : e
+						.getNumber(weightAttribute);
+				int a = offsets[i] + j;
+
+				arcSources[a] = i;
+				arcTargets[a] = e.getOpposite(node).getIndex();
+				arcEdges[a] = e.getIndex();
+				arcWeights[a] = Double.isNaN(w) ? 1 : w;
+			}
+		}
+
+		buildTree(n);
+	}
+
+	/**
+	 * Dijkstra from the target on the reversed arcs.
+	 */
+	protected void buildTree(int n) {
+		int[] inOffsets = new int[n + 1];
+		int[] inArcs = new int[arcTargets.length];
+
+		for (int a = 0; a < arcTargets.length; a++)
+			inOffsets[arcTargets[a] + 1]++;
+
+		for (int i = 0; i < n; i++)
+			inOffsets[i + 1] += inOffsets[i];
+
+		int[] fill = Arrays.copyOf(inOffsets, n);
+
+		for (int a = 0; a < arcTargets.length; a++)
+			inArcs[fill[arcTargets[a]]++] = a;
+
+		distances = new double[n];
+		treeArcs = new int[n];
+
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+		Arrays.fill(treeArcs, -1);
+
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(n);
+		distances[target] = 0;
+		queue.add(target, 0);
+
+		while (!queue.isEmpty()) {
+			int v = queue.poll();
+
+			for (int j = inOffsets[v]; j < inOffsets[v + 1]; j++) {
+				int a = inArcs[j];
+				int u = arcSources[a];
+				double d = distances[v] + arcWeights[a];
+
+				if (d < distances[u]) {
+					distances[u] = d;
+					treeArcs[u] = a;
+					queue.add(u, d);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Lazy stream of the shortest loopless paths from the source to the
+	 * target, in nondecreasing length order. Each call starts a new
+	 * enumeration.
+	 * 
+	 * @return the paths
+	 */
+	public Stream<Path> paths() {
+		if (distances == null)
+			throw new NotInitializedException(this);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+				new Enumeration(), Spliterator.ORDERED | Spliterator.NONNULL),
+				false);
+	}
+
+	/**
+	 * The k shortest loopless paths, fewer if there are not as many paths.
+	 * 
+	 * @param k
+	 *            number of paths
+	 * @return the paths, in nondecreasing length order
+	 */
+	public List<Path> getPaths(int k) {
+		return paths().limit(k).collect(Collectors.toList());
+	}
+
+	@Result
+	public String defaultResult() {
+		return getPaths(1).toString();
+	}
+
+	/**
+	 * A path given by its arcs.
+	 */
+	protected static class Route implements Comparable<Route> {
+		final int[] arcs;
+		final double length;
+
+		/**
+		 * Index of the spur node where it deviates from its parent.
+		 */
+		final int deviation;
+
+		/**
+		 * Creation order, to break ties.
+		 */
+		long order;
+
+		Route(int[] arcs, double length, int deviation) {
+			this.arcs = arcs;
+			this.length = length;
+			this.deviation = deviation;
+		}
+
+		public int compareTo(Route other) {
+			int c = Double.compare(length, other.length);
+
+			return c != 0 ? c : Long.compare(order, other.order);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Route && Arrays.equals(arcs, ((Route) o).arcs);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(arcs);
+		}
+	}
+
+	/**
+	 * State of an enumeration of the paths.
+	 */
+	protected class Enumeration implements Iterator<Path> {
+		/**
+		 * Paths already given.
+		 */
+		ArrayList<Route> found = new ArrayList<Route>();
+
+		/**
+		 * Candidates for the next path.
+		 */
+		PriorityQueue<Route> candidates = new PriorityQueue<Route>();
+
+		/**
+		 * Paths given or candidates.
+		 */
+		HashSet<Route> known = new HashSet<Route>();
+
+		/**
+		 * Last path given, whose deviations are only computed when the next
+		 * path is asked for.
+		 */
+		Route last;
+
+		long order = 0;
+
+		Enumeration() {
+			if (!Double.isInfinite(distances[source])) {
+				Route first = treePath(source, new int[0], 0,
+						distances[source], 0);
+				candidates.add(first);
+				known.add(first);
+			}
+		}
+
+		public boolean hasNext() {
+			if (last != null) {
+				deviate(last);
+				last = null;
+			}
+
+			return !candidates.isEmpty();
+		}
+
+		public Path next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			last = candidates.poll();
+			found.add(last);
+
+			return toPath(last);
+		}
+
+		/**
+		 * Add the deviations of a path to the candidates.
+		 */
+		void deviate(Route route) {
+			int from = route.deviation, to = route.arcs.length;
+
+			IntStream spurs = IntStream.range(from, to);
+
+			if (parallel && to - from > 1)
+				spurs = spurs.parallel();
+
+			List<Route> routes = spurs.mapToObj(i -> spur(route, i))
+					.filter(r -> r != null).collect(Collectors.toList());
+
+			for (Route r : routes)
+				if (known.add(r)) {
+					r.order = order++;
+					candidates.add(r);
+				}
+		}
+
+		/**
+		 * Best deviation of a path at its i-th node.
+		 */
+		Route spur(Route route, int i) {
+			Search search = searches.poll();
+
+			if (search == null)
+				search = new Search();
+
+			try {
+				search.stamp++;
+
+				int[] arcs = route.arcs;
+				int u = source;
+				double rootLength = 0;
+
+				for (int j = 0; j < i; j++) {
+					search.blockedNodes[u] = search.stamp;
+					rootLength += arcWeights[arcs[j]];
+					u = arcTargets[arcs[j]];
+				}
+
+				for (Route r : found)
+					if (r.arcs.length > i && samePrefix(r.arcs, arcs, i))
+						search.blockedArcs[r.arcs[i]] = search.stamp;
+
+				return search.run(u, arcs, i, rootLength);
+			} finally {
+				searches.add(search);
+			}
+		}
+	}
+
+	protected static boolean samePrefix(int[] a, int[] b, int length) {
+		for (int j = 0; j < length; j++)
+			if (a[j] != b[j])
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Route made of the first arcs of a path and of the path of the tree from
+	 * a node.
+	 */
+	protected Route treePath(int u, int[] root, int rootSize, double length,
+			int deviation) {
+		int size = rootSize;
+
+		for (int v = u; v != target; v = arcTargets[treeArcs[v]])
+			size++;
+
+		int[] arcs = Arrays.copyOf(root, size);
+
+		for (int v = u, j = rootSize; v != target; v = arcTargets[treeArcs[v]])
+			arcs[j++] = treeArcs[v];
+
+		return new Route(arcs, length, deviation);
+	}
+
+	protected Path toPath(Route route) {
+		Path path = new Path();
+
+		if (route.arcs.length == 0)
+			path.setRoot(graph.getNode(source));
+		else
+			path.add(graph.getNode(source),
+					graph.getEdge(arcEdges[route.arcs[0]]));
+
+		for (int j = 1; j < route.arcs.length; j++)
+			path.add(graph.getEdge(arcEdges[route.arcs[j]]));
+
+		return path;
+	}
+
+	/**
+	 * Arrays of a spur search, used by one thread at a time.
+	 */
+	protected class Search {
+		int stamp;
+		int[] blockedNodes, blockedArcs;
+		int[] reached, closed, parents;
+		double[] g;
+		IndexedPriorityQueue queue;
+
+		Search() {
+			int n = distances.length;
+
+			blockedNodes = new int[n];
+			blockedArcs = new int[arcTargets.length];
+			reached = new int[n];
+			closed = new int[n];
+			parents = new int[n];
+			g = new double[n];
+			queue = new IndexedPriorityQueue(n);
+		}
+
+		/**
+		 * A* from the spur node to the target, guided by the tree.
+		 */
+		Route run(int spur, int[] root, int rootSize, double rootLength) {
+			if (isTreePathFree(spur))
+				return treePath(spur, root, rootSize,
+						rootLength + distances[spur], rootSize);
+
+			queue.clear();
+			g[spur] = 0;
+			parents[spur] = -1;
+			reached[spur] = stamp;
+			queue.add(spur, distances[spur], 0);
+
+			while (!queue.isEmpty()) {
+				int u = queue.poll();
+
+				if (u == target)
+					return route(root, rootSize, rootLength);
+
+				closed[u] = stamp;
+
+				for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+					int v = arcTargets[a];
+
+					if (blockedArcs[a] == stamp || blockedNodes[v] == stamp
+							|| closed[v] == stamp
+							|| Double.isInfinite(distances[v]))
+						continue;
+
+					double d = g[u] + arcWeights[a];
+
+					if (reached[v] != stamp || d < g[v]) {
+						reached[v] = stamp;
+						g[v] = d;
+						parents[v] = a;
+						queue.add(v, d + distances[v], -d);
+					}
+				}
+			}
+
+			return null;
+		}
+
+		boolean isTreePathFree(int spur) {
+			if (Double.isInfinite(distances[spur]))
+				return false;
+
+			for (int v = spur; v != target; v = arcTargets[treeArcs[v]])
+				if (blockedArcs[treeArcs[v]] == stamp
+						|| blockedNodes[arcTargets[treeArcs[v]]] == stamp)
+					return false;
+
+			return true;
+		}
+
+		Route route(int[] root, int rootSize, double rootLength) {
+			int size = rootSize;
+
+			for (int v = target; parents[v] >= 0; v = arcSources[parents[v]])
+				size++;
+
+			int[] arcs = Arrays.copyOf(root, size);
+			int j = size;
+
+			for (int v = target; parents[v] >= 0; v = arcSources[parents[v]])
+				arcs[--j] = parents[v];
+
+			return new Route(arcs, rootLength + g[target], rootSize);
+		}
+	}
+}
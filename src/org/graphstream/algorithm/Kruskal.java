@@ -46,11 +46,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import org.graphstream.algorithm.util.DisjointSets;
+import org.graphstream.algorithm.util.IntDisjointSets;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Edge;
-import org.graphstream.graph.Node;
 
 /**
  * Compute a spanning tree using the Kruskal algorithm.
@@ -139,6 +138,18 @@ public class Kruskal extends AbstractSpanningTree {
 	 */
 	protected double treeWeight;
 
+	/**
+	 * Weight of each edge, by edge index. Only filled by the algorithms working
+	 * on edge indices, see {@link #cacheEdges()}.
+	 */
+	protected double[] weights;
+
+	/**
+	 * Indices of the two nodes of each edge: edge e goes from ends[2e] to
+	 * ends[2e+1].
+	 */
+	protected int[] ends;
+
 	/**
 	 * Create a new Kruskal's algorithm. Uses the default weight attribute and
 	 * does not tag the edges.
@@ -227,14 +238,11 @@ public class Kruskal extends AbstractSpanningTree {
 		List<Edge> sortedEdges = new ArrayList<Edge>(graph.edges().collect(Collectors.toList()));
 		Collections.sort(sortedEdges, new EdgeComparator());
 		
-		DisjointSets<Node> components = new DisjointSets<Node>(
-				graph.getNodeCount());
-		for (Node node : graph)
-			components.add(node);
+		IntDisjointSets components = new IntDisjointSets(graph.getNodeCount());
 				
 		treeWeight = 0;
 		for (Edge edge : sortedEdges)
-			if (components.union(edge.getNode0(), edge.getNode1())) {
+			if (components.union(edge.getNode0().getIndex(), edge.getNode1().getIndex())) {
 				treeEdges.add(edge);
 				edgeOn(edge);
 				treeWeight += getWeight(edge);
@@ -242,7 +250,6 @@ public class Kruskal extends AbstractSpanningTree {
 					break;
 			}
 		sortedEdges.clear();
-		components.clear();
 	}
 
 	@Override
@@ -281,6 +288,41 @@ public class Kruskal extends AbstractSpanningTree {
 		return w;
 	}
 
+	/**
+	 * Read the weight and the nodes of each edge once, in {@link #weights} and
+	 * {@link #ends}, so that edges can be handled by their index.
+	 */
+	protected void cacheEdges() {
+		int m = graph.getEdgeCount();
+
+		if (weights == null || weights.length != m) {
+			weights = new double[m];
+			ends = new int[2 * m];
+		}
+
+		for (int e = 0; e < m; e++) {
+			Edge edge = graph.getEdge(e);
+			weights[e] = getWeight(edge);
+			ends[2 * e] = edge.getNode0().getIndex();
+			ends[2 * e + 1] = edge.getNode1().getIndex();
+		}
+	}
+
+	/**
+	 * Compare two edges by their cached weight, then by their index, so that no
+	 * two edges are equal and the minimum spanning tree is unique.
+	 * 
+	 * @param e1
+	 *            index of an edge
+	 * @param e2
+	 *            index of an edge
+	 * @return true if {@code e1} is lighter than {@code e2}
+	 */
+	protected boolean lighter(int e1, int e2) {
+		return weights[e1] < weights[e2]
+				|| (weights[e1] == weights[e2] && e1 < e2);
+	}
+
 	@Result
 	public String defaultResult() {
 		//return getPath(graph.getNode(target));
@@ -0,0 +1,584 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.graphstream.algorithm.AStar.DefaultCosts;
+import org.graphstream.algorithm.util.IndexedPriorityQueue;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+
+/**
+ * Costs for {@link AStar} with a heuristic computed from landmarks (ALT).
+ * 
+ * <p>
+ * A few nodes of the graph, the landmarks, are chosen during a preprocessing
+ * step, and the shortest distances between each landmark and all the nodes are
+ * stored. For a landmark L, the triangle inequality gives the lower bounds
+ * d(v, t) &ge; d(L, t) - d(L, v) and d(v, t) &ge; d(v, L) - d(t, L). The
+ * heuristic is the best of these bounds over all the landmarks. It is
+ * admissible and consistent, so the paths found by A* remain the shortest
+ * ones, but it needs no coordinates and works on any graph with non-negative
+ * weights.
+ * </p>
+ * 
+ * <p>
+ * The edge costs are the ones of {@link DefaultCosts}, read from a weight
+ * attribute, one if the attribute is missing. The distances to the landmarks
+ * are only computed for graphs with directed edges, for other graphs they are
+ * the distances from the landmarks.
+ * </p>
+ * 
+ * <h2>Landmark selection</h2>
+ * 
+ * <ul>
+ * <li>{@link Strategy#FARTHEST}: each new landmark is the node farthest from
+ * the landmarks already chosen. Nodes unreachable from them are chosen first,
+ * so that each connected component gets a landmark.</li>
+ * <li>{@link Strategy#AVOID}: a shortest path tree is grown from a random
+ * node, each node is weighted by the gap between its distance from the root
+ * and the current lower bound, and the new landmark is the leaf reached by
+ * following the heaviest subtrees which contain no landmark. This chooses
+ * landmarks in the regions where the heuristic is the worst.</li>
+ * </ul>
+ * 
+ * <h2>Storage</h2>
+ * 
+ * <p>
+ * The distances are stored as floats in a single array, node by node, so that
+ * the bounds of a node are read from contiguous memory. Floats are rounded, so
+ * the bounds are lowered by the maximal rounding error and remain lower
+ * bounds. The tables can be written with {@link #write(OutputStream)} and read
+ * back with {@link #read(InputStream)} for the same graph, to avoid the
+ * preprocessing.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * LandmarkCosts costs = new LandmarkCosts(&quot;weight&quot;);
+ * costs.setLandmarkCount(16);
+ * costs.init(graph);
+ * costs.compute();
+ * 
+ * AStar astar = new AStar(graph);
+ * astar.setCosts(costs);
+ * astar.compute(&quot;A&quot;, &quot;Z&quot;);
+ * </pre>
+ * 
+ * @complexity The preprocessing runs one Dijkstra per landmark, O(k (m + n)
+ *             log n), two with {@link Strategy#AVOID} or on directed graphs.
+ *             The heuristic costs O(k) and the tables take 4kn bytes, 8kn on
+ *             directed graphs.
+ * @reference Goldberg, A. V. and Harrelson, C. (2005), "Computing the Shortest
+ *            Path: A* Search Meets Graph Theory", Proceedings of the 16th
+ *            ACM-SIAM Symposium on Discrete Algorithms, 156–165
+ */
+public class LandmarkCosts extends DefaultCosts implements Algorithm {
+	/**
+	 * First int of the binary format.
+	 */
+	public static final int MAGIC = 0x47534c4d;
+
+	/**
+	 * Landmark selection strategy.
+	 */
+	public static enum Strategy {
+		FARTHEST, AVOID
+	}
+
+	/**
+	 * Relative error of the distances stored as floats.
+	 */
+	protected static final double FLOAT_ERROR = 1e-7;
+
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Number of landmarks to choose.
+	 */
+	protected int landmarkCount = 16;
+
+	/**
+	 * Landmark selection strategy.
+	 */
+	protected Strategy strategy = Strategy.AVOID;
+
+	/**
+	 * Seed of the random choices.
+	 */
+	protected long seed = 0;
+
+	/**
+	 * Indices of the landmarks.
+	 */
+	protected int[] landmarks;
+
+	/**
+	 * Distance from landmark l to node v at index v * k + l, where k is the
+	 * number of landmarks.
+	 */
+	protected float[] from;
+
+	/**
+	 * Distance from node v to landmark l at index v * k + l, null if the graph
+	 * has no directed edge.
+	 */
+	protected float[] to;
+
+	/**
+	 * New landmark costs using the "weight" attribute.
+	 */
+	public LandmarkCosts() {
+		super();
+	}
+
+	/**
+	 * New landmark costs using the given weight attribute.
+	 * 
+	 * @param weightAttributeName
+	 *            The name of cost attributes on edges.
+	 */
+	public LandmarkCosts(String weightAttributeName) {
+		super(weightAttributeName);
+	}
+
+	/**
+	 * Set the number of landmarks. More landmarks give a better heuristic, but
+	 * cost more memory and a slower heuristic.
+	 * 
+	 * @param landmarkCount
+	 *            number of landmarks, 16 by default
+	 */
+	@Parameter
+	public void setLandmarkCount(int landmarkCount) {
+		if (landmarkCount < 1)
+			throw new IllegalArgumentException("at least one landmark needed");
+
+		this.landmarkCount = landmarkCount;
+	}
+
+	/**
+	 * Set the landmark selection strategy.
+	 * 
+	 * @param strategy
+	 *            the strategy, {@link Strategy#AVOID} by default
+	 */
+	@Parameter
+	public void setStrategy(Strategy strategy) {
+		this.strategy = strategy;
+	}
+
+	/**
+	 * Set the seed of the random choices of the selection.
+	 * 
+	 * @param seed
+	 *            the seed
+	 */
+	@Parameter
+	public void setRandomSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		this.graph = graph;
+		landmarks = null;
+		from = null;
+		to = null;
+	}
+
+	/**
+	 * Choose the landmarks and compute their distance tables.
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		int n = graph.getNodeCount();
+		int k = Math.min(landmarkCount, n);
+		boolean directed = graph.edges().anyMatch(Edge::isDirected);
+		Random random = new Random(seed);
+		double[] distances = new double[n];
+
+		landmarks = new int[k];
+		from = new float[n * k];
+		to = directed ? new float[n * k] : null;
+
+		for (int l = 0; l < k; l++) {
+			int landmark;
+
+			if (strategy == Strategy.FARTHEST)
+				landmark = farthest(l, random);
+			else
+				landmark = avoid(l, random);
+
+			landmarks[l] = landmark;
+
+			dijkstra(landmark, true, distances, null);
+			for (int v = 0; v < n; v++)
+				from[v * k + l] = (float) distances[v];
+
+			if (directed) {
+				dijkstra(landmark, false, distances, null);
+				for (int v = 0; v < n; v++)
+					to[v * k + l] = (float) distances[v];
+			}
+		}
+	}
+
+	/**
+	 * The landmarks chosen.
+	 * 
+	 * @return the landmarks
+	 */
+	public List<Node> getLandmarks() {
+		List<Node> nodes = new ArrayList<Node>(landmarks.length);
+
+		for (int l : landmarks)
+			nodes.add(graph.getNode(l));
+
+		return nodes;
+	}
+
+	/**
+	 * Lower bound of the distance between two nodes, given by the landmarks.
+	 * 
+	 * @see org.graphstream.algorithm.AStar.DefaultCosts#heuristic(org.graphstream
+	 *      .graph.Node, org.graphstream.graph.Node)
+	 */
+	@Override
+	public double heuristic(Node node, Node target) {
+		return lowerBound(node.getIndex(), target.getIndex());
+	}
+
+	/**
+	 * Lower bound of the distance between two nodes given by their index.
+	 * 
+	 * @param v
+	 *            index of the first node
+	 * @param t
+	 *            index of the second node
+	 * @return the lower bound
+	 */
+	protected double lowerBound(int v, int t) {
+		return lowerBound(v, t, landmarks.length);
+	}
+
+	/**
+	 * Difference of two distances stored as floats, lowered by their rounding
+	 * error.
+	 */
+	protected static double difference(float a, float b) {
+		if (a == Float.POSITIVE_INFINITY)
+			return b == Float.POSITIVE_INFINITY ? 0 : Double.POSITIVE_INFINITY;
+
+		if (b == Float.POSITIVE_INFINITY)
+			return 0;
+
+		return a - b - FLOAT_ERROR * (a + b);
+	}
+
+	/**
+	 * Farthest node from the landmarks already chosen.
+	 */
+	protected int farthest(int chosen, Random random) {
+		int n = graph.getNodeCount();
+		int k = landmarks.length;
+
+		if (chosen == 0) {
+			double[] distances = new double[n];
+			dijkstra(random.nextInt(n), true, distances, null);
+			return argMax(distances);
+		}
+
+		double[] closest = new double[n];
+
+		for (int v = 0; v < n; v++) {
+			closest[v] = Double.POSITIVE_INFINITY;
+
+			for (int l = 0; l < chosen; l++)
+				closest[v] = Math.min(closest[v], from[v * k + l]);
+		}
+
+		return argMax(closest);
+	}
+
+	/**
+	 * Leaf of the heaviest subtree without landmark of a shortest path tree
+	 * grown from a random node.
+	 */
+	protected int avoid(int chosen, Random random) {
+		int n = graph.getNodeCount();
+		int root = random.nextInt(n);
+		double[] distances = new double[n];
+		int[] parents = new int[n];
+		int[] order = dijkstra(root, true, distances, parents);
+
+		boolean[] landmark = new boolean[n];
+		for (int l = 0; l < chosen; l++)
+			landmark[landmarks[l]] = true;
+
+		//
+		// Sizes of the subtrees, in the reverse order of the search. A subtree
+		// containing a landmark has no size.
+		//
+		double[] sizes = new double[n];
+		boolean[] covered = new boolean[n];
+		int[] heaviest = new int[n];
+		Arrays.fill(heaviest, -1);
+
+		for (int i = order.length - 1; i >= 0; i--) {
+			int v = order[i];
+
+			if (landmark[v])
+				covered[v] = true;
+
+			if (covered[v])
+				sizes[v] = 0;
+			else
+				sizes[v] += distances[v] - (chosen == 0 ? 0 : lowerBound(root, v, chosen));
+
+			int p = parents[v];
+
+			if (p >= 0) {
+				if (covered[v])
+					covered[p] = true;
+				else {
+					sizes[p] += sizes[v];
+
+					if (heaviest[p] < 0 || sizes[v] > sizes[heaviest[p]])
+						heaviest[p] = v;
+				}
+			}
+		}
+
+		int v = root;
+
+		while (heaviest[v] >= 0 && !covered[heaviest[v]])
+			v = heaviest[v];
+
+		if (landmark[v])
+			v = farthest(chosen, random);
+
+		return v;
+	}
+
+	/**
+	 * Lower bound from the first landmarks only, used while choosing the next
+	 * one. On undirected graphs the distances from a landmark bound the
+	 * distance between two nodes in both directions.
+	 */
+	protected double lowerBound(int v, int t, int chosen) {
+		int k = landmarks.length;
+		double bound = 0;
+
+		for (int l = 0; l < chosen; l++) {
+			bound = Math.max(bound, difference(from[t * k + l], from[v * k + l]));
+
+			if (to != null)
+				bound = Math.max(bound, difference(to[v * k + l], to[t * k + l]));
+			else
+				bound = Math.max(bound, difference(from[v * k + l], from[t * k + l]));
+		}
+
+		return bound;
+	}
+
+	protected static int argMax(double[] values) {
+		int best = 0;
+
+		for (int v = 1; v < values.length; v++)
+			if (values[v] > values[best])
+				best = v;
+
+		return best;
+	}
+
+	/**
+	 * Shortest distances from a node, following the leaving edges, or to a
+	 * node, following the entering edges.
+	 * 
+	 * @param source
+	 *            index of the node
+	 * @param forward
+	 *            true for the distances from the node
+	 * @param distances
+	 *            filled with the distances, infinite for unreachable nodes
+	 * @param parents
+	 *            if not null, filled with the parent of each node in the
+	 *            shortest path tree, -1 for the source and unreachable nodes
+	 * @return the reached nodes, in the order they were settled
+	 */
+	protected int[] dijkstra(int source, boolean forward, double[] distances,
+			int[] parents) {
+		int n = graph.getNodeCount();
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(n);
+		int[] order = new int[n];
+		int settled = 0;
+
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+		if (parents != null)
+			Arrays.fill(parents, -1);
+
+		distances[source] = 0;
+		queue.add(source, 0);
+
+		while (!queue.isEmpty()) {
+			int u = queue.poll();
+			Node node = graph.getNode(u);
+			int degree = forward ? node.getOutDegree() : node.getInDegree();
+
+			order[settled++] = u;
+
+			for (int j = 0; j < degree; j++) {
+				Edge edge = forward ? node.getLeavingEdge(j) : node
+						.getEnteringEdge(j);
+				Node next = edge.getOpposite(node);
+				int v = next.getIndex();
+				double d = distances[u]
+						+ (forward ? cost(node, edge, next) : cost(next, edge,
+								node));
+
+				if (d < distances[v]) {
+					distances[v] = d;
+					queue.add(v, d);
+
+					if (parents != null)
+						parents[v] = u;
+				}
+			}
+		}
+
+		return Arrays.copyOf(order, settled);
+	}
+
+	/**
+	 * Write the landmarks and their tables in a binary format: the int
+	 * {@link #MAGIC}, the number of nodes, a hash of the node identifiers, the
+	 * number of landmarks, a byte telling if the graph is directed, the
+	 * landmark indices, then the distances.
+	 * 
+	 * @param out
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+				out));
+
+		data.writeInt(MAGIC);
+		data.writeInt(graph.getNodeCount());
+		data.writeInt(hashIdentifiers());
+		data.writeInt(landmarks.length);
+		data.writeByte(to == null ? 0 : 1);
+
+		for (int l : landmarks)
+			data.writeInt(l);
+		for (float d : from)
+			data.writeFloat(d);
+		if (to != null)
+			for (float d : to)
+				data.writeFloat(d);
+
+		data.flush();
+	}
+
+	/**
+	 * Read landmarks written by {@link #write(OutputStream)}, instead of
+	 * computing them. The graph given to {@link #init(Graph)} must have the
+	 * same nodes, with the same indices, as the one the landmarks were
+	 * computed on.
+	 * 
+	 * @param in
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be read, is not in the right format or
+	 *             was written for another graph
+	 */
+	public void read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+		if (data.readInt() != MAGIC)
+			throw new IOException("not a landmark table");
+
+		int n = data.readInt();
+
+		if (n != graph.getNodeCount() || data.readInt() != hashIdentifiers())
+			throw new IOException("landmarks computed for another graph");
+
+		int k = data.readInt();
+		boolean directed = data.readByte() != 0;
+
+		landmarks = new int[k];
+		from = new float[n * k];
+		to = directed ? new float[n * k] : null;
+
+		for (int l = 0; l < k; l++)
+			landmarks[l] = data.readInt();
+		for (int i = 0; i < from.length; i++)
+			from[i] = data.readFloat();
+		if (directed)
+			for (int i = 0; i < to.length; i++)
+				to[i] = data.readFloat();
+	}
+
+	/**
+	 * Hash of the node identifiers, in index order.
+	 */
+	protected int hashIdentifiers() {
+		int hash = 1;
+
+		for (int v = 0; v < graph.getNodeCount(); v++)
+			hash = 31 * hash + graph.getNode(v).getId().hashCode();
+
+		return hash;
+	}
+}
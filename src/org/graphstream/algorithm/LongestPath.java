@@ -31,17 +31,25 @@ package org.graphstream.algorithm;
 
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
-import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
 import org.graphstream.graph.Path;
 
-import java.util.*;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Implementation of longest path algorithm in a DAG (directed acyclic graph) using topologicalSort
+ * Implementation of longest path algorithm in a DAG (directed acyclic graph).
  *
- * @complexity yet to be calculated
+ * <p>
+ * The path is computed by a {@link CriticalPath} where nodes last zero, which
+ * does not copy the graph. If an edge has no weight, all edges weigh one and
+ * the value of the path is its number of edges.
+ * </p>
+ *
+ * @complexity O(n + m)
  */
 public class LongestPath implements Algorithm {
 
@@ -56,14 +64,14 @@ public class LongestPath implements Algorithm {
     private Graph graph;
 
     /**
-     * map with all nodes and there distance from starting point
+     * calculated longest path
      */
-    private Map<Node, Double> distanceMap;
+    private List<Node> longestPath;
 
     /**
-     * calculated longest path
+     * calculated longest path, with its edges
      */
-    private List<Node> longestPath;
+    private Path path;
 
     /**
      * node and value at the end of the longest path
@@ -82,56 +90,31 @@ public class LongestPath implements Algorithm {
 
     public void init(Graph theGraph) {
         graph = theGraph;
-        distanceMap = new HashMap<>();
         longestPath = new ArrayList<>();
     }
 
     public void compute() {
         initializeAlgorithm();
-        TopologicalSortDFS aTopoSortAlgorithm = new TopologicalSortDFS();
-        aTopoSortAlgorithm.init(graph);
-        aTopoSortAlgorithm.compute();
-        fillDistanceMap(aTopoSortAlgorithm.getSortedNodes());
-        longestPathNode = distanceMap.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
-        if(longestPathNode == null){
-            throw new IllegalStateException("No max node found!");
+        CriticalPath aCriticalPath = new CriticalPath();
+        aCriticalPath.setWeightAttribute(weighted ? getWeightAttribute() : null);
+        aCriticalPath.setDefaultWeight(1);
+        aCriticalPath.init(graph);
+        try {
+            aCriticalPath.compute();
+            Node aLastNode = aCriticalPath.getLastNode();
+            if (aLastNode == null) {
+                throw new IllegalStateException("No max node found!");
+            }
+            longestPathNode = new AbstractMap.SimpleEntry<>(aLastNode, aCriticalPath.getLength());
+            path = aCriticalPath.getCriticalPath();
+        } finally {
+            aCriticalPath.terminate();
         }
-        longestPath.add(longestPathNode.getKey());
-        getMaxNeighbor(longestPathNode.getKey());
-        Collections.reverse(longestPath);
-    }
-
-    private void fillDistanceMap(List<Node> theSortedArray) {
-        for (Node aNode : theSortedArray) {
-            aNode.enteringEdges().forEach(anEdge -> {
-                Node aSourceNode = anEdge.getSourceNode();
-                Node aTargetNode = anEdge.getTargetNode();
-                double aWeight = weighted ? anEdge.getNumber(getWeightAttribute()) : 1;
-                Double aMaxDistance = Math.max(distanceMap.get(aTargetNode), distanceMap.get(aSourceNode) + aWeight);
-                distanceMap.put(aTargetNode, aMaxDistance);
-            });
-        }
-    }
-
-    private void getMaxNeighbor(Node theNode) {
-        Optional<Edge> optionalEdge = theNode.enteringEdges()
-                .max(Comparator.comparingDouble(anEdge -> distanceMap.get(anEdge.getSourceNode())));
-        optionalEdge.ifPresent(edge -> {
-            longestPath.add(edge.getSourceNode());
-            getMaxNeighbor(edge.getSourceNode());
-        });
+        longestPath = new ArrayList<>(path.getNodePath());
     }
 
     private void initializeAlgorithm() {
-        graph.nodes().forEach(aNode -> {
-            aNode.edges().forEach(anEdge -> {
-                double aWeight = anEdge.getNumber(getWeightAttribute());
-                if (Double.isNaN(aWeight)) {
-                    weighted = false;
-                }
-            });
-            distanceMap.put(aNode, 0.0);
-        });
+        weighted = graph.edges().noneMatch(anEdge -> Double.isNaN(anEdge.getNumber(getWeightAttribute())));
     }
 
     /**
@@ -148,16 +131,6 @@ public class LongestPath implements Algorithm {
      * @return longest path
      */
     public Path getLongestPath() {
-        Path path = new Path();
-        for (int i = 0; i < longestPath.size()-1; i++) {
-            Node aSourceNode = longestPath.get(i);
-            Node aTargetNode = longestPath.get(i+1);
-            Optional<Edge> anEdge = graph.edges()
-                    .filter(aNode -> aNode.getSourceNode().equals(aSourceNode))
-                    .filter(aNode -> aNode.getTargetNode().equals(aTargetNode))
-                    .findAny();
-            anEdge.ifPresent(edge -> path.add(aSourceNode, edge));
-        }
         return path;
     }
     
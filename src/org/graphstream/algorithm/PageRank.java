@@ -34,6 +34,7 @@ package org.graphstream.algorithm;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.graphstream.algorithm.util.GraphDelta;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Graph;
@@ -79,6 +80,14 @@ import org.graphstream.stream.ElementSink;
  * </p>
  * 
  * <p>
+ * In batch mode (see {@link #setBatchMode(boolean)}), the events of the graph
+ * are coalesced between two steps by a {@link GraphDelta} and the ranks are
+ * adjusted once per step: the rank of the removed nodes is shared between all
+ * the nodes in a single pass, instead of a pass for each removed node. Nodes
+ * and edges added and removed during the same step are ignored.
+ * </p>
+ * 
+ * <p>
  * The computed ranks are stored in node attribute. The name of this attribute
  * can be changed by a call to {@link #setRankAttribute(String)} but only before
  * the call to {@link #init(Graph)}. Another way to obtain the ranks is to call
@@ -186,6 +195,16 @@ public class PageRank implements DynamicAlgorithm, ElementSink {
 	 */
 	protected boolean verbose;
 
+	/**
+	 * Flag used to adjust the ranks once per step
+	 */
+	protected boolean batchMode = false;
+
+	/**
+	 * Buffer of the graph events in batch mode
+	 */
+	protected GraphDelta delta;
+
 	/**
 	 * Creates a new instance.
 	 * 
@@ -311,11 +330,34 @@ public class PageRank implements DynamicAlgorithm, ElementSink {
 		this.verbose = verbose;
 	}
 
+	/**
+	 * Switches on or off the batch mode.
+	 * 
+	 * In batch mode the events of the graph are buffered until the next step,
+	 * or until the ranks are asked for, and the ranks are adjusted once for all
+	 * of them.
+	 * 
+	 * @param batchMode
+	 *            Batch mode
+	 */
+	@Parameter
+	public void setBatchMode(boolean batchMode) {
+		if (batchMode != this.batchMode) {
+			if (graph != null)
+				detach();
+
+			this.batchMode = batchMode;
+
+			if (graph != null)
+				attach();
+		}
+	}
+
 	// DynamicAlgorithm implementation
 
 	public void init(Graph graph) {
 		this.graph = graph;
-		graph.addElementSink(this);
+		attach();
 		double initialRank = 1.0 / graph.getNodeCount();
 		
 		graph.nodes().forEach(node -> node.setAttribute(rankAttribute, initialRank));
@@ -326,6 +368,8 @@ public class PageRank implements DynamicAlgorithm, ElementSink {
 	}
 
 	public void compute() {
+		if (delta != null)
+			delta.flush();
 		if (upToDate)
 			return;
 		do {
@@ -337,7 +381,7 @@ public class PageRank implements DynamicAlgorithm, ElementSink {
 	}
 
 	public void terminate() {
-		graph.removeElementSink(this);
+		detach();
 		newRanks.clear();
 		newRanks = null;
 		graph = null;
@@ -392,6 +436,56 @@ public class PageRank implements DynamicAlgorithm, ElementSink {
 
 	// helpers
 
+	protected void attach() {
+		if (batchMode) {
+			delta = new GraphDelta(graph, this::applyDelta);
+			delta.attach();
+		} else {
+			graph.addElementSink(this);
+		}
+	}
+
+	protected void detach() {
+		if (delta != null) {
+			delta.detach();
+			delta = null;
+		} else {
+			graph.removeElementSink(this);
+		}
+	}
+
+	/**
+	 * Adjusts the ranks after the changes of a step. New nodes have a rank of
+	 * 0 and the rank of the removed nodes is shared equally between all the
+	 * nodes, so that the ranks still sum up to one.
+	 * 
+	 * @param d
+	 *            The changes of the step
+	 */
+	protected void applyDelta(GraphDelta d) {
+		if (!d.hasStructuralChanges())
+			return;
+
+		for (Node node : d.getAddedNodes())
+			node.setAttribute(rankAttribute, 0.0);
+
+		int n = graph.getNodeCount();
+		double sum = graph.nodes()
+				.mapToDouble(node -> node.getNumber(rankAttribute)).sum();
+
+		if (sum > 0) {
+			double part = (1 - sum) / n;
+			graph.nodes().forEach(node -> node.setAttribute(rankAttribute,
+					node.getNumber(rankAttribute) + part));
+		} else {
+			// only new nodes, start from the uniform ranks
+			graph.nodes().forEach(node -> node.setAttribute(rankAttribute,
+					1.0 / n));
+		}
+
+		upToDate = n == 0;
+	}
+
 	protected void iteration() {
 		double dampingTerm = (1 - dampingFactor) / graph.getNodeCount();
 		newRanks.clear();
@@ -30,27 +30,190 @@
  */
 package org.graphstream.algorithm;
 
+import java.util.Arrays;
 import java.util.StringJoiner;
 
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.EigenDecomposition;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.graphstream.algorithm.generator.BarabasiAlbertGenerator;
+import org.graphstream.algorithm.util.LanczosEigenSolver;
+import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.implementations.AdjacencyListGraph;
 
+/**
+ * Eigenvalues and eigenvectors of the adjacency matrix or of the Laplacian
+ * matrix of a graph.
+ * 
+ * <p>
+ * By default, the whole spectrum is computed with a dense eigen decomposition.
+ * This needs O(n<sup>2</sup>) memory and O(n<sup>3</sup>) time, so it is only
+ * usable on small graphs. When an eigenvalue count k is given with
+ * {@link #setEigenvalueCount(int)}, only the k largest and the k smallest
+ * eigenvalues are computed, with the sparse Lanczos solver of
+ * {@link LanczosEigenSolver}. The matrix is then never built: only the
+ * adjacency lists of the graph are stored, and the memory used is O(m + kn).
+ * </p>
+ * 
+ * <p>
+ * The sparse mode considers the graph as undirected and sums the weights of
+ * parallel edges. The dense mode keeps the historical behavior on the
+ * adjacency matrix: the entry (i, j) is the weight of the edge going from the
+ * i-th node toward the j-th node, if any.
+ * </p>
+ * 
+ * <h2>Spectral measures</h2>
+ * 
+ * <p>
+ * Some often used spectral measures are available whatever the mode. They are
+ * computed with the sparse solver when first asked, and reset by
+ * {@link #compute()}:
+ * </p>
+ * <ul>
+ * <li>{@link #getSpectralRadius()}, the largest eigenvalue of the adjacency
+ * matrix;</li>
+ * <li>{@link #getSpectralGap()}, the difference between the two largest
+ * eigenvalues of the adjacency matrix;</li>
+ * <li>{@link #getAlgebraicConnectivity()}, the second smallest eigenvalue of the
+ * Laplacian matrix, which is zero when the graph is not connected;</li>
+ * <li>{@link #getFiedlerVector()}, the eigenvector of the Laplacian associated
+ * to the algebraic connectivity, whose entries are indexed by node index.</li>
+ * </ul>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * Spectrum spectrum = new Spectrum();
+ * spectrum.setEigenvalueCount(5);
+ * spectrum.init(graph);
+ * spectrum.compute();
+ * 
+ * System.out.printf(&quot;radius %f, gap %f, connectivity %f%n&quot;,
+ * 		spectrum.getSpectralRadius(), spectrum.getSpectralGap(),
+ * 		spectrum.getAlgebraicConnectivity());
+ * </pre>
+ * 
+ * @complexity O(n<sup>3</sup>) in the dense mode. In the sparse mode, each
+ *             iteration of the Lanczos solver costs O(m + pn) where p is the
+ *             dimension of the Krylov subspace.
+ */
 public class Spectrum implements Algorithm {
 
 	public static enum EigenValuesAlgorithm {
 		POWER_ITERATION, INVERSE_ITERATION
 	}
 
+	/**
+	 * The matrix whose eigenvalues are computed.
+	 */
+	public static enum MatrixType {
+		/**
+		 * The adjacency matrix A.
+		 */
+		ADJACENCY,
+		/**
+		 * The Laplacian matrix L = D - A where D is the diagonal matrix of the
+		 * degrees.
+		 */
+		LAPLACIAN
+	}
+
 	protected EigenValuesAlgorithm mode;
 	protected Graph graph;
 	protected EigenDecomposition decomposition;
 
+	/**
+	 * The matrix used by {@link #compute()}.
+	 */
+	protected MatrixType matrixType = MatrixType.ADJACENCY;
+
+	/**
+	 * Number of eigenvalues computed at each end of the spectrum, or zero to
+	 * compute the whole spectrum.
+	 */
+	protected int eigenvalueCount = 0;
+
+	/**
+	 * Optional edge attribute holding the weight of the edges.
+	 */
+	protected String weightAttribute = null;
+
+	/**
+	 * Tolerance of the sparse solver.
+	 */
+	protected double tolerance = LanczosEigenSolver.DEFAULT_TOLERANCE;
+
+	/**
+	 * Eigenvalues computed in the sparse mode, in descending order.
+	 */
+	protected double[] eigenvalues;
+
+	/**
+	 * Eigenvectors computed in the sparse mode.
+	 */
+	protected double[][] eigenvectors;
+
+	/**
+	 * Sparse view of the graph, built by {@link #compute()}.
+	 */
+	protected GraphMatrix matrix;
+
+	protected double[] adjacencyTop;
+	protected double algebraicConnectivity;
+	protected double[] fiedlerVector;
+
+	/**
+	 * Set the matrix whose eigenvalues are computed. Default is the adjacency
+	 * matrix.
+	 * 
+	 * @param matrixType
+	 *            the matrix type
+	 */
+	@Parameter
+	public void setMatrixType(MatrixType matrixType) {
+		this.matrixType = matrixType;
+	}
+
+	/**
+	 * Compute only the k largest and the k smallest eigenvalues, using the
+	 * sparse solver. A value of zero or less computes the whole spectrum with a
+	 * dense decomposition, which is the default.
+	 * 
+	 * @param k
+	 *            number of eigenvalues computed at each end of the spectrum
+	 */
+	@Parameter
+	public void setEigenvalueCount(int k) {
+		this.eigenvalueCount = k;
+	}
+
+	/**
+	 * Set the edge attribute holding the weight of the edges. Edges without
+	 * this attribute have a weight of one.
+	 * 
+	 * @param weightAttribute
+	 *            the weight attribute, or null for unweighted graphs
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Relative tolerance on the residual of the eigenpairs computed by the
+	 * sparse solver.
+	 * 
+	 * @param tolerance
+	 *            the tolerance
+	 */
+	@Parameter
+	public void setTolerance(double tolerance) {
+		this.tolerance = tolerance;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -73,38 +236,83 @@ public class Spectrum implements Algorithm {
 		if (graph == null)
 			throw new NotInitializedException(this);
 
-		int m = graph.getNodeCount();
-		RealMatrix a = new Array2DRowRealMatrix(m, m);
-		Edge e;
+		decomposition = null;
+		eigenvalues = null;
+		eigenvectors = null;
+		adjacencyTop = null;
+		fiedlerVector = null;
+		matrix = new GraphMatrix();
+
+		if (eigenvalueCount > 0) {
+			LanczosEigenSolver solver = solver(
+					matrixType == MatrixType.LAPLACIAN, false);
+			solver.solve(eigenvalueCount, eigenvalueCount);
+
+			eigenvalues = solver.getEigenvalues();
+			eigenvectors = solver.getEigenvectors();
+		} else {
+			int m = graph.getNodeCount();
+			RealMatrix a = new Array2DRowRealMatrix(m, m);
+
+			if (matrixType == MatrixType.LAPLACIAN) {
+				// Parallel edges add up, as in the degrees.
+				for (int i = 0; i < m; i++) {
+					a.addToEntry(i, i, matrix.degree[i]);
 
-		for (int idx1 = 0; idx1 < m; idx1++)
-			for (int idx2 = 0; idx2 < m; idx2++) {
-				e = graph.getNode(idx1).getEdgeToward(idx2);
-				a.setEntry(idx1, idx2, e != null ? 1 : 0);
+					for (int k = matrix.start[i]; k < matrix.start[i + 1]; k++)
+						a.addToEntry(i, matrix.neighbors[k], -matrix.weights[k]);
+				}
+			} else {
+				graph.edges().forEach(e -> {
+					int i = e.getSourceNode().getIndex();
+					int j = e.getTargetNode().getIndex();
+					double w = weight(e);
+
+					a.addToEntry(i, j, w);
+
+					if (!e.isDirected() && i != j)
+						a.addToEntry(j, i, w);
+				});
 			}
 
-		decomposition = new EigenDecomposition(a, 0);
+			decomposition = new EigenDecomposition(a, 0);
+		}
 	}
 
 	public int getEigenvaluesCount() {
-		double[] values = decomposition.getRealEigenvalues();
+		double[] values = getEigenvalues();
 		return values == null ? 0 : values.length;
 	}
 
 	public double getEigenvalue(int i) {
+		if (decomposition == null)
+			return eigenvalues[i];
+
 		return decomposition.getRealEigenvalue(i);
 	}
 
+	/**
+	 * The eigenvalues computed. In the sparse mode, these are the k largest
+	 * followed by the k smallest, in descending order.
+	 * 
+	 * @return the eigenvalues
+	 */
 	public double[] getEigenvalues() {
+		if (decomposition == null)
+			return eigenvalues;
+
 		return decomposition.getRealEigenvalues();
 	}
 	
 	public double[] getEigenvector(int i) {
+		if (decomposition == null)
+			return eigenvectors[i];
+
 		return decomposition.getEigenvector(i).toArray();
 	}
 
 	public double getLargestEigenvalue() {
-		double[] values = decomposition.getRealEigenvalues();
+		double[] values = getEigenvalues();
 		double max = Double.MIN_VALUE;
 
 		if (values != null)
@@ -114,6 +322,53 @@ public class Spectrum implements Algorithm {
 		return max;
 	}
 
+	/**
+	 * The spectral radius of the graph, that is the largest eigenvalue of its
+	 * adjacency matrix.
+	 * 
+	 * @return the spectral radius
+	 */
+	public double getSpectralRadius() {
+		double[] top = adjacencyTop();
+		return top.length > 0 ? top[0] : 0;
+	}
+
+	/**
+	 * The spectral gap of the graph, that is the difference between the two
+	 * largest eigenvalues of its adjacency matrix.
+	 * 
+	 * @return the spectral gap
+	 */
+	public double getSpectralGap() {
+		double[] top = adjacencyTop();
+		return top.length > 1 ? top[0] - top[1] : 0;
+	}
+
+	/**
+	 * The algebraic connectivity of the graph, that is the second smallest
+	 * eigenvalue of its Laplacian matrix. It is zero if and only if the graph
+	 * is not connected.
+	 * 
+	 * @return the algebraic connectivity
+	 */
+	public double getAlgebraicConnectivity() {
+		computeFiedler();
+		return algebraicConnectivity;
+	}
+
+	/**
+	 * The Fiedler vector of the graph, that is an eigenvector of the Laplacian
+	 * matrix associated to the algebraic connectivity. The i-th entry is
+	 * associated to the node of index i. The sign of the entries splits the
+	 * graph in two parts with few edges between them.
+	 * 
+	 * @return the Fiedler vector
+	 */
+	public double[] getFiedlerVector() {
+		computeFiedler();
+		return fiedlerVector;
+	}
+
 	@Result
 	public String defaultResult() {
 		//return getPath(graph.getNode(target));
@@ -126,6 +381,170 @@ public class Spectrum implements Algorithm {
 		
 		return sj.toString();
 	}
+
+	protected double weight(Edge e) {
+		if (weightAttribute != null && e.hasNumber(weightAttribute))
+			return e.getNumber(weightAttribute);
+
+		return 1;
+	}
+
+	/**
+	 * The two largest eigenvalues of the adjacency matrix.
+	 */
+	protected double[] adjacencyTop() {
+		checkComputed();
+
+		if (adjacencyTop == null) {
+			if (matrixType == MatrixType.ADJACENCY && getEigenvaluesCount() > 0
+					&& (decomposition != null || eigenvalueCount >= 2)) {
+				double[] values = getEigenvalues().clone();
+				Arrays.sort(values);
+
+				int n = values.length;
+				adjacencyTop = n > 1 ? new double[] { values[n - 1],
+						values[n - 2] } : new double[] { values[0] };
+			} else {
+				LanczosEigenSolver solver = solver(false, false);
+				solver.solve(2, 0);
+				adjacencyTop = solver.getEigenvalues();
+			}
+		}
+
+		return adjacencyTop;
+	}
+
+	protected void computeFiedler() {
+		checkComputed();
+
+		if (fiedlerVector == null) {
+			int n = graph.getNodeCount();
+
+			if (n < 2) {
+				algebraicConnectivity = 0;
+				fiedlerVector = new double[n];
+			} else {
+				LanczosEigenSolver solver = solver(true, true);
+				solver.solve(0, 1);
+
+				algebraicConnectivity = Math.max(0,
+						solver.getEigenvalues()[0]);
+				fiedlerVector = solver.getEigenvectors()[0];
+			}
+		}
+	}
+
+	protected void checkComputed() {
+		if (matrix == null)
+			compute();
+	}
+
+	/**
+	 * Sparse solver on the adjacency or Laplacian matrix. For the Laplacian,
+	 * the constant eigenvector can be removed from the search space.
+	 */
+	protected LanczosEigenSolver solver(boolean laplacian,
+			boolean deflateConstant) {
+		LanczosEigenSolver solver = new LanczosEigenSolver(
+				laplacian ? matrix.laplacian() : matrix);
+		solver.setTolerance(tolerance);
+
+		if (deflateConstant) {
+			int n = matrix.size();
+			double[] ones = new double[n];
+
+			Arrays.fill(ones, 1 / Math.sqrt(n));
+			solver.setDeflation(new double[][] { ones });
+		}
+
+		return solver;
+	}
+
+	/**
+	 * The adjacency matrix of the graph stored as compressed rows. The graph
+	 * is considered as undirected.
+	 */
+	protected class GraphMatrix implements LanczosEigenSolver.Operator {
+		int[] start;
+		int[] neighbors;
+		double[] weights;
+		double[] loops;
+		double[] degree;
+
+		GraphMatrix() {
+			int n = graph.getNodeCount();
+
+			start = new int[n + 1];
+			loops = new double[n];
+			degree = new double[n];
+
+			graph.edges().filter(e -> !e.isLoop()).forEach(e -> {
+				start[e.getNode0().getIndex() + 1]++;
+				start[e.getNode1().getIndex() + 1]++;
+			});
+
+			for (int i = 0; i < n; i++)
+				start[i + 1] += start[i];
+
+			int[] next = Arrays.copyOf(start, n);
+			neighbors = new int[start[n]];
+			weights = new double[start[n]];
+
+			graph.edges().forEach(e -> {
+				int i = e.getNode0().getIndex();
+				int j = e.getNode1().getIndex();
+				double w = weight(e);
+
+				if (i == j) {
+					loops[i] += w;
+				} else {
+					neighbors[next[i]] = j;
+					weights[next[i]++] = w;
+					neighbors[next[j]] = i;
+					weights[next[j]++] = w;
+					degree[i] += w;
+					degree[j] += w;
+				}
+			});
+		}
+
+		public int size() {
+			return loops.length;
+		}
+
+		public void multiply(double[] x, double[] y) {
+			for (int i = 0; i < loops.length; i++) {
+				double s = loops[i] * x[i];
+
+				for (int k = start[i]; k < start[i + 1]; k++)
+					s += weights[k] * x[neighbors[k]];
+
+				y[i] = s;
+			}
+		}
+
+		/**
+		 * The Laplacian matrix D - A, loops being ignored.
+		 */
+		LanczosEigenSolver.Operator laplacian() {
+			return new LanczosEigenSolver.Operator() {
+				public int size() {
+					return loops.length;
+				}
+
+				public void multiply(double[] x, double[] y) {
+					for (int i = 0; i < loops.length; i++) {
+						double s = degree[i] * x[i];
+
+						for (int k = start[i]; k < start[i + 1]; k++)
+							s -= weights[k] * x[neighbors[k]];
+
+						y[i] = s;
+					}
+				}
+			};
+		}
+	}
 	
 	public static void main(String... args) {
 		Graph g = new AdjacencyListGraph("g");
@@ -0,0 +1,493 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.graphstream.algorithm.util.IndexedPriorityQueue;
+import org.graphstream.algorithm.util.IntDisjointSets;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+
+/**
+ * Global minimum cut of a graph, with the Stoer-Wagner algorithm.
+ * 
+ * <p>
+ * A cut splits the nodes in two non-empty parts, and its weight is the sum of
+ * the weights of the edges between the two parts. Without weights, the weight
+ * of the minimum cut is the edge connectivity of the graph, the minimum number
+ * of edges whose removal disconnects it. The direction of the edges is
+ * ignored.
+ * </p>
+ * 
+ * <p>
+ * Each phase of the algorithm adds the nodes one by one to a set, choosing
+ * the node the most tightly connected to the set. The cut between the last
+ * node added and the others is a minimum cut between the last two nodes
+ * added, which are then merged. The best of these n - 1 cuts is a global
+ * minimum cut. No flow is computed. The merged nodes are kept in disjoint
+ * sets, and the edges between the merged nodes are aggregated each time the
+ * number of nodes is halved, so that the phases become faster as the graph
+ * shrinks.
+ * </p>
+ * 
+ * <p>
+ * Edge weights are read from the weight attribute, one if missing, and must be
+ * non-negative. If the weight attribute is null, each edge counts for one.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * StoerWagner minCut = new StoerWagner();
+ * minCut.init(graph);
+ * minCut.compute();
+ * 
+ * System.out.printf(&quot;%d edges: %s%n&quot;, (int) minCut.getCutWeight(),
+ * 		minCut.getCutEdges());
+ * </pre>
+ * 
+ * @complexity O(n (m + n) log n) in the worst case, where n is the number of
+ *             nodes and m the number of edges
+ * @reference Stoer, M.; Wagner, F. (1997). "A simple min-cut algorithm".
+ *            Journal of the ACM 44 (4): 585–591
+ */
+public class StoerWagner implements Algorithm {
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Attribute where the weights of the edges are stored, null to count the
+	 * edges.
+	 */
+	protected String weightAttribute;
+
+	/**
+	 * Weight of the minimum cut.
+	 */
+	protected double cutWeight;
+
+	/**
+	 * Nodes of one side of the minimum cut, by index.
+	 */
+	protected boolean[] side;
+
+	//
+	// State of the computation. The nodes of the current graph, which can be
+	// a smaller graph where some nodes were merged, are grouped in disjoint
+	// sets. Each set is a node of the algorithm.
+	//
+
+	protected int[] offsets, targets;
+	protected double[] weights;
+	protected IntDisjointSets sets;
+
+	/**
+	 * Nodes of the current graph of each set, as linked lists.
+	 */
+	protected int[] membersHead, membersTail, membersNext;
+
+	/**
+	 * A node of the graph in each node of the current graph.
+	 */
+	protected int[] origins;
+
+	/**
+	 * The roots of the sets, with the position of each one.
+	 */
+	protected int[] alive, positions;
+	protected int aliveCount;
+
+	/**
+	 * Merges made, as pairs of nodes of the graph.
+	 */
+	protected int[] merges;
+	protected int mergeCount;
+
+	/**
+	 * New algorithm counting the edges.
+	 */
+	public StoerWagner() {
+		this(null);
+	}
+
+	/**
+	 * New algorithm using the given weight attribute.
+	 * 
+	 * @param weightAttribute
+	 *            attribute where the weights of the edges are stored, null to
+	 *            count the edges
+	 */
+	public StoerWagner(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Set the attribute where the weights of the edges are stored.
+	 * 
+	 * @param weightAttribute
+	 *            the weight attribute, null to count the edges
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		this.graph = graph;
+		this.side = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		int n = graph.getNodeCount();
+
+		side = new boolean[n];
+		cutWeight = 0;
+
+		if (n < 2)
+			return;
+
+		IntDisjointSets components = new IntDisjointSets(n);
+
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			Edge edge = graph.getEdge(e);
+			components.union(edge.getNode0().getIndex(), edge.getNode1()
+					.getIndex());
+		}
+
+		if (components.getSetCount() > 1) {
+			for (int v = 0; v < n; v++)
+				side[v] = components.inSameSet(v, 0);
+
+			return;
+		}
+
+		build(n);
+
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(n);
+		int[] added = new int[n];
+		int stamp = 0;
+		int bestMerges = 0, bestNode = -1;
+
+		merges = new int[2 * (n - 1)];
+		mergeCount = 0;
+		cutWeight = Double.POSITIVE_INFINITY;
+
+		while (aliveCount > 1) {
+			if (aliveCount <= offsets.length / 2 && aliveCount > 16)
+				compact();
+
+			//
+			// Maximum adjacency ordering.
+			//
+
+			stamp++;
+			queue.clear();
+
+			int previous = -1, last = alive[0];
+			double lastWeight = 0;
+
+			added[last] = stamp;
+			scan(last, queue, added, stamp);
+
+			for (int i = 1; i < aliveCount; i++) {
+				int x = queue.poll();
+
+				previous = last;
+				last = x;
+				lastWeight = -queue.getKey1(x);
+				added[x] = stamp;
+
+				if (i < aliveCount - 1)
+					scan(x, queue, added, stamp);
+			}
+
+			if (lastWeight < cutWeight) {
+				cutWeight = lastWeight;
+				bestMerges = mergeCount;
+				bestNode = origins[last];
+			}
+
+			merge(previous, last);
+		}
+
+		//
+		// The side of the best cut is the node merged when it was found.
+		//
+
+		IntDisjointSets replay = new IntDisjointSets(n);
+
+		for (int k = 0; k < bestMerges; k++)
+			replay.union(merges[2 * k], merges[2 * k + 1]);
+
+		for (int v = 0; v < n; v++)
+			side[v] = replay.inSameSet(v, bestNode);
+
+		offsets = targets = null;
+		weights = null;
+	}
+
+	/**
+	 * Weight of the minimum cut, the edge connectivity if edges are counted.
+	 * 
+	 * @return the weight, zero if the graph is not connected or has less than
+	 *         two nodes
+	 */
+	@Result
+	public double getCutWeight() {
+		return cutWeight;
+	}
+
+	/**
+	 * Nodes of one side of the minimum cut.
+	 * 
+	 * @return the nodes
+	 */
+	public List<Node> getPartition() {
+		ArrayList<Node> nodes = new ArrayList<Node>();
+
+		for (int v = 0; v < side.length; v++)
+			if (side[v])
+				nodes.add(graph.getNode(v));
+
+		return nodes;
+	}
+
+	/**
+	 * Check if a node is on the side of the minimum cut given by
+	 * {@link #getPartition()}.
+	 * 
+	 * @param node
+	 *            a node
+	 * @return true if it is in the partition
+	 */
+	public boolean isInPartition(Node node) {
+		return side[node.getIndex()];
+	}
+
+	/**
+	 * Edges of the minimum cut, whose removal disconnects the graph.
+	 * 
+	 * @return the edges
+	 */
+	public List<Edge> getCutEdges() {
+		ArrayList<Edge> edges = new ArrayList<Edge>();
+
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			Edge edge = graph.getEdge(e);
+
+			if (side[edge.getNode0().getIndex()] != side[edge.getNode1()
+					.getIndex()])
+				edges.add(edge);
+		}
+
+		return edges;
+	}
+
+	protected double getWeight(Edge edge) {
+		double w = weightAttribute == null ? Double.NaN : edge
+				.getNumber(weightAttribute);
+
+		return Double.isNaN(w) ? 1 : w;
+	}
+
+	/**
+	 * Current graph made of the graph itself.
+	 */
+	protected void build(int n) {
+		int m = graph.getEdgeCount();
+
+		offsets = new int[n + 1];
+
+		for (int e = 0; e < m; e++) {
+			Edge edge = graph.getEdge(e);
+			int u = edge.getNode0().getIndex(), v = edge.getNode1().getIndex();
+
+			if (u != v) {
+				offsets[u + 1]++;
+				offsets[v + 1]++;
+			}
+		}
+
+		for (int v = 0; v < n; v++)
+			offsets[v + 1] += offsets[v];
+
+		targets = new int[offsets[n]];
+		weights = new double[offsets[n]];
+
+		int[] fill = new int[n];
+
+		for (int e = 0; e < m; e++) {
+			Edge edge = graph.getEdge(e);
+			int u = edge.getNode0().getIndex(), v = edge.getNode1().getIndex();
+			double w = getWeight(edge);
+
+			if (u != v) {
+				targets[offsets[u] + fill[u]] = v;
+				weights[offsets[u] + fill[u]++] = w;
+				targets[offsets[v] + fill[v]] = u;
+				weights[offsets[v] + fill[v]++] = w;
+			}
+		}
+
+		origins = new int[n];
+
+		for (int v = 0; v < n; v++)
+			origins[v] = v;
+
+		reset(n);
+	}
+
+	/**
+	 * One set for each node of the current graph.
+	 */
+	protected void reset(int n) {
+		sets = new IntDisjointSets(n);
+		membersHead = new int[n];
+		membersTail = new int[n];
+		membersNext = new int[n];
+		alive = new int[n];
+		positions = new int[n];
+		aliveCount = n;
+
+		for (int v = 0; v < n; v++) {
+			membersHead[v] = membersTail[v] = v;
+			membersNext[v] = -1;
+			alive[v] = positions[v] = v;
+		}
+	}
+
+	/**
+	 * Increase the connection to the set of the nodes adjacent to a node just
+	 * added to it.
+	 */
+	protected void scan(int x, IndexedPriorityQueue queue, int[] added,
+			int stamp) {
+		for (int c = membersHead[x]; c >= 0; c = membersNext[c])
+			for (int j = offsets[c]; j < offsets[c + 1]; j++) {
+				int y = sets.find(targets[j]);
+
+				if (y != x && added[y] != stamp)
+					queue.add(y, (queue.contains(y) ? queue.getKey1(y) : 0)
+							- weights[j]);
+			}
+	}
+
+	/**
+	 * Merge two nodes of the algorithm.
+	 */
+	protected void merge(int s, int t) {
+		merges[2 * mergeCount] = origins[s];
+		merges[2 * mergeCount + 1] = origins[t];
+		mergeCount++;
+
+		sets.union(s, t);
+
+		int root = sets.find(s);
+		int other = root == s ? t : s;
+
+		membersNext[membersTail[root]] = membersHead[other];
+		membersTail[root] = membersTail[other];
+
+		int p = positions[other];
+		alive[p] = alive[--aliveCount];
+		positions[alive[p]] = p;
+		origins[root] = origins[s];
+	}
+
+	/**
+	 * Replace the current graph by the graph of the sets, aggregating the
+	 * edges between two sets.
+	 */
+	protected void compact() {
+		int n = aliveCount;
+		int size = offsets.length - 1;
+		int[] ids = new int[size];
+		int[] newOrigins = new int[n];
+		ArrayList<HashMap<Integer, Double>> adjacency = new ArrayList<HashMap<Integer, Double>>(
+				n);
+
+		for (int i = 0; i < n; i++) {
+			ids[alive[i]] = i;
+			newOrigins[i] = origins[alive[i]];
+			adjacency.add(new HashMap<Integer, Double>());
+		}
+
+		for (int c = 0; c < size; c++) {
+			int u = ids[sets.find(c)];
+
+			for (int j = offsets[c]; j < offsets[c + 1]; j++) {
+				int v = ids[sets.find(targets[j])];
+
+				if (u != v)
+					adjacency.get(u).merge(v, weights[j], Double::sum);
+			}
+		}
+
+		offsets = new int[n + 1];
+
+		for (int u = 0; u < n; u++)
+			offsets[u + 1] = offsets[u] + adjacency.get(u).size();
+
+		targets = new int[offsets[n]];
+		weights = new double[offsets[n]];
+
+		for (int u = 0; u < n; u++) {
+			int j = offsets[u];
+
+			for (Map.Entry<Integer, Double> e : adjacency.get(u)
+					.entrySet()) {
+				targets[j] = e.getKey();
+				weights[j++] = e.getValue();
+			}
+		}
+
+		origins = newOrigins;
+		reset(n);
+	}
+}
@@ -30,8 +30,10 @@
  */
 package org.graphstream.algorithm;
 
-import java.util.HashMap;
-import java.util.Stack;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
 
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
@@ -73,6 +75,13 @@ import org.graphstream.graph.Node;
  * component.
  * </p>
  * 
+ * <p>
+ * This implementation does not use recursion: the depth-first search is driven
+ * by an explicit stack of nodes and of positions in their successors, so long
+ * paths do not overflow the thread stack. The nodes are handled through their
+ * index and the successors are copied once in flat arrays.
+ * </p>
+ * 
  * <h2>Usage</h2>
  * 
  * <p>
@@ -82,27 +91,45 @@ import org.graphstream.graph.Node;
  * {@link #setIndexGenerator(IndexGenerator)}
  * </p>
  * 
+ * <h2>Parallel computation</h2>
+ * 
+ * <p>
+ * On very large graphs, the components can be computed by several threads with
+ * {@link #setParallel(boolean)}. The depth-first search can not be shared
+ * between threads, so the parallel computation works in three steps:
+ * </p>
+ * <ol>
+ * <li>the nodes without predecessor, or without successor, among the remaining
+ * nodes are components by themselves and are removed, until there are no such
+ * nodes;</li>
+ * <li>the component of the node with the largest degree, usually the giant
+ * component, is the intersection of the nodes it reaches and of the nodes
+ * reaching it (forward-backward);</li>
+ * <li>the remaining nodes propagate the largest node index they are reached
+ * from until it does not change anymore (coloring). Each node which keeps its
+ * own index is the root of a component made of the nodes with the same color
+ * that reach it. These components are removed and the coloring starts again
+ * on the remaining nodes.</li>
+ * </ol>
+ * <p>
+ * The components are the same as with the sequential algorithm, but their
+ * indexes are generated in another order. The graph must not be modified
+ * during the computation.
+ * </p>
+ * 
  * @reference Tarjan, R. E. (1972),
  *            "Depth-first search and linear graph algorithms", SIAM Journal on
  *            Computing 1 (2): 146–160, doi:10.1137/0201010
- * @complexity O( | V | + | E | )
+ * @reference Slota, G. M., Rajamanickam, S. and Madduri, K. (2014), "BFS and
+ *            Coloring-Based Parallel Algorithms for Strongly Connected
+ *            Components and Related Problems", IPDPS 2014, 550–559
+ * @complexity O( | V | + | E | ) for the sequential computation. The coloring
+ *             step of the parallel computation needs a number of rounds that
+ *             depends on the length of the paths between the remaining nodes.
  * 
  */
 public class TarjanStronglyConnectedComponents implements Algorithm {
 
-	/**
-	 * Associate some data with each node. Each node has an index and a low
-	 * link.
-	 */
-	protected HashMap<Node, NodeData> data;
-	/**
-	 * The current index.
-	 */
-	protected int index;
-	/**
-	 * Stack used in computation.
-	 */
-	protected Stack<Node> S;
 	/**
 	 * Object used to generate component indexes.
 	 */
@@ -115,13 +142,21 @@ public class TarjanStronglyConnectedComponents implements Algorithm {
 	 * Graph uses in computation. It is set when {@link #init(Graph)} is called.
 	 */
 	protected Graph graph;
+	/**
+	 * Flag used to compute the components with several threads.
+	 */
+	protected boolean parallel = false;
+	/**
+	 * Successors of the nodes, as node indexes. The successors of the node i
+	 * are stored in {@link #targets} from offsets[i] to offsets[i + 1].
+	 */
+	protected int[] offsets;
+	protected int[] targets;
 
 	/**
 	 * Build a new Tarjan algorithm.
 	 */
 	public TarjanStronglyConnectedComponents() {
-		this.data = new HashMap<Node, NodeData>();
-		this.S = new Stack<Node>();
 		this.sccIndex = new IntegerIndexGenerator();
 		this.sccAttribute = "scc";
 	}
@@ -142,14 +177,15 @@ public class TarjanStronglyConnectedComponents implements Algorithm {
 	 * @see org.graphstream.algorithm.Algorithm#compute()
 	 */
 	public void compute() {
-		data.clear();
-		index = 0;
-		S.clear();
-		
-		graph.nodes()
-			.filter(v -> !data.containsKey(v))
-			.forEach(v -> strongConnect(v));
-		
+		buildSuccessors();
+
+		if (parallel)
+			computeParallel();
+		else
+			computeSequential();
+
+		offsets = null;
+		targets = null;
 	}
 
 	/**
@@ -180,6 +216,19 @@ public class TarjanStronglyConnectedComponents implements Algorithm {
 		this.sccAttribute = key;
 	}
 
+	/**
+	 * Compute the components with several threads instead of a depth-first
+	 * search.
+	 * 
+	 * @param parallel
+	 *            true to use the parallel forward-backward and coloring
+	 *            algorithm
+	 */
+	@Parameter
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
 	/**
 	 * Get the node attribute key where component index is stored.
 	 * 
@@ -193,46 +242,356 @@ public class TarjanStronglyConnectedComponents implements Algorithm {
 	public String defaultMessage() {
 		return "Result stored in \""+this.sccAttribute+"\" attribute";
 	}
-	
 
-	protected void strongConnect(Node v) {
-		NodeData nd = new NodeData();
-		data.put(v, nd);
+	/**
+	 * Copy the successors of each node in {@link #offsets} and
+	 * {@link #targets}.
+	 */
+	protected void buildSuccessors() {
+		int n = graph.getNodeCount();
+		offsets = new int[n + 1];
+
+		for (int i = 0; i < n; i++)
+			offsets[i + 1] = offsets[i] + graph.getNode(i).getOutDegree();
 
-		nd.index = index;
-		nd.lowlink = index;
+		targets = new int[offsets[n]];
 
-		index++;
-		S.push(v);
-		
-		v.leavingEdges().forEach(vw -> {
-			Node w = vw.getOpposite(v);
+		for (int i = 0; i < n; i++) {
+			Node v = graph.getNode(i);
 
-			if (!data.containsKey(w)) {
-				strongConnect(w);
-				nd.lowlink = Math.min(nd.lowlink, data.get(w).lowlink);
-			} else if (S.contains(w)) {
-				nd.lowlink = Math.min(nd.lowlink, data.get(w).index);
+			for (int k = 0; k < v.getOutDegree(); k++)
+				targets[offsets[i] + k] = v.getLeavingEdge(k).getOpposite(v)
+						.getIndex();
+		}
+	}
+
+	protected void computeSequential() {
+		int[] component = new int[graph.getNodeCount()];
+		int count = strongConnect(offsets, targets, component);
+		Object[] indexes = new Object[count];
+
+		for (int c = 0; c < count; c++)
+			indexes[c] = sccIndex.nextIndex();
+
+		for (int v = 0; v < component.length; v++)
+			graph.getNode(v).setAttribute(sccAttribute, indexes[component[v]]);
+	}
+
+	/**
+	 * Iterative Tarjan's algorithm on successor arrays. The components are
+	 * numbered in the order they are found, which is a reverse topological
+	 * order of the condensation of the graph.
+	 * 
+	 * @param offsets
+	 *            offsets of the successors of each node
+	 * @param targets
+	 *            successors of the nodes
+	 * @param component
+	 *            filled with the number of the component of each node
+	 * @return the number of components
+	 */
+	protected static int strongConnect(int[] offsets, int[] targets,
+			int[] component) {
+		int n = component.length;
+		int[] index = new int[n];
+		int[] lowlink = new int[n];
+		BitSet onStack = new BitSet(n);
+		int[] stack = new int[n];
+		int top = 0;
+
+		//
+		// The path of the depth-first search, with the position of the next
+		// successor to visit for each node of the path.
+		//
+		int[] path = new int[n];
+		int[] next = new int[n];
+		int depth = 0;
+		int counter = 0;
+		int count = 0;
+
+		Arrays.fill(index, -1);
+
+		for (int root = 0; root < n; root++) {
+			if (index[root] >= 0)
+				continue;
+
+			index[root] = lowlink[root] = counter++;
+			stack[top++] = root;
+			onStack.set(root);
+			path[0] = root;
+			next[0] = offsets[root];
+			depth = 1;
+
+			while (depth > 0) {
+				int v = path[depth - 1];
+
+				if (next[depth - 1] < offsets[v + 1]) {
+					int w = targets[next[depth - 1]++];
+
+					if (index[w] < 0) {
+						index[w] = lowlink[w] = counter++;
+						stack[top++] = w;
+						onStack.set(w);
+						path[depth] = w;
+						next[depth] = offsets[w];
+						depth++;
+					} else if (onStack.get(w)) {
+						lowlink[v] = Math.min(lowlink[v], index[w]);
+					}
+				} else {
+					depth--;
+
+					if (lowlink[v] == index[v]) {
+						int w;
+
+						do {
+							w = stack[--top];
+							onStack.clear(w);
+							component[w] = count;
+						} while (w != v);
+
+						count++;
+					}
+
+					if (depth > 0) {
+						int u = path[depth - 1];
+						lowlink[u] = Math.min(lowlink[u], lowlink[v]);
+					}
+				}
 			}
+		}
+
+		return count;
+	}
+
+	protected void computeParallel() {
+		int n = graph.getNodeCount();
+
+		//
+		// Predecessors of the nodes, in the same layout as the successors.
+		//
+		int[] inOffsets = new int[n + 1];
+		int[] sources = new int[targets.length];
+
+		for (int t : targets)
+			inOffsets[t + 1]++;
+
+		for (int i = 0; i < n; i++)
+			inOffsets[i + 1] += inOffsets[i];
+
+		int[] fill = Arrays.copyOf(inOffsets, n);
+
+		for (int v = 0; v < n; v++)
+			for (int k = offsets[v]; k < offsets[v + 1]; k++)
+				sources[fill[targets[k]]++] = v;
+
+		//
+		// Each node is given the index of a node of its component, used as
+		// identifier of the component. Components are only written by the
+		// thread which found them.
+		//
+		int[] component = new int[n];
+		Arrays.fill(component, -1);
+
+		int[] remaining = IntStream.range(0, n).toArray();
+
+		trim(component, remaining, inOffsets, sources, offsets, targets);
+		remaining = remaining(component, remaining);
+		trim(component, remaining, offsets, targets, inOffsets, sources);
+		remaining = remaining(component, remaining);
+
+		if (remaining.length > 0) {
+			forwardBackward(component, remaining, inOffsets, sources);
+			remaining = remaining(component, remaining);
+		}
+
+		AtomicIntegerArray color = new AtomicIntegerArray(n);
+
+		while (remaining.length > 0) {
+			coloring(component, remaining, color, inOffsets, sources);
+			remaining = remaining(component, remaining);
+		}
+
+		Object[] indexes = new Object[n];
+
+		for (int v = 0; v < n; v++) {
+			int c = component[v];
+
+			if (indexes[c] == null)
+				indexes[c] = sccIndex.nextIndex();
+
+			graph.getNode(v).setAttribute(sccAttribute, indexes[c]);
+		}
+	}
+
+	protected static int[] remaining(int[] component, int[] nodes) {
+		return IntStream.of(nodes).parallel().filter(v -> component[v] < 0)
+				.toArray();
+	}
+
+	/**
+	 * Remove, level by level, the nodes which have no predecessor among the
+	 * remaining nodes. Each one of them is a component.
+	 * 
+	 * @param in
+	 *            offsets of the predecessors
+	 * @param sources
+	 *            predecessors
+	 * @param out
+	 *            offsets of the successors
+	 * @param targets
+	 *            successors
+	 */
+	protected static void trim(int[] component, int[] remaining, int[] in,
+			int[] sources, int[] out, int[] targets) {
+		AtomicIntegerArray degree = new AtomicIntegerArray(component.length);
+
+		IntStream.of(remaining).parallel().forEach(v -> {
+			int d = 0;
+
+			for (int k = in[v]; k < in[v + 1]; k++)
+				if (component[sources[k]] < 0)
+					d++;
+
+			degree.set(v, d);
 		});
 
-		if (nd.index == nd.lowlink) {
-			Node w;
-			Object currentSCCIndex = sccIndex.nextIndex();
+		int[] level = IntStream.of(remaining).parallel()
+				.filter(v -> degree.get(v) == 0).toArray();
+
+		while (level.length > 0) {
+			IntStream.of(level).parallel().forEach(v -> component[v] = v);
 
-			do {
-				w = S.pop();
-				w.setAttribute(sccAttribute, currentSCCIndex);
-			} while (w != v);
+			level = IntStream.of(level).parallel()
+					.flatMap(v -> IntStream.range(out[v], out[v + 1]))
+					.map(k -> targets[k])
+					.filter(w -> component[w] < 0
+							&& degree.decrementAndGet(w) == 0).toArray();
 		}
 	}
 
 	/**
-	 * Internal data associated to nodes in computation.
+	 * Find the component of the node with the largest degree as the
+	 * intersection of its descendants and of its ancestors.
 	 */
-	protected static class NodeData {
-		int index;
-		int lowlink;
+	protected void forwardBackward(int[] component, int[] remaining,
+			int[] inOffsets, int[] sources) {
+		int pivot = IntStream.of(remaining).parallel().boxed()
+				.max((a, b) -> Long.compare(degreeProduct(a, inOffsets),
+						degreeProduct(b, inOffsets))).get();
+
+		AtomicIntegerArray reached = new AtomicIntegerArray(component.length);
+
+		reach(component, pivot, reached, 1, offsets, targets);
+		reach(component, pivot, reached, 2, inOffsets, sources);
+
+		IntStream.of(remaining).parallel().filter(v -> reached.get(v) == 3)
+				.forEach(v -> component[v] = pivot);
+	}
+
+	protected long degreeProduct(int v, int[] inOffsets) {
+		return (long) (offsets[v + 1] - offsets[v])
+				* (inOffsets[v + 1] - inOffsets[v]);
+	}
+
+	/**
+	 * Level synchronous breadth-first search from a node, setting a bit on
+	 * each remaining node reached.
+	 */
+	protected static void reach(int[] component, int from,
+			AtomicIntegerArray reached, int bit, int[] offsets, int[] targets) {
+		int[] level = { from };
+		mark(reached, from, bit);
+
+		while (level.length > 0) {
+			level = IntStream.of(level).parallel()
+					.flatMap(v -> IntStream.range(offsets[v], offsets[v + 1]))
+					.map(k -> targets[k])
+					.filter(w -> component[w] < 0 && mark(reached, w, bit))
+					.toArray();
+		}
+	}
+
+	protected static boolean mark(AtomicIntegerArray reached, int v, int bit) {
+		while (true) {
+			int old = reached.get(v);
+
+			if ((old & bit) != 0)
+				return false;
+
+			if (reached.compareAndSet(v, old, old | bit))
+				return true;
+		}
+	}
+
+	/**
+	 * Propagate the largest node index along the edges between the remaining
+	 * nodes, then find the component of each node which kept its own index.
+	 */
+	protected void coloring(int[] component, int[] remaining,
+			AtomicIntegerArray color, int[] inOffsets, int[] sources) {
+		IntStream.of(remaining).parallel().forEach(v -> color.set(v, v));
+
+		//
+		// Nodes whose color was raised during a round are active in the next
+		// one. The round in which a node was last queued avoids duplicates.
+		//
+		AtomicIntegerArray queued = new AtomicIntegerArray(component.length);
+		int[] active = remaining;
+		int round = 0;
+
+		while (active.length > 0) {
+			int current = ++round;
+
+			active = IntStream.of(active).parallel().flatMap(v -> {
+				int c = color.get(v);
+
+				return IntStream.range(offsets[v], offsets[v + 1])
+						.map(k -> targets[k])
+						.filter(w -> component[w] < 0 && raise(color, w, c));
+			}).filter(w -> queued.getAndSet(w, current) != current).toArray();
+		}
+
+		IntStream.of(remaining).parallel().filter(r -> color.get(r) == r)
+				.forEach(r -> {
+					//
+					// The nodes of this color are only visited from this root,
+					// so each component is written by a single thread.
+					//
+					int[] queue = { r };
+					int size = 1;
+
+					component[r] = r;
+
+					for (int head = 0; head < size; head++) {
+						int v = queue[head];
+
+						for (int k = inOffsets[v]; k < inOffsets[v + 1]; k++) {
+							int u = sources[k];
+
+							if (component[u] < 0 && color.get(u) == r) {
+								component[u] = r;
+
+								if (size == queue.length)
+									queue = Arrays.copyOf(queue, 2 * size);
+
+								queue[size++] = u;
+							}
+						}
+					}
+				});
+	}
+
+	protected static boolean raise(AtomicIntegerArray color, int v, int c) {
+		while (true) {
+			int old = color.get(v);
+
+			if (old >= c)
+				return false;
+
+			if (color.compareAndSet(v, old, c))
+				return true;
+		}
 	}
 
 	/**
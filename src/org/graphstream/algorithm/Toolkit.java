@@ -34,6 +34,8 @@
  */
 package org.graphstream.algorithm;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -49,7 +51,11 @@ import java.util.Random;
 import java.util.Set;
 import java.util.Stack;
 import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+import org.graphstream.algorithm.util.CompressedMatrix;
+import org.graphstream.algorithm.util.CompressedMatrix.Order;
 import org.graphstream.algorithm.util.RandomTools;
 import org.graphstream.graph.BreadthFirstIterator;
 import org.graphstream.graph.Edge;
@@ -226,6 +232,30 @@ import org.graphstream.ui.layout.springbox.implementations.SpringBox;
  * 		maximumClique = clique;
  * </pre>
  * 
+ * <p>
+ * For larger graphs, {@link #forEachMaximalClique(Graph, int, boolean, Consumer)}
+ * enumerates the maximal cliques following the degeneracy ordering of the
+ * graph. The search can be split among several threads and the cliques smaller
+ * than a given size are pruned early. The cliques are pushed to a consumer
+ * instead of being pulled from an iterator.
+ * </p>
+ * 
+ * <h3>Matrices</h3>
+ * 
+ * <p>
+ * {@link #getAdjacencyMatrix(Graph)} and {@link #getIncidenceMatrix(Graph)}
+ * return dense arrays, whose size grows with the square of the number of
+ * nodes. {@link #getSparseAdjacencyMatrix(Graph, String, Order)} and
+ * {@link #getSparseIncidenceMatrix(Graph, String, Order)} return the same
+ * matrices, optionally weighted, in the CSR or CSC format of
+ * {@link CompressedMatrix}, which only uses O(n + m) memory. They can also be
+ * streamed to a binary file without being built with
+ * {@link #writeSparseAdjacencyMatrix(Graph, String, Order, OutputStream)} and
+ * {@link #writeSparseIncidenceMatrix(Graph, String, Order, OutputStream)}.
+ * For small dense graphs, {@link #getBitAdjacencyMatrix(Graph)} packs the
+ * adjacency relation in one bit per pair of nodes.
+ * </p>
+ * 
  * <h2>Example</h2>
  * 
  * <p>
@@ -956,61 +986,92 @@ public class Toolkit extends
 
 	/**
 	 * Computes the modularity as defined by Newman and Girvan in "Finding and
-	 * evaluating community structure in networks". This algorithm traverses the
-	 * graph to count nodes in communities. For this to work, there must exist
-	 * an attribute on each node whose value define the community the node
+	 * evaluating community structure in networks". For this to work, there must
+	 * exist an attribute on each node whose value define the community the node
 	 * pertains to (see {@link #communities(Graph,String)}).
 	 * 
-	 * This method is an utility method that call:
-	 * <ul>
-	 * <li>{@link #communities(Graph,String)}</li>
-	 * <li>{@link #modularityMatrix(Graph,HashMap)}</li>
-	 * <li>{@link #modularity(double[][])}</li>
-	 * </ul>
-	 * in order to produce the modularity value.
+	 * This method does not build the E matrix of
+	 * {@link #modularityMatrix(Graph,HashMap)}. It traverses the edges once,
+	 * summing for each community the number of inner edges and the degrees of
+	 * its nodes, which gives the same value.
 	 * 
 	 * @param marker
 	 *            The community attribute stored on nodes.
-	 * @return The graph modularity.
-	 * @complexity 0(n + m! + m!k) with n the number of nodes, m the number of
-	 *             communities and k the average number of nodes per
-	 *             communities.
+	 * @return The graph modularity, zero if there is no edge.
+	 * @complexity O(m) with m the number of edges.
 	 * @see org.graphstream.algorithm.measure.Modularity
 	 */
 	public static double modularity(Graph graph, String marker) {
-		return modularity(modularityMatrix(graph, communities(graph, marker)));
+		return modularity(graph, marker, null);
 	}
 
 	/**
-	 * Computes the weighted modularity. This algorithm traverses the graph to
-	 * count nodes in communities. For this to work, there must exist an
+	 * Computes the weighted modularity. For this to work, there must exist an
 	 * attribute on each node whose value define the community the node pertains
 	 * to (see {@link #communities(Graph,String)}) and a attribute on each edge
 	 * storing their weight (all edges without this attribute will be ignored in
 	 * the computation).
 	 * 
-	 * This method is an utility method that call:
-	 * <ul>
-	 * <li>{@link #communities(Graph,String)}</li>
-	 * <li>{@link #modularityMatrix(Graph,HashMap,String)}</li>
-	 * <li>{@link #modularity(double[][])}</li>
-	 * </ul>
-	 * in order to produce the modularity value.
+	 * This method does not build the E matrix of
+	 * {@link #modularityMatrix(Graph,HashMap,String)}. It traverses the edges
+	 * once, summing for each community the weight of inner edges and the
+	 * weighted degrees of its nodes, which gives the same value.
 	 * 
 	 * @param marker
 	 *            The community attribute stored on nodes.
 	 * @param weightMarker
-	 *            The marker used to store the weight of each edge.
-	 * @return The graph modularity.
-	 * @complexity 0(n + m! + m!k) with n the number of nodes, m the number of
-	 *             communities and k the average number of nodes per
-	 *             communities.
+	 *            The marker used to store the weight of each edge, or null to
+	 *            give a weight of one to each edge.
+	 * @return The graph modularity, zero if there is no edge.
+	 * @complexity O(m) with m the number of edges.
 	 * @see org.graphstream.algorithm.measure.Modularity
 	 */
 	public static double modularity(Graph graph, String marker,
 			String weightMarker) {
-		return modularity(modularityMatrix(graph, communities(graph, marker),
-				weightMarker));
+		// For each community, the weight of the inner edges and the total
+		// degree of the nodes.
+		HashMap<Object, double[]> sums = new HashMap<Object, double[]>();
+		double m = 0;
+
+		for (int i = 0; i < graph.getEdgeCount(); i++) {
+			Edge e = graph.getEdge(i);
+			double w = 1;
+
+			if (weightMarker != null) {
+				if (!e.hasAttribute(weightMarker))
+					continue;
+
+				w = e.getNumber(weightMarker);
+			}
+
+			Object c0 = e.getNode0().getAttribute(marker);
+			Object c1 = e.getNode1().getAttribute(marker);
+
+			if (c0 == null)
+				c0 = "NULL_COMMUNITY";
+			if (c1 == null)
+				c1 = "NULL_COMMUNITY";
+
+			double[] s0 = sums.computeIfAbsent(c0, k -> new double[2]);
+			double[] s1 = sums.computeIfAbsent(c1, k -> new double[2]);
+
+			if (c0.equals(c1))
+				s0[0] += w;
+
+			s0[1] += w;
+			s1[1] += w;
+			m += w;
+		}
+
+		double q = 0;
+
+		if (m == 0)
+			return 0;
+
+		for (double[] s : sums.values())
+			q += s[0] / m - (s[1] / (2 * m)) * (s[1] / (2 * m));
+
+		return q;
 	}
 
 	/**
@@ -1550,6 +1611,299 @@ public class Toolkit extends
 		}
 	}
 
+	/**
+	 * Enumerates all the maximal cliques of a graph and passes them to a
+	 * consumer. Same as
+	 * {@link #forEachMaximalClique(Graph, int, boolean, Consumer)} with no size
+	 * filter and a sequential enumeration.
+	 * 
+	 * @param graph
+	 *            a graph, must not have loop edges
+	 * @param consumer
+	 *            the consumer receiving each maximal clique
+	 * @throws IllegalArgumentException
+	 *             if {@code graph} has loop edges
+	 */
+	public static <T extends Node> void forEachMaximalClique(Graph graph,
+			Consumer<List<T>> consumer) {
+		forEachMaximalClique(graph, 1, false, consumer);
+	}
+
+	/**
+	 * <p>
+	 * Enumerates the maximal cliques of a graph having at least
+	 * {@code minSize} nodes and passes them to a consumer, as soon as they are
+	 * found.
+	 * </p>
+	 * 
+	 * <p>
+	 * Unlike {@link #getMaximalCliqueIterator(Graph)}, this method follows the
+	 * degeneracy ordering of the graph: for each node <i>v</i>, the maximal
+	 * cliques whose first node in the ordering is <i>v</i> are searched with
+	 * the Bron–Kerbosch algorithm, using only the neighbors of <i>v</i>. Those
+	 * searches are independent and can be run in parallel on the common
+	 * fork-join pool. Candidate sets are stored as sorted arrays of node
+	 * indices, so no graph lookup is done during the search.
+	 * </p>
+	 * 
+	 * <p>
+	 * When {@code parallel} is {@code true}, the consumer is called
+	 * concurrently from several threads and must be thread-safe. The order in
+	 * which cliques are reported is not specified.
+	 * </p>
+	 * 
+	 * @param graph
+	 *            a graph, must not have loop edges
+	 * @param minSize
+	 *            the minimum number of nodes of the reported cliques
+	 * @param parallel
+	 *            if {@code true}, the search is split among several threads
+	 * @param consumer
+	 *            the consumer receiving each maximal clique
+	 * @throws IllegalArgumentException
+	 *             if {@code graph} has loop edges
+	 * @complexity O(<i>dn</i>3<sup><i>d</i>/3</sup>) where <i>d</i> is the
+	 *             degeneracy of the graph and <i>n</i> the number of nodes.
+	 * @reference D. Eppstein, M. Löffler and D. Strash, "Listing All Maximal
+	 *            Cliques in Sparse Graphs in Near-Optimal Time", ISAAC 2010.
+	 */
+	public static <T extends Node> void forEachMaximalClique(Graph graph,
+			int minSize, boolean parallel, Consumer<List<T>> consumer) {
+		graph.edges()
+			.filter(e -> e.isLoop())
+			.forEach(e -> illegalArgumentException());
+
+		int n = graph.getNodeCount();
+		int[][] adj = new int[n][];
+
+		for (int i = 0; i < n; i++)
+			adj[i] = graph.getNode(i).neighborNodes()
+				.mapToInt(x -> x.getIndex())
+				.sorted()
+				.distinct()
+				.toArray();
+
+		int[] position = degeneracyPositions(adj);
+		IntStream outer = IntStream.range(0, n);
+
+		if (parallel)
+			outer = outer.parallel();
+
+		outer.forEach(v -> {
+			int[] later = Arrays.stream(adj[v])
+				.filter(w -> position[w] > position[v])
+				.toArray();
+
+			if (later.length + 1 < minSize)
+				return;
+
+			int[] earlier = new int[adj[v].length];
+			int earlierCount = 0;
+
+			for (int w : adj[v])
+				if (position[w] < position[v])
+					earlier[earlierCount++] = w;
+
+			CliqueSearch<T> search = new CliqueSearch<T>(graph, adj, minSize,
+					later.length + 1, consumer);
+			search.clique[0] = v;
+			search.expand(1, later, later.length, earlier, earlierCount);
+		});
+	}
+
+	/**
+	 * Position of each node in a degeneracy ordering, that is the order in
+	 * which the nodes are removed when repeatedly removing a node of minimum
+	 * degree. Uses the bucket algorithm of Batagelj and Zaversnik.
+	 * 
+	 * @param adj
+	 *            neighbor indices of each node
+	 * @return the position of each node in the ordering
+	 * @complexity O(<i>m</i>) where <i>m</i> is the number of edges
+	 */
+	protected static int[] degeneracyPositions(int[][] adj) {
+		int n = adj.length;
+		int maxDeg = 0;
+		int[] deg = new int[n];
+
+		for (int i = 0; i < n; i++) {
+			deg[i] = adj[i].length;
+			maxDeg = Math.max(maxDeg, deg[i]);
+		}
+
+		int[] bin = new int[maxDeg + 1];
+		int[] vert = new int[n];
+		int[] pos = new int[n];
+
+		for (int i = 0; i < n; i++)
+			bin[deg[i]]++;
+
+		for (int d = 0, start = 0; d <= maxDeg; d++) {
+			int count = bin[d];
+			bin[d] = start;
+			start += count;
+		}
+
+		for (int i = 0; i < n; i++) {
+			pos[i] = bin[deg[i]]++;
+			vert[pos[i]] = i;
+		}
+
+		for (int d = maxDeg; d > 0; d--)
+			bin[d] = bin[d - 1];
+		bin[0] = 0;
+
+		for (int i = 0; i < n; i++) {
+			int v = vert[i];
+
+			for (int u : adj[v]) {
+				if (deg[u] > deg[v]) {
+					int du = deg[u];
+					int pu = pos[u];
+					int pw = bin[du];
+					int w = vert[pw];
+
+					if (u != w) {
+						pos[u] = pw;
+						vert[pu] = w;
+						pos[w] = pu;
+						vert[pw] = u;
+					}
+
+					bin[du]++;
+					deg[u]--;
+				}
+			}
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Bron–Kerbosch search with Tomita pivoting over sorted arrays of node
+	 * indices. Each instance is used by only one thread.
+	 */
+	protected static class CliqueSearch<T extends Node> {
+		protected final Graph graph;
+		protected final int[][] adj;
+		protected final int minSize;
+		protected final int[] clique;
+		protected final Consumer<List<T>> consumer;
+
+		protected CliqueSearch(Graph graph, int[][] adj, int minSize,
+				int maxSize, Consumer<List<T>> consumer) {
+			this.graph = graph;
+			this.adj = adj;
+			this.minSize = minSize;
+			this.clique = new int[maxSize];
+			this.consumer = consumer;
+		}
+
+		/**
+		 * Report all the maximal cliques containing the {@code size} first
+		 * nodes of {@link #clique}, some nodes of {@code p} and no node of
+		 * {@code x}. Both arrays are sorted and only their first {@code pSize}
+		 * and {@code xSize} cells are used, {@code x} must have room for the
+		 * nodes of {@code p}. The content of both arrays is modified.
+		 */
+		protected void expand(int size, int[] p, int pSize, int[] x, int xSize) {
+			if (pSize == 0) {
+				if (xSize == 0 && size >= minSize)
+					report(size);
+				return;
+			}
+
+			if (size + pSize < minSize)
+				return;
+
+			int[] pivotAdj = adj[choosePivot(p, pSize, x, xSize)];
+			int[] candidates = new int[pSize];
+			int candidateCount = 0;
+
+			for (int i = 0; i < pSize; i++)
+				if (Arrays.binarySearch(pivotAdj, p[i]) < 0)
+					candidates[candidateCount++] = p[i];
+
+			for (int i = 0; i < candidateCount; i++) {
+				int v = candidates[i];
+				int[] nv = adj[v];
+				int[] np = new int[Math.min(pSize, nv.length)];
+				int npSize = intersect(p, pSize, nv, np);
+				// Room is left for the nodes of np moving to nx.
+				int[] nx = new int[Math.min(xSize, nv.length) + npSize];
+				int nxSize = intersect(x, xSize, nv, nx);
+
+				clique[size] = v;
+				expand(size + 1, np, npSize, nx, nxSize);
+
+				pSize = remove(p, pSize, v);
+				xSize = insert(x, xSize, v);
+			}
+		}
+
+		/**
+		 * Node of P &cup; X with the largest number of neighbors in P.
+		 */
+		protected int choosePivot(int[] p, int pSize, int[] x, int xSize) {
+			int pivot = p[0];
+			int best = -1;
+
+			for (int k = 0; k < pSize + xSize && best < pSize; k++) {
+				int u = k < pSize ? p[k] : x[k - pSize];
+				int count = intersect(p, pSize, adj[u], null);
+
+				if (count > best) {
+					best = count;
+					pivot = u;
+				}
+			}
+
+			return pivot;
+		}
+
+		@SuppressWarnings("unchecked")
+		protected void report(int size) {
+			List<T> result = new ArrayList<T>(size);
+
+			for (int i = 0; i < size; i++)
+				result.add((T) graph.getNode(clique[i]));
+
+			consumer.accept(result);
+		}
+
+		/**
+		 * Intersection of the first {@code aSize} cells of {@code a} with
+		 * {@code b}, stored in {@code out} if it is not {@code null}.
+		 * 
+		 * @return the size of the intersection
+		 */
+		protected static int intersect(int[] a, int aSize, int[] b, int[] out) {
+			int count = 0;
+
+			for (int i = 0; i < aSize; i++)
+				if (Arrays.binarySearch(b, a[i]) >= 0) {
+					if (out != null)
+						out[count] = a[i];
+					count++;
+				}
+
+			return count;
+		}
+
+		protected static int remove(int[] a, int size, int v) {
+			int i = Arrays.binarySearch(a, 0, size, v);
+			System.arraycopy(a, i + 1, a, i, size - i - 1);
+			return size - 1;
+		}
+
+		protected static int insert(int[] a, int size, int v) {
+			int i = -Arrays.binarySearch(a, 0, size, v) - 1;
+			System.arraycopy(a, i, a, i + 1, size - i);
+			a[i] = v;
+			return size + 1;
+		}
+	}
+
 	/**
 	 * Fills an array with the adjacency matrix of a graph.
 	 * 
@@ -1685,6 +2039,138 @@ public class Toolkit extends
 		return matrix;
 	}
 
+	/**
+	 * Returns the adjacency matrix of a graph in a compressed sparse format.
+	 * 
+	 * The entry (i, j) of this matrix is the sum of the weights of the edges
+	 * from the node {@code graph.getNode(i)} to the node
+	 * {@code graph.getNode(j)}. As in {@link #getAdjacencyMatrix(Graph)}, an
+	 * undirected edge is counted in both entries (i, j) and (j, i). Only the
+	 * non-zero entries are stored.
+	 * 
+	 * @param graph
+	 *            A graph
+	 * @param weightAttribute
+	 *            The edge attribute holding the weights, or null to give each
+	 *            edge a weight of one
+	 * @param order
+	 *            {@link Order#ROW} for the CSR format, {@link Order#COLUMN} for
+	 *            the CSC format
+	 * @return The sparse adjacency matrix of the graph.
+	 * @see CompressedMatrix#toSparseRealMatrix()
+	 * @complexity <i>O(m log(d))</i>, where <i>m</i> is the number of edges
+	 *             and <i>d</i> the maximum degree.
+	 */
+	public static CompressedMatrix getSparseAdjacencyMatrix(Graph graph,
+			String weightAttribute, Order order) {
+		return CompressedMatrix.adjacency(graph, weightAttribute, order);
+	}
+
+	/**
+	 * Returns the incidence matrix of a graph in a compressed sparse format.
+	 * 
+	 * The coefficients are the ones of {@link #getIncidenceMatrix(Graph)},
+	 * multiplied by the weight of the edge. Zero coefficients, such as the
+	 * ones of directed loops, are not stored.
+	 * 
+	 * @param graph
+	 *            A graph
+	 * @param weightAttribute
+	 *            The edge attribute holding the weights, or null to give each
+	 *            edge a weight of one
+	 * @param order
+	 *            {@link Order#ROW} for the CSR format, {@link Order#COLUMN} for
+	 *            the CSC format
+	 * @return The sparse incidence matrix of the graph.
+	 * @complexity <i>O(m log(d))</i>, where <i>m</i> is the number of edges
+	 *             and <i>d</i> the maximum degree.
+	 */
+	public static CompressedMatrix getSparseIncidenceMatrix(Graph graph,
+			String weightAttribute, Order order) {
+		return CompressedMatrix.incidence(graph, weightAttribute, order);
+	}
+
+	/**
+	 * Writes the sparse adjacency matrix of a graph to a stream, without
+	 * building it in memory. The binary format is the one read by
+	 * {@link CompressedMatrix#read(java.io.InputStream)}.
+	 * 
+	 * @param graph
+	 *            A graph
+	 * @param weightAttribute
+	 *            The edge attribute holding the weights, or null to give each
+	 *            edge a weight of one
+	 * @param order
+	 *            {@link Order#ROW} for the CSR format, {@link Order#COLUMN} for
+	 *            the CSC format
+	 * @param out
+	 *            The stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 * @see #getSparseAdjacencyMatrix(Graph, String, Order)
+	 */
+	public static void writeSparseAdjacencyMatrix(Graph graph,
+			String weightAttribute, Order order, OutputStream out)
+			throws IOException {
+		CompressedMatrix.writeAdjacency(graph, weightAttribute, order, out);
+	}
+
+	/**
+	 * Writes the sparse incidence matrix of a graph to a stream, without
+	 * building it in memory. The binary format is the one read by
+	 * {@link CompressedMatrix#read(java.io.InputStream)}.
+	 * 
+	 * @param graph
+	 *            A graph
+	 * @param weightAttribute
+	 *            The edge attribute holding the weights, or null to give each
+	 *            edge a weight of one
+	 * @param order
+	 *            {@link Order#ROW} for the CSR format, {@link Order#COLUMN} for
+	 *            the CSC format
+	 * @param out
+	 *            The stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 * @see #getSparseIncidenceMatrix(Graph, String, Order)
+	 */
+	public static void writeSparseIncidenceMatrix(Graph graph,
+			String weightAttribute, Order order, OutputStream out)
+			throws IOException {
+		CompressedMatrix.writeIncidence(graph, weightAttribute, order, out);
+	}
+
+	/**
+	 * Returns the adjacency relation of a graph packed in bits.
+	 * 
+	 * Bit j of row i, that is {@code (bits[i][j >>> 6] >>> j) & 1}, is set if
+	 * there is at least one edge from the node {@code graph.getNode(i)} to the
+	 * node {@code graph.getNode(j)}. Undirected edges go both ways. Each row
+	 * uses <i>n</i>/64 longs, which makes this matrix 32 times smaller than
+	 * {@link #getAdjacencyMatrix(Graph)}, and lets rows be intersected 64
+	 * nodes at a time.
+	 * 
+	 * @param graph
+	 *            A graph
+	 * @return The bit-packed adjacency matrix of the graph.
+	 * @complexity <i>O(n<sup>2</sup>/64 + m)</i>, where <i>n</i> is the number
+	 *             of nodes and <i>m</i> the number of edges.
+	 */
+	public static long[][] getBitAdjacencyMatrix(Graph graph) {
+		int n = graph.getNodeCount();
+		long[][] bits = new long[n][(n + 63) >>> 6];
+
+		graph.edges().forEach(e -> {
+			int i = e.getSourceNode().getIndex();
+			int j = e.getTargetNode().getIndex();
+			bits[i][j >>> 6] |= 1L << j;
+			if (!e.isDirected())
+				bits[j][i >>> 6] |= 1L << i;
+		});
+
+		return bits;
+	}
+
 	/**
 	 * Compute coordinates of nodes using a layout algorithm.
 	 * 
@@ -38,6 +38,7 @@ import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.graphstream.algorithm.DynamicAlgorithm;
+import org.graphstream.algorithm.util.GraphDelta;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
 import org.graphstream.graph.Element;
@@ -77,6 +78,12 @@ public abstract class DecentralizedCommunityAlgorithm implements
 	 */
 	protected boolean staticMode = false;
 
+	/**
+	 * Buffer of the structural events of the current step, when the batch mode
+	 * is enabled.
+	 */
+	protected GraphDelta delta;
+
 	/**
 	 * Random number generator used to shuffle the nodes. Shall be used by all
 	 * inherited algorithms for random number generation
@@ -157,6 +164,9 @@ public abstract class DecentralizedCommunityAlgorithm implements
 		 */
 		if (this.rng == null)
 			rng = new Random();
+
+		if (delta != null)
+			delta = newDelta();
 	}
 
 //	@Override
@@ -171,6 +181,29 @@ public abstract class DecentralizedCommunityAlgorithm implements
 		staticMode = true;
 	}
 
+	/**
+	 * Enable or disable the batch mode. In this mode, the structural events
+	 * received during a step are coalesced, and the algorithm only considers
+	 * the graph has changed if they do not cancel each other, for example when
+	 * an edge is added then removed before the next step.
+	 * 
+	 * @param batchMode
+	 *            true to enable the batch mode
+	 */
+	@Parameter
+	public void setBatchMode(boolean batchMode) {
+		if (batchMode && delta == null)
+			delta = newDelta();
+		else if (!batchMode && delta != null) {
+			delta.flush();
+			delta = null;
+		}
+	}
+
+	protected GraphDelta newDelta() {
+		return new GraphDelta(graph, d -> graphChanged = true);
+	}
+
 	/**
 	 * Set the marker used to store the community assignment to the specified
 	 * value. The given value will be prefixed by
@@ -232,6 +265,9 @@ public abstract class DecentralizedCommunityAlgorithm implements
 		 * Nodes are processed in a random order. Computation only occurs if the
 		 * graph has changed since last call
 		 */
+		if (delta != null)
+			delta.flush();
+
 		if (graphChanged) {
 			ArrayList<Node> nodeSet = graph.nodes().collect(Collectors.toCollection(ArrayList::new));// new ArrayList<Node>(graph.getNodeSet());
 			Collections.shuffle(nodeSet, rng);
@@ -281,27 +317,45 @@ public abstract class DecentralizedCommunityAlgorithm implements
 	}
 
 	public void nodeAdded(String graphId, long timeId, String nodeId) {
-		graphChanged = true;
+		if (delta != null)
+			delta.nodeAdded(graphId, timeId, nodeId);
+		else
+			graphChanged = true;
 	}
 
 	public void nodeRemoved(String graphId, long timeId, String nodeId) {
-		graphChanged = true;
+		if (delta != null)
+			delta.nodeRemoved(graphId, timeId, nodeId);
+		else
+			graphChanged = true;
 	}
 
 	public void edgeAdded(String graphId, long timeId, String edgeId,
 			String fromNodeId, String toNodeId, boolean directed) {
-		graphChanged = true;
+		if (delta != null)
+			delta.edgeAdded(graphId, timeId, edgeId, fromNodeId, toNodeId,
+					directed);
+		else
+			graphChanged = true;
 	}
 
 	public void edgeRemoved(String graphId, long timeId, String edgeId) {
-		graphChanged = true;
+		if (delta != null)
+			delta.edgeRemoved(graphId, timeId, edgeId);
+		else
+			graphChanged = true;
 	}
 
 	public void graphCleared(String graphId, long timeId) {
-		graphChanged = true;
+		if (delta != null)
+			delta.graphCleared(graphId, timeId);
+		else
+			graphChanged = true;
 	}
 
 	public void stepBegins(String graphId, long timeId, double time) {
+		if (delta != null)
+			delta.flush();
 	}
 
 	public void graphAttributeAdded(String graphId, long timeId,
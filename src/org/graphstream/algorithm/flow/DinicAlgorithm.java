@@ -0,0 +1,399 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow;
+
+import java.util.Arrays;
+
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Graph;
+
+/**
+ * Dinic's algorithm to compute maximum flow.
+ * 
+ * <p>
+ * Each phase computes the level of each node, its distance from the source in
+ * the residual graph, with a breadth-first search, then a blocking flow of the
+ * level graph: flow is pushed along paths going one level up, until each of
+ * them has a saturated arc. Each node keeps a pointer to its current arc so
+ * that the arcs which can not lead to the sink anymore are never scanned
+ * again during a phase. The algorithm stops when the sink can not be reached.
+ * The residual graph is stored in flat arrays, see
+ * {@link ResidualFlowAlgorithmBase}.
+ * </p>
+ * 
+ * <h2>Warm restarts</h2>
+ * 
+ * <p>
+ * When {@link #compute()} is called again without calling
+ * {@link #init(Graph, String, String)}, on the same graph with the same source
+ * and sink, the algorithm starts from the previous flow instead of a zero
+ * flow. This is useful when only a few capacities are changed between two
+ * computations, with {@link #setCapacity(org.graphstream.graph.Node,
+ * org.graphstream.graph.Node, double)} or in the capacity attribute. The
+ * edges whose flow exceeds their new capacity are first reduced, the
+ * resulting excess being sent to nodes lacking flow or back to the source,
+ * and the flow missing at some nodes being taken back from the sink. The
+ * phases then only have to find the few paths made available by the new
+ * capacities. If edges were added or removed so that some edge index does
+ * not join the same nodes anymore, the computation starts from a zero flow.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * DinicAlgorithm dinic = new DinicAlgorithm();
+ * dinic.setCapacityAttribute(&quot;cap&quot;);
+ * dinic.init(graph, &quot;s&quot;, &quot;t&quot;);
+ * dinic.compute();
+ * 
+ * graph.getEdge(&quot;AB&quot;).setAttribute(&quot;cap&quot;, 2.0);
+ * dinic.compute(); // starts from the previous flow
+ * </pre>
+ * 
+ * @reference Dinic, E. A. (1970).
+ *            "Algorithm for solution of a problem of maximum flow in a network
+ *            with power estimation". Soviet Mathematics Doklady 11: 1277–1280
+ * @complexity O(V<sup>2</sup>E), where V is the number of nodes and E the
+ *             number of edges
+ */
+public class DinicAlgorithm extends ResidualFlowAlgorithmBase {
+	/**
+	 * The flows are those of a previous computation on the same network.
+	 */
+	protected boolean warm = false;
+
+	/**
+	 * Level of each node in the current phase, -1 if not reached or blocked.
+	 */
+	protected int[] levels;
+
+	/**
+	 * Next arc to scan for each node.
+	 */
+	protected int[] current;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.FlowAlgorithmBase#init(org.graphstream
+	 * .graph.Graph)
+	 */
+	@Override
+	public void init(Graph graph) {
+		super.init(graph);
+		warm = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.FlowAlgorithmBase#setSourceId(java.lang
+	 * .String)
+	 */
+	@Override
+	public void setSourceId(String sourceId) {
+		super.setSourceId(sourceId);
+		warm = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.flow.FlowAlgorithmBase#setSinkId(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setSinkId(String sinkId) {
+		super.setSinkId(sinkId);
+		warm = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		int[] previousHeads = heads;
+		int previousNodes = nodeCount;
+		int previousSource = source, previousSink = sink;
+
+		buildResidualGraph();
+
+		//
+		// The previous flows are stored by edge index, they can only be used
+		// if each edge still joins the same nodes.
+		//
+
+		boolean restart = warm && Arrays.equals(previousHeads, heads)
+				&& nodeCount == previousNodes && source == previousSource
+				&& sink == previousSink;
+
+		if (restart && !restoreFlows())
+			buildResidualGraph();
+
+		levels = new int[nodeCount];
+		current = new int[nodeCount];
+
+		if (source != sink)
+			while (buildLevels())
+				blockingFlow();
+
+		storeFlows();
+		warm = true;
+	}
+
+	/**
+	 * Breadth-first search from the source in the residual graph.
+	 * 
+	 * @return true if the sink is reached
+	 */
+	protected boolean buildLevels() {
+		int[] queue = new int[nodeCount];
+		int tail = 0;
+
+		Arrays.fill(levels, -1);
+		levels[source] = 0;
+		queue[tail++] = source;
+
+		for (int head = 0; head < tail && levels[sink] < 0; head++) {
+			int v = queue[head];
+
+			for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+				int a = arcs[j];
+				int w = heads[a];
+
+				if (residuals[a] > 0 && levels[w] < 0) {
+					levels[w] = levels[v] + 1;
+					queue[tail++] = w;
+				}
+			}
+		}
+
+		System.arraycopy(offsets, 0, current, 0, nodeCount);
+
+		return levels[sink] >= 0;
+	}
+
+	/**
+	 * Push flow along the paths of the level graph until each one has a
+	 * saturated arc, with an iterative depth-first search.
+	 */
+	protected void blockingFlow() {
+		int[] path = new int[nodeCount];
+		int depth = 0;
+		int v = source;
+
+		while (true) {
+			if (v == sink) {
+				double delta = Double.POSITIVE_INFINITY;
+
+				for (int k = 0; k < depth; k++)
+					delta = Math.min(delta, residuals[path[k]]);
+
+				for (int k = 0; k < depth; k++) {
+					residuals[path[k]] -= delta;
+					residuals[path[k] ^ 1] += delta;
+				}
+
+				//
+				// Go back to the tail of the first saturated arc.
+				//
+
+				depth = 0;
+
+				while (residuals[path[depth]] > 0)
+					depth++;
+
+				v = heads[path[depth] ^ 1];
+				continue;
+			}
+
+			int end = offsets[v + 1];
+
+			while (current[v] < end) {
+				int a = arcs[current[v]];
+
+				if (residuals[a] > 0 && levels[heads[a]] == levels[v] + 1)
+					break;
+
+				current[v]++;
+			}
+
+			if (current[v] < end) {
+				int a = arcs[current[v]];
+
+				path[depth++] = a;
+				v = heads[a];
+			} else {
+				levels[v] = -1;
+
+				if (v == source)
+					break;
+
+				v = heads[path[--depth] ^ 1];
+				current[v]++;
+			}
+		}
+	}
+
+	/**
+	 * Start from the previous flows. The flow of the edges exceeding their
+	 * capacity is reduced, and the nodes which do not respect the conservation
+	 * anymore are fixed with augmenting paths.
+	 * 
+	 * @return false if the flow could not be fixed
+	 */
+	protected boolean restoreFlows() {
+		double[] excess = new double[nodeCount];
+
+		for (int i = 0; i < n; i++) {
+			residuals[2 * i] -= flows[i];
+			residuals[2 * i + 1] += flows[i];
+
+			for (int a = 2 * i; a <= 2 * i + 1; a++)
+				if (residuals[a] < 0) {
+					double d = -residuals[a];
+
+					residuals[a] = 0;
+					residuals[a ^ 1] -= d;
+					excess[heads[a ^ 1]] += d;
+					excess[heads[a]] -= d;
+				}
+		}
+
+		excess[source] = 0;
+		excess[sink] = 0;
+
+		int[] parents = new int[nodeCount];
+		int[] queue = new int[nodeCount];
+
+		for (int v = 0; v < nodeCount; v++)
+			while (excess[v] > 0) {
+				int w = augmentingPath(v, excess, true, parents, queue);
+
+				if (w < 0)
+					return false;
+
+				double d = augment(v, w, excess[v], parents);
+
+				if (w != source)
+					d = Math.min(d, -excess[w]);
+
+				excess[v] -= push(v, w, d, parents);
+
+				if (w != source)
+					excess[w] += d;
+			}
+
+		for (int v = 0; v < nodeCount; v++)
+			while (excess[v] < 0) {
+				if (augmentingPath(sink, null, false, parents, queue) < 0
+						|| !reached(v, parents))
+					return false;
+
+				double d = augment(sink, v, -excess[v], parents);
+				excess[v] += push(sink, v, d, parents);
+			}
+
+		return true;
+	}
+
+	/**
+	 * Breadth-first search in the residual graph from a node, to the nearest
+	 * node lacking flow or to the source if excess is given, or to all the
+	 * nodes otherwise.
+	 * 
+	 * @return the node found, -1 if none
+	 */
+	protected int augmentingPath(int from, double[] excess, boolean nearest,
+			int[] parents, int[] queue) {
+		int tail = 0;
+
+		Arrays.fill(parents, -2);
+		parents[from] = -1;
+		queue[tail++] = from;
+
+		for (int head = 0; head < tail; head++) {
+			int v = queue[head];
+
+			if (nearest && v != from && (v == source || excess[v] < 0))
+				return v;
+
+			for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+				int a = arcs[j];
+				int w = heads[a];
+
+				if (residuals[a] > 0 && parents[w] == -2) {
+					parents[w] = a;
+					queue[tail++] = w;
+				}
+			}
+		}
+
+		return nearest ? -1 : from;
+	}
+
+	protected boolean reached(int v, int[] parents) {
+		return parents[v] != -2;
+	}
+
+	/**
+	 * Bottleneck of the path found from a node to another.
+	 */
+	protected double augment(int from, int to, double max, int[] parents) {
+		double d = max;
+
+		for (int v = to; v != from; v = heads[parents[v] ^ 1])
+			d = Math.min(d, residuals[parents[v]]);
+
+		return d;
+	}
+
+	/**
+	 * Push flow along the path found from a node to another.
+	 */
+	protected double push(int from, int to, double d, int[] parents) {
+		for (int v = to; v != from; v = heads[parents[v] ^ 1]) {
+			residuals[parents[v]] -= d;
+			residuals[parents[v] ^ 1] += d;
+		}
+
+		return d;
+	}
+
+	@Result
+	public String defaultResult() {
+		return Double.toString(maximumFlow);
+	}
+}
@@ -0,0 +1,496 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import org.graphstream.algorithm.Algorithm;
+import org.graphstream.algorithm.NotInitializedException;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+
+/**
+ * Gomory-Hu tree of a graph, answering the minimum cut between any pair of
+ * nodes.
+ * 
+ * <p>
+ * The tree has the same nodes as the graph, and the minimum cut between two
+ * nodes is the lightest edge of the path between them in the tree. Removing
+ * this edge splits the tree in two, giving the two sides of a minimum cut in
+ * the graph. Once the tree is built, the weight of the minimum cut between
+ * two nodes is found by walking up the tree, without computing any flow.
+ * Without weights, it is the number of edges to remove to disconnect the two
+ * nodes. The direction of the edges is ignored.
+ * </p>
+ * 
+ * <p>
+ * The tree is built with Gusfield's algorithm, with n - 1 maximum flows on the
+ * graph itself. Flow i is computed between node i and its parent in the tree
+ * at this time, which can change when the flows before are applied. Flows
+ * are computed in advance on a fork-join pool with the current parents, and
+ * applied in order. A flow whose parent changed in the meantime is computed
+ * again, so the result is the same as the sequential algorithm. Each thread
+ * of the pool has its own flow algorithm, {@link DinicAlgorithm} by default,
+ * see {@link #setFlowAlgorithm(Supplier)}.
+ * </p>
+ * 
+ * <p>
+ * Edge weights are read from the weight attribute, one if missing, and must be
+ * non-negative. If the weight attribute is null, each edge counts for one.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * GomoryHuTree tree = new GomoryHuTree();
+ * tree.init(graph);
+ * tree.compute();
+ * 
+ * System.out.printf(&quot;%d edges: %s%n&quot;,
+ * 		(int) tree.getMinimumCutValue(graph.getNode(&quot;A&quot;), graph.getNode(&quot;B&quot;)),
+ * 		tree.getMinimumCut(graph.getNode(&quot;A&quot;), graph.getNode(&quot;B&quot;)));
+ * </pre>
+ * 
+ * @complexity n - 1 maximum flows to build the tree, O(n) for each query
+ * @reference Gusfield, D. (1990). "Very simple methods for all pairs network
+ *            flow analysis". SIAM Journal on Computing 19 (1): 143–155
+ */
+public class GomoryHuTree implements Algorithm {
+	/**
+	 * The graph.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Attribute where the weights of the edges are stored, null to count the
+	 * edges.
+	 */
+	protected String weightAttribute;
+
+	/**
+	 * Create the flow algorithm of each thread.
+	 */
+	protected Supplier<? extends FlowAlgorithmBase> flowAlgorithm = DinicAlgorithm::new;
+
+	/**
+	 * Compute the flows in parallel.
+	 */
+	protected boolean parallel = true;
+
+	/**
+	 * Parent of each node in the tree, -1 for the root.
+	 */
+	protected int[] parents;
+
+	/**
+	 * Weight of the edge between each node and its parent.
+	 */
+	protected double[] values;
+
+	/**
+	 * Depth of each node in the tree.
+	 */
+	protected int[] depths;
+
+	/**
+	 * New tree counting the edges.
+	 */
+	public GomoryHuTree() {
+		this(null);
+	}
+
+	/**
+	 * New tree using the given weight attribute.
+	 * 
+	 * @param weightAttribute
+	 *            attribute where the weights of the edges are stored, null to
+	 *            count the edges
+	 */
+	public GomoryHuTree(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Set the attribute where the weights of the edges are stored.
+	 * 
+	 * @param weightAttribute
+	 *            the weight attribute, null to count the edges
+	 */
+	@Parameter
+	public void setWeightAttribute(String weightAttribute) {
+		this.weightAttribute = weightAttribute;
+	}
+
+	/**
+	 * Set the flow algorithm used to compute the cuts. A new one is created
+	 * for each thread computing flows.
+	 * 
+	 * @param flowAlgorithm
+	 *            creates a flow algorithm
+	 */
+	@Parameter
+	public void setFlowAlgorithm(
+			Supplier<? extends FlowAlgorithmBase> flowAlgorithm) {
+		this.flowAlgorithm = flowAlgorithm;
+	}
+
+	/**
+	 * Enable the computation of the flows on the common fork-join pool.
+	 * 
+	 * @param parallel
+	 *            true to compute the flows in parallel
+	 */
+	@Parameter
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		this.graph = graph;
+		this.parents = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		int n = graph.getNodeCount();
+		int[] p = new int[n];
+		double[] fl = new double[n];
+
+		if (n > 1) {
+			ThreadLocal<Cuts> cuts = ThreadLocal.withInitial(Cuts::new);
+			ForkJoinPool pool = parallel ? ForkJoinPool.commonPool() : null;
+			int window = pool == null ? 0 : 2 * pool.getParallelism();
+
+			@SuppressWarnings("unchecked")
+			ForkJoinTask<Cut>[] tasks = new ForkJoinTask[n];
+			int[] targets = new int[n];
+			int next = 1;
+
+			for (int s = 1; s < n; s++) {
+				//
+				// Compute the next flows in advance with the parents they have
+				// now.
+				//
+
+				for (; next < n && next <= s + window; next++)
+					if (pool != null && next > s)
+						tasks[next] = submit(pool, cuts, next, targets, p);
+
+				int t = p[s];
+				Cut cut;
+
+				if (tasks[s] != null && targets[s] == t)
+					cut = tasks[s].join();
+				else
+					cut = cuts.get().cut(s, t);
+
+				tasks[s] = null;
+
+				//
+				// Gusfield's update.
+				//
+
+				fl[s] = cut.value;
+
+				for (int i = 0; i < n; i++)
+					if (i != s && cut.side[i] && p[i] == t)
+						p[i] = s;
+
+				if (cut.side[p[t]]) {
+					p[s] = p[t];
+					p[t] = s;
+					fl[s] = fl[t];
+					fl[t] = cut.value;
+				}
+
+				for (int j = s + 1; j < next; j++)
+					if (tasks[j] != null && targets[j] != p[j]) {
+						tasks[j].cancel(false);
+						tasks[j] = submit(pool, cuts, j, targets, p);
+					}
+			}
+		}
+
+		//
+		// Root the tree at the node which is its own parent.
+		//
+
+		parents = new int[n];
+		values = fl;
+		depths = new int[n];
+
+		for (int v = 0; v < n; v++)
+			parents[v] = p[v] == v ? -1 : p[v];
+
+		for (int v = 0; v < n; v++)
+			depth(v);
+	}
+
+	/**
+	 * Weight of the minimum cut between two nodes, the number of edges to
+	 * remove to disconnect them if edges are counted.
+	 * 
+	 * @param u
+	 *            a node
+	 * @param v
+	 *            another node
+	 * @return the weight of the cut, zero if the nodes are not connected
+	 * @throws IllegalArgumentException
+	 *             if the nodes are the same
+	 */
+	public double getMinimumCutValue(Node u, Node v) {
+		return values[lightest(u, v)];
+	}
+
+	/**
+	 * Edges of a minimum cut between two nodes, whose removal disconnects the
+	 * two nodes.
+	 * 
+	 * @param u
+	 *            a node
+	 * @param v
+	 *            another node
+	 * @return the edges of the cut
+	 * @throws IllegalArgumentException
+	 *             if the nodes are the same
+	 */
+	public List<Edge> getMinimumCut(Node u, Node v) {
+		int x = lightest(u, v);
+		int n = graph.getNodeCount();
+		byte[] below = new byte[n];
+
+		//
+		// The side of the cut is the subtree of x. Each node is walked up
+		// until a node already known, or the depth of x.
+		//
+
+		below[x] = 1;
+
+		for (int w = 0; w < n; w++) {
+			int a = w;
+
+			while (below[a] == 0 && depths[a] > depths[x])
+				a = parents[a];
+
+			byte b = below[a] != 0 ? below[a] : 2;
+
+			for (a = w; below[a] == 0 && depths[a] > depths[x]; a = parents[a])
+				below[a] = b;
+
+			below[a] = b;
+		}
+
+		ArrayList<Edge> edges = new ArrayList<Edge>();
+
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			Edge edge = graph.getEdge(e);
+
+			if ((below[edge.getNode0().getIndex()] == 1) != (below[edge
+					.getNode1().getIndex()] == 1))
+				edges.add(edge);
+		}
+
+		return edges;
+	}
+
+	/**
+	 * Parent of a node in the tree.
+	 * 
+	 * @param node
+	 *            a node
+	 * @return its parent, null for the root of the tree
+	 */
+	public Node getTreeParent(Node node) {
+		checkComputed();
+
+		int p = parents[node.getIndex()];
+		return p < 0 ? null : graph.getNode(p);
+	}
+
+	/**
+	 * Weight of the edge between a node and its parent in the tree, the
+	 * weight of the minimum cut between the two.
+	 * 
+	 * @param node
+	 *            a node which is not the root
+	 * @return the weight of the edge
+	 */
+	public double getTreeValue(Node node) {
+		checkComputed();
+		return values[node.getIndex()];
+	}
+
+	protected void checkComputed() {
+		if (parents == null)
+			throw new NotInitializedException(this);
+	}
+
+	protected int depth(int v) {
+		if (parents[v] >= 0 && depths[v] == 0)
+			depths[v] = depth(parents[v]) + 1;
+
+		return depths[v];
+	}
+
+	/**
+	 * Node of the lightest tree edge between two nodes, the edge being the
+	 * one between this node and its parent.
+	 */
+	protected int lightest(Node u, Node v) {
+		checkComputed();
+
+		int a = u.getIndex(), b = v.getIndex();
+		int best = -1;
+
+		if (a == b)
+			throw new IllegalArgumentException("same node \"" + u.getId()
+					+ "\"");
+
+		while (a != b) {
+			if (depths[a] < depths[b]) {
+				int c = a;
+				a = b;
+				b = c;
+			}
+
+			if (best < 0 || values[a] < values[best])
+				best = a;
+
+			a = parents[a];
+		}
+
+		return best;
+	}
+
+	protected ForkJoinTask<Cut> submit(ForkJoinPool pool,
+			ThreadLocal<Cuts> cuts, int s, int[] targets, int[] p) {
+		int t = p[s];
+
+		targets[s] = t;
+		return pool.submit(() -> cuts.get().cut(s, t));
+	}
+
+	/**
+	 * A minimum cut.
+	 */
+	protected static class Cut {
+		/**
+		 * Weight of the cut.
+		 */
+		double value;
+
+		/**
+		 * Nodes on the side of the source.
+		 */
+		boolean[] side;
+	}
+
+	/**
+	 * Computes minimum cuts with a flow algorithm, in one thread.
+	 */
+	protected class Cuts {
+		FlowAlgorithmBase flow;
+		int[] queue;
+
+		Cuts() {
+			flow = flowAlgorithm.get();
+			flow.init(graph);
+			flow.setCapacityAttribute(null);
+
+			for (int e = 0; e < flow.n; e++) {
+				Edge edge = graph.getEdge(e);
+				double w = weightAttribute == null ? Double.NaN : edge
+						.getNumber(weightAttribute);
+
+				if (Double.isNaN(w))
+					w = 1;
+
+				flow.capacities[e] = flow.capacities[e + flow.n] = w;
+			}
+
+			queue = new int[graph.getNodeCount()];
+		}
+
+		/**
+		 * Minimum cut between s and t, the side of s being the nodes reached
+		 * from s in the residual graph of a maximum flow.
+		 */
+		Cut cut(int s, int t) {
+			Cut cut = new Cut();
+			int n = flow.n;
+
+			flow.setSourceId(graph.getNode(s).getId());
+			flow.setSinkId(graph.getNode(t).getId());
+			flow.compute();
+
+			cut.value = flow.getMaximumFlow();
+			cut.side = new boolean[graph.getNodeCount()];
+			cut.side[s] = true;
+
+			int head = 0, tail = 0;
+			queue[tail++] = s;
+
+			while (head < tail) {
+				Node u = graph.getNode(queue[head++]);
+
+				for (int j = 0; j < u.getDegree(); j++) {
+					Edge edge = u.getEdge(j);
+					int e = edge.getIndex();
+					Node v = edge.getOpposite(u);
+					double residual = edge.getSourceNode() == u ? flow.capacities[e]
+							- flow.flows[e]
+							: flow.capacities[e + n] - flow.flows[e + n];
+
+					if (residual > 1e-9 && !cut.side[v.getIndex()]) {
+						cut.side[v.getIndex()] = true;
+						queue[tail++] = v.getIndex();
+					}
+				}
+			}
+
+			return cut;
+		}
+	}
+}
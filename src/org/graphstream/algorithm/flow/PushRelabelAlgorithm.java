@@ -0,0 +1,348 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow;
+
+import java.util.Arrays;
+
+import org.graphstream.algorithm.util.Result;
+
+/**
+ * The highest-label push-relabel algorithm to compute maximum flow.
+ * 
+ * <p>
+ * Instead of looking for augmenting paths, the algorithm saturates the arcs
+ * leaving the source, then pushes the excess of the nodes towards the sink
+ * along arcs going one level down. Each node has a height, a lower bound of
+ * its distance to the sink in the residual graph, and a node whose excess can
+ * not be pushed is relabeled, its height becoming one plus the lowest height
+ * of its residual neighbors. The excess which can not reach the sink goes
+ * back to the source. The active node of highest height is processed first.
+ * </p>
+ * 
+ * <p>
+ * Two heuristics make the algorithm fast in practice. The global relabeling
+ * computes the exact heights with a breadth-first search from the sink, then
+ * from the source, at the beginning and each time the relabelings scanned
+ * about as many arcs as the graph has. The gap heuristic notices when no node
+ * is left at some height lower than the number of nodes: the nodes above can
+ * not reach the sink anymore and are lifted at once above the source.
+ * </p>
+ * 
+ * <p>
+ * The residual graph is stored in flat arrays, see
+ * {@link ResidualFlowAlgorithmBase}.
+ * </p>
+ * 
+ * @reference Goldberg, A. V.; Tarjan, R. E. (1988).
+ *            "A new approach to the maximum-flow problem". Journal of the ACM
+ *            35 (4): 921–940
+ * @reference Cherkassky, B. V.; Goldberg, A. V. (1997).
+ *            "On Implementing the Push-Relabel Method for the Maximum Flow
+ *            Problem". Algorithmica 19 (4): 390–410
+ * @complexity O(V<sup>2</sup>E<sup>1/2</sup>), where V is the number of nodes
+ *             and E the number of edges
+ */
+public class PushRelabelAlgorithm extends ResidualFlowAlgorithmBase {
+	/**
+	 * The heights are computed again after relabelings scanning this number
+	 * of times the number of arcs and nodes.
+	 */
+	public static final double GLOBAL_RELABEL_FREQUENCY = 1.0;
+
+	protected double[] excess;
+	protected int[] heights;
+
+	/**
+	 * Next arc to scan for each node.
+	 */
+	protected int[] current;
+
+	/**
+	 * Active nodes of each height, as linked stacks.
+	 */
+	protected int[] activeHeads, activeNext;
+
+	/**
+	 * All the nodes of each height lower than the number of nodes, as doubly
+	 * linked lists.
+	 */
+	protected int[] bucketHeads, bucketNext, bucketPrevious;
+
+	/**
+	 * Highest height with active nodes, and upper bound of the highest height
+	 * lower than the number of nodes with nodes.
+	 */
+	protected int maxActive, maxBucket;
+
+	/**
+	 * Arcs scanned by the relabelings since the last global relabeling.
+	 */
+	protected long work;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		buildResidualGraph();
+
+		int size = nodeCount;
+
+		excess = new double[size];
+		heights = new int[size];
+		current = new int[size];
+		activeHeads = new int[2 * size + 1];
+		activeNext = new int[size];
+		bucketHeads = new int[size];
+		bucketNext = new int[size];
+		bucketPrevious = new int[size];
+
+		if (source != sink) {
+			for (int j = offsets[source]; j < offsets[source + 1]; j++) {
+				int a = arcs[j];
+				double delta = residuals[a];
+
+				if (delta > 0) {
+					residuals[a] = 0;
+					residuals[a ^ 1] += delta;
+					excess[heads[a]] += delta;
+					excess[source] -= delta;
+				}
+			}
+
+			globalRelabel();
+
+			while (maxActive >= 0) {
+				int v = activeHeads[maxActive];
+
+				if (v < 0) {
+					maxActive--;
+					continue;
+				}
+
+				activeHeads[maxActive] = activeNext[v];
+				discharge(v);
+
+				if (work > GLOBAL_RELABEL_FREQUENCY
+						* (nodeCount + arcs.length)) {
+					globalRelabel();
+					work = 0;
+				}
+			}
+		}
+
+		storeFlows();
+	}
+
+	/**
+	 * Push the excess of a node, relabeling it when needed.
+	 */
+	protected void discharge(int v) {
+		int end = offsets[v + 1];
+
+		while (excess[v] > 0) {
+			int j = current[v];
+
+			for (; j < end && excess[v] > 0; j++) {
+				int a = arcs[j];
+				int w = heads[a];
+
+				if (residuals[a] > 0 && heights[v] == heights[w] + 1) {
+					double delta = Math.min(excess[v], residuals[a]);
+
+					residuals[a] -= delta;
+					residuals[a ^ 1] += delta;
+					excess[v] -= delta;
+
+					if (excess[w] == 0 && w != sink && w != source)
+						activate(w);
+
+					excess[w] += delta;
+
+					if (excess[v] == 0)
+						break;
+				}
+			}
+
+			current[v] = j < end ? j : offsets[v];
+
+			if (excess[v] > 0 && !relabel(v))
+				return;
+		}
+	}
+
+	/**
+	 * Raise a node to one plus the lowest height of its residual neighbors,
+	 * lifting the nodes above its old height if it leaves a gap.
+	 * 
+	 * @return false if the node can not be raised anymore
+	 */
+	protected boolean relabel(int v) {
+		int old = heights[v];
+		int h = 2 * nodeCount;
+
+		for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+			int a = arcs[j];
+
+			if (residuals[a] > 0)
+				h = Math.min(h, heights[heads[a]] + 1);
+		}
+
+		work += offsets[v + 1] - offsets[v] + 12;
+
+		if (old < nodeCount) {
+			removeFromBucket(v);
+
+			if (bucketHeads[old] < 0) {
+				for (int k = old + 1; k <= maxBucket; k++) {
+					for (int x = bucketHeads[k]; x >= 0; x = bucketNext[x])
+						heights[x] = nodeCount + 1;
+
+					bucketHeads[k] = -1;
+				}
+
+				maxBucket = old - 1;
+				h = Math.max(h, nodeCount + 1);
+			}
+		}
+
+		heights[v] = h;
+
+		if (h >= 2 * nodeCount)
+			return false;
+
+		if (h < nodeCount)
+			addToBucket(v);
+
+		maxActive = Math.max(maxActive, h);
+
+		return true;
+	}
+
+	protected void activate(int v) {
+		int h = heights[v];
+
+		activeNext[v] = activeHeads[h];
+		activeHeads[h] = v;
+		maxActive = Math.max(maxActive, h);
+	}
+
+	protected void addToBucket(int v) {
+		int h = heights[v];
+
+		bucketPrevious[v] = -1;
+		bucketNext[v] = bucketHeads[h];
+
+		if (bucketHeads[h] >= 0)
+			bucketPrevious[bucketHeads[h]] = v;
+
+		bucketHeads[h] = v;
+		maxBucket = Math.max(maxBucket, h);
+	}
+
+	protected void removeFromBucket(int v) {
+		if (bucketPrevious[v] >= 0)
+			bucketNext[bucketPrevious[v]] = bucketNext[v];
+		else
+			bucketHeads[heights[v]] = bucketNext[v];
+
+		if (bucketNext[v] >= 0)
+			bucketPrevious[bucketNext[v]] = bucketPrevious[v];
+	}
+
+	/**
+	 * Exact heights, by breadth-first searches in the residual graph from the
+	 * sink, then from the source for the nodes which can not reach the sink.
+	 */
+	protected void globalRelabel() {
+		int size = nodeCount;
+		int[] queue = new int[size];
+
+		Arrays.fill(heights, 2 * size);
+		Arrays.fill(activeHeads, -1);
+		Arrays.fill(bucketHeads, -1);
+		maxActive = -1;
+		maxBucket = -1;
+
+		heights[sink] = 0;
+		heights[source] = size;
+
+		int tail = 0;
+		queue[tail++] = sink;
+
+		for (int head = 0; head < tail; head++) {
+			int w = queue[head];
+
+			if (w != source && heights[w] < size)
+				addToBucket(w);
+
+			for (int j = offsets[w]; j < offsets[w + 1]; j++) {
+				int a = arcs[j];
+				int v = heads[a];
+
+				if (residuals[a ^ 1] > 0 && heights[v] == 2 * size) {
+					heights[v] = heights[w] + 1;
+					queue[tail++] = v;
+				}
+			}
+		}
+
+		tail = 0;
+		queue[tail++] = source;
+
+		for (int head = 0; head < tail; head++) {
+			int w = queue[head];
+
+			for (int j = offsets[w]; j < offsets[w + 1]; j++) {
+				int a = arcs[j];
+				int v = heads[a];
+
+				if (residuals[a ^ 1] > 0 && heights[v] == 2 * size) {
+					heights[v] = heights[w] + 1;
+					queue[tail++] = v;
+				}
+			}
+		}
+
+		for (int v = 0; v < size; v++) {
+			current[v] = offsets[v];
+
+			if (excess[v] > 0 && v != sink && v != source
+					&& heights[v] < 2 * size)
+				activate(v);
+		}
+	}
+
+	@Result
+	public String defaultResult() {
+		return Double.toString(maximumFlow);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.flow;
+
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.ElementNotFoundException;
+import org.graphstream.graph.Node;
+
+/**
+ * Base for flow algorithms working on a flat residual graph.
+ * 
+ * <p>
+ * Edge i of the graph gives two arcs: arc 2i, from its source to its target,
+ * with capacity {@code capacities[i]}, and arc 2i+1, the reverse one, with
+ * capacity {@code capacities[i+n]}. The reverse of arc a is a ^ 1. Only the
+ * residual capacity of each arc is stored, pushing flow on an arc moving
+ * residual capacity to its reverse. The arcs leaving each node are stored in
+ * one array, so that no edge is looked up during the computation. The flows
+ * of the edges are given back to {@link FlowAlgorithmBase} at the end.
+ * </p>
+ */
+public abstract class ResidualFlowAlgorithmBase extends FlowAlgorithmBase {
+	/**
+	 * Number of nodes.
+	 */
+	protected int nodeCount;
+
+	/**
+	 * Indices of the source and the sink.
+	 */
+	protected int source, sink;
+
+	/**
+	 * Arcs leaving node v are between offsets[v] and offsets[v+1] of arcs.
+	 */
+	protected int[] offsets, arcs;
+
+	/**
+	 * Node each arc goes to.
+	 */
+	protected int[] heads;
+
+	/**
+	 * Residual capacity of each arc.
+	 */
+	protected double[] residuals;
+
+	/**
+	 * Check the source and the sink, load the capacities and build the
+	 * residual graph with a zero flow.
+	 */
+	protected void buildResidualGraph() {
+		Node s = flowGraph.getNode(sourceId);
+		Node t = flowGraph.getNode(sinkId);
+
+		if (s == null)
+			throw new ElementNotFoundException("node \"%s\"", sourceId);
+
+		if (t == null)
+			throw new ElementNotFoundException("node \"%s\"", sinkId);
+
+		checkArrays();
+		loadCapacitiesFromAttribute();
+
+		nodeCount = flowGraph.getNodeCount();
+		source = s.getIndex();
+		sink = t.getIndex();
+		offsets = new int[nodeCount + 1];
+		heads = new int[2 * n];
+		residuals = new double[2 * n];
+
+		for (int i = 0; i < n; i++) {
+			Edge e = flowGraph.getEdge(i);
+			int u = e.getSourceNode().getIndex();
+			int v = e.getTargetNode().getIndex();
+
+			heads[2 * i] = v;
+			heads[2 * i + 1] = u;
+			residuals[2 * i] = capacities[i];
+			residuals[2 * i + 1] = capacities[i + n];
+
+			if (u != v) {
+				offsets[u + 1]++;
+				offsets[v + 1]++;
+			}
+		}
+
+		for (int v = 0; v < nodeCount; v++)
+			offsets[v + 1] += offsets[v];
+
+		arcs = new int[offsets[nodeCount]];
+		int[] fill = new int[nodeCount];
+
+		for (int i = 0; i < n; i++) {
+			int u = heads[2 * i + 1], v = heads[2 * i];
+
+			if (u != v) {
+				arcs[offsets[u] + fill[u]++] = 2 * i;
+				arcs[offsets[v] + fill[v]++] = 2 * i + 1;
+			}
+		}
+	}
+
+	/**
+	 * Copy the flows of the residual graph to the flows of the edges, and
+	 * compute the maximum flow as the flow leaving the source.
+	 */
+	protected void storeFlows() {
+		for (int i = 0; i < n; i++) {
+			flows[i] = capacities[i] - residuals[2 * i];
+			flows[i + n] = -flows[i];
+		}
+
+		double flow = 0;
+
+		for (int j = offsets[source]; j < offsets[source + 1]; j++) {
+			int a = arcs[j];
+			flow += (a & 1) == 0 ? flows[a >> 1] : flows[(a >> 1) + n];
+		}
+
+		maximumFlow = flow;
+	}
+}
@@ -35,6 +35,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 
 import org.graphstream.algorithm.DynamicAlgorithm;
+import org.graphstream.algorithm.util.GraphDelta;
+import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
 import org.graphstream.stream.SinkAdapter;
@@ -45,6 +47,15 @@ import static org.graphstream.algorithm.Toolkit.communities;
  * Computes and updates an absolute measure based on the current community
  * assignment on a given graph as it evolves.
  * 
+ * <p>
+ * The measure is updated at each event of the graph. When most of the nodes
+ * change of community at each step, as with the decentralized community
+ * algorithms, it is cheaper to enable the batch mode with
+ * {@link #setBatchMode(boolean)}: the events are then coalesced by a
+ * {@link GraphDelta} and their net effect is applied once per step, only if
+ * the structure or the community assignment really changed.
+ * </p>
+ * 
  * @reference M. E. Newman and M. Girvan, “Finding and Evaluating Community
  *            Structure in Networks,” <i>Physical Review E (Statistical,
  *            Nonlinear, and Soft Matter Physics)</i>, vol. 69, no. 2, pp. 026
@@ -79,6 +90,16 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 	 */
 	protected double M;
 
+	/**
+	 * Flag used to update the measure once per step.
+	 */
+	protected boolean batchMode = false;
+
+	/**
+	 * Buffer of the graph events in batch mode.
+	 */
+	protected GraphDelta delta;
+
 	/**
 	 * New measure algorithm with a given marker for communities.
 	 * 
@@ -117,6 +138,9 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 	 * @return The current measure.
 	 */
 	public double getMeasure() {
+		if (delta != null)
+			delta.flush();
+
 		compute();
 		return M;
 	}
@@ -130,13 +154,13 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 	public void init(Graph graph) {
 		if (graph != this.graph) {
 			if (this.graph != null) {
-				this.graph.removeSink(this);
+				detach();
 			}
 
 			this.graph = graph;
 
 			if (this.graph != null) {
-				this.graph.addSink(this);
+				attach();
 				initialize();
 			}
 		}
@@ -162,6 +186,107 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 		communities = communities(graph, marker);
 	}
 
+	/**
+	 * Update the measure once per step instead of at each event.
+	 * 
+	 * @param batchMode
+	 *            true to enable the batch mode
+	 */
+	@Parameter
+	public void setBatchMode(boolean batchMode) {
+		if (batchMode != this.batchMode) {
+			if (graph != null)
+				detach();
+
+			this.batchMode = batchMode;
+
+			if (graph != null)
+				attach();
+		}
+	}
+
+	protected void attach() {
+		if (batchMode) {
+			delta = new GraphDelta(graph, this::applyDelta);
+
+			watchAttributes(delta);
+			delta.attach();
+		} else {
+			graph.addSink(this);
+		}
+	}
+
+	protected void detach() {
+		if (delta != null) {
+			delta.detach();
+			delta = null;
+		} else {
+			graph.removeSink(this);
+		}
+	}
+
+	/**
+	 * Apply the changes of a whole step to the communities. The measure is
+	 * rebuilt from scratch only if the graph has been cleared.
+	 * 
+	 * @param d
+	 *            the changes since the previous step
+	 */
+	protected void applyDelta(GraphDelta d) {
+		if (d.isCleared()) {
+			initialize();
+			graphChanged = true;
+			return;
+		}
+
+		applyAssignment(d, marker, communities);
+
+		if (d.hasStructuralChanges())
+			graphChanged = true;
+	}
+
+	/**
+	 * Apply the changes of a step to an assignment of the nodes to
+	 * communities.
+	 * 
+	 * @param d
+	 *            the changes since the previous step
+	 * @param marker
+	 *            the attribute marking the communities, watched by the delta
+	 * @param assignment
+	 *            the communities given by this attribute
+	 */
+	protected void applyAssignment(GraphDelta d, String marker,
+			HashMap<Object, HashSet<Node>> assignment) {
+		HashSet<Node> added = new HashSet<Node>(d.getAddedNodes());
+
+		for (Node n : d.getRemovedNodes())
+			unassign(n, d.getPreviousValue(n, marker), assignment);
+
+		for (GraphDelta.AttributeChange c : d.getAttributeChanges(marker)) {
+			Node n = (Node) c.getElement();
+
+			if (!added.contains(n)) {
+				unassign(n, c.getOldValue(), assignment);
+				assign(n, c.getValue(), assignment);
+			}
+		}
+
+		for (Node n : added)
+			assign(n, n.getAttribute(marker), assignment);
+	}
+
+	/**
+	 * Tell the delta used in batch mode which attributes the measure depends
+	 * on.
+	 * 
+	 * @param delta
+	 *            the delta
+	 */
+	protected void watchAttributes(GraphDelta delta) {
+		delta.watchNodeAttribute(marker);
+	}
+
 	/*
 	 * @see org.graphstream.stream.Sink#nodeAdded(java.lang.String, long,
 	 * java.lang.String)
@@ -214,6 +339,7 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 	 */
 	@Override
 	public void graphCleared(String graphId, long timeId) {
+		communities.clear();
 		graphChanged = true;
 	}
 
@@ -245,6 +371,25 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.Sink#nodeAttributeRemoved(java.lang.String,
+	 * long, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void nodeAttributeRemoved(String graphId, long timeId,
+			String nodeId, String attribute) {
+		if (attribute.equals(marker)) {
+			Node n = graph.getNode(nodeId);
+
+			// The attribute is still there when the event is received.
+			if (n != null)
+				nodeAttributeChanged(graphId, timeId, nodeId, attribute,
+						n.getAttribute(marker), null);
+		}
+	}
+
 	/**
 	 * Put the node referred by nodeId to the community referred by newValue in
 	 * the assignment referred by assignment.
@@ -257,21 +402,8 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 			HashMap<Object, HashSet<Node>> assignment) {
 		// A node added, put it in the communities.
 		Node node = graph.getNode(nodeId);
-		if (node != null) {
-			Object communityKey = newValue;
-
-			if (communityKey == null)
-				communityKey = "NULL_COMMUNITY";
-			HashSet<Node> community = assignment.get(communityKey);
-
-			if (community == null) {
-				community = new HashSet<Node>();
-				assignment.put(communityKey, community);
-			}
-			community.add(node);
-
-			graphChanged = true;
-		}
+		if (node != null)
+			assign(node, newValue, assignment);
 	}
 
 	/**
@@ -285,23 +417,52 @@ public abstract class CommunityMeasure extends SinkAdapter implements
 	protected void unassignNode(String nodeId, Object oldValue,
 			HashMap<Object, HashSet<Node>> assignment) {
 		Node node = graph.getNode(nodeId);
-		if (node != null) {
-			Object communityKey = oldValue;
+		if (node != null)
+			unassign(node, oldValue, assignment);
+	}
+
+	/**
+	 * Put a node in a community, the node being in the graph or having just
+	 * been removed from it.
+	 */
+	protected void assign(Node node, Object newValue,
+			HashMap<Object, HashSet<Node>> assignment) {
+		Object communityKey = newValue;
+
+		if (communityKey == null)
+			communityKey = "NULL_COMMUNITY";
+		HashSet<Node> community = assignment.get(communityKey);
+
+		if (community == null) {
+			community = new HashSet<Node>();
+			assignment.put(communityKey, community);
+		}
+		community.add(node);
+
+		graphChanged = true;
+	}
+
+	/**
+	 * Remove a node from a community, the node being in the graph or having
+	 * just been removed from it.
+	 */
+	protected void unassign(Node node, Object oldValue,
+			HashMap<Object, HashSet<Node>> assignment) {
+		Object communityKey = oldValue;
 
-			if (communityKey == null)
-				communityKey = "NULL_COMMUNITY";
-			HashSet<Node> community = assignment.get(communityKey);
+		if (communityKey == null)
+			communityKey = "NULL_COMMUNITY";
+		HashSet<Node> community = assignment.get(communityKey);
 
-			assert community != null : "Removing a node that was not placed in any community !!";
+		assert community != null : "Removing a node that was not placed in any community !!";
 
-			if (community != null) {
-				community.remove(node);
-				if (community.size() == 0) {
-					assignment.remove(communityKey);
-				}
+		if (community != null) {
+			community.remove(node);
+			if (community.size() == 0) {
+				assignment.remove(communityKey);
 			}
-			graphChanged = true;
 		}
+		graphChanged = true;
 	}
 
 }
@@ -35,6 +35,7 @@ import static org.graphstream.algorithm.Toolkit.communities;
 import java.util.HashMap;
 import java.util.HashSet;
 
+import org.graphstream.algorithm.util.GraphDelta;
 import org.graphstream.graph.Node;
 
 /**
@@ -101,6 +102,20 @@ public abstract class CommunityRelativeMeasure extends CommunityMeasure {
 		referenceCommunities = communities(graph, referenceMarker);
 	}
 
+	@Override
+	protected void watchAttributes(GraphDelta delta) {
+		super.watchAttributes(delta);
+		delta.watchNodeAttribute(referenceMarker);
+	}
+
+	@Override
+	protected void applyDelta(GraphDelta d) {
+		super.applyDelta(d);
+
+		if (!d.isCleared())
+			applyAssignment(d, referenceMarker, referenceCommunities);
+	}
+
 	@Override
 	public void nodeAdded(String graphId, long timeId, String nodeId) {
 		super.nodeAdded(graphId, timeId, nodeId);
@@ -33,10 +33,11 @@ package org.graphstream.algorithm.measure;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.graphstream.algorithm.Algorithm;
 import org.graphstream.algorithm.DynamicAlgorithm;
-import org.graphstream.algorithm.flow.EdmondsKarpAlgorithm;
+import org.graphstream.algorithm.StoerWagner;
 import org.graphstream.graph.Edge;
 import org.graphstream.graph.Graph;
 import org.graphstream.graph.Node;
@@ -98,39 +99,22 @@ public class ConnectivityMeasure {
 
 	/**
 	 * Get the edge-connectivity k of a graph such that there is a k-tuple of
-	 * edges whose removal disconnects the graph. This uses the Ford-Fulkerson
-	 * algorithm to compute maximum flows in the graph.
-	 * 
-	 * A simple algorithm would, for every pair (u,v), determine the maximum
-	 * flow from u to v with the capacity of all edges in G set to 1 for both
-	 * directions. A graph is k-edge-connected if and only if the maximum flow
-	 * from u to v is at least k for any pair (u,v), so k is the least u-v-flow
-	 * among all (u,v). Source <a
-	 * href="https://en.wikipedia.org/wiki/K-edge-connected_graph"
-	 * >Wikipedia</a>.
+	 * edges whose removal disconnects the graph. This is the weight of a
+	 * global minimum cut where each edge counts for one, computed with the
+	 * Stoer-Wagner algorithm, without any maximum flow.
 	 * 
 	 * @param g
 	 *            the graph
 	 * @return edge connectivity
+	 * @see StoerWagner
 	 */
 	public static int getEdgeConnectivity(Graph g) {
-		int k = Integer.MAX_VALUE;
-		EdmondsKarpAlgorithm flow = new EdmondsKarpAlgorithm();
-
-		if (g.getNodeCount() < 2)
-			return 0;
+		StoerWagner minCut = new StoerWagner();
 
-		for (int u = 0; u < g.getNodeCount() - 1; u++) {
-			for (int v = u + 1; v < g.getNodeCount(); v++) {
-				flow.init(g, g.getNode(u).getId(), g.getNode(v).getId());
-				flow.setAllCapacities(1.0);
-				flow.compute();
+		minCut.init(g);
+		minCut.compute();
 
-				k = Math.min(k, (int) flow.getMaximumFlow());
-			}
-		}
-
-		return k;
+		return (int) Math.round(minCut.getCutWeight());
 	}
 
 	/**
@@ -224,7 +208,8 @@ public class ConnectivityMeasure {
 
 	/**
 	 * Get a k-tuple of edges whose removal causes the disconnection of the
-	 * graph.
+	 * graph. The edges returned are the ones of a minimum cut, so that there
+	 * can be less than k of them.
 	 * 
 	 * @param g
 	 *            the graph
@@ -233,72 +218,19 @@ public class ConnectivityMeasure {
 	 * @return a k-tuple of edges or null if graph is (k+1)-edge-connected
 	 */
 	public static Edge[] getKDisconnectingEdgeTuple(Graph g, int k) {
-		LinkedList<Integer> toVisit = new LinkedList<Integer>();
-		boolean[] visited = new boolean[g.getNodeCount()];
-		HashSet<Integer> removed = new HashSet<Integer>();
-		KIndexesArray karray = new KIndexesArray(k, g.getNodeCount());
-
-		int minDegree = Integer.MAX_VALUE;
-		Node nodeWithMinDegree = null;
-
 		if (k >= g.getEdgeCount())
 			return g.edges().toArray(Edge[]::new);
-			
-		for (int i = 0; i < g.getNodeCount(); i++) {
-			Node n = g.getNode(i);
-
-			if (n.getDegree() < minDegree) {
-				minDegree = n.getDegree();
-				nodeWithMinDegree = n;
-			}
-		}
-
-		if (k > minDegree) {
-			Edge[] tuple = new Edge[minDegree];
 
-			for (int i = 0; i < minDegree; i++)
-				tuple[i] = nodeWithMinDegree.getEdge(i);
-
-			return tuple;
-		}
-
-		do {
-			toVisit.clear();
-			removed.clear();
-			Arrays.fill(visited, false);
+		StoerWagner minCut = new StoerWagner();
 
-			for (int j = 0; j < k; j++)
-				removed.add(karray.get(j));
+		minCut.init(g);
+		minCut.compute();
 
-			toVisit.add(0);
+		if (minCut.getCutWeight() > k)
+			return null;
 
-			while (toVisit.size() > 0) {
-				Node n = g.getNode(toVisit.poll());
-				
-				visited[n.getIndex()] = true;
-				
-				n.edges().forEach(e -> {
-					Node o = e.getOpposite(n);
-					Integer index = o.getIndex();
-
-					if (!visited[index] && !toVisit.contains(index)
-							&& !removed.contains(e.getIndex()))
-						toVisit.add(index);
-				});
-			}
-
-			for (int i = 0; i < visited.length; i++)
-				if (!visited[i]) {
-					Edge[] tuple = new Edge[k];
-
-					for (int j = 0; j < k; j++)
-						tuple[j] = g.getEdge(karray.get(j));
-
-					return tuple;
-				}
-		} while (karray.next());
-
-		return null;
+		List<Edge> edges = minCut.getCutEdges();
+		return edges.toArray(new Edge[edges.size()]);
 	}
 
 	private static class KIndexesArray {
@@ -393,30 +325,49 @@ public class ConnectivityMeasure {
 		protected Graph g;
 		protected int edgeConnectivity;
 		protected Sink trigger;
+		protected StoerWagner minCut;
+		protected Edge[] cut;
 
 		public EdgeConnectivityMeasure() {
 			g = null;
 			edgeConnectivity = -1;
 			trigger = new StepTrigger(this);
+			minCut = new StoerWagner();
 		}
 
 		/**
-		 * Get the last vertex-connectivity of the registered graph compute in
+		 * Get the last edge-connectivity of the registered graph compute in
 		 * the last call of {@link #compute()}.
 		 * 
-		 * @return vertex connectivity
+		 * @return edge connectivity
 		 */
 		public int getEdgeConnectivity() {
 			return edgeConnectivity;
 		}
 
+		/**
+		 * Get the edges of a minimum cut found in the last call of
+		 * {@link #compute()}, whose removal disconnects the graph.
+		 * 
+		 * @return edges of the cut, as many as the edge connectivity
+		 */
+		public Edge[] getMinimumCut() {
+			return cut;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
 		 * @see org.graphstream.algorithm.Algorithm#compute()
 		 */
 		public void compute() {
-			edgeConnectivity = ConnectivityMeasure.getEdgeConnectivity(g);
+			minCut.init(g);
+			minCut.compute();
+
+			List<Edge> edges = minCut.getCutEdges();
+
+			edgeConnectivity = (int) Math.round(minCut.getCutWeight());
+			cut = edges.toArray(new Edge[edges.size()]);
 		}
 
 		/*
@@ -33,15 +33,39 @@
  */
 package org.graphstream.algorithm.measure;
 
-import static org.graphstream.algorithm.Toolkit.modularity;
-import static org.graphstream.algorithm.Toolkit.modularityMatrix;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 
+import org.graphstream.algorithm.util.GraphDelta;
 import org.graphstream.algorithm.util.Parameter;
 import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Element;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
 
 /**
  * Computes and updates the modularity of a given graph as it evolves.
  * 
+ * <p>
+ * The modularity is not recomputed from scratch at each change. For each
+ * community, the algorithm keeps the total weight of the edges inside the
+ * community and the sum of the (weighted) degrees of its nodes. The modularity
+ * is then
+ * </p>
+ * 
+ * <pre>
+ * Q = sum over communities c of (in(c) / m - (tot(c) / 2m)^2)
+ * </pre>
+ * 
+ * <p>
+ * where m is the total weight of the edges. Adding or removing an edge, or
+ * changing its weight, updates these sums in constant time. Moving a node to
+ * another community costs O(d) where d is the degree of the node. The memory
+ * used is linear in the number of communities.
+ * </p>
+ * 
  * @reference M. E. Newman and M. Girvan, “Finding and Evaluating Community
  *            Structure in Networks,” <i>Physical Review E (Statistical,
  *            Nonlinear, and Soft Matter Physics)</i>, vol. 69, no. 2, pp. 026
@@ -57,6 +81,32 @@ public class Modularity extends CommunityMeasure {
 	 */
 	protected String weightMarker = null;
 
+	/**
+	 * Weights of each community, indexed by their marker value.
+	 */
+	protected HashMap<Object, CommunityWeights> weights;
+
+	/**
+	 * Relative tolerance under which the weights of a community are
+	 * considered to be zero.
+	 */
+	protected static final double RELEASE_EPSILON = 1e-12;
+
+	/**
+	 * Total weight of the edges of the graph.
+	 */
+	protected double totalWeight;
+
+	/**
+	 * Sum over all communities of their internal weight.
+	 */
+	protected double internalWeightSum;
+
+	/**
+	 * Sum over all communities of the square of their total degree.
+	 */
+	protected double squaredDegreeSum;
+
 	/**
 	 * New modularity algorithm using the default marker for communities and no
 	 * weight on edges.
@@ -99,7 +149,15 @@ public class Modularity extends CommunityMeasure {
 	 */
 	@Parameter
 	public void setWeightMarker(String weightMarker) {
+		if (delta != null) {
+			delta.unwatchEdgeAttribute(this.weightMarker);
+			delta.watchEdgeAttribute(weightMarker);
+		}
+
 		this.weightMarker = weightMarker;
+
+		if (graph != null)
+			initialize();
 	}
 
 	/*
@@ -108,13 +166,17 @@ public class Modularity extends CommunityMeasure {
 	 * @see org.graphstream.algorithm.Algorithm#compute()
 	 */
 	/**
-	 * @complexity O(n+m!+m!k)
+	 * @complexity O(1)
 	 */
 	@Override
 	public void compute() {
 		if (graphChanged) {
-			double[][] E = modularityMatrix(graph, communities, weightMarker);
-			M = modularity(E);
+			if (totalWeight == 0)
+				M = 0;
+			else
+				M = internalWeightSum / totalWeight - squaredDegreeSum
+						/ (4 * totalWeight * totalWeight);
+
 			graphChanged = false;
 		}
 	}
@@ -123,4 +185,374 @@ public class Modularity extends CommunityMeasure {
 	public String defaultMessage() {
 		return communities+"";
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Build the communities and the weight sums from scratch.
+	 * 
+	 * @complexity O(n+m) with n the number of nodes and m the number of edges.
+	 */
+	@Override
+	protected void initialize() {
+		super.initialize();
+
+		weights = new HashMap<Object, CommunityWeights>();
+		totalWeight = 0;
+		internalWeightSum = 0;
+		squaredDegreeSum = 0;
+
+		graph.edges().forEach(e -> updateEdge(e, weight(e)));
+		graphChanged = true;
+	}
+
+	@Override
+	protected void watchAttributes(GraphDelta delta) {
+		super.watchAttributes(delta);
+		delta.watchEdgeAttribute(weightMarker);
+	}
+
+	/**
+	 * Weight of an edge. This is one if there is no weight marker. Otherwise
+	 * edges without the weight attribute are ignored.
+	 * 
+	 * @param e
+	 *            an edge
+	 * @return the weight of the edge
+	 */
+	protected double weight(Edge e) {
+		if (weightMarker == null)
+			return 1;
+
+		return weight(e.getAttribute(weightMarker));
+	}
+
+	/**
+	 * Weight given by a value of the weight attribute, read as
+	 * {@link Element#getNumber(String)} does, like
+	 * {@link org.graphstream.algorithm.Toolkit#modularity(Graph, String, String)}
+	 * . A missing value gives zero.
+	 * 
+	 * @param value
+	 *            a value of the weight attribute, or null
+	 * @return the weight
+	 */
+	protected double weight(Object value) {
+		if (value == null)
+			return 0;
+
+		if (value instanceof Number)
+			return ((Number) value).doubleValue();
+
+		if (value instanceof CharSequence) {
+			try {
+				return Double.parseDouble(value.toString());
+			} catch (NumberFormatException e) {
+				// Same as Element.getNumber().
+			}
+		}
+
+		return Double.NaN;
+	}
+
+	/**
+	 * Key of the community of a node, as used in {@link #communities}.
+	 */
+	protected Object communityOf(Node n) {
+		return communityKey(n.getAttribute(marker));
+	}
+
+	protected static Object communityKey(Object value) {
+		return value == null ? "NULL_COMMUNITY" : value;
+	}
+
+	/**
+	 * Add a weight to an edge, which may be negative to remove it.
+	 */
+	protected void updateEdge(Edge e, double delta) {
+		updateEdge(communityOf(e.getNode0()), communityOf(e.getNode1()), delta);
+	}
+
+	/**
+	 * Add a weight to an edge between two communities.
+	 */
+	protected void updateEdge(Object c0, Object c1, double delta) {
+		if (delta == 0)
+			return;
+
+		totalWeight += delta;
+		updateDegree(c0, delta);
+		updateDegree(c1, delta);
+
+		if (c0.equals(c1))
+			updateInternal(c0, delta);
+
+		graphChanged = true;
+	}
+
+	/**
+	 * Move the weight of the edges of a node from a community to another.
+	 */
+	protected void moveNode(Node node, Object from, Object to) {
+		double degree = 0;
+
+		for (Edge e : node) {
+			double w = weight(e);
+
+			if (w == 0)
+				continue;
+
+			if (e.isLoop()) {
+				degree += 2 * w;
+				updateInternal(from, -w);
+				updateInternal(to, w);
+			} else {
+				Object c = communityOf(e.getOpposite(node));
+				degree += w;
+
+				if (c.equals(from))
+					updateInternal(from, -w);
+				if (c.equals(to))
+					updateInternal(to, w);
+			}
+		}
+
+		updateDegree(from, -degree);
+		updateDegree(to, degree);
+	}
+
+	private CommunityWeights weightsOf(Object community) {
+		CommunityWeights cw = weights.get(community);
+
+		if (cw == null) {
+			cw = new CommunityWeights();
+			weights.put(community, cw);
+		}
+
+		return cw;
+	}
+
+	/**
+	 * Forget a community once its weights are back to zero. The weights are
+	 * sums of doubles, so they are compared to zero with a tolerance relative
+	 * to the total weight, and the rounding errors left are removed from the
+	 * global sums.
+	 */
+	private void release(Object community, CommunityWeights cw) {
+		double epsilon = RELEASE_EPSILON * Math.max(1, Math.abs(totalWeight));
+
+		if (Math.abs(cw.internal) <= epsilon && Math.abs(cw.degree) <= epsilon) {
+			internalWeightSum -= cw.internal;
+			squaredDegreeSum -= cw.degree * cw.degree;
+			weights.remove(community);
+		}
+	}
+
+	private void updateInternal(Object community, double delta) {
+		CommunityWeights cw = weightsOf(community);
+
+		cw.internal += delta;
+		internalWeightSum += delta;
+		release(community, cw);
+	}
+
+	private void updateDegree(Object community, double delta) {
+		CommunityWeights cw = weightsOf(community);
+
+		squaredDegreeSum += delta * (2 * cw.degree + delta);
+		cw.degree += delta;
+		release(community, cw);
+	}
+
+	/**
+	 * Apply the changes of a step to the weight sums. Each edge whose weight
+	 * or end communities changed is removed with its previous weight and
+	 * communities, then added back with the current ones. This costs the
+	 * number of changed edges plus the degrees of the nodes which changed of
+	 * community.
+	 * 
+	 * @param d
+	 *            the changes since the previous step
+	 */
+	@Override
+	protected void applyDelta(GraphDelta d) {
+		super.applyDelta(d);
+
+		if (d.isCleared())
+			return;
+
+		HashSet<Edge> added = new HashSet<Edge>(d.getAddedEdges());
+		LinkedHashSet<Edge> changed = new LinkedHashSet<Edge>(added);
+
+		for (Edge e : d.getRemovedEdges())
+			updateEdge(previousCommunityOf(d, e.getNode0()),
+					previousCommunityOf(d, e.getNode1()),
+					-previousWeight(d, e));
+
+		if (weightMarker != null)
+			for (GraphDelta.AttributeChange c : d
+					.getAttributeChanges(weightMarker))
+				changed.add((Edge) c.getElement());
+
+		for (GraphDelta.AttributeChange c : d.getAttributeChanges(marker))
+			((Node) c.getElement()).edges().forEach(changed::add);
+
+		for (Edge e : changed) {
+			if (!added.contains(e))
+				updateEdge(previousCommunityOf(d, e.getNode0()),
+						previousCommunityOf(d, e.getNode1()),
+						-previousWeight(d, e));
+
+			updateEdge(e, weight(e));
+		}
+
+		graphChanged = true;
+	}
+
+	protected Object previousCommunityOf(GraphDelta d, Node n) {
+		return communityKey(d.getPreviousValue(n, marker));
+	}
+
+	protected double previousWeight(GraphDelta d, Edge e) {
+		return weightMarker == null ? 1 : weight(d.getPreviousValue(e,
+				weightMarker));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.measure.CommunityMeasure#edgeAdded(java.lang
+	 * .String, long, java.lang.String, java.lang.String, java.lang.String,
+	 * boolean)
+	 */
+	@Override
+	public void edgeAdded(String graphId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		Edge e = graph.getEdge(edgeId);
+
+		if (e != null)
+			updateEdge(e, weight(e));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.measure.CommunityMeasure#edgeRemoved(java.lang
+	 * .String, long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String graphId, long timeId, String edgeId) {
+		Edge e = graph.getEdge(edgeId);
+
+		if (e != null)
+			updateEdge(e, -weight(e));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAttributeAdded(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public void edgeAttributeAdded(String graphId, long timeId, String edgeId,
+			String attribute, Object value) {
+		edgeAttributeChanged(graphId, timeId, edgeId, attribute, null, value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#edgeAttributeChanged(java.lang.String,
+	 * long, java.lang.String, java.lang.String, java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void edgeAttributeChanged(String graphId, long timeId,
+			String edgeId, String attribute, Object oldValue, Object newValue) {
+		if (weightMarker != null && attribute.equals(weightMarker)) {
+			Edge e = graph.getEdge(edgeId);
+
+			if (e != null)
+				updateEdge(e, weight(newValue) - weight(oldValue));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.stream.SinkAdapter#edgeAttributeRemoved(java.lang.String,
+	 * long, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void edgeAttributeRemoved(String graphId, long timeId,
+			String edgeId, String attribute) {
+		if (weightMarker != null && attribute.equals(weightMarker)) {
+			Edge e = graph.getEdge(edgeId);
+
+			// The attribute is still there when the event is received.
+			if (e != null)
+				updateEdge(e, -weight(e));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.measure.CommunityMeasure#nodeAttributeChanged
+	 * (java.lang.String, long, java.lang.String, java.lang.String,
+	 * java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void nodeAttributeChanged(String graphId, long timeId,
+			String nodeId, String attribute, Object oldValue, Object newValue) {
+		if (attribute.equals(marker)) {
+			Object from = communityKey(oldValue);
+			Object to = communityKey(newValue);
+			Node node = graph.getNode(nodeId);
+
+			if (node != null && !from.equals(to)) {
+				moveNode(node, from, to);
+				graphChanged = true;
+			}
+		}
+
+		super.nodeAttributeChanged(graphId, timeId, nodeId, attribute,
+				oldValue, newValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.measure.CommunityMeasure#graphCleared(java.
+	 * lang.String, long)
+	 */
+	@Override
+	public void graphCleared(String graphId, long timeId) {
+		super.graphCleared(graphId, timeId);
+
+		weights.clear();
+		totalWeight = 0;
+		internalWeightSum = 0;
+		squaredDegreeSum = 0;
+	}
+
+	/**
+	 * Weights of a community.
+	 */
+	protected static class CommunityWeights {
+		/**
+		 * Total weight of the edges whose both ends are in the community.
+		 */
+		double internal;
+
+		/**
+		 * Sum of the weighted degrees of the nodes of the community.
+		 */
+		double degree;
+	}
+}
@@ -0,0 +1,609 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.measure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.apache.commons.math3.util.CombinatoricsUtils;
+import org.graphstream.algorithm.DynamicAlgorithm;
+import org.graphstream.algorithm.util.Parameter;
+import org.graphstream.algorithm.util.Result;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * Streaming estimation of the global and local triangle counts of a dynamic
+ * graph, using a fixed amount of memory.
+ * 
+ * <p>
+ * This measure is a sink that only looks at edge events. It keeps a uniform
+ * sample of at most {@code sampleSize} edges of the current graph, using
+ * random pairing reservoir sampling, and counts the triangles of the sampled
+ * subgraph. These counts are then scaled to give unbiased estimates of the
+ * number of triangles of the whole graph and of the number of triangles each
+ * node belongs to. Edge additions and edge removals are both supported. As
+ * long as the graph has less edges than the sample size and no removal has
+ * been received, the counts are exact.
+ * </p>
+ * 
+ * <p>
+ * The memory used is O(M) where M is the sample size, whatever the size of the
+ * stream. The estimates are refreshed at each {@code stepBegins} event or when
+ * {@link #compute()} is called, and can be queried at any time.
+ * </p>
+ * 
+ * <h2>Usage</h2>
+ * 
+ * <p>
+ * The algorithm can be registered directly as a sink of a source, in which
+ * case the whole graph is never stored:
+ * </p>
+ * 
+ * <pre>
+ * TriangleCountEstimator triangles = new TriangleCountEstimator(100000);
+ * source.addSink(triangles);
+ * 
+ * while (source.nextStep())
+ * 	System.out.printf(&quot;%f triangles%n&quot;, triangles.getGlobalTriangleCount());
+ * </pre>
+ * 
+ * <p>
+ * It can also be initialized with a graph using {@link #init(Graph)}. In this
+ * case, the edges already in the graph are fed to the sample and the algorithm
+ * registers itself as a sink of the graph.
+ * </p>
+ * 
+ * <p>
+ * The graph is considered as undirected and simple. Loop edges are ignored,
+ * but their removal can only be detected when the estimator is initialized
+ * with a graph, so a plain stream should not contain loops. Removing an edge
+ * that was added before the estimator started to listen the stream leads to
+ * wrong estimates.
+ * </p>
+ * 
+ * @reference L. De Stefani, A. Epasto, M. Riondato and E. Upfal, "TRIÈST:
+ *            Counting Local and Global Triangles in Fully-Dynamic Streams with
+ *            Fixed Memory Size", KDD 2016.
+ * 
+ * @complexity O(M) memory where M is the sample size. Each edge event costs
+ *             O(d) where d is the degree of the endpoints in the sample.
+ */
+public class TriangleCountEstimator extends SinkAdapter implements
+		DynamicAlgorithm {
+	/**
+	 * Default number of edges kept in the sample.
+	 */
+	public static final int DEFAULT_SAMPLE_SIZE = 100000;
+
+	/**
+	 * Graph the algorithm is listening to, if any.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Maximum number of edges in the sample.
+	 */
+	protected int sampleSize;
+
+	/**
+	 * Random generator used for the sampling.
+	 */
+	protected Random random;
+
+	/**
+	 * Sampled edges. Used to pick a random edge of the sample.
+	 */
+	protected ArrayList<SampledEdge> sample;
+
+	/**
+	 * Sampled edges indexed by their id.
+	 */
+	protected HashMap<String, SampledEdge> sampleIndex;
+
+	/**
+	 * Neighbors of each node in the sampled subgraph.
+	 */
+	protected HashMap<String, HashSet<String>> neighbors;
+
+	/**
+	 * Triangles of the sampled subgraph each node belongs to. Only nodes with
+	 * at least one triangle are stored.
+	 */
+	protected HashMap<String, Integer> localTriangles;
+
+	/**
+	 * Triangles of the sampled subgraph.
+	 */
+	protected long sampleTriangles;
+
+	/**
+	 * Current number of edges of the stream.
+	 */
+	protected int edgeCount;
+
+	/**
+	 * Uncompensated removals of edges that were in the sample.
+	 */
+	protected int inSampleRemovals;
+
+	/**
+	 * Uncompensated removals of edges that were not in the sample.
+	 */
+	protected int outSampleRemovals;
+
+	/**
+	 * Factor used to scale the sampled counts, updated by {@link #compute()}.
+	 */
+	protected double scale;
+
+	/**
+	 * Estimation of the global count of triangles, updated by
+	 * {@link #compute()}.
+	 */
+	protected double globalCount;
+
+	/**
+	 * Build a new estimator with the default sample size.
+	 */
+	public TriangleCountEstimator() {
+		this(DEFAULT_SAMPLE_SIZE);
+	}
+
+	/**
+	 * Build a new estimator keeping at most the given number of edges.
+	 * 
+	 * @param sampleSize
+	 *            maximum number of edges in the sample, must be at least 3
+	 */
+	public TriangleCountEstimator(int sampleSize) {
+		this(sampleSize, System.currentTimeMillis());
+	}
+
+	/**
+	 * Build a new estimator keeping at most the given number of edges and
+	 * using a given seed for the sampling.
+	 * 
+	 * @param sampleSize
+	 *            maximum number of edges in the sample, must be at least 3
+	 * @param seed
+	 *            seed of the random generator
+	 */
+	public TriangleCountEstimator(int sampleSize, long seed) {
+		setSampleSize(sampleSize);
+		random = new Random(seed);
+		reset();
+	}
+
+	/**
+	 * Set the maximum number of edges in the sample. This resets the
+	 * estimator.
+	 * 
+	 * @param sampleSize
+	 *            maximum number of edges in the sample, must be at least 3
+	 */
+	@Parameter
+	public void setSampleSize(int sampleSize) {
+		if (sampleSize < 3)
+			throw new IllegalArgumentException(
+					"sample size should be at least 3");
+
+		this.sampleSize = sampleSize;
+		reset();
+	}
+
+	/**
+	 * Set the seed of the random generator used for the sampling.
+	 * 
+	 * @param seed
+	 *            seed of the random generator
+	 */
+	@Parameter
+	public void setRandomSeed(long seed) {
+		random = new Random(seed);
+	}
+
+	/**
+	 * Maximum number of edges in the sample.
+	 * 
+	 * @return the sample size
+	 */
+	public int getSampleSize() {
+		return sampleSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.graphstream.algorithm.Algorithm#init(org.graphstream.graph.Graph)
+	 */
+	public void init(Graph graph) {
+		if (this.graph != null)
+			this.graph.removeSink(this);
+
+		reset();
+		this.graph = graph;
+
+		graph.edges().forEach(
+				e -> edgeAdded(graph.getId(), 0, e.getId(), e.getNode0()
+						.getId(), e.getNode1().getId(), e.isDirected()));
+
+		graph.addSink(this);
+		compute();
+	}
+
+	/**
+	 * Refresh the estimates from the current sample.
+	 * 
+	 * @complexity O(1)
+	 * @see org.graphstream.algorithm.Algorithm#compute()
+	 */
+	public void compute() {
+		int m = sample.size();
+
+		if (m < 3) {
+			scale = 0;
+		} else {
+			double s = edgeCount;
+			scale = (s / m) * ((s - 1) / (m - 1)) * ((s - 2) / (m - 2))
+					/ kappa();
+		}
+
+		globalCount = scale * sampleTriangles;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.algorithm.DynamicAlgorithm#terminate()
+	 */
+	public void terminate() {
+		if (graph != null) {
+			graph.removeSink(this);
+			graph = null;
+		}
+	}
+
+	/**
+	 * Drop the sample and all the counters.
+	 */
+	public void reset() {
+		sample = new ArrayList<SampledEdge>();
+		sampleIndex = new HashMap<String, SampledEdge>();
+		neighbors = new HashMap<String, HashSet<String>>();
+		localTriangles = new HashMap<String, Integer>();
+		sampleTriangles = 0;
+		edgeCount = 0;
+		inSampleRemovals = 0;
+		outSampleRemovals = 0;
+		scale = 0;
+		globalCount = 0;
+	}
+
+	/**
+	 * Estimation of the number of triangles in the graph, as computed by the
+	 * last call to {@link #compute()}.
+	 * 
+	 * @return the estimated global triangle count
+	 */
+	public double getGlobalTriangleCount() {
+		return globalCount;
+	}
+
+	/**
+	 * Estimation of the number of triangles a node belongs to, as computed by
+	 * the last call to {@link #compute()}.
+	 * 
+	 * @param nodeId
+	 *            id of the node
+	 * @return the estimated local triangle count of the node
+	 */
+	public double getLocalTriangleCount(String nodeId) {
+		Integer t = localTriangles.get(nodeId);
+		return t == null ? 0 : scale * t;
+	}
+
+	/**
+	 * Estimation of the local clustering coefficient of a node, that is the
+	 * estimated local triangle count divided by the number of pairs of
+	 * neighbors of the node. The degree is not stored by the estimator and has
+	 * to be provided.
+	 * 
+	 * @param nodeId
+	 *            id of the node
+	 * @param degree
+	 *            degree of the node
+	 * @return the estimated clustering coefficient of the node
+	 */
+	public double getLocalClusteringCoefficient(String nodeId, int degree) {
+		if (degree < 2)
+			return 0;
+
+		return Math.min(1, getLocalTriangleCount(nodeId)
+				/ (degree * (degree - 1) / 2.0));
+	}
+
+	/**
+	 * Number of triangles in the sampled subgraph.
+	 * 
+	 * @return the exact triangle count of the sample
+	 */
+	public long getSampleTriangleCount() {
+		return sampleTriangles;
+	}
+
+	/**
+	 * Number of edges currently in the sample.
+	 * 
+	 * @return the current size of the sample
+	 */
+	public int getSampledEdgeCount() {
+		return sample.size();
+	}
+
+	/**
+	 * Number of edges currently in the stream, as seen by this estimator.
+	 * 
+	 * @return the current edge count
+	 */
+	public int getEdgeCount() {
+		return edgeCount;
+	}
+
+	@Result
+	public String defaultResult() {
+		compute();
+		return String.format("%.2f triangles (estimated from %d sampled edges)",
+				globalCount, sample.size());
+	}
+
+	/**
+	 * Probability that a triangle whose three edges are in the graph has at
+	 * least three of its edges in the random pairing sample. Equal to one
+	 * when there is no uncompensated removal.
+	 */
+	protected double kappa() {
+		int d = inSampleRemovals + outSampleRemovals;
+
+		if (d == 0)
+			return 1;
+
+		int omega = Math.min(sampleSize, edgeCount + d);
+		double k = 1;
+
+		for (int j = 0; j < 3; j++) {
+			if (j > edgeCount || omega - j > d || omega - j < 0)
+				continue;
+
+			k -= Math.exp(CombinatoricsUtils.binomialCoefficientLog(edgeCount,
+					j)
+					+ CombinatoricsUtils.binomialCoefficientLog(d, omega - j)
+					- CombinatoricsUtils.binomialCoefficientLog(edgeCount + d,
+							omega));
+		}
+
+		return k;
+	}
+
+	/**
+	 * Decide if a newly inserted edge has to enter the sample. When the sample
+	 * is full and there is no pending removal, a random edge of the sample may
+	 * be evicted to make room.
+	 */
+	protected boolean sampleEdge() {
+		int d = inSampleRemovals + outSampleRemovals;
+
+		if (d == 0) {
+			if (sample.size() < sampleSize)
+				return true;
+
+			if (random.nextDouble() * edgeCount < sampleSize) {
+				SampledEdge evicted = sample.get(random.nextInt(sample.size()));
+				removeFromSample(evicted);
+				return true;
+			}
+
+			return false;
+		} else if (random.nextInt(d) < inSampleRemovals) {
+			inSampleRemovals--;
+			return true;
+		} else {
+			outSampleRemovals--;
+			return false;
+		}
+	}
+
+	protected void addToSample(SampledEdge edge) {
+		updateCounters(edge, 1);
+
+		edge.index = sample.size();
+		sample.add(edge);
+		sampleIndex.put(edge.id, edge);
+
+		neighbors.computeIfAbsent(edge.from, k -> new HashSet<String>()).add(
+				edge.to);
+		neighbors.computeIfAbsent(edge.to, k -> new HashSet<String>()).add(
+				edge.from);
+	}
+
+	protected void removeFromSample(SampledEdge edge) {
+		unlink(edge.from, edge.to);
+		unlink(edge.to, edge.from);
+
+		SampledEdge last = sample.remove(sample.size() - 1);
+
+		if (last != edge) {
+			last.index = edge.index;
+			sample.set(edge.index, last);
+		}
+
+		sampleIndex.remove(edge.id);
+		updateCounters(edge, -1);
+	}
+
+	/**
+	 * Add or remove the triangles closed by an edge in the sampled subgraph.
+	 * The edge itself must not be linked in {@link #neighbors}.
+	 */
+	protected void updateCounters(SampledEdge edge, int delta) {
+		HashSet<String> nu = neighbors.get(edge.from);
+		HashSet<String> nv = neighbors.get(edge.to);
+
+		if (nu == null || nv == null)
+			return;
+
+		if (nu.size() > nv.size()) {
+			HashSet<String> t = nu;
+			nu = nv;
+			nv = t;
+		}
+
+		int common = 0;
+
+		for (String c : nu) {
+			if (nv.contains(c)) {
+				common++;
+				updateLocal(c, delta);
+			}
+		}
+
+		if (common > 0) {
+			sampleTriangles += delta * common;
+			updateLocal(edge.from, delta * common);
+			updateLocal(edge.to, delta * common);
+		}
+	}
+
+	private void updateLocal(String nodeId, int delta) {
+		localTriangles.merge(nodeId, delta, (a, b) -> a + b == 0 ? null : a
+				+ b);
+	}
+
+	private void unlink(String from, String to) {
+		HashSet<String> n = neighbors.get(from);
+
+		if (n != null) {
+			n.remove(to);
+
+			if (n.isEmpty())
+				neighbors.remove(from);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAdded(java.lang.String, long,
+	 * java.lang.String, java.lang.String, java.lang.String, boolean)
+	 */
+	@Override
+	public void edgeAdded(String sourceId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		if (fromNodeId.equals(toNodeId))
+			return;
+
+		edgeCount++;
+
+		if (sampleEdge())
+			addToSample(new SampledEdge(edgeId, fromNodeId, toNodeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+		if (graph != null) {
+			Edge e = graph.getEdge(edgeId);
+
+			if (e != null && e.isLoop())
+				return;
+		}
+
+		if (edgeCount == 0)
+			return;
+
+		edgeCount--;
+
+		SampledEdge edge = sampleIndex.get(edgeId);
+
+		if (edge != null) {
+			removeFromSample(edge);
+			inSampleRemovals++;
+		} else {
+			outSampleRemovals++;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#graphCleared(java.lang.String,
+	 * long)
+	 */
+	@Override
+	public void graphCleared(String sourceId, long timeId) {
+		reset();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#stepBegins(java.lang.String,
+	 * long, double)
+	 */
+	@Override
+	public void stepBegins(String sourceId, long timeId, double step) {
+		compute();
+	}
+
+	/**
+	 * An edge of the sample.
+	 */
+	protected static class SampledEdge {
+		final String id;
+		final String from;
+		final String to;
+		int index;
+
+		SampledEdge(String id, String from, String to) {
+			this.id = id;
+			this.from = from;
+			this.to = to;
+		}
+	}
+}
@@ -0,0 +1,635 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.apache.commons.math3.linear.OpenMapRealMatrix;
+import org.apache.commons.math3.linear.SparseRealMatrix;
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+
+/**
+ * <p>
+ * A sparse matrix stored in the compressed sparse row (CSR) or compressed
+ * sparse column (CSC) format.
+ * </p>
+ * 
+ * <p>
+ * The matrix is made of lines, which are its rows in the
+ * {@link Order#ROW} order and its columns in the {@link Order#COLUMN} order.
+ * The non-zero entries of the k-th line are stored at positions
+ * {@code pointers[k]} (inclusive) to {@code pointers[k + 1]} (exclusive) of
+ * the {@code indices} and {@code values} arrays. {@code indices} holds the
+ * column of the entries in a CSR matrix, and their row in a CSC matrix.
+ * Inside a line, the indices are sorted in increasing order and appear only
+ * once. These three primitive arrays are directly usable by numerical code,
+ * and {@link #toSparseRealMatrix()} converts the matrix to a commons-math
+ * {@link SparseRealMatrix}.
+ * </p>
+ * 
+ * <p>
+ * The adjacency and incidence matrices of a graph are built with
+ * {@link #adjacency(Graph, String, Order)} and
+ * {@link #incidence(Graph, String, Order)}. Their coefficients are the ones of
+ * {@link org.graphstream.algorithm.Toolkit#getAdjacencyMatrix(Graph)} and
+ * {@link org.graphstream.algorithm.Toolkit#getIncidenceMatrix(Graph)}, where
+ * each edge counts for its weight instead of one when a weight attribute is
+ * given.
+ * </p>
+ * 
+ * <h2>Binary format</h2>
+ * 
+ * <p>
+ * {@link #write(OutputStream)} and the streaming methods
+ * {@link #writeAdjacency(Graph, String, Order, OutputStream)} and
+ * {@link #writeIncidence(Graph, String, Order, OutputStream)} produce the same
+ * big-endian binary format, read back by {@link #read(InputStream)}:
+ * </p>
+ * <ul>
+ * <li>the int {@link #MAGIC};</li>
+ * <li>the order, as a byte, 0 for rows and 1 for columns;</li>
+ * <li>the number of rows, the number of columns and the number of non-zero
+ * entries, as ints;</li>
+ * <li>the pointers, as ints;</li>
+ * <li>the indices, as ints;</li>
+ * <li>the values, as doubles.</li>
+ * </ul>
+ * 
+ * <p>
+ * The streaming methods never build the matrix. They go through the graph
+ * three times, once for the pointers, once for the indices and once for the
+ * values, and only use O(n + m) memory for the line sizes and O(d) memory for
+ * the current line, d being the largest line size.
+ * </p>
+ */
+public class CompressedMatrix {
+	/**
+	 * First int of the binary format.
+	 */
+	public static final int MAGIC = 0x47534d58;
+
+	/**
+	 * Storage order of a compressed matrix.
+	 */
+	public static enum Order {
+		/**
+		 * Compressed sparse rows.
+		 */
+		ROW,
+		/**
+		 * Compressed sparse columns.
+		 */
+		COLUMN
+	}
+
+	protected Order order;
+	protected int rows;
+	protected int columns;
+	protected int[] pointers;
+	protected int[] indices;
+	protected double[] values;
+
+	/**
+	 * Wrap already compressed arrays. The arrays are not copied.
+	 * 
+	 * @param order
+	 *            storage order
+	 * @param rows
+	 *            number of rows
+	 * @param columns
+	 *            number of columns
+	 * @param pointers
+	 *            start of each line in indices and values, followed by the
+	 *            number of non-zero entries
+	 * @param indices
+	 *            column (CSR) or row (CSC) of each entry
+	 * @param values
+	 *            value of each entry
+	 */
+	public CompressedMatrix(Order order, int rows, int columns, int[] pointers,
+			int[] indices, double[] values) {
+		int lines = order == Order.ROW ? rows : columns;
+
+		if (pointers.length != lines + 1
+				|| indices.length != pointers[lines]
+				|| values.length != pointers[lines])
+			throw new IllegalArgumentException("inconsistent compressed arrays");
+
+		this.order = order;
+		this.rows = rows;
+		this.columns = columns;
+		this.pointers = pointers;
+		this.indices = indices;
+		this.values = values;
+	}
+
+	public Order getOrder() {
+		return order;
+	}
+
+	public int getRowCount() {
+		return rows;
+	}
+
+	public int getColumnCount() {
+		return columns;
+	}
+
+	public int getNonZeroCount() {
+		return indices.length;
+	}
+
+	/**
+	 * Start of each line in {@link #getIndices()} and {@link #getValues()}.
+	 * This array has one more cell than the number of lines, holding the
+	 * number of non-zero entries.
+	 * 
+	 * @return the pointers, not copied
+	 */
+	public int[] getPointers() {
+		return pointers;
+	}
+
+	/**
+	 * Column (CSR) or row (CSC) of each non-zero entry.
+	 * 
+	 * @return the indices, not copied
+	 */
+	public int[] getIndices() {
+		return indices;
+	}
+
+	/**
+	 * Value of each non-zero entry.
+	 * 
+	 * @return the values, not copied
+	 */
+	public double[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Value of the entry at row i and column j.
+	 * 
+	 * @complexity O(log(d)) where d is the size of the line
+	 * @param i
+	 *            the row
+	 * @param j
+	 *            the column
+	 * @return the value of the entry
+	 */
+	public double get(int i, int j) {
+		if (i < 0 || i >= rows || j < 0 || j >= columns)
+			throw new IndexOutOfBoundsException();
+
+		int line = order == Order.ROW ? i : j;
+		int index = order == Order.ROW ? j : i;
+		int k = Arrays.binarySearch(indices, pointers[line],
+				pointers[line + 1], index);
+
+		return k < 0 ? 0 : values[k];
+	}
+
+	/**
+	 * Compute y = Mx.
+	 * 
+	 * @param x
+	 *            a vector of size {@link #getColumnCount()}
+	 * @param y
+	 *            a vector of size {@link #getRowCount()}, where the result is
+	 *            stored
+	 */
+	public void multiply(double[] x, double[] y) {
+		if (order == Order.ROW) {
+			for (int i = 0; i < rows; i++) {
+				double s = 0;
+
+				for (int k = pointers[i]; k < pointers[i + 1]; k++)
+					s += values[k] * x[indices[k]];
+
+				y[i] = s;
+			}
+		} else {
+			Arrays.fill(y, 0, rows, 0);
+
+			for (int j = 0; j < columns; j++)
+				for (int k = pointers[j]; k < pointers[j + 1]; k++)
+					y[indices[k]] += values[k] * x[j];
+		}
+	}
+
+	/**
+	 * Convert this matrix to a commons-math sparse matrix.
+	 * 
+	 * @return a new sparse matrix with the same entries
+	 */
+	public SparseRealMatrix toSparseRealMatrix() {
+		OpenMapRealMatrix m = new OpenMapRealMatrix(rows, columns);
+
+		for (int line = 0; line < pointers.length - 1; line++)
+			for (int k = pointers[line]; k < pointers[line + 1]; k++) {
+				if (order == Order.ROW)
+					m.setEntry(line, indices[k], values[k]);
+				else
+					m.setEntry(indices[k], line, values[k]);
+			}
+
+		return m;
+	}
+
+	/**
+	 * Write this matrix in the binary format described in the class
+	 * documentation.
+	 * 
+	 * @param out
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+				out));
+
+		writeHeader(data, order, rows, columns, indices.length);
+
+		for (int p : pointers)
+			data.writeInt(p);
+		for (int i : indices)
+			data.writeInt(i);
+		for (double v : values)
+			data.writeDouble(v);
+
+		data.flush();
+	}
+
+	/**
+	 * Read a matrix written in the binary format described in the class
+	 * documentation.
+	 * 
+	 * @param in
+	 *            the stream, which is not closed
+	 * @return the matrix read
+	 * @throws IOException
+	 *             if the stream can not be read or is not in the right format
+	 */
+	public static CompressedMatrix read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+		if (data.readInt() != MAGIC)
+			throw new IOException("not a compressed matrix");
+
+		Order order = data.readByte() == 0 ? Order.ROW : Order.COLUMN;
+		int rows = data.readInt();
+		int columns = data.readInt();
+		int nnz = data.readInt();
+		int[] pointers = new int[(order == Order.ROW ? rows : columns) + 1];
+		int[] indices = new int[nnz];
+		double[] values = new double[nnz];
+
+		for (int k = 0; k < pointers.length; k++)
+			pointers[k] = data.readInt();
+		for (int k = 0; k < nnz; k++)
+			indices[k] = data.readInt();
+		for (int k = 0; k < nnz; k++)
+			values[k] = data.readDouble();
+
+		return new CompressedMatrix(order, rows, columns, pointers, indices,
+				values);
+	}
+
+	/**
+	 * Build the compressed adjacency matrix of a graph. The entry (i, j) is
+	 * the sum of the weights of the edges going from the i-th node toward the
+	 * j-th node. An undirected edge goes both ways, so an undirected loop
+	 * counts twice.
+	 * 
+	 * @complexity O(m log(d)) where d is the maximum degree
+	 * @param graph
+	 *            the graph
+	 * @param weightAttribute
+	 *            edge attribute holding the weights, or null to count each edge
+	 *            as one
+	 * @param order
+	 *            storage order
+	 * @return the adjacency matrix
+	 */
+	public static CompressedMatrix adjacency(Graph graph,
+			String weightAttribute, Order order) {
+		return build(new AdjacencyLines(graph, weightAttribute, order), order);
+	}
+
+	/**
+	 * Build the compressed incidence matrix of a graph. The entry (i, j) is
+	 * minus the weight of the j-th edge if this edge is directed and leaves
+	 * the i-th node, plus its weight if it is undirected and its source is the
+	 * i-th node, plus its weight if its target is the i-th node. Zero entries,
+	 * such as the ones of directed loops, are not stored.
+	 * 
+	 * @complexity O(m log(d)) where d is the maximum degree
+	 * @param graph
+	 *            the graph
+	 * @param weightAttribute
+	 *            edge attribute holding the weights, or null to count each edge
+	 *            as one
+	 * @param order
+	 *            storage order
+	 * @return the incidence matrix
+	 */
+	public static CompressedMatrix incidence(Graph graph,
+			String weightAttribute, Order order) {
+		return build(new IncidenceLines(graph, weightAttribute, order), order);
+	}
+
+	/**
+	 * Stream the compressed adjacency matrix of a graph without building it.
+	 * 
+	 * @param graph
+	 *            the graph
+	 * @param weightAttribute
+	 *            edge attribute holding the weights, or null to count each edge
+	 *            as one
+	 * @param order
+	 *            storage order
+	 * @param out
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 * @see #adjacency(Graph, String, Order)
+	 */
+	public static void writeAdjacency(Graph graph, String weightAttribute,
+			Order order, OutputStream out) throws IOException {
+		stream(new AdjacencyLines(graph, weightAttribute, order), order, out);
+	}
+
+	/**
+	 * Stream the compressed incidence matrix of a graph without building it.
+	 * 
+	 * @param graph
+	 *            the graph
+	 * @param weightAttribute
+	 *            edge attribute holding the weights, or null to count each edge
+	 *            as one
+	 * @param order
+	 *            storage order
+	 * @param out
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the stream can not be written
+	 * @see #incidence(Graph, String, Order)
+	 */
+	public static void writeIncidence(Graph graph, String weightAttribute,
+			Order order, OutputStream out) throws IOException {
+		stream(new IncidenceLines(graph, weightAttribute, order), order, out);
+	}
+
+	protected static CompressedMatrix build(Lines lines, Order order) {
+		int count = lines.count();
+		int[] pointers = new int[count + 1];
+
+		for (int k = 0; k < count; k++)
+			pointers[k + 1] = pointers[k] + lines.load(k);
+
+		int[] indices = new int[pointers[count]];
+		double[] values = new double[pointers[count]];
+
+		for (int k = 0; k < count; k++) {
+			int size = lines.load(k);
+
+			System.arraycopy(lines.index, 0, indices, pointers[k], size);
+			System.arraycopy(lines.value, 0, values, pointers[k], size);
+		}
+
+		return new CompressedMatrix(order, lines.rows, lines.columns, pointers,
+				indices, values);
+	}
+
+	protected static void stream(Lines lines, Order order, OutputStream out)
+			throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+				out));
+		int count = lines.count();
+		int[] sizes = new int[count];
+		int nnz = 0;
+
+		for (int k = 0; k < count; k++) {
+			sizes[k] = lines.load(k);
+			nnz += sizes[k];
+		}
+
+		writeHeader(data, order, lines.rows, lines.columns, nnz);
+
+		int pointer = 0;
+		data.writeInt(0);
+
+		for (int k = 0; k < count; k++) {
+			pointer += sizes[k];
+			data.writeInt(pointer);
+		}
+
+		for (int k = 0; k < count; k++) {
+			int size = lines.load(k);
+
+			for (int i = 0; i < size; i++)
+				data.writeInt(lines.index[i]);
+		}
+
+		for (int k = 0; k < count; k++) {
+			int size = lines.load(k);
+
+			for (int i = 0; i < size; i++)
+				data.writeDouble(lines.value[i]);
+		}
+
+		data.flush();
+	}
+
+	protected static void writeHeader(DataOutputStream data, Order order,
+			int rows, int columns, int nnz) throws IOException {
+		data.writeInt(MAGIC);
+		data.writeByte(order == Order.ROW ? 0 : 1);
+		data.writeInt(rows);
+		data.writeInt(columns);
+		data.writeInt(nnz);
+	}
+
+	/**
+	 * Produces the lines of a matrix one at a time. The entries of a line are
+	 * first added in any order, with repetitions, then sorted and merged by
+	 * {@link #load(int)}.
+	 */
+	protected static abstract class Lines {
+		final String weightAttribute;
+		int rows;
+		int columns;
+		int[] index = new int[16];
+		double[] value = new double[16];
+		long[] keys = new long[16];
+		int size;
+
+		Lines(String weightAttribute) {
+			this.weightAttribute = weightAttribute;
+		}
+
+		abstract int count();
+
+		abstract void fill(int k);
+
+		double weight(Edge e) {
+			if (weightAttribute != null && e.hasNumber(weightAttribute))
+				return e.getNumber(weightAttribute);
+
+			return 1;
+		}
+
+		void add(int i, double v) {
+			if (size == index.length) {
+				index = Arrays.copyOf(index, 2 * size);
+				value = Arrays.copyOf(value, 2 * size);
+				keys = new long[2 * size];
+			}
+
+			index[size] = i;
+			value[size++] = v;
+		}
+
+		/**
+		 * Load the k-th line into the beginning of index and value.
+		 * 
+		 * @return the number of non-zero entries of the line
+		 */
+		int load(int k) {
+			size = 0;
+			fill(k);
+
+			for (int i = 0; i < size; i++)
+				keys[i] = ((long) index[i] << 32) | i;
+
+			Arrays.sort(keys, 0, size);
+
+			double[] raw = Arrays.copyOf(value, size);
+			int merged = 0;
+
+			for (int i = 0; i < size;) {
+				int idx = (int) (keys[i] >>> 32);
+				double v = 0;
+
+				for (; i < size && (int) (keys[i] >>> 32) == idx; i++)
+					v += raw[(int) keys[i]];
+
+				if (v != 0) {
+					index[merged] = idx;
+					value[merged++] = v;
+				}
+			}
+
+			return merged;
+		}
+	}
+
+	protected static class AdjacencyLines extends Lines {
+		final Graph graph;
+		final boolean byRow;
+
+		AdjacencyLines(Graph graph, String weightAttribute, Order order) {
+			super(weightAttribute);
+			this.graph = graph;
+			this.byRow = order == Order.ROW;
+			this.rows = this.columns = graph.getNodeCount();
+		}
+
+		int count() {
+			return rows;
+		}
+
+		void fill(int k) {
+			Node node = graph.getNode(k);
+
+			node.edges().forEach(e -> {
+				double w = weight(e);
+
+				if ((byRow ? e.getSourceNode() : e.getTargetNode()) == node)
+					add((byRow ? e.getTargetNode() : e.getSourceNode())
+							.getIndex(), w);
+
+				if (!e.isDirected()
+						&& (byRow ? e.getTargetNode() : e.getSourceNode()) == node)
+					add((byRow ? e.getSourceNode() : e.getTargetNode())
+							.getIndex(), w);
+			});
+		}
+	}
+
+	protected static class IncidenceLines extends Lines {
+		final Graph graph;
+		final boolean byRow;
+
+		IncidenceLines(Graph graph, String weightAttribute, Order order) {
+			super(weightAttribute);
+			this.graph = graph;
+			this.byRow = order == Order.ROW;
+			this.rows = graph.getNodeCount();
+			this.columns = graph.getEdgeCount();
+		}
+
+		int count() {
+			return byRow ? rows : columns;
+		}
+
+		void fill(int k) {
+			if (byRow) {
+				Node node = graph.getNode(k);
+
+				node.edges().forEach(e -> {
+					double w = weight(e);
+
+					if (e.getSourceNode() == node)
+						add(e.getIndex(), e.isDirected() ? -w : w);
+					if (e.getTargetNode() == node)
+						add(e.getIndex(), w);
+				});
+			} else {
+				Edge e = graph.getEdge(k);
+				double w = weight(e);
+
+				add(e.getSourceNode().getIndex(), e.isDirected() ? -w : w);
+				add(e.getTargetNode().getIndex(), w);
+			}
+		}
+	}
+}
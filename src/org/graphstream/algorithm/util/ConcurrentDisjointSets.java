@@ -0,0 +1,196 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <p>
+ * Disjoint sets of the integers between 0 and n - 1 which can be used by
+ * several threads at the same time without lock, such as in a parallel stream
+ * over the nodes or the edges of a graph.
+ * </p>
+ * 
+ * <p>
+ * The parents are stored in an {@link AtomicIntegerArray} and only changed
+ * with compare-and-set. A union always links the root with the larger index
+ * under the other one, so that concurrent unions can never create a cycle. It
+ * is retried when the root was linked by another thread meanwhile. Roots are
+ * found with path halving, a failed compare-and-set during the halving being
+ * simply ignored.
+ * </p>
+ * 
+ * <p>
+ * A union which returned is seen by all the finds started after it. The
+ * representative of a set is its smallest element as soon as no union is
+ * running.
+ * </p>
+ * 
+ * @see IntDisjointSets
+ * @reference Anderson, R. J. and Woll, H. (1991), "Wait-free Parallel
+ *            Algorithms for the Union-Find Problem", Proceedings of the 23rd
+ *            ACM Symposium on Theory of Computing, 370–380
+ */
+public class ConcurrentDisjointSets {
+	/**
+	 * Parent of each element, roots are their own parent.
+	 */
+	protected final AtomicIntegerArray parent;
+
+	/**
+	 * Creates a new instance where each element between 0 and n - 1 is in its
+	 * own set.
+	 * 
+	 * @param n
+	 *            Number of elements
+	 */
+	public ConcurrentDisjointSets(int n) {
+		parent = new AtomicIntegerArray(n);
+		clear();
+	}
+
+	/**
+	 * Root of the set containing an element. While unions are running, the
+	 * root may not be a root anymore when this method returns.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return The representative of the set of {@code e}
+	 */
+	public int find(int e) {
+		int p = parent.get(e);
+
+		while (p != e) {
+			int gp = parent.get(p);
+
+			if (gp != p)
+				parent.compareAndSet(e, p, gp);
+
+			e = p;
+			p = gp;
+		}
+
+		return e;
+	}
+
+	/**
+	 * Checks if two elements belong to the same set.
+	 * 
+	 * @param e1
+	 *            An element
+	 * @param e2
+	 *            An element
+	 * @return True if and only if {@code e1} and {@code e2} belong to the same
+	 *         set
+	 */
+	public boolean inSameSet(int e1, int e2) {
+		while (true) {
+			int x = find(e1);
+			int y = find(e2);
+
+			if (x == y)
+				return true;
+
+			//
+			// The roots are different, but the first one may have been linked
+			// after it was found.
+			//
+			if (parent.get(x) == x)
+				return false;
+		}
+	}
+
+	/**
+	 * Union of the set containing {@code e1} and the set containing {@code e2}.
+	 * 
+	 * @param e1
+	 *            An element
+	 * @param e2
+	 *            An element
+	 * @return {@code true} if and only if this call merged two sets, only one
+	 *         of several concurrent unions of the same sets returns
+	 *         {@code true}
+	 */
+	public boolean union(int e1, int e2) {
+		while (true) {
+			int x = find(e1);
+			int y = find(e2);
+
+			if (x == y)
+				return false;
+
+			int high = Math.max(x, y);
+			int low = Math.min(x, y);
+
+			if (parent.compareAndSet(high, high, low))
+				return true;
+		}
+	}
+
+	/**
+	 * Link each element directly to its root. This should not be called while
+	 * unions are running.
+	 * 
+	 * @param e
+	 *            An element
+	 */
+	public void compress(int e) {
+		parent.set(e, find(e));
+	}
+
+	/**
+	 * Parent of an element, which is its root after {@link #compress(int)}.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return The parent of {@code e}
+	 */
+	public int getParent(int e) {
+		return parent.get(e);
+	}
+
+	/**
+	 * Number of elements.
+	 * 
+	 * @return The number of elements of all the sets
+	 */
+	public int size() {
+		return parent.length();
+	}
+
+	/**
+	 * Reinitializes the structure. After this operation each element is in its
+	 * own set. This should not be called while other operations are running.
+	 */
+	public void clear() {
+		for (int i = 0; i < parent.length(); i++)
+			parent.set(i, i);
+	}
+}
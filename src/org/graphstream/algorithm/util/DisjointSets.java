@@ -48,6 +48,8 @@ import java.util.Map;
  * 
  * <p>
  * The space taken by this structure is O(n), where n is the number of elements.
+ * When the elements are indices, {@link IntDisjointSets} does the same without
+ * map, and {@link ConcurrentDisjointSets} can be shared by several threads.
  * </p>
  * 
  * @param <E>
@@ -69,9 +71,12 @@ public class DisjointSets<E> {
 		}
 
 		protected Node root() {
-			if (this != parent)
-				parent = parent.root();
-			return parent;
+			Node x = this;
+			while (x != x.parent) {
+				x.parent = x.parent.parent;
+				x = x.parent;
+			}
+			return x;
 		}
 
 		protected boolean join(Node node) {
@@ -0,0 +1,817 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Fully dynamic connectivity on a graph whose vertices and edges can be added
+ * and removed, following Holm, de Lichtenberg and Thorup.
+ * </p>
+ * 
+ * <p>
+ * A spanning forest of the graph is maintained. Each edge has a level, which
+ * only grows, and F<sub>i</sub> is the sub-forest made of the tree edges of
+ * level at least i. Each F<sub>i</sub> is stored as a set of Euler tours kept
+ * in randomized balanced trees (treaps), so that the tree of a vertex and its
+ * size are found in O(log n). When a tree edge is removed, a replacement edge
+ * is searched among the non-tree edges of the smallest of the two trees,
+ * starting from the level of the removed edge. The edges that fail to be a
+ * replacement have their level increased, which bounds the total work: the
+ * addition of an edge costs O(log n) and the removal of an edge costs
+ * O(log<sup>2</sup> n) amortized.
+ * </p>
+ * 
+ * <p>
+ * Vertices and edges are identified by arbitrary keys, compared with
+ * {@link Object#equals(Object)}. Loops never change the connectivity, so they
+ * are ignored.
+ * </p>
+ * 
+ * @reference J. Holm, K. de Lichtenberg and M. Thorup, "Poly-logarithmic
+ *            deterministic fully-dynamic algorithms for connectivity, minimum
+ *            spanning tree, 2-edge, and biconnectivity", Journal of the ACM,
+ *            48(4), 2001.
+ * 
+ * @param <V>
+ *            type of the vertex keys
+ * @param <E>
+ *            type of the edge keys
+ */
+public class DynamicConnectivity<V, E> {
+	protected final HashMap<V, Vertex> vertices = new HashMap<V, Vertex>();
+	protected final HashMap<E, Link> links = new HashMap<E, Link>();
+	protected final Random random = new Random(0x5eed);
+
+	/**
+	 * Number of vertices.
+	 */
+	public int getVertexCount() {
+		return vertices.size();
+	}
+
+	/**
+	 * Number of edges, loops excluded.
+	 */
+	public int getEdgeCount() {
+		return links.size();
+	}
+
+	/**
+	 * Add a vertex, alone in its component. Nothing is done if the vertex
+	 * already exists.
+	 * 
+	 * @param v
+	 *            the vertex key
+	 */
+	public void addVertex(V v) {
+		vertex(v);
+	}
+
+	/**
+	 * Remove a vertex and all the edges still connected to it.
+	 * 
+	 * @param v
+	 *            the vertex key
+	 */
+	public void removeVertex(V v) {
+		Vertex x = vertices.get(v);
+
+		if (x == null)
+			return;
+
+		ArrayList<Link> incident = new ArrayList<Link>();
+
+		for (HashSet<Link> set : x.tree)
+			if (set != null)
+				incident.addAll(set);
+		for (HashSet<Link> set : x.nonTree)
+			if (set != null)
+				incident.addAll(set);
+
+		for (Link l : incident)
+			removeEdge(l.key);
+
+		vertices.remove(v);
+	}
+
+	/**
+	 * Add an edge between two vertices, which are added if needed.
+	 * 
+	 * @param e
+	 *            the edge key
+	 * @param u
+	 *            one end of the edge
+	 * @param v
+	 *            the other end of the edge
+	 * @return true if the edge merged two components
+	 */
+	public boolean addEdge(E e, V u, V v) {
+		if (links.containsKey(e))
+			throw new IllegalArgumentException("edge already exists: " + e);
+
+		Vertex x = vertex(u);
+		Vertex y = vertex(v);
+
+		if (x == y)
+			return false;
+
+		Link l = new Link(e, x, y);
+		links.put(e, l);
+
+		if (root(l.u, 0) == root(l.v, 0)) {
+			addToSet(l, false);
+			return false;
+		}
+
+		l.tree = true;
+		addToSet(l, true);
+		link(l, 0);
+
+		return true;
+	}
+
+	/**
+	 * Add many edges at once. This is much faster than adding the edges one by
+	 * one, because the spanning forest is computed with a union-find and the
+	 * Euler tours are built in linear time. This can only be used while the
+	 * structure has no edge yet, otherwise the edges are added one by one.
+	 * 
+	 * @complexity O((n + m) log n) with a small constant
+	 * @param edges
+	 *            the edge keys
+	 * @param one
+	 *            gives one end of an edge
+	 * @param other
+	 *            gives the other end of an edge
+	 */
+	public void addEdges(Iterable<E> edges, Function<E, V> one,
+			Function<E, V> other) {
+		if (!links.isEmpty()) {
+			for (E e : edges)
+				addEdge(e, one.apply(e), other.apply(e));
+
+			return;
+		}
+
+		ArrayList<Link> added = new ArrayList<Link>();
+
+		for (E e : edges) {
+			Vertex x = vertex(one.apply(e));
+			Vertex y = vertex(other.apply(e));
+
+			if (x == y)
+				continue;
+
+			if (links.containsKey(e))
+				throw new IllegalArgumentException("edge already exists: " + e);
+
+			Link l = new Link(e, x, y);
+			links.put(e, l);
+			added.add(l);
+		}
+
+		int[] forest = new int[vertices.size()];
+		int index = 0;
+
+		for (Vertex x : vertices.values()) {
+			forest[index] = index;
+			x.index = index++;
+		}
+
+		for (Link l : added) {
+			int rx = find(forest, l.u.index);
+			int ry = find(forest, l.v.index);
+
+			if (rx != ry) {
+				forest[rx] = ry;
+				l.tree = true;
+			}
+
+			addToSet(l, l.tree);
+		}
+
+		HashSet<Vertex> visited = new HashSet<Vertex>();
+		ArrayList<EulerNode> tour = new ArrayList<EulerNode>();
+		ArrayDeque<Iterator<Link>> stack = new ArrayDeque<Iterator<Link>>();
+		ArrayDeque<Vertex> path = new ArrayDeque<Vertex>();
+		ArrayDeque<Link> via = new ArrayDeque<Link>();
+
+		for (Vertex start : vertices.values()) {
+			if (visited.contains(start) || start.tree.isEmpty()
+					|| start.tree.get(0).isEmpty())
+				continue;
+
+			//
+			// Depth-first traversal of the tree, writing its Euler tour.
+			//
+			tour.clear();
+			visited.add(start);
+			tour.add(node(start, 0));
+			path.push(start);
+			stack.push(start.tree.get(0).iterator());
+
+			while (!stack.isEmpty()) {
+				Iterator<Link> it = stack.peek();
+				Vertex x = path.peek();
+
+				if (it.hasNext()) {
+					Link l = it.next();
+					Vertex y = l.u == x ? l.v : l.u;
+
+					if (visited.add(y)) {
+						EulerNode down = new EulerNode(null, random.nextInt());
+						EulerNode up = new EulerNode(null, random.nextInt());
+
+						l.arcs.add(new EulerNode[] { down, up });
+						tour.add(down);
+						tour.add(node(y, 0));
+						path.push(y);
+						via.push(l);
+						stack.push(y.tree.get(0).iterator());
+					}
+				} else {
+					stack.pop();
+					path.pop();
+
+					if (!path.isEmpty())
+						tour.add(via.pop().arcs.get(0)[1]);
+				}
+			}
+
+			build(tour);
+		}
+	}
+
+	/**
+	 * Build a treap from a tour in linear time, as the Cartesian tree of the
+	 * priorities.
+	 */
+	protected void build(ArrayList<EulerNode> tour) {
+		ArrayDeque<EulerNode> right = new ArrayDeque<EulerNode>();
+
+		for (EulerNode n : tour) {
+			EulerNode last = null;
+
+			while (!right.isEmpty() && right.peek().priority < n.priority)
+				last = right.pop();
+
+			n.left = last;
+			if (last != null)
+				last.parent = n;
+
+			if (!right.isEmpty()) {
+				right.peek().right = n;
+				n.parent = right.peek();
+			}
+
+			right.push(n);
+		}
+
+		update(right.peekLast());
+	}
+
+	protected void update(EulerNode n) {
+		if (n == null)
+			return;
+
+		update(n.left);
+		update(n.right);
+		n.update();
+	}
+
+	protected static int find(int[] forest, int x) {
+		while (forest[x] != x) {
+			forest[x] = forest[forest[x]];
+			x = forest[x];
+		}
+
+		return x;
+	}
+
+	/**
+	 * Remove an edge.
+	 * 
+	 * @param e
+	 *            the edge key
+	 * @return true if the removal split a component in two
+	 */
+	public boolean removeEdge(E e) {
+		Link l = links.remove(e);
+
+		if (l == null)
+			return false;
+
+		removeFromSet(l);
+
+		if (!l.tree)
+			return false;
+
+		for (int i = 0; i <= l.level; i++)
+			cut(l, i);
+
+		for (int i = l.level; i >= 0; i--)
+			if (replace(l.u, l.v, i))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Test if there is a path between two vertices.
+	 * 
+	 * @complexity O(log n)
+	 * @param u
+	 *            a vertex
+	 * @param v
+	 *            another vertex
+	 * @return true if the two vertices are in the same component
+	 */
+	public boolean connected(V u, V v) {
+		Vertex x = vertices.get(u);
+		Vertex y = vertices.get(v);
+
+		return x != null && y != null && root(x, 0) == root(y, 0);
+	}
+
+	/**
+	 * Number of vertices in the component of a vertex.
+	 * 
+	 * @complexity O(log n)
+	 * @param v
+	 *            a vertex
+	 * @return the size of its component, zero if the vertex does not exist
+	 */
+	public int getComponentSize(V v) {
+		Vertex x = vertices.get(v);
+		return x == null ? 0 : root(x, 0).vertexCount;
+	}
+
+	/**
+	 * Give each vertex of the component of a vertex to an action.
+	 * 
+	 * @complexity O(k) where k is the size of the component
+	 * @param v
+	 *            a vertex
+	 * @param action
+	 *            the action
+	 */
+	public void forEachVertexInComponent(V v, Consumer<V> action) {
+		Vertex x = vertices.get(v);
+
+		if (x != null)
+			forEachVertex(root(x, 0), y -> action.accept(y.key));
+	}
+
+	/**
+	 * Test if an edge is known by this structure.
+	 * 
+	 * @param e
+	 *            an edge
+	 * @return true if the edge has been added and not removed, loops excepted
+	 */
+	public boolean containsEdge(E e) {
+		return links.containsKey(e);
+	}
+
+	/**
+	 * Test if an edge is in the spanning forest.
+	 * 
+	 * @param e
+	 *            an edge
+	 * @return true if the edge is a tree edge
+	 */
+	public boolean isTreeEdge(E e) {
+		Link l = links.get(e);
+		return l != null && l.tree;
+	}
+
+	/**
+	 * Look for a replacement of a tree edge of level i between u and v,
+	 * already cut. The smallest of the two trees has its tree edges of level i
+	 * promoted to level i + 1, then its non-tree edges of level i are scanned.
+	 * Those which stay inside the tree are promoted too, and the first which
+	 * leaves the tree becomes a tree edge.
+	 */
+	protected boolean replace(Vertex u, Vertex v, int i) {
+		EulerNode ru = root(u, i);
+		EulerNode rv = root(v, i);
+		EulerNode small = ru.vertexCount <= rv.vertexCount ? ru : rv;
+
+		//
+		// Vertices are taken one at a time, as their flag is cleared once all
+		// their edges of level i are processed. This way, the search stops as
+		// soon as a replacement is found.
+		//
+		for (Vertex x = first(small, true); x != null; x = first(small, true))
+			for (Link l : new ArrayList<Link>(x.tree.get(i))) {
+				removeFromSet(l);
+				l.level++;
+				addToSet(l, true);
+				link(l, l.level);
+			}
+
+		for (Vertex x = first(small, false); x != null; x = first(small, false)) {
+			for (Link l : new ArrayList<Link>(x.nonTree.get(i))) {
+				Vertex y = l.u == x ? l.v : l.u;
+
+				removeFromSet(l);
+
+				if (root(y, i) == small) {
+					l.level++;
+					addToSet(l, false);
+				} else {
+					l.tree = true;
+					addToSet(l, true);
+
+					for (int j = 0; j <= i; j++)
+						link(l, j);
+
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	protected Vertex vertex(V v) {
+		Vertex x = vertices.get(v);
+
+		if (x == null) {
+			x = new Vertex(v);
+			vertices.put(v, x);
+		}
+
+		return x;
+	}
+
+	/**
+	 * The Euler tour node of a vertex at a given level, created if needed.
+	 */
+	protected EulerNode node(Vertex x, int i) {
+		while (x.nodes.size() <= i)
+			x.nodes.add(null);
+
+		EulerNode n = x.nodes.get(i);
+
+		if (n == null) {
+			n = new EulerNode(x, random.nextInt());
+			x.nodes.set(i, n);
+
+			n.hasTree = x.tree.size() > i && x.tree.get(i) != null
+					&& !x.tree.get(i).isEmpty();
+			n.hasNonTree = x.nonTree.size() > i && x.nonTree.get(i) != null
+					&& !x.nonTree.get(i).isEmpty();
+			n.update();
+		}
+
+		return n;
+	}
+
+	protected EulerNode root(Vertex x, int i) {
+		EulerNode n = node(x, i);
+
+		while (n.parent != null)
+			n = n.parent;
+
+		return n;
+	}
+
+	protected void addToSet(Link l, boolean tree) {
+		addToSet(l.u, l, tree);
+		addToSet(l.v, l, tree);
+	}
+
+	protected void addToSet(Vertex x, Link l, boolean tree) {
+		ArrayList<HashSet<Link>> sets = tree ? x.tree : x.nonTree;
+
+		while (sets.size() <= l.level)
+			sets.add(null);
+
+		HashSet<Link> set = sets.get(l.level);
+
+		if (set == null) {
+			set = new HashSet<Link>();
+			sets.set(l.level, set);
+		}
+
+		set.add(l);
+
+		if (set.size() == 1)
+			flag(x, l.level, tree, true);
+	}
+
+	protected void removeFromSet(Link l) {
+		removeFromSet(l.u, l);
+		removeFromSet(l.v, l);
+	}
+
+	protected void removeFromSet(Vertex x, Link l) {
+		HashSet<Link> set = (l.tree ? x.tree : x.nonTree).get(l.level);
+
+		if (set.remove(l) && set.isEmpty())
+			flag(x, l.level, l.tree, false);
+	}
+
+	protected void flag(Vertex x, int i, boolean tree, boolean value) {
+		EulerNode n = node(x, i);
+
+		if (tree)
+			n.hasTree = value;
+		else
+			n.hasNonTree = value;
+
+		for (; n != null; n = n.parent)
+			n.update();
+	}
+
+	/**
+	 * Find a vertex of a tree having tree (or non-tree) edges at the level of
+	 * the tree.
+	 * 
+	 * @return the vertex, or null if there is none
+	 */
+	protected Vertex first(EulerNode n, boolean tree) {
+		while (n != null && (tree ? n.anyTree : n.anyNonTree)) {
+			if (n.left != null && (tree ? n.left.anyTree : n.left.anyNonTree))
+				n = n.left;
+			else if (tree ? n.hasTree : n.hasNonTree)
+				return vertexOf(n);
+			else
+				n = n.right;
+		}
+
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected Vertex vertexOf(EulerNode n) {
+		return (Vertex) n.vertex;
+	}
+
+	protected void forEachVertex(EulerNode n, Consumer<Vertex> action) {
+		if (n == null)
+			return;
+
+		forEachVertex(n.left, action);
+
+		if (n.vertex != null)
+			action.accept(vertexOf(n));
+
+		forEachVertex(n.right, action);
+	}
+
+	/**
+	 * Join the Euler tours of the two ends of a tree edge at level i.
+	 */
+	protected void link(Link l, int i) {
+		EulerNode a = node(l.u, i);
+		EulerNode b = node(l.v, i);
+		EulerNode uv = new EulerNode(null, random.nextInt());
+		EulerNode vu = new EulerNode(null, random.nextInt());
+
+		while (l.arcs.size() <= i)
+			l.arcs.add(null);
+
+		l.arcs.set(i, new EulerNode[] { uv, vu });
+
+		EulerNode ta = reroot(a);
+		EulerNode tb = reroot(b);
+
+		merge(merge(merge(ta, uv), tb), vu);
+	}
+
+	/**
+	 * Split the Euler tour of a tree at level i in the two tours of the trees
+	 * separated by an edge.
+	 */
+	protected void cut(Link l, int i) {
+		EulerNode[] arcs = l.arcs.get(i);
+		l.arcs.set(i, null);
+
+		int p = position(arcs[0]);
+		int q = position(arcs[1]);
+
+		if (p > q) {
+			int t = p;
+			p = q;
+			q = t;
+		}
+
+		EulerNode r = arcs[0];
+		while (r.parent != null)
+			r = r.parent;
+
+		//
+		// The tour is A (u,v) B (v,u) C, where B is the tour of one tree and
+		// C A the tour of the other one.
+		//
+		EulerNode[] s = split(r, p);
+		EulerNode[] t = split(s[1], q - p + 1);
+		EulerNode[] first = split(t[0], 1);
+		split(first[1], q - p - 1);
+
+		merge(s[0], t[1]);
+	}
+
+	/**
+	 * Make a node the first of its tour.
+	 * 
+	 * @return the root of the rotated tour
+	 */
+	protected EulerNode reroot(EulerNode n) {
+		int p = position(n);
+		EulerNode r = n;
+
+		while (r.parent != null)
+			r = r.parent;
+
+		if (p == 0)
+			return r;
+
+		EulerNode[] s = split(r, p);
+		return merge(s[1], s[0]);
+	}
+
+	protected static int position(EulerNode n) {
+		int p = size(n.left);
+
+		for (; n.parent != null; n = n.parent)
+			if (n.parent.right == n)
+				p += size(n.parent.left) + 1;
+
+		return p;
+	}
+
+	protected static int size(EulerNode n) {
+		return n == null ? 0 : n.size;
+	}
+
+	/**
+	 * Merge two treaps, all the nodes of a preceding those of b.
+	 */
+	protected static EulerNode merge(EulerNode a, EulerNode b) {
+		if (a == null)
+			return b;
+		if (b == null)
+			return a;
+
+		if (a.priority > b.priority) {
+			a.right = merge(a.right, b);
+			a.right.parent = a;
+			a.update();
+			return a;
+		} else {
+			b.left = merge(a, b.left);
+			b.left.parent = b;
+			b.update();
+			return b;
+		}
+	}
+
+	/**
+	 * Split a treap in its k first nodes and the others. The two returned
+	 * treaps have no parent.
+	 */
+	protected static EulerNode[] split(EulerNode n, int k) {
+		if (n == null)
+			return new EulerNode[2];
+
+		n.parent = null;
+		EulerNode[] s;
+
+		if (size(n.left) >= k) {
+			s = split(n.left, k);
+			n.left = s[1];
+			if (n.left != null)
+				n.left.parent = n;
+			n.update();
+			s[1] = n;
+		} else {
+			s = split(n.right, k - size(n.left) - 1);
+			n.right = s[0];
+			if (n.right != null)
+				n.right.parent = n;
+			n.update();
+			s[0] = n;
+		}
+
+		return s;
+	}
+
+	protected class Vertex {
+		final V key;
+		final ArrayList<EulerNode> nodes = new ArrayList<EulerNode>(1);
+		final ArrayList<HashSet<Link>> tree = new ArrayList<HashSet<Link>>(1);
+		final ArrayList<HashSet<Link>> nonTree = new ArrayList<HashSet<Link>>(1);
+
+		/**
+		 * Temporary index used when edges are added in bulk.
+		 */
+		int index;
+
+		Vertex(V key) {
+			this.key = key;
+			node(this, 0);
+		}
+	}
+
+	protected class Link {
+		final E key;
+		final Vertex u;
+		final Vertex v;
+		int level;
+		boolean tree;
+
+		/**
+		 * The two arcs of a tree edge in the Euler tours of each level.
+		 */
+		final ArrayList<EulerNode[]> arcs = new ArrayList<EulerNode[]>(1);
+
+		Link(E key, Vertex u, Vertex v) {
+			this.key = key;
+			this.u = u;
+			this.v = v;
+		}
+	}
+
+	/**
+	 * A node of the Euler tour of a tree, which is a vertex or an arc. The
+	 * tour is stored as a treap ordered by position.
+	 */
+	protected static class EulerNode {
+		/**
+		 * The vertex of this node, or null for an arc.
+		 */
+		final Object vertex;
+		final int priority;
+		EulerNode left, right, parent;
+		int size;
+		int vertexCount;
+		boolean hasTree, hasNonTree;
+		boolean anyTree, anyNonTree;
+
+		EulerNode(Object vertex, int priority) {
+			this.vertex = vertex;
+			this.priority = priority;
+			update();
+		}
+
+		void update() {
+			size = 1;
+			vertexCount = vertex == null ? 0 : 1;
+			anyTree = hasTree;
+			anyNonTree = hasNonTree;
+
+			if (left != null) {
+				size += left.size;
+				vertexCount += left.vertexCount;
+				anyTree |= left.anyTree;
+				anyNonTree |= left.anyNonTree;
+			}
+
+			if (right != null) {
+				size += right.size;
+				vertexCount += right.vertexCount;
+				anyTree |= right.anyTree;
+				anyNonTree |= right.anyNonTree;
+			}
+		}
+	}
+}
@@ -0,0 +1,616 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.graphstream.graph.Edge;
+import org.graphstream.graph.Element;
+import org.graphstream.graph.Graph;
+import org.graphstream.graph.Node;
+import org.graphstream.stream.SinkAdapter;
+
+/**
+ * <p>
+ * Buffer the events of a graph between two steps and give them to a dynamic
+ * algorithm as one coalesced delta.
+ * </p>
+ * 
+ * <p>
+ * Dynamic algorithms usually repair their results at each event. When a step
+ * holds thousands of events, the same structures are repaired thousands of
+ * times. A delta is registered as a sink of the graph in place of the
+ * algorithm. It only records the net effect of the events, and gives it to a
+ * listener when the next step begins, or when {@link #flush()} is called:
+ * </p>
+ * <ul>
+ * <li>an element added then removed during the same step is ignored;</li>
+ * <li>an element removed then added again with the same identifier is seen as
+ * removed and added;</li>
+ * <li>the successive changes of an attribute are collapsed in a single change
+ * from its first value to its last value, and ignored if these are equal;</li>
+ * <li>clearing the graph forgets all the previous events of the step.</li>
+ * </ul>
+ * 
+ * <p>
+ * The removed elements are kept as they were when they were removed, so that
+ * the listener can still read their ends and their attributes. Only the
+ * attributes explicitly watched with {@link #watchNodeAttribute(String)} and
+ * {@link #watchEdgeAttribute(String)} are recorded, the changes of other
+ * attributes do not appear in the delta.
+ * </p>
+ * 
+ * <h2>Example</h2>
+ * 
+ * <pre>
+ * GraphDelta delta = new GraphDelta(graph, d -&gt; System.out.printf(
+ * 		&quot;%d edges added, %d removed%n&quot;, d.getAddedEdges().size(), d
+ * 				.getRemovedEdges().size()));
+ * delta.attach();
+ * </pre>
+ */
+public class GraphDelta extends SinkAdapter {
+	/**
+	 * The graph whose events are recorded.
+	 */
+	protected Graph graph;
+
+	/**
+	 * Called with this delta when it is flushed and not empty.
+	 */
+	protected Consumer<GraphDelta> listener;
+
+	protected final HashSet<String> nodeAttributes = new HashSet<String>();
+	protected final HashSet<String> edgeAttributes = new HashSet<String>();
+
+	protected final LinkedHashMap<String, ElementChange<Node>> nodes = new LinkedHashMap<String, ElementChange<Node>>();
+	protected final LinkedHashMap<String, ElementChange<Edge>> edges = new LinkedHashMap<String, ElementChange<Edge>>();
+
+	/**
+	 * Pending attribute changes, by element and then by attribute, so that
+	 * the changes of a removed element are dropped at once.
+	 */
+	protected final LinkedHashMap<String, LinkedHashMap<String, AttributeChange>> nodeAttributeChanges = new LinkedHashMap<String, LinkedHashMap<String, AttributeChange>>();
+	protected final LinkedHashMap<String, LinkedHashMap<String, AttributeChange>> edgeAttributeChanges = new LinkedHashMap<String, LinkedHashMap<String, AttributeChange>>();
+
+	protected boolean cleared = false;
+	protected boolean attached = false;
+
+	/**
+	 * New delta on a graph. The delta does not record anything before
+	 * {@link #attach()} is called, unless it is registered as a sink by other
+	 * means.
+	 * 
+	 * @param graph
+	 *            the graph
+	 * @param listener
+	 *            called with the delta at each flush
+	 */
+	public GraphDelta(Graph graph, Consumer<GraphDelta> listener) {
+		this.graph = graph;
+		this.listener = listener;
+	}
+
+	/**
+	 * Record the changes of a node attribute.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 */
+	public void watchNodeAttribute(String attribute) {
+		if (attribute != null)
+			nodeAttributes.add(attribute);
+	}
+
+	/**
+	 * Record the changes of an edge attribute.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 */
+	public void watchEdgeAttribute(String attribute) {
+		if (attribute != null)
+			edgeAttributes.add(attribute);
+	}
+
+	/**
+	 * Stop recording the changes of a node attribute.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 */
+	public void unwatchNodeAttribute(String attribute) {
+		nodeAttributes.remove(attribute);
+	}
+
+	/**
+	 * Stop recording the changes of an edge attribute.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 */
+	public void unwatchEdgeAttribute(String attribute) {
+		edgeAttributes.remove(attribute);
+	}
+
+	/**
+	 * Register this delta as a sink of the graph.
+	 */
+	public void attach() {
+		if (!attached) {
+			graph.addSink(this);
+			attached = true;
+		}
+	}
+
+	/**
+	 * Flush the pending changes and stop listening to the graph.
+	 */
+	public void detach() {
+		if (attached) {
+			flush();
+			graph.removeSink(this);
+			attached = false;
+		}
+	}
+
+	/**
+	 * Give the pending changes to the listener if there are some, and start a
+	 * new delta.
+	 */
+	public void flush() {
+		if (!isEmpty()) {
+			listener.accept(this);
+			clear();
+		}
+	}
+
+	/**
+	 * Forget the pending changes.
+	 */
+	public void clear() {
+		nodes.clear();
+		edges.clear();
+		nodeAttributeChanges.clear();
+		edgeAttributeChanges.clear();
+		cleared = false;
+	}
+
+	/**
+	 * True if there is no pending change.
+	 */
+	public boolean isEmpty() {
+		return !cleared && nodes.isEmpty() && edges.isEmpty()
+				&& nodeAttributeChanges.isEmpty()
+				&& edgeAttributeChanges.isEmpty();
+	}
+
+	/**
+	 * True if the graph has been cleared since the last flush. The other
+	 * changes are then relative to an empty graph.
+	 */
+	public boolean isCleared() {
+		return cleared;
+	}
+
+	/**
+	 * True if nodes or edges have been added or removed.
+	 */
+	public boolean hasStructuralChanges() {
+		return cleared || !nodes.isEmpty() || !edges.isEmpty();
+	}
+
+	/**
+	 * The nodes removed since the last flush, as they were just before their
+	 * removal. A node removed and added again with the same identifier is both
+	 * in the removed and in the added nodes.
+	 */
+	public Collection<Node> getRemovedNodes() {
+		return removed(nodes);
+	}
+
+	/**
+	 * The nodes added since the last flush and still in the graph.
+	 */
+	public Collection<Node> getAddedNodes() {
+		ArrayList<Node> added = new ArrayList<Node>();
+
+		for (String id : nodes.keySet())
+			if (nodes.get(id).added && graph.getNode(id) != null)
+				added.add(graph.getNode(id));
+
+		return added;
+	}
+
+	/**
+	 * The edges removed since the last flush, as they were just before their
+	 * removal.
+	 */
+	public Collection<Edge> getRemovedEdges() {
+		return removed(edges);
+	}
+
+	/**
+	 * The edges added since the last flush and still in the graph.
+	 */
+	public Collection<Edge> getAddedEdges() {
+		ArrayList<Edge> added = new ArrayList<Edge>();
+
+		for (String id : edges.keySet())
+			if (edges.get(id).added && graph.getEdge(id) != null)
+				added.add(graph.getEdge(id));
+
+		return added;
+	}
+
+	/**
+	 * The net changes of watched attributes, on elements still in the graph.
+	 * Changes whose first and last values are equal are not given.
+	 */
+	public Collection<AttributeChange> getAttributeChanges() {
+		return attributeChanges(null);
+	}
+
+	/**
+	 * The net changes of a watched attribute.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 * @see #getAttributeChanges()
+	 */
+	public Collection<AttributeChange> getAttributeChanges(String attribute) {
+		return attributeChanges(attribute);
+	}
+
+	/**
+	 * Effective changes of an attribute, or of all attributes if null, nodes
+	 * first.
+	 */
+	protected Collection<AttributeChange> attributeChanges(String attribute) {
+		ArrayList<AttributeChange> changes = new ArrayList<AttributeChange>();
+
+		for (LinkedHashMap<String, LinkedHashMap<String, AttributeChange>> byElement : Arrays
+				.asList(nodeAttributeChanges, edgeAttributeChanges))
+			for (LinkedHashMap<String, AttributeChange> byAttribute : byElement
+					.values()) {
+				if (attribute == null) {
+					for (AttributeChange c : byAttribute.values())
+						if (c.isEffective())
+							changes.add(c);
+				} else {
+					AttributeChange c = byAttribute.get(attribute);
+
+					if (c != null && c.isEffective())
+						changes.add(c);
+				}
+			}
+
+		return changes;
+	}
+
+	/**
+	 * Value of a watched attribute of an element before the delta. The
+	 * element is either in the graph, or one of the removed elements.
+	 * 
+	 * @param element
+	 *            the node or the edge
+	 * @param attribute
+	 *            a watched attribute
+	 * @return the value before the delta, null if the attribute was not there
+	 */
+	public Object getPreviousValue(Element element, String attribute) {
+		boolean node = element instanceof Node;
+		ElementChange<?> c = (node ? nodes : edges).get(element.getId());
+		LinkedHashMap<String, AttributeChange> attributes;
+
+		if (c != null && c.removed == element)
+			attributes = c.attributes;
+		else
+			attributes = (node ? nodeAttributeChanges : edgeAttributeChanges)
+					.get(element.getId());
+
+		AttributeChange change = attributes == null ? null : attributes
+				.get(attribute);
+
+		if (change == null)
+			return element.getAttribute(attribute);
+
+		return change.wasPresent ? change.oldValue : null;
+	}
+
+	protected <T extends Element> Collection<T> removed(
+			LinkedHashMap<String, ElementChange<T>> changes) {
+		ArrayList<T> removed = new ArrayList<T>();
+
+		for (ElementChange<T> c : changes.values())
+			if (c.removed != null)
+				removed.add(c.removed);
+
+		return removed;
+	}
+
+	protected <T extends Element> void added(
+			LinkedHashMap<String, ElementChange<T>> changes, String id) {
+		ElementChange<T> c = changes.get(id);
+
+		if (c == null) {
+			c = new ElementChange<T>();
+			changes.put(id, c);
+		}
+
+		c.added = true;
+	}
+
+	protected <T extends Element> void removed(
+			LinkedHashMap<String, ElementChange<T>> changes,
+			LinkedHashMap<String, LinkedHashMap<String, AttributeChange>> attributeChanges,
+			String id, T element) {
+		ElementChange<T> c = changes.get(id);
+
+		//
+		// Attribute changes of an element which is not there anymore are not
+		// given, but the first values of the ones of an element which existed
+		// before the delta are kept with it.
+		//
+		LinkedHashMap<String, AttributeChange> attributes = attributeChanges
+				.remove(id);
+
+		if (c == null) {
+			c = new ElementChange<T>();
+			c.removed = element;
+			c.attributes = attributes;
+			changes.put(id, c);
+		} else {
+			c.added = false;
+
+			if (c.removed == null)
+				changes.remove(id);
+		}
+	}
+
+	protected void attribute(boolean node, String id, String attribute,
+			boolean wasPresent, Object oldValue, boolean present, Object value) {
+		if (!(node ? nodeAttributes : edgeAttributes).contains(attribute))
+			return;
+
+		LinkedHashMap<String, AttributeChange> byAttribute = (node ? nodeAttributeChanges
+				: edgeAttributeChanges).computeIfAbsent(id,
+				k -> new LinkedHashMap<String, AttributeChange>());
+		AttributeChange c = byAttribute.get(attribute);
+
+		if (c == null) {
+			c = new AttributeChange(node, id, attribute, wasPresent, oldValue);
+			byAttribute.put(attribute, c);
+		}
+
+		c.present = present;
+		c.value = value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeAdded(java.lang.String, long,
+	 * java.lang.String)
+	 */
+	@Override
+	public void nodeAdded(String sourceId, long timeId, String nodeId) {
+		added(nodes, nodeId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#nodeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void nodeRemoved(String sourceId, long timeId, String nodeId) {
+		removed(nodes, nodeAttributeChanges, nodeId, graph.getNode(nodeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeAdded(java.lang.String, long,
+	 * java.lang.String, java.lang.String, java.lang.String, boolean)
+	 */
+	@Override
+	public void edgeAdded(String sourceId, long timeId, String edgeId,
+			String fromNodeId, String toNodeId, boolean directed) {
+		added(edges, edgeId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#edgeRemoved(java.lang.String,
+	 * long, java.lang.String)
+	 */
+	@Override
+	public void edgeRemoved(String sourceId, long timeId, String edgeId) {
+		removed(edges, edgeAttributeChanges, edgeId, graph.getEdge(edgeId));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#graphCleared(java.lang.String,
+	 * long)
+	 */
+	@Override
+	public void graphCleared(String sourceId, long timeId) {
+		clear();
+		cleared = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.graphstream.stream.SinkAdapter#stepBegins(java.lang.String,
+	 * long, double)
+	 */
+	@Override
+	public void stepBegins(String sourceId, long timeId, double step) {
+		flush();
+	}
+
+	@Override
+	public void nodeAttributeAdded(String sourceId, long timeId, String nodeId,
+			String attribute, Object value) {
+		attribute(true, nodeId, attribute, false, null, true, value);
+	}
+
+	@Override
+	public void nodeAttributeChanged(String sourceId, long timeId,
+			String nodeId, String attribute, Object oldValue, Object newValue) {
+		attribute(true, nodeId, attribute, true, oldValue, true, newValue);
+	}
+
+	@Override
+	public void nodeAttributeRemoved(String sourceId, long timeId,
+			String nodeId, String attribute) {
+		Node n = graph.getNode(nodeId);
+
+		// The attribute is still there when the event is received.
+		attribute(true, nodeId, attribute, true,
+				n == null ? null : n.getAttribute(attribute), false, null);
+	}
+
+	@Override
+	public void edgeAttributeAdded(String sourceId, long timeId, String edgeId,
+			String attribute, Object value) {
+		attribute(false, edgeId, attribute, false, null, true, value);
+	}
+
+	@Override
+	public void edgeAttributeChanged(String sourceId, long timeId,
+			String edgeId, String attribute, Object oldValue, Object newValue) {
+		attribute(false, edgeId, attribute, true, oldValue, true, newValue);
+	}
+
+	@Override
+	public void edgeAttributeRemoved(String sourceId, long timeId,
+			String edgeId, String attribute) {
+		Edge e = graph.getEdge(edgeId);
+
+		attribute(false, edgeId, attribute, true,
+				e == null ? null : e.getAttribute(attribute), false, null);
+	}
+
+	/**
+	 * Net change of an element: the element as it was before being removed,
+	 * if it existed before the delta, and a flag telling if it exists now.
+	 */
+	protected static class ElementChange<T extends Element> {
+		T removed;
+		boolean added;
+
+		/**
+		 * Attribute changes of the removed element before its removal.
+		 */
+		LinkedHashMap<String, AttributeChange> attributes;
+	}
+
+	/**
+	 * Net change of an attribute of a node or an edge.
+	 */
+	public class AttributeChange {
+		protected final boolean node;
+		protected final String elementId;
+		protected final String attribute;
+		protected final boolean wasPresent;
+		protected final Object oldValue;
+		protected boolean present;
+		protected Object value;
+
+		AttributeChange(boolean node, String elementId, String attribute,
+				boolean wasPresent, Object oldValue) {
+			this.node = node;
+			this.elementId = elementId;
+			this.attribute = attribute;
+			this.wasPresent = wasPresent;
+			this.oldValue = oldValue;
+		}
+
+		/**
+		 * The node or edge whose attribute changed.
+		 */
+		public Element getElement() {
+			return node ? graph.getNode(elementId) : graph.getEdge(elementId);
+		}
+
+		public boolean isNodeAttribute() {
+			return node;
+		}
+
+		public String getAttribute() {
+			return attribute;
+		}
+
+		/**
+		 * True if the attribute was there before the delta.
+		 */
+		public boolean wasPresent() {
+			return wasPresent;
+		}
+
+		/**
+		 * True if the attribute is there after the delta.
+		 */
+		public boolean isPresent() {
+			return present;
+		}
+
+		public Object getOldValue() {
+			return oldValue;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		/**
+		 * True if the change is not cancelled by a later one, and is on an
+		 * element that still exists.
+		 */
+		public boolean isEffective() {
+			return getElement() != null
+					&& (wasPresent != present || !Objects.equals(oldValue,
+							value));
+		}
+	}
+}
@@ -0,0 +1,337 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Priority queue of the integers between 0 and n - 1, such as the indices of
+ * the nodes of a graph, stored in a binary heap. Each element has a primary
+ * and a secondary key: elements are ordered by their primary key, then by
+ * their secondary key. Besides the usual operations, the position of each
+ * element in the heap is known, so that the following operations are
+ * efficient:
+ * </p>
+ * <ul>
+ * <li>Checking if an element is in the queue, in constant time</li>
+ * <li>Changing the keys of an element, in O(log n)</li>
+ * <li>Removing any element, in O(log n)</li>
+ * </ul>
+ * 
+ * <p>
+ * Keys are stored in primitive arrays and no object is allocated per element.
+ * Clearing the queue only costs the number of elements it contains.
+ * </p>
+ * 
+ * <h3>Example</h3>
+ * 
+ * <pre>
+ * IndexedPriorityQueue queue = new IndexedPriorityQueue(10);
+ * queue.add(3, 5.0);
+ * queue.add(7, 2.0);
+ * queue.add(4, 2.0, 1.0);
+ * queue.add(3, 1.0); // 3 moves to the top
+ * 
+ * int a = queue.poll(); // 3
+ * int b = queue.poll(); // 7, same primary key as 4 but lower secondary key
+ * </pre>
+ */
+public class IndexedPriorityQueue {
+	/**
+	 * Elements, in heap order.
+	 */
+	protected int[] heap;
+
+	/**
+	 * Position of each element in the heap, -1 if it is not in the queue.
+	 */
+	protected int[] positions;
+
+	/**
+	 * Primary and secondary keys of each element.
+	 */
+	protected double[] keys1, keys2;
+
+	/**
+	 * Number of elements in the queue.
+	 */
+	protected int size;
+
+	/**
+	 * Creates an empty queue for the integers between 0 and n - 1.
+	 * 
+	 * @param n
+	 *            Number of possible elements
+	 */
+	public IndexedPriorityQueue(int n) {
+		heap = new int[n];
+		positions = new int[n];
+		keys1 = new double[n];
+		keys2 = new double[n];
+		size = 0;
+
+		Arrays.fill(positions, -1);
+	}
+
+	/**
+	 * Number of possible elements.
+	 * 
+	 * @return The capacity of the queue
+	 */
+	public int capacity() {
+		return heap.length;
+	}
+
+	/**
+	 * Grows the queue so that it can contain the integers between 0 and n - 1.
+	 * 
+	 * @param n
+	 *            Number of possible elements
+	 */
+	public void ensureCapacity(int n) {
+		int old = heap.length;
+
+		if (n <= old)
+			return;
+
+		n = Math.max(n, 2 * old);
+		heap = Arrays.copyOf(heap, n);
+		positions = Arrays.copyOf(positions, n);
+		keys1 = Arrays.copyOf(keys1, n);
+		keys2 = Arrays.copyOf(keys2, n);
+
+		Arrays.fill(positions, old, n, -1);
+	}
+
+	/**
+	 * Number of elements in the queue.
+	 * 
+	 * @return The size of the queue
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the queue is empty.
+	 * 
+	 * @return True if the queue contains no element
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks if an element is in the queue.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return True if {@code e} is in the queue
+	 */
+	public boolean contains(int e) {
+		return positions[e] >= 0;
+	}
+
+	/**
+	 * Adds an element with a secondary key of zero, or changes its keys if it
+	 * is already in the queue.
+	 * 
+	 * @param e
+	 *            An element
+	 * @param key
+	 *            Its primary key
+	 */
+	public void add(int e, double key) {
+		add(e, key, 0);
+	}
+
+	/**
+	 * Adds an element, or changes its keys if it is already in the queue.
+	 * 
+	 * @param e
+	 *            An element
+	 * @param key1
+	 *            Its primary key
+	 * @param key2
+	 *            Its secondary key
+	 */
+	public void add(int e, double key1, double key2) {
+		int p = positions[e];
+
+		keys1[e] = key1;
+		keys2[e] = key2;
+
+		if (p < 0) {
+			heap[size] = e;
+			positions[e] = size;
+			up(size++);
+		} else {
+			up(p);
+			down(positions[e]);
+		}
+	}
+
+	/**
+	 * Element with the lowest keys.
+	 * 
+	 * @return The first element of the queue
+	 * @throws NoSuchElementException
+	 *             If the queue is empty
+	 */
+	public int peek() {
+		if (size == 0)
+			throw new NoSuchElementException();
+
+		return heap[0];
+	}
+
+	/**
+	 * Removes the element with the lowest keys.
+	 * 
+	 * @return The first element of the queue
+	 * @throws NoSuchElementException
+	 *             If the queue is empty
+	 */
+	public int poll() {
+		int e = peek();
+		remove(e);
+
+		return e;
+	}
+
+	/**
+	 * Removes an element from the queue. Nothing happens if it is not in the
+	 * queue.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return True if {@code e} was in the queue
+	 */
+	public boolean remove(int e) {
+		int p = positions[e];
+
+		if (p < 0)
+			return false;
+
+		positions[e] = -1;
+
+		if (p < --size) {
+			heap[p] = heap[size];
+			positions[heap[p]] = p;
+			up(p);
+			down(positions[heap[p]]);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Primary key of an element, the last one it had if it is not in the queue
+	 * anymore.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return Its primary key
+	 */
+	public double getKey1(int e) {
+		return keys1[e];
+	}
+
+	/**
+	 * Secondary key of an element, the last one it had if it is not in the
+	 * queue anymore.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return Its secondary key
+	 */
+	public double getKey2(int e) {
+		return keys2[e];
+	}
+
+	/**
+	 * Removes all the elements.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; i++)
+			positions[heap[i]] = -1;
+
+		size = 0;
+	}
+
+	protected boolean less(int e1, int e2) {
+		return keys1[e1] < keys1[e2]
+				|| (keys1[e1] == keys1[e2] && keys2[e1] < keys2[e2]);
+	}
+
+	protected void up(int p) {
+		int e = heap[p];
+
+		while (p > 0) {
+			int q = (p - 1) >> 1;
+
+			if (!less(e, heap[q]))
+				break;
+
+			heap[p] = heap[q];
+			positions[heap[p]] = p;
+			p = q;
+		}
+
+		heap[p] = e;
+		positions[e] = p;
+	}
+
+	protected void down(int p) {
+		int e = heap[p];
+
+		while (true) {
+			int c = 2 * p + 1;
+
+			if (c >= size)
+				break;
+
+			if (c + 1 < size && less(heap[c + 1], heap[c]))
+				c++;
+
+			if (!less(heap[c], e))
+				break;
+
+			heap[p] = heap[c];
+			positions[heap[p]] = p;
+			p = c;
+		}
+
+		heap[p] = e;
+		positions[e] = p;
+	}
+}
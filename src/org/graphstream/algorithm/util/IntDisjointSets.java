@@ -0,0 +1,185 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Disjoint sets of the integers between 0 and n - 1, such as the indices of
+ * the nodes of a graph. It supports the same operations as
+ * {@link DisjointSets}, but without any map or object per element: the forest
+ * is stored in two arrays. All the elements are in the structure from its
+ * creation, each one in its own set.
+ * </p>
+ * 
+ * <p>
+ * Roots are found iteratively with path halving, every element on the path
+ * being linked to its grandparent, and the smaller set is linked under the
+ * larger one. All operations are executed in almost constant amortized time.
+ * </p>
+ * 
+ * <p>
+ * This structure is not thread-safe, see {@link ConcurrentDisjointSets}.
+ * </p>
+ * 
+ * @reference Tarjan, R. E. and van Leeuwen, J. (1984), "Worst-case Analysis of
+ *            Set Union Algorithms", Journal of the ACM 31 (2), 245–281
+ */
+public class IntDisjointSets {
+	/**
+	 * Parent of each element, roots are their own parent.
+	 */
+	protected int[] parent;
+
+	/**
+	 * Size of the set of each root.
+	 */
+	protected int[] size;
+
+	/**
+	 * Number of sets.
+	 */
+	protected int count;
+
+	/**
+	 * Creates a new instance where each element between 0 and n - 1 is in its
+	 * own set.
+	 * 
+	 * @param n
+	 *            Number of elements
+	 */
+	public IntDisjointSets(int n) {
+		parent = new int[n];
+		size = new int[n];
+		clear();
+	}
+
+	/**
+	 * Root of the set containing an element.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return The representative of the set of {@code e}
+	 */
+	public int find(int e) {
+		while (parent[e] != e) {
+			parent[e] = parent[parent[e]];
+			e = parent[e];
+		}
+
+		return e;
+	}
+
+	/**
+	 * Checks if two elements belong to the same set.
+	 * 
+	 * @param e1
+	 *            An element
+	 * @param e2
+	 *            An element
+	 * @return True if and only if {@code e1} and {@code e2} belong to the same
+	 *         set
+	 */
+	public boolean inSameSet(int e1, int e2) {
+		return find(e1) == find(e2);
+	}
+
+	/**
+	 * Union of the set containing {@code e1} and the set containing {@code e2}.
+	 * 
+	 * @param e1
+	 *            An element
+	 * @param e2
+	 *            An element
+	 * @return {@code true} if and only if {@code e1} and {@code e2} belong to
+	 *         different sets at the beginning
+	 */
+	public boolean union(int e1, int e2) {
+		int x = find(e1);
+		int y = find(e2);
+
+		if (x == y)
+			return false;
+
+		if (size[x] < size[y]) {
+			int t = x;
+			x = y;
+			y = t;
+		}
+
+		parent[y] = x;
+		size[x] += size[y];
+		count--;
+
+		return true;
+	}
+
+	/**
+	 * Number of elements of the set containing an element.
+	 * 
+	 * @param e
+	 *            An element
+	 * @return Size of the set of {@code e}
+	 */
+	public int getSetSize(int e) {
+		return size[find(e)];
+	}
+
+	/**
+	 * Number of disjoint sets.
+	 * 
+	 * @return The number of sets
+	 */
+	public int getSetCount() {
+		return count;
+	}
+
+	/**
+	 * Number of elements.
+	 * 
+	 * @return The number of elements of all the sets
+	 */
+	public int size() {
+		return parent.length;
+	}
+
+	/**
+	 * Reinitializes the structure. After this operation each element is in its
+	 * own set.
+	 */
+	public void clear() {
+		for (int i = 0; i < parent.length; i++)
+			parent[i] = i;
+
+		Arrays.fill(size, 1);
+		count = parent.length;
+	}
+}
@@ -0,0 +1,490 @@
+/*
+ * This file is part of GraphStream <http://graphstream-project.org>.
+ * 
+ * GraphStream is a library whose purpose is to handle static or dynamic
+ * graph, create them from scratch, file or any source and display them.
+ * 
+ * This program is free software distributed under the terms of two licenses, the
+ * CeCILL-C license that fits European law, and the GNU Lesser General Public
+ * License. You can  use, modify and/ or redistribute the software under the terms
+ * of the CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+ * URL <http://www.cecill.info> or under the terms of the GNU LGPL as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL-C and LGPL licenses and that you accept their terms.
+ *
+ *
+ * @since 2026-10-18
+ * 
+ * @author Guilhelm Savin <guilhelm.savin@graphstream-project.org>
+ */
+package org.graphstream.algorithm.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.EigenDecomposition;
+
+/**
+ * <p>
+ * Computes a few of the largest and smallest eigenvalues of a large sparse
+ * symmetric matrix, and the associated eigenvectors, with the thick-restart
+ * Lanczos method.
+ * </p>
+ * 
+ * <p>
+ * The matrix is never stored. It is given as an {@link Operator} computing the
+ * product of the matrix by a vector. The solver builds an orthonormal basis of
+ * a Krylov subspace of small dimension, computes the eigenpairs of the
+ * projection of the matrix on this subspace (the Ritz pairs), and restarts
+ * from the wanted Ritz vectors until their residual is small enough. The basis
+ * is fully reorthogonalized, so the memory used is O(pn) where p is the
+ * dimension of the subspace and n the size of the matrix.
+ * </p>
+ * 
+ * <p>
+ * Known eigenvectors can be removed from the search space with
+ * {@link #setDeflation(double[][])}. For example, the vector whose entries are
+ * all equal is an eigenvector of any graph Laplacian for the eigenvalue zero,
+ * and removing it makes the smallest eigenvalue found the algebraic
+ * connectivity.
+ * </p>
+ * 
+ * <p>
+ * Eigenvalues with a multiplicity greater than one are found only once unless
+ * the subspace gets exhausted, which happens for instance with small matrices.
+ * </p>
+ * 
+ * @reference K. Wu and H. Simon, "Thick-Restart Lanczos Method for Large
+ *            Symmetric Eigenvalue Problems", SIAM Journal on Matrix Analysis
+ *            and Applications, 22(2), 2000.
+ */
+public class LanczosEigenSolver {
+	/**
+	 * A symmetric matrix given by its product with a vector.
+	 */
+	public static interface Operator {
+		/**
+		 * Number of rows (and columns) of the matrix.
+		 * 
+		 * @return the size of the matrix
+		 */
+		int size();
+
+		/**
+		 * Computes y = A x. The two arrays are distinct.
+		 * 
+		 * @param x
+		 *            the vector to multiply
+		 * @param y
+		 *            the array receiving the result
+		 */
+		void multiply(double[] x, double[] y);
+	}
+
+	/**
+	 * Default relative tolerance on the residual of eigenpairs.
+	 */
+	public static final double DEFAULT_TOLERANCE = 1e-8;
+
+	/**
+	 * Default maximum number of restarts.
+	 */
+	public static final int DEFAULT_MAX_RESTARTS = 500;
+
+	protected Operator operator;
+	protected double tolerance = DEFAULT_TOLERANCE;
+	protected int maxRestarts = DEFAULT_MAX_RESTARTS;
+	protected int subspaceSize = 0;
+	protected Random random = new Random(0);
+	protected double[][] deflation = new double[0][];
+
+	protected double[] eigenvalues;
+	protected double[][] eigenvectors;
+	protected boolean converged;
+	protected int restarts;
+	protected int products;
+
+	/**
+	 * New solver for a given matrix.
+	 * 
+	 * @param operator
+	 *            the symmetric matrix
+	 */
+	public LanczosEigenSolver(Operator operator) {
+		this.operator = operator;
+	}
+
+	/**
+	 * Relative tolerance on the residual norm of the eigenpairs.
+	 * 
+	 * @param tolerance
+	 *            the tolerance
+	 */
+	public void setTolerance(double tolerance) {
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * Maximum number of restarts before giving up.
+	 * 
+	 * @param maxRestarts
+	 *            maximum number of restarts
+	 */
+	public void setMaxRestarts(int maxRestarts) {
+		this.maxRestarts = maxRestarts;
+	}
+
+	/**
+	 * Dimension of the Krylov subspace. When zero or too small, a dimension is
+	 * chosen according to the number of wanted eigenvalues.
+	 * 
+	 * @param subspaceSize
+	 *            the subspace dimension
+	 */
+	public void setSubspaceSize(int subspaceSize) {
+		this.subspaceSize = subspaceSize;
+	}
+
+	/**
+	 * Seed of the random start vector.
+	 * 
+	 * @param seed
+	 *            the seed
+	 */
+	public void setRandomSeed(long seed) {
+		random = new Random(seed);
+	}
+
+	/**
+	 * Orthonormal eigenvectors removed from the search space.
+	 * 
+	 * @param vectors
+	 *            known orthonormal eigenvectors of the matrix
+	 */
+	public void setDeflation(double[][] vectors) {
+		deflation = vectors == null ? new double[0][] : vectors;
+	}
+
+	/**
+	 * The eigenvalues found by the last call to {@link #solve(int, int)}, in
+	 * descending order.
+	 * 
+	 * @return the eigenvalues
+	 */
+	public double[] getEigenvalues() {
+		return eigenvalues;
+	}
+
+	/**
+	 * The eigenvectors found by the last call to {@link #solve(int, int)}. The
+	 * i-th vector is associated to the i-th eigenvalue.
+	 * 
+	 * @return the unit eigenvectors
+	 */
+	public double[][] getEigenvectors() {
+		return eigenvectors;
+	}
+
+	/**
+	 * Tells if the last call to {@link #solve(int, int)} reached the wanted
+	 * tolerance before the maximum number of restarts.
+	 * 
+	 * @return true if all the eigenpairs have converged
+	 */
+	public boolean hasConverged() {
+		return converged;
+	}
+
+	/**
+	 * Number of matrix-vector products done by the last call to
+	 * {@link #solve(int, int)}.
+	 * 
+	 * @return the number of products
+	 */
+	public int getProductCount() {
+		return products;
+	}
+
+	/**
+	 * Number of restarts done by the last call to {@link #solve(int, int)}.
+	 * 
+	 * @return the number of restarts
+	 */
+	public int getRestartCount() {
+		return restarts;
+	}
+
+	/**
+	 * Computes the {@code largest} largest and the {@code smallest} smallest
+	 * eigenvalues and their eigenvectors. The results are then available with
+	 * {@link #getEigenvalues()} and {@link #getEigenvectors()}. If the matrix
+	 * (less the deflated vectors) has less eigenvalues than asked, all of them
+	 * are returned.
+	 * 
+	 * @param largest
+	 *            number of largest eigenvalues wanted
+	 * @param smallest
+	 *            number of smallest eigenvalues wanted
+	 * @complexity O(r(p M + p<sup>2</sup>n)) where r is the number of
+	 *             restarts, p the subspace dimension, M the cost of a product
+	 *             and n the size of the matrix.
+	 */
+	public void solve(int largest, int smallest) {
+		int n = operator.size();
+		int free = Math.max(0, n - deflation.length);
+
+		largest = Math.min(Math.max(largest, 0), free);
+		smallest = Math.min(Math.max(smallest, 0), free - largest);
+
+		int wanted = largest + smallest;
+
+		converged = true;
+		restarts = 0;
+		products = 0;
+
+		if (wanted == 0) {
+			eigenvalues = new double[0];
+			eigenvectors = new double[0][];
+			return;
+		}
+
+		int p = Math.min(free, Math.max(subspaceSize, 2 * wanted + 20));
+		double[][] v = new double[p + 1][];
+		double[][] h = new double[p][p];
+		double[] theta = null;
+		double[][] y = null;
+		int[] order = null;
+		double beta = 0;
+		int start = 0;
+
+		v[0] = randomVector(n, v, 0);
+
+		while (true) {
+			//
+			// Extend the basis up to p vectors. The upper triangle of h
+			// receives the projection of the matrix.
+			//
+			for (int j = start; j < p; j++) {
+				double[] w = new double[n];
+
+				operator.multiply(v[j], w);
+				products++;
+
+				double scale = norm(w);
+
+				orthogonalize(w, v, j + 1, h, j);
+				orthogonalize(w, v, j + 1, h, j);
+				deflate(w);
+
+				beta = norm(w);
+
+				if (beta <= 1e-12 * Math.max(scale, 1)) {
+					// Invariant subspace: go on with a new direction.
+					beta = 0;
+					v[j + 1] = j + 1 < p ? randomVector(n, v, j + 1) : w;
+				} else {
+					for (int i = 0; i < n; i++)
+						w[i] /= beta;
+
+					v[j + 1] = w;
+				}
+			}
+
+			//
+			// Ritz pairs.
+			//
+			Array2DRowRealMatrix s = new Array2DRowRealMatrix(p, p);
+
+			for (int i = 0; i < p; i++)
+				for (int j = i; j < p; j++) {
+					s.setEntry(i, j, h[i][j]);
+					s.setEntry(j, i, h[i][j]);
+				}
+
+			EigenDecomposition eig = new EigenDecomposition(s);
+			double[] values = eig.getRealEigenvalues();
+			Integer[] idx = new Integer[p];
+
+			for (int i = 0; i < p; i++)
+				idx[i] = i;
+
+			Arrays.sort(idx, (a, b) -> Double.compare(values[b], values[a]));
+
+			theta = new double[p];
+			y = new double[p][];
+			order = new int[p];
+
+			for (int i = 0; i < p; i++) {
+				theta[i] = values[idx[i]];
+				y[i] = eig.getEigenvector(idx[i]).toArray();
+				order[i] = i;
+			}
+
+			double norm = Math.max(Math.abs(theta[0]), Math.abs(theta[p - 1]));
+			boolean done = true;
+
+			for (int i = 0; i < p && done; i++)
+				if (isWanted(i, p, largest, smallest)
+						&& Math.abs(beta * y[i][p - 1]) > tolerance
+								* Math.max(norm, 1))
+					done = false;
+
+			if (done || restarts >= maxRestarts) {
+				converged = done;
+				break;
+			}
+
+			//
+			// Thick restart: keep the wanted Ritz vectors, and some of their
+			// neighbors, and go on from the residual vector.
+			//
+			restarts++;
+
+			int extra = (p - 1 - wanted) / 2;
+			int keepTop = largest + (smallest == 0 ? extra : largest == 0 ? 0
+					: extra / 2);
+			int keepBottom = smallest + (extra - (keepTop - largest));
+			int keep = keepTop + keepBottom;
+			double[][] kept = new double[keep + 1][];
+
+			for (int k = 0; k < keep; k++) {
+				int i = k < keepTop ? k : p - keep + k;
+				double[] x = new double[n];
+
+				for (int l = 0; l < p; l++) {
+					double c = y[i][l];
+
+					if (c != 0)
+						for (int r = 0; r < n; r++)
+							x[r] += c * v[l][r];
+				}
+
+				kept[k] = x;
+			}
+
+			kept[keep] = v[p];
+
+			for (int i = 0; i < p; i++)
+				Arrays.fill(h[i], 0);
+
+			for (int k = 0; k < keep; k++) {
+				int i = k < keepTop ? k : p - keep + k;
+				h[k][k] = theta[i];
+			}
+
+			Arrays.fill(v, null);
+			System.arraycopy(kept, 0, v, 0, keep + 1);
+
+			if (beta == 0)
+				v[keep] = randomVector(n, v, keep);
+
+			start = keep;
+		}
+
+		eigenvalues = new double[wanted];
+		eigenvectors = new double[wanted][];
+
+		for (int k = 0; k < wanted; k++) {
+			int i = k < largest ? k : p - wanted + k;
+			double[] x = new double[n];
+
+			for (int l = 0; l < p; l++)
+				for (int r = 0; r < n; r++)
+					x[r] += y[i][l] * v[l][r];
+
+			double nx = norm(x);
+
+			if (nx > 0)
+				for (int r = 0; r < n; r++)
+					x[r] /= nx;
+
+			eigenvalues[k] = theta[i];
+			eigenvectors[k] = x;
+		}
+	}
+
+	private static boolean isWanted(int i, int p, int largest, int smallest) {
+		return i < largest || i >= p - smallest;
+	}
+
+	/**
+	 * Removes from w its components along the first {@code count} vectors of
+	 * the basis and adds them to the given column of h.
+	 */
+	private static void orthogonalize(double[] w, double[][] v, int count,
+			double[][] h, int column) {
+		for (int i = 0; i < count; i++) {
+			double c = dot(v[i], w);
+
+			h[i][column] += c;
+
+			for (int r = 0; r < w.length; r++)
+				w[r] -= c * v[i][r];
+		}
+	}
+
+	private void deflate(double[] w) {
+		for (double[] d : deflation) {
+			double c = dot(d, w);
+
+			for (int r = 0; r < w.length; r++)
+				w[r] -= c * d[r];
+		}
+	}
+
+	/**
+	 * A random unit vector orthogonal to the first {@code count} vectors of the
+	 * basis and to the deflated vectors.
+	 */
+	private double[] randomVector(int n, double[][] v, int count) {
+		double[] w = new double[n];
+		double nw = 0;
+
+		for (int attempt = 0; attempt < 10 && nw < 1e-8; attempt++) {
+			for (int r = 0; r < n; r++)
+				w[r] = random.nextDouble() - 0.5;
+
+			deflate(w);
+
+			for (int pass = 0; pass < 2; pass++)
+				for (int i = 0; i < count; i++) {
+					double c = dot(v[i], w);
+
+					for (int r = 0; r < n; r++)
+						w[r] -= c * v[i][r];
+				}
+
+			deflate(w);
+			nw = norm(w);
+		}
+
+		for (int r = 0; r < n; r++)
+			w[r] /= nw;
+
+		return w;
+	}
+
+	private static double dot(double[] a, double[] b) {
+		double s = 0;
+
+		for (int r = 0; r < a.length; r++)
+			s += a[r] * b[r];
+
+		return s;
+	}
+
+	private static double norm(double[] a) {
+		return Math.sqrt(dot(a, a));
+	}
+}